@@ -0,0 +1,90 @@
+// =============================================================================
+// BENCHMARK DATA
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventStatus;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.model.venue.Venue;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared fixtures for the JMH benchmarks.
+ *
+ * Implementation Details:
+ * - isolateDataDirectory() must run before any persistence class is touched;
+ *   DataManager resolves its directory from user.dir once, so pointing that
+ *   at a scratch directory keeps benchmark data out of the real data files
+ * - Generators are seeded so every fork sees the same dataset
+ */
+final class BenchmarkData {
+    static final long SEED = 42L;
+    static final LocalDateTime BASE_TIME = LocalDateTime.now().plusDays(30).withHour(8).withMinute(0)
+        .withSecond(0).withNano(0);
+
+    private static final String[] WORDS = {
+        "robotics", "career", "jazz", "chess", "hackathon", "poetry", "startup", "biology",
+        "climate", "film", "debate", "yoga", "finance", "design", "history", "security"
+    };
+
+    private static boolean isolated;
+
+    private BenchmarkData() {
+    }
+
+    static synchronized void isolateDataDirectory() {
+        if (isolated) {
+            return;
+        }
+        try {
+            System.setProperty("user.dir", Files.createTempDirectory("campuseventhub-jmh").toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        isolated = true;
+    }
+
+    /**
+     * Published events spread over 90 days with mixed types and keywords
+     */
+    static List<Event> events(int count) {
+        Random random = new Random(SEED);
+        EventType[] types = EventType.values();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            LocalDateTime start = BASE_TIME.plusDays(random.nextInt(90)).plusHours(random.nextInt(10));
+            Event event = new Event("Campus " + word + " session " + i,
+                "Weekly " + word + " meetup for students", types[random.nextInt(types.length)],
+                start, start.plusHours(2), "organizer-" + random.nextInt(50));
+            event.setStatus(EventStatus.PUBLISHED);
+            event.setMaxCapacity(100);
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Venue with back-to-back two-hour bookings starting at BASE_TIME
+     */
+    static Venue venueWithBookings(String name, int bookings) {
+        Venue venue = new Venue(name, "Main Campus", 200);
+        addBookings(venue, bookings);
+        return venue;
+    }
+
+    static void addBookings(Venue venue, int bookings) {
+        for (int i = 0; i < bookings; i++) {
+            LocalDateTime start = BASE_TIME.plusHours(3L * i);
+            venue.bookVenue("event-" + venue.getName() + "-" + i, start, start.plusHours(2));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+// =============================================================================
+// CAMPUS DATASET BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventSearchCriteria;
+import com.campuseventhub.model.venue.Venue;
+import com.campuseventhub.persistence.CampusDatasetGenerator;
+import com.campuseventhub.persistence.DataManager;
+import com.campuseventhub.service.EventManager;
+import com.campuseventhub.service.VenueBookingService;
+import com.campuseventhub.service.VenueManager;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full-stack search and venue lookup over generated campus datasets.
+ *
+ * Implementation Details:
+ * - Each trial writes a CampusDatasetGenerator dataset of the given size
+ *   into the scratch data directory and loads it through the managers,
+ *   exactly as the application does on startup
+ * - Dataset sizes are user counts; events and venues scale with them
+ * - The 1m preset needs the larger heap configured on the fork
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class CampusDatasetBenchmark {
+
+    @Param({"10k", "100k", "1m"})
+    public String dataset;
+
+    private EventManager eventManager;
+    private VenueBookingService bookingService;
+    private EventSearchCriteria keywordCriteria;
+    private LocalDateTime slotStart;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkData.isolateDataDirectory();
+        new CampusDatasetGenerator(BenchmarkData.SEED, CampusDatasetGenerator.parseSize(dataset))
+            .writeTo(DataManager.getDataFilePath("").toAbsolutePath());
+        VenueManager venueManager = new VenueManager();
+        bookingService = new VenueBookingService(venueManager);
+        eventManager = new EventManager();
+        eventManager.setVenueBookingService(bookingService);
+
+        keywordCriteria = new EventSearchCriteria();
+        keywordCriteria.setKeyword("robotics");
+        slotStart = LocalDateTime.now().plusDays(30).withHour(14).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Benchmark
+    public List<Event> searchEvents() {
+        return eventManager.searchEvents(keywordCriteria);
+    }
+
+    @Benchmark
+    public List<Venue> findAvailableVenues() {
+        return bookingService.findAvailableVenues(slotStart, slotStart.plusHours(2), 50);
+    }
+}
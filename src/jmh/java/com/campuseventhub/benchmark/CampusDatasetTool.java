@@ -0,0 +1,37 @@
+// =============================================================================
+// CAMPUS DATASET TOOL
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.persistence.CampusDatasetGenerator;
+import com.campuseventhub.persistence.DataManager;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Command line front end for CampusDatasetGenerator.
+ *
+ * Usage: java -Xmx4g -cp target/benchmarks.jar com.campuseventhub.benchmark.CampusDatasetTool
+ *        <10k|100k|1m|userCount> [seed] [outputDir]
+ *
+ * Implementation Details:
+ * - Seed defaults to 42 and the output directory to the application's data
+ *   directory, whose data files are replaced
+ */
+public class CampusDatasetTool {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: CampusDatasetTool <10k|100k|1m|userCount> [seed] [outputDir]");
+            return;
+        }
+        int users = CampusDatasetGenerator.parseSize(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        Path directory = args.length > 2 ? Path.of(args[2]) : DataManager.getDataFilePath("").toAbsolutePath();
+
+        long start = System.nanoTime();
+        CampusDatasetGenerator.Summary summary = new CampusDatasetGenerator(seed, users).writeTo(directory);
+        System.out.printf("Wrote %s to %s in %.1fs%n", summary, directory, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,66 @@
+// =============================================================================
+// DATA MANAGER BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.persistence.DataManager;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DataManager.saveData/loadData round trips of an event map.
+ *
+ * Implementation Details:
+ * - Saves the same map shape EventManager persists (ConcurrentHashMap of id
+ *   to Event)
+ * - Writes to its own file name so the backup-before-save path for
+ *   users.ser/events.ser is not part of the measurement
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataManagerBenchmark {
+    private static final String FILE = "jmh-events.ser";
+
+    @Param({"100", "1000", "10000"})
+    public int events;
+
+    private ConcurrentHashMap<String, Event> eventMap;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkData.isolateDataDirectory();
+        eventMap = new ConcurrentHashMap<>();
+        for (Event event : BenchmarkData.events(events)) {
+            eventMap.put(event.getEventId(), event);
+        }
+        DataManager.saveData(FILE, eventMap);
+    }
+
+    @Benchmark
+    public void saveData() throws IOException {
+        DataManager.saveData(FILE, eventMap);
+    }
+
+    @Benchmark
+    public Object loadData() throws IOException, ClassNotFoundException {
+        return DataManager.loadData(FILE);
+    }
+}
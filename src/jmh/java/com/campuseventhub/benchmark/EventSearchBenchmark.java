@@ -0,0 +1,72 @@
+// =============================================================================
+// EVENT SEARCH BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventSearchCriteria;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.service.EventSearchService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EventSearchService.searchEvents over catalogs of increasing size.
+ *
+ * Implementation Details:
+ * - Keyword search scans titles and descriptions of every event
+ * - Type plus date-window search exercises the non-text filters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSearchBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int events;
+
+    private EventSearchService searchService;
+    private List<Event> catalog;
+    private EventSearchCriteria keywordCriteria;
+    private EventSearchCriteria typeAndDateCriteria;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.isolateDataDirectory();
+        searchService = new EventSearchService();
+        catalog = BenchmarkData.events(events);
+
+        keywordCriteria = new EventSearchCriteria();
+        keywordCriteria.setKeyword("hackathon");
+
+        typeAndDateCriteria = new EventSearchCriteria();
+        typeAndDateCriteria.setEventType(EventType.WORKSHOP);
+        typeAndDateCriteria.setStartDate(BenchmarkData.BASE_TIME.plusDays(10));
+        typeAndDateCriteria.setEndDate(BenchmarkData.BASE_TIME.plusDays(40));
+    }
+
+    @Benchmark
+    public List<Event> searchByKeyword() {
+        return searchService.searchEvents(catalog, keywordCriteria);
+    }
+
+    @Benchmark
+    public List<Event> searchByTypeAndDate() {
+        return searchService.searchEvents(catalog, typeAndDateCriteria);
+    }
+}
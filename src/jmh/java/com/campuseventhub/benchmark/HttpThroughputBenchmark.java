@@ -0,0 +1,120 @@
+// =============================================================================
+// HTTP THROUGHPUT BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.server.EventHubHttpServer;
+import com.campuseventhub.service.EventHub;
+import com.campuseventhub.util.FlatJsonParser;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loopback throughput check for EventHubHttpServer.
+ *
+ * Usage: java -cp target/benchmarks.jar com.campuseventhub.benchmark.HttpThroughputBenchmark
+ *        [clients] [requestsPerClient]
+ *
+ * Implementation Details:
+ * - Starts the server on an ephemeral loopback port against an EventHub
+ *   backed by a scratch data directory
+ * - Each client logs in once, then issues authenticated GET /api/events
+ * - Reports requests per second and p50/p99 latency
+ */
+public class HttpThroughputBenchmark {
+    private static final String USERNAME = "benchattendee";
+    private static final String PASSWORD = "benchmark123";
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int requestsPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        BenchmarkData.isolateDataDirectory();
+        EventHub eventHub = EventHub.getInstance();
+        eventHub.registerUser(USERNAME, USERNAME + "@test.com", PASSWORD, "Bench", "Attendee", UserRole.ATTENDEE);
+        EventHubHttpServer server = new EventHubHttpServer(eventHub,
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        String base = "http://127.0.0.1:" + server.getPort() + "/api/";
+        HttpClient client = HttpClient.newHttpClient();
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            // Warm-up pass so JIT compilation does not skew the measured run
+            runClients(pool, client, base, clients, Math.max(1, requestsPerClient / 5));
+
+            long start = System.nanoTime();
+            long[] latencies = runClients(pool, client, base, clients, requestsPerClient);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Arrays.sort(latencies);
+            System.out.printf("Requests: %d over %d clients in %.2fs%n", latencies.length, clients, seconds);
+            System.out.printf("Throughput: %.0f req/s%n", latencies.length / seconds);
+            System.out.printf("Latency p50: %.2f ms, p99: %.2f ms%n",
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6);
+        } finally {
+            pool.shutdownNow();
+            server.stop();
+            eventHub.shutdown();
+        }
+    }
+
+    private static long[] runClients(ExecutorService pool, HttpClient client, String base,
+                                     int clients, int requestsPerClient) throws Exception {
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            results.add(pool.submit(() -> runClient(client, base, requestsPerClient)));
+        }
+        long[] all = new long[clients * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] latencies = result.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        return all;
+    }
+
+    private static long[] runClient(HttpClient client, String base, int requests) throws Exception {
+        HttpResponse<String> login = client.send(HttpRequest.newBuilder(URI.create(base + "login"))
+                .POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("Login failed: " + login.body());
+        }
+        String token = FlatJsonParser.parseObject(login.body()).get("token");
+        HttpRequest search = HttpRequest.newBuilder(URI.create(base + "events"))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(search, HttpResponse.BodyHandlers.ofString());
+            latencies[i] = System.nanoTime() - start;
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Search failed: " + response.statusCode());
+            }
+        }
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,73 @@
+// =============================================================================
+// NOTIFICATION BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.persistence.DataManager;
+import com.campuseventhub.persistence.NotificationLog;
+import com.campuseventhub.service.NotificationService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * NotificationService.sendNotification fanned out to many recipients.
+ *
+ * Implementation Details:
+ * - Uses a log-backed service as EventHub does, so the inbox update and the
+ *   log append are both measured
+ * - A fresh service and log per iteration keeps inbox trimming from
+ *   dominating later iterations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationBenchmark {
+    private static final String LOG_FILE = "jmh-notifications.log";
+
+    @Param({"1", "100", "1000"})
+    public int recipients;
+
+    private NotificationService notificationService;
+    private List<String> recipientIds;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkData.isolateDataDirectory();
+        DataManager.deleteDataFile(LOG_FILE);
+        notificationService = new NotificationService(new NotificationLog(DataManager.getDataFilePath(LOG_FILE)));
+        recipientIds = new ArrayList<>(recipients);
+        for (int i = 0; i < recipients; i++) {
+            recipientIds.add("attendee-" + i);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        notificationService.shutdown();
+    }
+
+    @Benchmark
+    public void sendNotification() {
+        notificationService.sendNotification("Room change for tonight's session",
+            recipientIds, NotificationType.EVENT_UPDATE);
+    }
+}
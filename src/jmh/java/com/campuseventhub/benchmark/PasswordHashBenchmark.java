@@ -0,0 +1,44 @@
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.util.Pbkdf2PasswordHasher;
+import java.time.Duration;
+
+/**
+ * Picks the PBKDF2 cost factor for a target login latency on this machine.
+ *
+ * Usage: mvn -Pjmh clean package -DskipTests
+ *        java -cp target/benchmarks.jar com.campuseventhub.benchmark.PasswordHashBenchmark 250
+ *        (target milliseconds per verification, default 250)
+ *
+ * Prints the calibrated iteration count and the measured hash/verify times
+ * so the value can be set with -Dcampuseventhub.password.iterations=N.
+ */
+public class PasswordHashBenchmark {
+    private static final int SAMPLES = 5;
+
+    public static void main(String[] args) {
+        long targetMillis = args.length > 0 ? Long.parseLong(args[0]) : 250;
+        int iterations = Pbkdf2PasswordHasher.calibrateIterations(Duration.ofMillis(targetMillis));
+        Pbkdf2PasswordHasher hasher = new Pbkdf2PasswordHasher(iterations);
+
+        String hash = hasher.hash("benchmark-password1");
+        long bestVerify = Long.MAX_VALUE;
+        long totalVerify = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            hasher.verify("benchmark-password1", hash);
+            long elapsed = System.nanoTime() - start;
+            bestVerify = Math.min(bestVerify, elapsed);
+            totalVerify += elapsed;
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        double verifyMillis = totalVerify / (double) SAMPLES / 1_000_000;
+        System.out.printf("Target latency:        %d ms%n", targetMillis);
+        System.out.printf("Calibrated iterations: %,d (default %,d)%n", iterations, Pbkdf2PasswordHasher.DEFAULT_ITERATIONS);
+        System.out.printf("Verify latency:        best %.1f ms, mean %.1f ms over %d runs%n",
+                          bestVerify / 1_000_000.0, verifyMillis, SAMPLES);
+        System.out.printf("Login throughput:      ~%.0f logins/s on %d cores%n", cores * 1000 / verifyMillis, cores);
+        System.out.printf("Use: -D%s=%d%n", Pbkdf2PasswordHasher.ITERATIONS_PROPERTY, iterations);
+    }
+}
@@ -0,0 +1,58 @@
+// =============================================================================
+// QR CODE BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.util.QRCodeGenerator;
+import com.google.zxing.WriterException;
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * QRCodeGenerator.generateQRCodeImage by payload length.
+ *
+ * Implementation Details:
+ * - Payload sizes cover a bare registration id up to a full check-in URL
+ *   with event details; longer payloads need larger QR versions
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class QRCodeBenchmark {
+
+    @Param({"36", "256", "1024"})
+    public int payloadLength;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        StringBuilder payload = new StringBuilder("https://events.campus.edu/checkin?reg=");
+        while (payload.length() < payloadLength) {
+            payload.append(UUID.nameUUIDFromBytes(payload.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+        content = payload.substring(0, payloadLength);
+    }
+
+    @Benchmark
+    public BufferedImage generateQRCodeImage() throws WriterException {
+        return QRCodeGenerator.generateQRCodeImage(content);
+    }
+}
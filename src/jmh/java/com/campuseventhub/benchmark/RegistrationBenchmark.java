@@ -0,0 +1,71 @@
+// =============================================================================
+// REGISTRATION BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.persistence.DataManager;
+import com.campuseventhub.service.EventManager;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EventManager.registerAttendeeForEvent against a growing registration set.
+ *
+ * Implementation Details:
+ * - Each iteration starts from a fresh EventManager holding one event with
+ *   the given number of existing registrations
+ * - Registration mutates state, so it is measured in single-shot batches of
+ *   new attendees rather than as a steady-state loop
+ * - Includes the persistence writes the call performs today
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = 50)
+@Measurement(iterations = 10, batchSize = 50)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int existingRegistrations;
+
+    private EventManager eventManager;
+    private String eventId;
+    private int nextAttendee;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkData.isolateDataDirectory();
+        DataManager.deleteDataFile("events.ser");
+        DataManager.deleteDataFile("registrations.ser");
+        eventManager = new EventManager();
+        LocalDateTime start = BenchmarkData.BASE_TIME.plusDays(1);
+        Event event = eventManager.createEvent("Benchmark Orientation", "Registration benchmark event",
+            EventType.SEMINAR, start, start.plusHours(2), "organizer-bench", null, 1_000_000);
+        eventId = event.getEventId();
+        for (nextAttendee = 0; nextAttendee < existingRegistrations; nextAttendee++) {
+            eventManager.registerAttendeeForEvent("attendee-" + nextAttendee, eventId);
+        }
+    }
+
+    @Benchmark
+    public Registration registerAttendee() {
+        return eventManager.registerAttendeeForEvent("attendee-" + nextAttendee++, eventId);
+    }
+}
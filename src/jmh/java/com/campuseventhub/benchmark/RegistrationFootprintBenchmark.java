@@ -0,0 +1,210 @@
+// =============================================================================
+// REGISTRATION FOOTPRINT BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.EntityId;
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.model.event.RegistrationStatus;
+import com.campuseventhub.model.event.RegistrationTable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Retained heap of a large registration table in three layouts: objects
+ * with String IDs, objects with EntityId IDs, and the columnar
+ * RegistrationTable, plus the columnar table with the per-event lists of
+ * flyweights that EventManager keeps in each Event.
+ *
+ * Usage: RegistrationFootprintBenchmark [registrations]  (run with -Xmx3g or more)
+ *
+ * Implementation Details:
+ * - Each layout is built with the three indexes RegistrationManager keeps:
+ *   by registration ID, by event and by attendee
+ * - The object layouts are copies of the previous Registration classes,
+ *   so only the storage differs between runs; every registration carries
+ *   its own copy of its IDs, as after a load from disk
+ * - The event lists are built the way EventManager attaches loaded events:
+ *   one list of views per event, so the figure includes one flyweight and
+ *   one list slot per registration on top of the blocks
+ * - Retained size is the used heap after a full GC with the table built,
+ *   minus the used heap before; JVM noise is a few hundred kilobytes
+ */
+public class RegistrationFootprintBenchmark {
+    private static final int ATTENDEES = 50_000;
+    private static final int EVENTS = 5_000;
+
+    // Keeps each table reachable across the measuring GC
+    private static Object retained;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String[] attendeeIds = uuids(ATTENDEES);
+        String[] eventIds = uuids(EVENTS);
+
+        long stringBytes = measure(() -> {
+            ObjectLayout<String> layout = new ObjectLayout<>();
+            for (int i = 0; i < count; i++) {
+                StringIdRegistration registration = new StringIdRegistration(
+                    copyOf(attendeeIds[i % ATTENDEES]), copyOf(eventIds[i % EVENTS]));
+                layout.add(registration.registrationId, registration.eventId, registration.attendeeId, registration);
+            }
+            return layout;
+        });
+        long entityIdBytes = measure(() -> {
+            ObjectLayout<EntityId> layout = new ObjectLayout<>();
+            for (int i = 0; i < count; i++) {
+                EntityIdRegistration registration = new EntityIdRegistration(
+                    EntityId.of(attendeeIds[i % ATTENDEES]), EntityId.of(eventIds[i % EVENTS]));
+                layout.add(registration.registrationId, registration.eventId, registration.attendeeId, registration);
+            }
+            return layout;
+        });
+        long columnarBytes = measure(() -> {
+            RegistrationTable table = new RegistrationTable();
+            for (int i = 0; i < count; i++) {
+                table.add(new Registration(EntityId.of(attendeeIds[i % ATTENDEES]), EntityId.of(eventIds[i % EVENTS])));
+            }
+            return table;
+        });
+        long withEventListsBytes = measure(() -> {
+            RegistrationTable table = new RegistrationTable();
+            for (int i = 0; i < count; i++) {
+                table.add(new Registration(EntityId.of(attendeeIds[i % ATTENDEES]), EntityId.of(eventIds[i % EVENTS])));
+            }
+            List<List<Registration>> eventLists = new ArrayList<>(EVENTS);
+            for (String eventId : eventIds) {
+                eventLists.add(table.findByEvent(EntityId.of(eventId)));
+            }
+            return new Object[] {table, eventLists};
+        });
+
+        System.out.printf("Registrations: %,d (%,d attendees, %,d events)%n", count, ATTENDEES, EVENTS);
+        report("String ID objects", stringBytes, count);
+        report("EntityId objects", entityIdBytes, count);
+        report("Columnar blocks", columnarBytes, count);
+        report("Blocks+event lists", withEventListsBytes, count);
+        System.out.printf("Columnar saves %.0f MB (%.0f%%) against EntityId objects%n",
+            (entityIdBytes - columnarBytes) / 1e6, 100.0 * (entityIdBytes - columnarBytes) / entityIdBytes);
+        System.out.printf("Event lists add %.0f MB on top of the blocks%n", (withEventListsBytes - columnarBytes) / 1e6);
+    }
+
+    private static void report(String layout, long bytes, int count) {
+        System.out.printf("%-20s %,13d bytes (%.0f per registration)%n", layout + ":", bytes, (double) bytes / count);
+    }
+
+    /**
+     * Heap retained by the structure the builder returns
+     */
+    private static long measure(Supplier<Object> builder) {
+        retained = null;
+        long before = usedAfterGc();
+        retained = builder.get();
+        long after = usedAfterGc();
+        retained = null;
+        return after - before;
+    }
+
+    private static long usedAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        // Repeat until the figure settles; one System.gc() can leave garbage behind
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            long current = memory.getHeapMemoryUsage().getUsed();
+            if (current >= used) {
+                break;
+            }
+            used = current;
+        }
+        return used;
+    }
+
+    /**
+     * A String with its own character array, as deserialization produces;
+     * new String(String) would share the array
+     */
+    private static String copyOf(String id) {
+        return new String(id.toCharArray());
+    }
+
+    private static String[] uuids(int count) {
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = UUID.randomUUID().toString();
+        }
+        return ids;
+    }
+
+    /**
+     * The three RegistrationManager indexes over registration objects
+     */
+    private static final class ObjectLayout<K> {
+        private final Map<K, Object> byId = new ConcurrentHashMap<>();
+        private final Map<K, List<Object>> byEvent = new ConcurrentHashMap<>();
+        private final Map<K, List<Object>> byAttendee = new ConcurrentHashMap<>();
+
+        private void add(K registrationId, K eventId, K attendeeId, Object registration) {
+            byId.put(registrationId, registration);
+            byEvent.computeIfAbsent(eventId, k -> new CopyOnWriteArrayList<>()).add(registration);
+            byAttendee.computeIfAbsent(attendeeId, k -> new CopyOnWriteArrayList<>()).add(registration);
+        }
+    }
+
+    /**
+     * The Registration field layout before IDs became EntityId values
+     */
+    private static final class StringIdRegistration {
+        private final String registrationId;
+        private final String attendeeId;
+        private final String eventId;
+        private final LocalDateTime registrationTime;
+        private final RegistrationStatus status;
+        private boolean attended;
+        private LocalDateTime attendanceTime;
+        private int waitlistPosition;
+        private String cancellationReason;
+        private LocalDateTime cancellationTime;
+
+        private StringIdRegistration(String attendeeId, String eventId) {
+            this.registrationId = UUID.randomUUID().toString();
+            this.attendeeId = attendeeId;
+            this.eventId = eventId;
+            this.registrationTime = LocalDateTime.now();
+            this.status = RegistrationStatus.PENDING;
+        }
+    }
+
+    /**
+     * The Registration field layout before rows moved into RegistrationBlock
+     */
+    private static final class EntityIdRegistration {
+        private final EntityId registrationId;
+        private final EntityId attendeeId;
+        private final EntityId eventId;
+        private final LocalDateTime registrationTime;
+        private final RegistrationStatus status;
+        private boolean attended;
+        private LocalDateTime attendanceTime;
+        private int waitlistPosition;
+        private String cancellationReason;
+        private LocalDateTime cancellationTime;
+
+        private EntityIdRegistration(EntityId attendeeId, EntityId eventId) {
+            this.registrationId = EntityId.random();
+            this.attendeeId = attendeeId;
+            this.eventId = eventId;
+            this.registrationTime = LocalDateTime.now();
+            this.status = RegistrationStatus.PENDING;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+// =============================================================================
+// USER PERSISTENCE BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.persistence.UserRecordLog;
+import com.campuseventhub.service.UserImportService;
+import com.campuseventhub.service.UserManager;
+import com.campuseventhub.util.Pbkdf2PasswordHasher;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Write amplification of a single profile edit with a large user base.
+ *
+ * Usage: java -cp target/benchmarks.jar com.campuseventhub.benchmark.UserPersistenceBenchmark
+ *        [users] [edits]
+ *
+ * Implementation Details:
+ * - Loads the users through a bulk import into a temporary user log
+ * - Applies single-user profile edits and measures the bytes each one appends
+ * - Compares against the bytes a whole-map users.ser rewrite would cost
+ * - Password hashing is not what is measured, so the iteration count is
+ *   lowered unless -Dcampuseventhub.password.iterations is given
+ */
+public class UserPersistenceBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int edits = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        if (System.getProperty(Pbkdf2PasswordHasher.ITERATIONS_PROPERTY) == null) {
+            System.setProperty(Pbkdf2PasswordHasher.ITERATIONS_PROPERTY, "1000");
+        }
+
+        Path dir = Files.createTempDirectory("user-persistence-bench");
+        Path file = dir.resolve("users.log");
+        UserRecordLog log = new UserRecordLog(file);
+        try {
+            UserManager userManager = new UserManager(log);
+            StringBuilder roster = new StringBuilder();
+            for (int i = 0; i < userCount; i++) {
+                roster.append("{\"username\":\"bench").append(i).append("\",\"email\":\"bench").append(i)
+                      .append("@campus.edu\",\"password\":\"benchmark123\",\"firstName\":\"Bench\",\"lastName\":\"User\"}\n");
+            }
+            UserImportService.ImportResult imported =
+                userManager.importUsers(new StringReader(roster.toString()), UserImportService.Format.JSONL);
+            System.out.printf("Users: %d (initial log %d bytes)%n", imported.getImportedCount(), Files.size(file));
+
+            Map<String, User> snapshot = new HashMap<>();
+            for (User user : userManager.getAllUsers()) {
+                snapshot.put(user.getUserId(), user);
+            }
+            long fullRewriteBytes = serializedSize(snapshot);
+            long fullStart = System.nanoTime();
+            serializedSize(snapshot);
+            double fullMillis = (System.nanoTime() - fullStart) / 1e6;
+
+            long bytesBefore = log.getBytesWritten();
+            long start = System.nanoTime();
+            for (int i = 0; i < edits; i++) {
+                User user = userManager.findByUsername("bench" + (i * 7919 % userCount));
+                Map<String, Object> updates = new HashMap<>();
+                updates.put("firstName", i % 2 == 0 ? "Edited" : "Changed");
+                userManager.updateUser(user.getUserId(), updates);
+            }
+            double editMillis = (System.nanoTime() - start) / 1e6 / edits;
+            double bytesPerEdit = (double) (log.getBytesWritten() - bytesBefore) / edits;
+
+            System.out.printf("Whole-map rewrite: %d bytes, %.1f ms per save%n", fullRewriteBytes, fullMillis);
+            System.out.printf("Record log:        %.0f bytes, %.3f ms per edit (%d edits)%n",
+                bytesPerEdit, editMillis, edits);
+            System.out.printf("Write amplification reduced %.0fx%n", fullRewriteBytes / bytesPerEdit);
+        } finally {
+            log.close();
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Bytes one users.ser-style serialization of the whole map produces
+     */
+    private static long serializedSize(Map<String, User> users) throws IOException {
+        CountingStream counter = new CountingStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(users);
+        }
+        return counter.count;
+    }
+
+    private static final class CountingStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
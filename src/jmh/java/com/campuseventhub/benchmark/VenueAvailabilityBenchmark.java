@@ -0,0 +1,84 @@
+// =============================================================================
+// VENUE AVAILABILITY BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.venue.Venue;
+import com.campuseventhub.service.VenueBookingService;
+import com.campuseventhub.service.VenueManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Venue.isAvailable and VenueBookingService.findAvailableVenues.
+ *
+ * Implementation Details:
+ * - Every venue carries the same number of back-to-back bookings, so
+ *   isAvailable scales with bookings and findAvailableVenues with
+ *   venues times bookings
+ * - isAvailable does not depend on the venue count
+ * - The probed slot falls after the last booking: all venues are free
+ *   and every booking has to be checked
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VenueAvailabilityBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int venues;
+
+    @Param({"10", "100", "1000"})
+    public int bookingsPerVenue;
+
+    private Venue venue;
+    private VenueBookingService bookingService;
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.isolateDataDirectory();
+        VenueManager venueManager = new VenueManager();
+        for (Venue existing : venueManager.findAll()) {
+            venueManager.deleteById(existing.getVenueId());
+        }
+        // Bookings go onto the live objects after create so setup does not
+        // re-serialize a growing venue map per venue
+        for (int i = 0; i < venues; i++) {
+            Venue hall = new Venue("Hall " + i, "Main Campus", 200);
+            venueManager.create(hall);
+            BenchmarkData.addBookings(hall, bookingsPerVenue);
+        }
+        venue = BenchmarkData.venueWithBookings("Probe Hall", bookingsPerVenue);
+        bookingService = new VenueBookingService(venueManager);
+        slotStart = BenchmarkData.BASE_TIME.plusHours(3L * bookingsPerVenue + 1);
+        slotEnd = slotStart.plusHours(2);
+    }
+
+    @Benchmark
+    public boolean isAvailable() {
+        return venue.isAvailable(slotStart, slotEnd);
+    }
+
+    @Benchmark
+    public List<Venue> findAvailableVenues() {
+        return bookingService.findAvailableVenues(slotStart, slotEnd, 0);
+    }
+}
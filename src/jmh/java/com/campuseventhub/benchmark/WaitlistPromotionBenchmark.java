@@ -0,0 +1,67 @@
+// =============================================================================
+// WAITLIST PROMOTION BENCHMARK
+// =============================================================================
+
+package com.campuseventhub.benchmark;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.model.event.RegistrationStatus;
+import com.campuseventhub.service.WaitlistManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WaitlistManager.promoteFromWaitlist for waitlists of increasing length.
+ *
+ * Implementation Details:
+ * - Each iteration rebuilds a full event with the given waitlist and then
+ *   promotes a fixed number of attendees in a single shot
+ * - Remaining entries are renumbered by the call, so cost grows with the
+ *   waitlist even though the number of promotions is fixed
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class WaitlistPromotionBenchmark {
+    private static final int PROMOTIONS = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int waitlistSize;
+
+    private WaitlistManager waitlistManager;
+    private Event event;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkData.isolateDataDirectory();
+        waitlistManager = new WaitlistManager();
+        event = BenchmarkData.events(1).get(0);
+        event.setMaxCapacity(0);
+        for (int i = 0; i < waitlistSize; i++) {
+            Registration registration = new Registration("attendee-" + i, event.getEventId());
+            registration.setStatus(RegistrationStatus.WAITLISTED);
+            registration.setWaitlistPosition(i + 1);
+            event.getWaitlist().offer(registration);
+        }
+    }
+
+    @Benchmark
+    public WaitlistManager.WaitlistPromotionResult promote() {
+        return waitlistManager.promoteFromWaitlist(event, PROMOTIONS);
+    }
+}
@@ -8,6 +8,7 @@ import com.campuseventhub.gui.LoginFrame;
 import com.campuseventhub.service.EventHub;
 import com.campuseventhub.config.ApplicationConfig;
 import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.server.EventHubHttpServer;
 
 /**
  * Main entry point for Campus EventHub application.
@@ -18,9 +19,15 @@ import com.campuseventhub.model.user.UserRole;
  * - Set up Look & Feel for consistent GUI appearance
  * - Launch login window with proper error handling
  * - Register shutdown hooks for data persistence
+ * - "--server [port]" runs headless, serving the HTTP/JSON API instead of the GUI
  */
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0 && "--server".equals(args[0])) {
+            startServer(args);
+            return;
+        }
+
         // Set up Swing to run on the Event Dispatch Thread
         javax.swing.SwingUtilities.invokeLater(() -> {
             try {
@@ -54,6 +61,27 @@ public class Main {
         });
     }
     
+    /**
+     * Starts the headless HTTP server; the JVM stays alive on its listener thread
+     */
+    private static void startServer(String[] args) {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : EventHubHttpServer.DEFAULT_PORT;
+        EventHub eventHub = EventHub.getInstance();
+        setupTestAccounts(eventHub);
+        try {
+            EventHubHttpServer server = new EventHubHttpServer(eventHub, port);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                System.out.println("Server shutting down...");
+                server.stop();
+                eventHub.shutdown();
+            }));
+            server.start();
+        } catch (java.io.IOException e) {
+            System.err.println("Error starting server: " + e.getMessage());
+            eventHub.shutdown();
+        }
+    }
+
     /**
      * Creates test accounts with strong passwords if they don't already exist
      */
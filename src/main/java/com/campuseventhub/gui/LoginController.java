@@ -2,6 +2,7 @@ package com.campuseventhub.gui;
 
 import com.campuseventhub.model.user.User;
 import com.campuseventhub.service.EventHub;
+import java.util.function.Consumer;
 import javax.swing.*;
 
 /**
@@ -21,30 +22,35 @@ public class LoginController {
     }
     
     /**
-     * Performs user authentication with the provided credentials
+     * Performs user authentication with the provided credentials. Password
+     * verification runs on the authentication pool so the EDT never blocks;
+     * callbacks are invoked on the EDT once the result is known.
+     * PARAMS: username, password, onAuthenticated, onFinished
      */
-    public User performLogin(String username, String password) {
+    public void performLogin(String username, String password,
+                             Consumer<User> onAuthenticated, Runnable onFinished) {
         if (username.isEmpty() || password.isEmpty()) {
             statusLabel.setText("Please enter both username and password");
-            return null;
+            onFinished.run();
+            return;
         }
         
-        try {
-            User authenticatedUser = eventHub.authenticateUser(username, password);
-            
-            if (authenticatedUser != null) {
-                statusLabel.setText("Login successful! Opening dashboard...");
-                return authenticatedUser;
-            } else {
-                statusLabel.setText("Invalid username or password");
-                passwordField.setText("");
-                return null;
-            }
-        } catch (Exception e) {
-            statusLabel.setText("Login error: " + e.getMessage());
-            passwordField.setText("");
-            return null;
-        }
+        statusLabel.setText("Signing in...");
+        eventHub.authenticateUserAsync(username, password).whenComplete((authenticatedUser, error) ->
+            SwingUtilities.invokeLater(() -> {
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    statusLabel.setText("Login error: " + cause.getMessage());
+                    passwordField.setText("");
+                } else if (authenticatedUser != null) {
+                    statusLabel.setText("Login successful! Opening dashboard...");
+                    onAuthenticated.accept(authenticatedUser);
+                } else {
+                    statusLabel.setText("Invalid username or password");
+                    passwordField.setText("");
+                }
+                onFinished.run();
+            }));
     }
     
     /**
@@ -89,10 +89,11 @@ public class LoginFrame extends JFrame {
         String username = usernameField.getText().trim();
         String password = new String(passwordField.getPassword());
         
-        User authenticatedUser = loginController.performLogin(username, password);
-        if (authenticatedUser != null) {
-            navigationService.openDashboardForUser(authenticatedUser);
-        }
+        // Prevent duplicate submissions while the password is being verified
+        loginButton.setEnabled(false);
+        loginController.performLogin(username, password,
+            navigationService::openDashboardForUser,
+            () -> loginButton.setEnabled(true));
     }
 
 }
\ No newline at end of file
@@ -1,11 +1,23 @@
 package com.campuseventhub.gui.admin;
 
 import com.campuseventhub.model.user.Admin;
+import com.campuseventhub.model.user.Organizer;
 import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserRole;
 import com.campuseventhub.service.EventHub;
+import com.campuseventhub.service.UserBulkAction;
+import com.campuseventhub.service.UserImportService;
+import com.campuseventhub.service.UserManager;
 import javax.swing.*;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class AdminActionHandler {
     private EventHub eventHub;
@@ -113,21 +125,121 @@ public class AdminActionHandler {
         return false;
     }
     
+    /**
+     * Confirms and applies an action to all selected users as one batch
+     */
+    public boolean applyBulkAction(UserBulkAction action, List<String> userIds) {
+        if (userIds.isEmpty()) {
+            JOptionPane.showMessageDialog(parentFrame, "Please select one or more users!", 
+                "No User Selected", JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+        if (action == UserBulkAction.DELETE && userIds.contains(admin.getUserId())) {
+            JOptionPane.showMessageDialog(parentFrame, "You cannot delete your own account.", 
+                "Delete Not Allowed", JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+        
+        int choice = JOptionPane.showConfirmDialog(parentFrame, 
+            action.getDisplayName() + " " + userIds.size() + " selected user(s)?", 
+            "Confirm " + action.getDisplayName(), 
+            JOptionPane.YES_NO_OPTION);
+        if (choice != JOptionPane.YES_OPTION) {
+            return false;
+        }
+        return showBulkResult(eventHub.bulkUpdateUsers(action, userIds));
+    }
+    
+    /**
+     * Approves every pending organizer, optionally limited to one department
+     */
+    public boolean approvePendingOrganizers() {
+        String department = JOptionPane.showInputDialog(parentFrame, 
+            "Department (leave blank for all departments):", 
+            "Approve Pending Organizers", JOptionPane.QUESTION_MESSAGE);
+        if (department == null) {
+            return false;
+        }
+        String wanted = department.trim();
+        return showBulkResult(eventHub.bulkUpdateUsers(UserBulkAction.APPROVE, user ->
+            user.getRole() == UserRole.ORGANIZER
+                && (wanted.isEmpty() || wanted.equalsIgnoreCase(((Organizer) user).getDepartment()))));
+    }
+    
+    private boolean showBulkResult(UserManager.BulkResult result) {
+        if (result == null) {
+            JOptionPane.showMessageDialog(parentFrame, "Only administrators can change user accounts.", 
+                "Not Allowed", JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+        String message = result.getAction().getDisplayName() + " applied to " + result.getChangedCount() + " user(s).";
+        if (result.getSkippedCount() > 0) {
+            message += "\n" + result.getSkippedCount() + " user(s) skipped (not found or not eligible).";
+        }
+        JOptionPane.showMessageDialog(parentFrame, message, "Bulk Update", JOptionPane.INFORMATION_MESSAGE);
+        return result.getChangedCount() > 0;
+    }
+    
     private String extractUserId(String selectedUser) {
         if (selectedUser.contains("ID: ")) {
             return selectedUser.split(" - ")[0].replace("ID: ", "");
         } else {
             String username = selectedUser.split(" \\(")[0];
-            List<User> allUsers = eventHub.getAllUsers();
-            User targetUser = allUsers.stream()
-                .filter(user -> user.getUsername().equals(username))
-                .findFirst()
-                .orElse(null);
-            
+            User targetUser = eventHub.getUserByUsername(username);
             return targetUser != null ? targetUser.getUserId() : null;
         }
     }
     
+    /**
+     * Lets the admin pick a CSV/JSONL roster and imports it off the EDT,
+     * then shows the per-row error report
+     */
+    public void importUserRoster() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Import User Roster (CSV or JSONL)");
+        if (chooser.showOpenDialog(parentFrame) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        UserImportService.Format format = UserImportService.Format.fromFileName(file.getName());
+        
+        CompletableFuture.supplyAsync(() -> {
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                return eventHub.importUsers(reader, format);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                JOptionPane.showMessageDialog(parentFrame, "Import failed: " + cause.getMessage(),
+                    "Import Error", JOptionPane.ERROR_MESSAGE);
+            } else if (result == null) {
+                JOptionPane.showMessageDialog(parentFrame, "Only administrators can import users.",
+                    "Import Not Allowed", JOptionPane.WARNING_MESSAGE);
+            } else {
+                showImportReport(file.getName(), result);
+            }
+        }));
+    }
+    
+    private void showImportReport(String fileName, UserImportService.ImportResult result) {
+        StringBuilder report = new StringBuilder();
+        report.append("Roster: ").append(fileName).append("\n");
+        report.append("Imported: ").append(result.getImportedCount()).append("\n");
+        report.append("Rejected: ").append(result.getRejectedCount()).append("\n\n");
+        for (UserImportService.RowError error : result.getErrors()) {
+            report.append(error).append("\n");
+        }
+        
+        JTextArea reportArea = new JTextArea(report.toString());
+        reportArea.setEditable(false);
+        reportArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        JScrollPane scrollPane = new JScrollPane(reportArea);
+        scrollPane.setPreferredSize(new Dimension(500, 400));
+        JOptionPane.showMessageDialog(parentFrame, scrollPane, "Import Report", JOptionPane.INFORMATION_MESSAGE);
+    }
+    
     public void showSystemReport(AdminSystemStatsPanel statsPanel) {
         String reportText = statsPanel.generateSystemReport();
         
@@ -3,8 +3,10 @@ package com.campuseventhub.gui.admin;
 import com.campuseventhub.gui.common.BaseFrame;
 import com.campuseventhub.gui.common.ProfileEditingPanel;
 import com.campuseventhub.model.user.Admin;
+import com.campuseventhub.service.UserBulkAction;
 import javax.swing.*;
 import java.awt.*;
+import java.util.List;
 
 public class AdminDashboard extends BaseFrame {
     private Admin admin;
@@ -51,19 +53,32 @@ public class AdminDashboard extends BaseFrame {
         userManagementPanel.setOnViewUser(e -> 
             actionHandler.viewUserDetails(userManagementPanel.getSelectedUser()));
         
+        // User lists and metrics pick up approvals and suspensions via live updates;
+        // with several rows selected the actions run as one bulk operation
         userManagementPanel.setOnApproveUser(e -> {
-            if (actionHandler.approveSelectedUser(userManagementPanel.getSelectedUser())) {
-                userManagementPanel.loadPendingApprovals();
-                overviewPanel.refreshMetrics();
+            List<String> selected = userManagementPanel.getSelectedUserIds();
+            if (selected.size() > 1) {
+                actionHandler.applyBulkAction(UserBulkAction.APPROVE, selected);
+            } else {
+                actionHandler.approveSelectedUser(userManagementPanel.getSelectedUser());
             }
         });
         
         userManagementPanel.setOnSuspendUser(e -> {
-            if (actionHandler.suspendSelectedUser(userManagementPanel.getSelectedUser())) {
-                userManagementPanel.loadUsersData();
-                overviewPanel.refreshMetrics();
+            List<String> selected = userManagementPanel.getSelectedUserIds();
+            if (selected.size() > 1) {
+                actionHandler.applyBulkAction(UserBulkAction.SUSPEND, selected);
+            } else {
+                actionHandler.suspendSelectedUser(userManagementPanel.getSelectedUser());
             }
         });
+        
+        userManagementPanel.setOnDeleteUsers(e -> 
+            actionHandler.applyBulkAction(UserBulkAction.DELETE, userManagementPanel.getSelectedUserIds()));
+        
+        userManagementPanel.setOnApprovePendingOrganizers(e -> actionHandler.approvePendingOrganizers());
+        
+        userManagementPanel.setOnImportUsers(e -> actionHandler.importUserRoster());
     }
     
     private void loadData() {
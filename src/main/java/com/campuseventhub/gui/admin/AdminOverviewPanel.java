@@ -2,6 +2,8 @@ package com.campuseventhub.gui.admin;
 
 import com.campuseventhub.gui.common.ComponentFactory;
 import com.campuseventhub.model.user.Admin;
+import com.campuseventhub.service.DataChangeBus;
+import com.campuseventhub.service.DataChangeEvent;
 import com.campuseventhub.service.EventHub;
 import javax.swing.*;
 import java.awt.*;
@@ -12,6 +14,7 @@ public class AdminOverviewPanel extends JPanel {
     private JFrame parentFrame;
     private JTabbedPane mainTabbedPane;
     private AdminSystemStatsPanel statsPanel;
+    private DataChangeBus.Subscription userSubscription;
     
     public AdminOverviewPanel(EventHub eventHub, Admin admin, JFrame parentFrame, 
                              JTabbedPane mainTabbedPane, AdminSystemStatsPanel statsPanel) {
@@ -45,7 +48,7 @@ public class AdminOverviewPanel extends JPanel {
         panel.setBorder(BorderFactory.createTitledBorder("System Metrics"));
         
         JLabel metricsLabel = new JLabel("<html><body>" +
-            "<b>Total Users:</b> " + eventHub.getAllUsers().size() + "<br>" +
+            "<b>Total Users:</b> " + eventHub.getUserStats().getTotalUsers() + "<br>" +
             "<b>Total Venues:</b> " + eventHub.listVenues().size() + "<br>" +
             "<b>System Status:</b> <font color='green'>Online</font>" +
             "</body></html>");
@@ -113,6 +116,23 @@ public class AdminOverviewPanel extends JPanel {
         new AdminActionHandler(eventHub, admin, parentFrame).showSystemReport(statsPanel);
     }
     
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (userSubscription == null) {
+            userSubscription = eventHub.subscribeToChanges(DataChangeEvent.Kind.USER, changes -> refreshMetrics());
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        if (userSubscription != null) {
+            userSubscription.cancel();
+            userSubscription = null;
+        }
+        super.removeNotify();
+    }
+    
     public void refreshMetrics() {
         removeAll();
         initializeComponents();
@@ -1,6 +1,7 @@
 package com.campuseventhub.gui.admin;
 
 import com.campuseventhub.service.EventHub;
+import com.campuseventhub.service.UserStats;
 import com.campuseventhub.gui.common.ComponentFactory;
 import javax.swing.*;
 import java.awt.*;
@@ -36,9 +37,11 @@ public class AdminSystemStatsPanel extends JPanel {
     public void updateSystemStats() {
         StringBuilder stats = new StringBuilder();
         stats.append("=== SYSTEM STATISTICS ===\n\n");
+        UserStats userStats = eventHub.getUserStats();
         stats.append("User Statistics:\n");
-        stats.append("- Total Users: ").append(eventHub.getAllUsers().size()).append("\n");
-        stats.append("- Active Users: ").append(eventHub.getAllUsers().stream().mapToInt(u -> u.isActive() ? 1 : 0).sum()).append("\n\n");
+        stats.append("- Total Users: ").append(userStats.getTotalUsers()).append("\n");
+        stats.append("- Active Users: ").append(userStats.getActiveUsers()).append("\n");
+        stats.append("- Pending Approval: ").append(userStats.getPendingApprovals()).append("\n\n");
         
         stats.append("Venue Statistics:\n");
         stats.append("- Total Venues: ").append(eventHub.listVenues().size()).append("\n");
@@ -52,7 +55,7 @@ public class AdminSystemStatsPanel extends JPanel {
         report.append("=== CAMPUS EVENTHUB SYSTEM REPORT ===\n\n");
         report.append("Generated: ").append(new java.util.Date()).append("\n\n");
         report.append("USERS:\n");
-        report.append("Total Users: ").append(eventHub.getAllUsers().size()).append("\n\n");
+        report.append("Total Users: ").append(eventHub.getUserStats().getTotalUsers()).append("\n\n");
         report.append("VENUES:\n");
         report.append("Total Venues: ").append(eventHub.listVenues().size()).append("\n\n");
         return report.toString();
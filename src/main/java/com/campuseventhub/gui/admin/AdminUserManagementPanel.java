@@ -1,24 +1,40 @@
 package com.campuseventhub.gui.admin;
 
 import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserStatus;
+import com.campuseventhub.service.DataChangeBus;
+import com.campuseventhub.service.DataChangeEvent;
 import com.campuseventhub.service.EventHub;
 import com.campuseventhub.gui.common.ComponentFactory;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
 import java.util.List;
 
 public class AdminUserManagementPanel extends JPanel {
+    private static final String PENDING_HEADER = "=== USERS PENDING APPROVAL ===";
+    private static final int SEARCH_LIMIT = 200;
+    
     private EventHub eventHub;
     private DefaultListModel<String> usersListModel;
     private JList<String> usersList;
+    private JTextField searchField;
     private ActionListener onViewUser;
     private ActionListener onApproveUser;
     private ActionListener onSuspendUser;
+    private ActionListener onImportUsers;
+    private ActionListener onDeleteUsers;
+    private ActionListener onApprovePendingOrganizers;
+    private final List<String> shownUsers;
+    private boolean showingPending;
+    private boolean showingSearch;
+    private DataChangeBus.Subscription userSubscription;
     
     public AdminUserManagementPanel(EventHub eventHub) {
         this.eventHub = eventHub;
         this.usersListModel = new DefaultListModel<>();
+        this.shownUsers = new ArrayList<>();
         initializeComponents();
     }
     
@@ -27,10 +43,26 @@ public class AdminUserManagementPanel extends JPanel {
         
         JLabel titleLabel = ComponentFactory.createHeadingLabel("User Management");
         titleLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        add(titleLabel, BorderLayout.NORTH);
+        
+        // Each keystroke queries the user index, so results track the typed text
+        searchField = new JTextField(25);
+        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { applySearch(); }
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { applySearch(); }
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { applySearch(); }
+        });
+        JPanel searchPanel = new JPanel(new FlowLayout());
+        searchPanel.add(new JLabel("Search users:"));
+        searchPanel.add(searchField);
+        
+        JPanel headerPanel = new JPanel(new BorderLayout());
+        headerPanel.add(titleLabel, BorderLayout.NORTH);
+        headerPanel.add(searchPanel, BorderLayout.SOUTH);
+        add(headerPanel, BorderLayout.NORTH);
         
         usersList = new JList<>(usersListModel);
-        usersList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        // Multiple selection feeds the bulk approve/suspend/delete actions
+        usersList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         
         JScrollPane usersScrollPane = new JScrollPane(usersList);
         usersScrollPane.setPreferredSize(new Dimension(600, 400));
@@ -41,6 +73,9 @@ public class AdminUserManagementPanel extends JPanel {
         JButton pendingApprovalsBtn = ComponentFactory.createStandardButton("Pending Approvals");
         JButton approveUserBtn = ComponentFactory.createPrimaryButton("Approve User");
         JButton suspendUserBtn = ComponentFactory.createStandardButton("Suspend User");
+        JButton importUsersBtn = ComponentFactory.createStandardButton("Import Roster");
+        JButton deleteUsersBtn = ComponentFactory.createStandardButton("Delete Users");
+        JButton approveOrganizersBtn = ComponentFactory.createStandardButton("Approve Pending Organizers");
         
         refreshUsersBtn.addActionListener(e -> loadUsersData());
         viewUserBtn.addActionListener(e -> {
@@ -53,51 +88,179 @@ public class AdminUserManagementPanel extends JPanel {
         suspendUserBtn.addActionListener(e -> {
             if (onSuspendUser != null) onSuspendUser.actionPerformed(e);
         });
+        importUsersBtn.addActionListener(e -> {
+            if (onImportUsers != null) onImportUsers.actionPerformed(e);
+        });
+        deleteUsersBtn.addActionListener(e -> {
+            if (onDeleteUsers != null) onDeleteUsers.actionPerformed(e);
+        });
+        approveOrganizersBtn.addActionListener(e -> {
+            if (onApprovePendingOrganizers != null) onApprovePendingOrganizers.actionPerformed(e);
+        });
         
         buttonsPanel.add(refreshUsersBtn);
         buttonsPanel.add(viewUserBtn);
         buttonsPanel.add(pendingApprovalsBtn);
         buttonsPanel.add(approveUserBtn);
         buttonsPanel.add(suspendUserBtn);
+        buttonsPanel.add(deleteUsersBtn);
+        buttonsPanel.add(approveOrganizersBtn);
+        buttonsPanel.add(importUsersBtn);
         
         add(usersScrollPane, BorderLayout.CENTER);
         add(buttonsPanel, BorderLayout.SOUTH);
     }
     
     public void loadUsersData() {
+        String query = searchField.getText().trim();
+        if (!query.isEmpty()) {
+            showUsers(eventHub.searchUsers(query, SEARCH_LIMIT), true);
+            return;
+        }
+        showUsers(eventHub.getAllUsers(), false);
+    }
+    
+    private void applySearch() {
+        if (!showingPending || !searchField.getText().trim().isEmpty()) {
+            loadUsersData();
+        }
+    }
+    
+    private void showUsers(List<User> users, boolean search) {
+        showingPending = false;
+        showingSearch = search;
         usersListModel.clear();
-        List<User> users = eventHub.getAllUsers();
+        shownUsers.clear();
         for (User user : users) {
-            usersListModel.addElement(user.getUsername() + " (" + user.getRole() + ") - " + user.getStatus());
+            shownUsers.add(user.getUserId());
+            usersListModel.addElement(formatUser(user));
         }
     }
     
     public void loadPendingApprovals() {
+        showingPending = true;
+        showingSearch = false;
         usersListModel.clear();
+        shownUsers.clear();
         List<User> pendingUsers = eventHub.getPendingUserApprovals();
         
         if (pendingUsers.isEmpty()) {
             usersListModel.addElement("No users pending approval.");
         } else {
-            usersListModel.addElement("=== USERS PENDING APPROVAL ===");
+            usersListModel.addElement(PENDING_HEADER);
             for (User user : pendingUsers) {
-                String userInfo = String.format("ID: %s - %s %s (%s) - %s - Email: %s", 
-                    user.getUserId(),
-                    user.getFirstName(),
-                    user.getLastName(),
-                    user.getUsername(),
-                    user.getRole().getDisplayName(),
-                    user.getEmail()
-                );
-                usersListModel.addElement(userInfo);
+                shownUsers.add(user.getUserId());
+                usersListModel.addElement(formatUser(user));
             }
         }
     }
     
+    private String formatUser(User user) {
+        if (!showingPending) {
+            return user.getUsername() + " (" + user.getRole() + ") - " + user.getStatus();
+        }
+        return String.format("ID: %s - %s %s (%s) - %s - Email: %s", 
+            user.getUserId(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getUsername(),
+            user.getRole().getDisplayName(),
+            user.getEmail()
+        );
+    }
+    
+    // =============================================================================
+    // LIVE UPDATES
+    // =============================================================================
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (userSubscription == null) {
+            userSubscription = eventHub.subscribeToChanges(DataChangeEvent.Kind.USER, this::applyUserChanges);
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        if (userSubscription != null) {
+            userSubscription.cancel();
+            userSubscription = null;
+        }
+        super.removeNotify();
+    }
+    
+    /**
+     * Patches the rows of changed users; in pending mode users that are no
+     * longer awaiting approval drop out and new applicants are appended.
+     * Search results are only patched; new users appear on the next keystroke.
+     */
+    private void applyUserChanges(List<DataChangeEvent> changes) {
+        for (DataChangeEvent change : changes) {
+            if (DataChangeEvent.BROADCAST_ID.equals(change.getEntityId())) {
+                // Bulk import: patching row by row would be quadratic
+                reloadCurrentView();
+                return;
+            }
+        }
+        for (DataChangeEvent change : changes) {
+            int index = shownUsers.indexOf(change.getEntityId());
+            User user = change.getAction() == DataChangeEvent.Action.DELETED
+                ? null : eventHub.getUserById(change.getEntityId());
+            boolean visible = user != null
+                && (!showingPending || user.getStatus() == UserStatus.PENDING_APPROVAL);
+            
+            if (index >= 0 && visible) {
+                usersListModel.set(rowOf(index), formatUser(user));
+            } else if (index >= 0) {
+                usersListModel.remove(rowOf(index));
+                shownUsers.remove(index);
+                if (showingPending && shownUsers.isEmpty()) {
+                    usersListModel.clear();
+                    usersListModel.addElement("No users pending approval.");
+                }
+            } else if (visible && !showingSearch) {
+                if (showingPending && shownUsers.isEmpty()) {
+                    usersListModel.clear();
+                    usersListModel.addElement(PENDING_HEADER);
+                }
+                shownUsers.add(user.getUserId());
+                usersListModel.addElement(formatUser(user));
+            }
+        }
+    }
+    
+    private void reloadCurrentView() {
+        if (showingPending) {
+            loadPendingApprovals();
+        } else {
+            loadUsersData();
+        }
+    }
+    
+    private int rowOf(int index) {
+        // The pending view starts with a header row
+        return showingPending ? index + 1 : index;
+    }
+    
     public String getSelectedUser() {
         return usersList.getSelectedValue();
     }
     
+    /**
+     * IDs of all selected users; header and placeholder rows are ignored
+     */
+    public List<String> getSelectedUserIds() {
+        List<String> ids = new ArrayList<>();
+        for (int row : usersList.getSelectedIndices()) {
+            int index = showingPending ? row - 1 : row;
+            if (index >= 0 && index < shownUsers.size()) {
+                ids.add(shownUsers.get(index));
+            }
+        }
+        return ids;
+    }
+    
     public void setOnViewUser(ActionListener listener) {
         this.onViewUser = listener;
     }
@@ -109,4 +272,16 @@ public class AdminUserManagementPanel extends JPanel {
     public void setOnSuspendUser(ActionListener listener) {
         this.onSuspendUser = listener;
     }
+    
+    public void setOnImportUsers(ActionListener listener) {
+        this.onImportUsers = listener;
+    }
+    
+    public void setOnDeleteUsers(ActionListener listener) {
+        this.onDeleteUsers = listener;
+    }
+    
+    public void setOnApprovePendingOrganizers(ActionListener listener) {
+        this.onApprovePendingOrganizers = listener;
+    }
 }
\ No newline at end of file
@@ -1,132 +1,167 @@
-// =============================================================================
-// SYSTEM METRICS PANEL
-// =============================================================================
-
-package com.campuseventhub.gui.admin;
-
-import com.campuseventhub.service.EventHub;
-import com.campuseventhub.gui.common.ComponentFactory;
-import javax.swing.*;
-import java.awt.*;
-
-/**
- * Panel for displaying system metrics and health information.
- *
- * Implementation Details:
- * - Real-time system metrics display
- * - Memory usage monitoring
- * - User and venue statistics
- * - System health indicators
- */
-public class SystemMetricsPanel extends JPanel {
-    private EventHub eventHub;
-    private JLabel metricsLabel;
-    private JLabel healthLabel;
-    private JButton refreshBtn;
-    
-    public SystemMetricsPanel() {
-        this.eventHub = EventHub.getInstance();
-        initializeComponents();
-        registerListeners();
-        updateMetrics();
-    }
-    
-    private void initializeComponents() {
-        setLayout(new GridLayout(2, 2, 10, 10));
-        setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
-        
-        // Add system info panels
-        add(createSystemMetricsPanel());
-        add(createQuickActionsPanel());
-        add(createRecentActivityPanel());
-        add(createSystemHealthPanel());
-    }
-    
-    private void registerListeners() {
-        refreshBtn.addActionListener(e -> updateMetrics());
-    }
-    
-    // System Metrics Panel
-    private JPanel createSystemMetricsPanel() {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setBorder(BorderFactory.createTitledBorder("System Metrics"));
-        
-        metricsLabel = new JLabel();
-        panel.add(metricsLabel, BorderLayout.CENTER);
-        return panel;
-    }
-    
-    // Quick Actions Panel
-    private JPanel createQuickActionsPanel() {
-        JPanel panel = new JPanel(new GridLayout(3, 1, 5, 5));
-        panel.setBorder(BorderFactory.createTitledBorder("Quick Actions"));
-        
-        JButton addVenueBtn = new JButton("Add New Venue");
-        JButton viewUsersBtn = new JButton("View All Users");
-        refreshBtn = new JButton("Refresh Metrics");
-        
-        addVenueBtn.addActionListener(e -> showAddVenueDialog());
-        viewUsersBtn.addActionListener(e -> JOptionPane.showMessageDialog(this, "Navigate to User Management tab"));
-        
-        panel.add(addVenueBtn);
-        panel.add(viewUsersBtn);
-        panel.add(refreshBtn);
-        
-        return panel;
-    }
-    
-    private JPanel createRecentActivityPanel() {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setBorder(BorderFactory.createTitledBorder("Recent Activity"));
-        
-        JTextArea activityArea = new JTextArea("• System started\n• Admin logged in\n• Dashboard loaded");
-        activityArea.setEditable(false);
-        activityArea.setBackground(getBackground());
-        
-        panel.add(new JScrollPane(activityArea), BorderLayout.CENTER);
-        return panel;
-    }
-    
-    private JPanel createSystemHealthPanel() {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setBorder(BorderFactory.createTitledBorder("System Health"));
-        
-        healthLabel = new JLabel();
-        panel.add(healthLabel, BorderLayout.CENTER);
-        return panel;
-    }
-    
-    private void updateMetrics() {
-        // Update system metrics
-        String metricsText = "<html><body>" +
-            "<b>Total Users:</b> " + eventHub.getAllUsers().size() + "<br>" +
-            "<b>Total Venues:</b> " + eventHub.listVenues().size() + "<br>" +
-            "<b>System Status:</b> <font color='green'>Online</font>" +
-            "</body></html>";
-        metricsLabel.setText(metricsText);
-        
-        // Update system health
-        Runtime runtime = Runtime.getRuntime();
-        long totalMemory = runtime.totalMemory();
-        long freeMemory = runtime.freeMemory();
-        long usedMemory = totalMemory - freeMemory;
-        long maxMemory = runtime.maxMemory();
-        
-        String healthText = "<html><body>" +
-            "<b>Status:</b> <font color='green'>All systems operational</font><br>" +
-            "<b>Memory Used:</b> " + (usedMemory / 1024 / 1024) + "MB<br>" +
-            "<b>Memory Total:</b> " + (totalMemory / 1024 / 1024) + "MB<br>" +
-            "<b>Memory Max:</b> " + (maxMemory / 1024 / 1024) + "MB" +
-            "</body></html>";
-        healthLabel.setText(healthText);
-    }
-    
-    private void showAddVenueDialog() {
-        ComponentFactory.showAddVenueDialog(this, this::updateMetrics);
-    }
-    
-    public void refreshMetrics() {
-        updateMetrics();
-    }
-}
-
+// =============================================================================
+// SYSTEM METRICS PANEL
+// =============================================================================
+
+package com.campuseventhub.gui.admin;
+
+import com.campuseventhub.metrics.MetricsRegistry;
+import com.campuseventhub.metrics.MetricsSnapshot;
+import com.campuseventhub.metrics.TimerSnapshot;
+import com.campuseventhub.gui.common.ComponentFactory;
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Panel for displaying system metrics and health information.
+ *
+ * Implementation Details:
+ * - Live p50/p99 latency and throughput of the busiest EventHub
+ *   operations, read from the metrics registry
+ * - Refreshed every REFRESH_MILLIS while the panel is showing
+ * - Memory usage monitoring
+ * - System health indicators
+ */
+public class SystemMetricsPanel extends JPanel {
+    private static final int REFRESH_MILLIS = 2000;
+    private static final int TOP_OPERATIONS = 6;
+    
+    private MetricsRegistry metrics;
+    private JLabel metricsLabel;
+    private JLabel healthLabel;
+    private JButton refreshBtn;
+    private Timer refreshTimer;
+    
+    public SystemMetricsPanel() {
+        this.metrics = MetricsRegistry.getDefault();
+        this.refreshTimer = new Timer(REFRESH_MILLIS, e -> updateMetrics());
+        initializeComponents();
+        registerListeners();
+        updateMetrics();
+    }
+    
+    private void initializeComponents() {
+        setLayout(new GridLayout(2, 2, 10, 10));
+        setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        
+        // Add system info panels
+        add(createSystemMetricsPanel());
+        add(createQuickActionsPanel());
+        add(createRecentActivityPanel());
+        add(createSystemHealthPanel());
+    }
+    
+    private void registerListeners() {
+        refreshBtn.addActionListener(e -> updateMetrics());
+    }
+    
+    // System Metrics Panel
+    private JPanel createSystemMetricsPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBorder(BorderFactory.createTitledBorder("System Metrics"));
+        
+        metricsLabel = new JLabel();
+        metricsLabel.setVerticalAlignment(SwingConstants.TOP);
+        panel.add(metricsLabel, BorderLayout.CENTER);
+        return panel;
+    }
+    
+    // Quick Actions Panel
+    private JPanel createQuickActionsPanel() {
+        JPanel panel = new JPanel(new GridLayout(3, 1, 5, 5));
+        panel.setBorder(BorderFactory.createTitledBorder("Quick Actions"));
+        
+        JButton addVenueBtn = new JButton("Add New Venue");
+        JButton viewUsersBtn = new JButton("View All Users");
+        refreshBtn = new JButton("Refresh Metrics");
+        
+        addVenueBtn.addActionListener(e -> showAddVenueDialog());
+        viewUsersBtn.addActionListener(e -> JOptionPane.showMessageDialog(this, "Navigate to User Management tab"));
+        
+        panel.add(addVenueBtn);
+        panel.add(viewUsersBtn);
+        panel.add(refreshBtn);
+        
+        return panel;
+    }
+    
+    private JPanel createRecentActivityPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBorder(BorderFactory.createTitledBorder("Recent Activity"));
+        
+        JTextArea activityArea = new JTextArea("• System started\n• Admin logged in\n• Dashboard loaded");
+        activityArea.setEditable(false);
+        activityArea.setBackground(getBackground());
+        
+        panel.add(new JScrollPane(activityArea), BorderLayout.CENTER);
+        return panel;
+    }
+    
+    private JPanel createSystemHealthPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBorder(BorderFactory.createTitledBorder("System Health"));
+        
+        healthLabel = new JLabel();
+        panel.add(healthLabel, BorderLayout.CENTER);
+        return panel;
+    }
+    
+    private void updateMetrics() {
+        // Update system metrics: busiest operations of the last minute or two
+        MetricsSnapshot snapshot = metrics.snapshot();
+        StringBuilder metricsText = new StringBuilder("<html><body><table>")
+            .append("<tr><th align='left'>Operation</th><th>req/s</th><th>p50 ms</th><th>p99 ms</th></tr>");
+        List<TimerSnapshot> busiest = snapshot.getBusiestTimers("eventhub.", TOP_OPERATIONS);
+        for (TimerSnapshot timer : busiest) {
+            metricsText.append("<tr><td>").append(timer.getName().substring("eventhub.".length()))
+                .append("</td><td align='right'>").append(String.format("%.1f", timer.getRatePerSecond()))
+                .append("</td><td align='right'>").append(String.format("%.2f", timer.getP50Millis()))
+                .append("</td><td align='right'>").append(String.format("%.2f", timer.getP99Millis()))
+                .append("</td></tr>");
+        }
+        if (busiest.isEmpty()) {
+            metricsText.append("<tr><td colspan='4'>No requests yet</td></tr>");
+        }
+        metricsText.append("</table>")
+            .append("<b>Notifications queued:</b> ").append(snapshot.getGauges().getOrDefault("notifications.queueDepth", 0L))
+            .append(" &nbsp; <b>dead-lettered:</b> ").append(snapshot.getCounter("notifications.deadLettered"))
+            .append("</body></html>");
+        metricsLabel.setText(metricsText.toString());
+        
+        // Update system health
+        Runtime runtime = Runtime.getRuntime();
+        long totalMemory = runtime.totalMemory();
+        long freeMemory = runtime.freeMemory();
+        long usedMemory = totalMemory - freeMemory;
+        long maxMemory = runtime.maxMemory();
+        
+        String healthText = "<html><body>" +
+            "<b>Status:</b> <font color='green'>All systems operational</font><br>" +
+            "<b>Memory Used:</b> " + (usedMemory / 1024 / 1024) + "MB<br>" +
+            "<b>Memory Total:</b> " + (totalMemory / 1024 / 1024) + "MB<br>" +
+            "<b>Memory Max:</b> " + (maxMemory / 1024 / 1024) + "MB" +
+            "</body></html>";
+        healthLabel.setText(healthText);
+    }
+    
+    private void showAddVenueDialog() {
+        ComponentFactory.showAddVenueDialog(this, this::updateMetrics);
+    }
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        refreshTimer.start();
+    }
+    
+    @Override
+    public void removeNotify() {
+        refreshTimer.stop();
+        super.removeNotify();
+    }
+    
+    public void refreshMetrics() {
+        updateMetrics();
+    }
+}
+
@@ -59,7 +59,7 @@ public class SystemReportsPanel extends JPanel {
         report.append("=== CAMPUS EVENTHUB SYSTEM REPORT ===\n\n");
         report.append("Generated: ").append(new java.util.Date()).append("\n\n");
         report.append("USERS:\n");
-        report.append("Total Users: ").append(eventHub.getAllUsers().size()).append("\n\n");
+        report.append("Total Users: ").append(eventHub.getUserStats().getTotalUsers()).append("\n\n");
         report.append("VENUES:\n");
         report.append("Total Venues: ").append(eventHub.listVenues().size()).append("\n\n");
         
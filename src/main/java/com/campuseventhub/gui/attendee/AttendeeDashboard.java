@@ -50,11 +50,10 @@ public class AttendeeDashboard extends BaseFrame {
     private void setupEventHandlers() {
         eventBrowser.setOnEventSelected(e -> actionHandler.viewEventDetails(eventBrowser.getSelectedEvent()));
         eventBrowser.setOnRegisterEvent(e -> {
+            // The event browser and notifications update themselves via live updates
             if (actionHandler.registerForEvent(eventBrowser.getSelectedEvent())) {
-                eventBrowser.loadAvailableEvents();
                 registrationPanel.loadMyRegistrations();
                 schedulePanel.updateSchedule();
-                notificationPanel.loadNotifications(); // Refresh notifications after registration
             }
         });
         
@@ -65,9 +64,7 @@ public class AttendeeDashboard extends BaseFrame {
         registrationPanel.setOnCancelRegistration(e -> {
             if (actionHandler.cancelRegistration(registrationPanel.getSelectedRegistration())) {
                 registrationPanel.loadMyRegistrations();
-                eventBrowser.loadAvailableEvents();
                 schedulePanel.updateSchedule();
-                notificationPanel.loadNotifications(); // Refresh notifications after cancellation
             }
         });
     }
@@ -2,12 +2,15 @@ package com.campuseventhub.gui.attendee;
 
 import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.service.DataChangeBus;
+import com.campuseventhub.service.DataChangeEvent;
 import com.campuseventhub.service.EventHub;
 import com.campuseventhub.gui.common.ComponentFactory;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 public class AttendeeEventBrowser extends JPanel {
@@ -18,10 +21,15 @@ public class AttendeeEventBrowser extends JPanel {
     private JComboBox<EventType> typeFilter;
     private ActionListener onEventSelected;
     private ActionListener onRegisterEvent;
+    private final List<String> shownEvents;
+    private String currentKeyword = "";
+    private EventType currentType;
+    private DataChangeBus.Subscription eventSubscription;
     
     public AttendeeEventBrowser(EventHub eventHub) {
         this.eventHub = eventHub;
         this.eventsListModel = new DefaultListModel<>();
+        this.shownEvents = new ArrayList<>();
         initializeComponents();
     }
     
@@ -92,57 +100,97 @@ public class AttendeeEventBrowser extends JPanel {
     }
     
     public void loadAvailableEvents() {
+        showEvents("", null, "No events available at the moment.", "No events open for registration.");
+    }
+    
+    private void searchEvents(String keyword, EventType type) {
+        showEvents(keyword, type, "No events found matching your search criteria.",
+                   "No events open for registration match your search.");
+    }
+    
+    private void showEvents(String keyword, EventType type, String noEventsMessage, String noOpenEventsMessage) {
+        currentKeyword = keyword;
+        currentType = type;
         eventsListModel.clear();
-        List<Event> events = eventHub.searchEvents("", null, null, null);
+        shownEvents.clear();
+        List<Event> events = eventHub.searchEvents(keyword, type, null, null);
         
         if (events.isEmpty()) {
-            eventsListModel.addElement("No events available at the moment.");
+            eventsListModel.addElement(noEventsMessage);
         } else {
             for (Event event : events) {
                 if (event.isRegistrationOpen()) {
-                    String venueInfo = event.hasVenue() ? event.getVenueName() : "No venue assigned";
-                    String eventInfo = String.format("%s - %s (%s) - %s - Venue: %s - Available: %d/%d", 
-                        event.getTitle(),
-                        event.getEventType().getDisplayName(),
-                        event.getStatus().getDisplayName(),
-                        event.getStartDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                        venueInfo,
-                        event.getAvailableSpots(),
-                        event.getMaxCapacity()
-                    );
-                    eventsListModel.addElement(eventInfo);
+                    shownEvents.add(event.getEventId());
+                    eventsListModel.addElement(formatEvent(event));
                 }
             }
             if (eventsListModel.isEmpty()) {
-                eventsListModel.addElement("No events open for registration.");
+                eventsListModel.addElement(noOpenEventsMessage);
             }
         }
     }
     
-    private void searchEvents(String keyword, EventType type) {
-        eventsListModel.clear();
-        List<Event> events = eventHub.searchEvents(keyword, type, null, null);
-        
-        if (events.isEmpty()) {
-            eventsListModel.addElement("No events found matching your search criteria.");
-        } else {
-            for (Event event : events) {
-                if (event.isRegistrationOpen()) {
-                    String venueInfo = event.hasVenue() ? event.getVenueName() : "No venue assigned";
-                    String eventInfo = String.format("%s - %s (%s) - %s - Venue: %s - Available: %d/%d", 
-                        event.getTitle(),
-                        event.getEventType().getDisplayName(),
-                        event.getStatus().getDisplayName(),
-                        event.getStartDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                        venueInfo,
-                        event.getAvailableSpots(),
-                        event.getMaxCapacity()
-                    );
-                    eventsListModel.addElement(eventInfo);
+    private String formatEvent(Event event) {
+        String venueInfo = event.hasVenue() ? event.getVenueName() : "No venue assigned";
+        return String.format("%s - %s (%s) - %s - Venue: %s - Available: %d/%d", 
+            event.getTitle(),
+            event.getEventType().getDisplayName(),
+            event.getStatus().getDisplayName(),
+            event.getStartDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
+            venueInfo,
+            event.getAvailableSpots(),
+            event.getMaxCapacity()
+        );
+    }
+    
+    // =============================================================================
+    // LIVE UPDATES
+    // =============================================================================
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (eventSubscription == null) {
+            eventSubscription = eventHub.subscribeToChanges(DataChangeEvent.Kind.EVENT, this::applyEventChanges);
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        if (eventSubscription != null) {
+            eventSubscription.cancel();
+            eventSubscription = null;
+        }
+        super.removeNotify();
+    }
+    
+    /**
+     * Patches only the rows of changed events: updates them in place, appends
+     * newly matching events and removes ones that closed or were deleted
+     */
+    private void applyEventChanges(List<DataChangeEvent> changes) {
+        for (DataChangeEvent change : changes) {
+            String eventId = change.getEntityId();
+            int row = shownEvents.indexOf(eventId);
+            Event event = change.getAction() == DataChangeEvent.Action.DELETED
+                ? null : eventHub.getEventById(eventId);
+            boolean visible = event != null && event.isRegistrationOpen()
+                && eventHub.eventMatchesSearch(event, currentKeyword, currentType);
+            
+            if (row >= 0 && visible) {
+                eventsListModel.set(row, formatEvent(event));
+            } else if (row >= 0) {
+                shownEvents.remove(row);
+                eventsListModel.remove(row);
+                if (shownEvents.isEmpty()) {
+                    eventsListModel.addElement("No events open for registration.");
                 }
-            }
-            if (eventsListModel.isEmpty()) {
-                eventsListModel.addElement("No events open for registration match your search.");
+            } else if (visible) {
+                if (shownEvents.isEmpty()) {
+                    eventsListModel.clear();
+                }
+                shownEvents.add(eventId);
+                eventsListModel.addElement(formatEvent(event));
             }
         }
     }
@@ -2,7 +2,10 @@ package com.campuseventhub.gui.attendee;
 
 import com.campuseventhub.model.notification.Notification;
 import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.service.DataChangeBus;
+import com.campuseventhub.service.DataChangeEvent;
 import com.campuseventhub.service.EventHub;
+import com.campuseventhub.service.NotificationService;
 import com.campuseventhub.gui.common.ComponentFactory;
 import javax.swing.*;
 import java.awt.*;
@@ -14,6 +17,8 @@ import java.util.List;
  * Panel for displaying and managing attendee notifications
  */
 public class AttendeeNotificationPanel extends JPanel {
+    private static final int PAGE_SIZE = 25;
+    
     private EventHub eventHub;
     private String attendeeId;
     private DefaultListModel<String> notificationsListModel;
@@ -22,8 +27,13 @@ public class AttendeeNotificationPanel extends JPanel {
     private JButton refreshBtn;
     private JButton markAllReadBtn;
     private JButton clearAllBtn;
+    private JButton previousPageBtn;
+    private JButton nextPageBtn;
+    private JLabel pageLabel;
+    private int currentPage;
     private JTextArea notificationDetailsArea;
     private List<Notification> currentNotifications;
+    private DataChangeBus.Subscription notificationSubscription;
     
     // Action listeners
     private ActionListener onNotificationSelected;
@@ -64,7 +74,10 @@ public class AttendeeNotificationPanel extends JPanel {
         notificationCountLabel.setForeground(new Color(0, 100, 200));
         
         refreshBtn = ComponentFactory.createPrimaryButton("🔄 Refresh");
-        refreshBtn.addActionListener(e -> loadNotifications());
+        refreshBtn.addActionListener(e -> {
+            currentPage = 0;
+            loadNotifications();
+        });
         
         panel.add(notificationCountLabel, BorderLayout.WEST);
         panel.add(refreshBtn, BorderLayout.EAST);
@@ -112,32 +125,64 @@ public class AttendeeNotificationPanel extends JPanel {
     }
     
     private JPanel createActionPanel() {
-        JPanel panel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JPanel panel = new JPanel(new BorderLayout());
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         
+        // Paging controls
+        JPanel pagingPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        previousPageBtn = ComponentFactory.createStandardButton("◀ Newer");
+        previousPageBtn.addActionListener(e -> showPage(currentPage - 1));
+        nextPageBtn = ComponentFactory.createStandardButton("Older ▶");
+        nextPageBtn.addActionListener(e -> showPage(currentPage + 1));
+        pageLabel = ComponentFactory.createStandardLabel("Page 1 of 1");
+        pagingPanel.add(previousPageBtn);
+        pagingPanel.add(pageLabel);
+        pagingPanel.add(nextPageBtn);
+        
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         markAllReadBtn = ComponentFactory.createSuccessButton("✓ Mark All Read");
         markAllReadBtn.addActionListener(e -> markAllNotificationsAsRead());
         
         clearAllBtn = ComponentFactory.createWarningButton("🗑 Clear All");
         clearAllBtn.addActionListener(e -> clearAllNotifications());
         
-        panel.add(markAllReadBtn);
-        panel.add(clearAllBtn);
+        buttonPanel.add(markAllReadBtn);
+        buttonPanel.add(clearAllBtn);
+        
+        panel.add(pagingPanel, BorderLayout.WEST);
+        panel.add(buttonPanel, BorderLayout.EAST);
         
         return panel;
     }
     
+    private void showPage(int page) {
+        currentPage = Math.max(0, page);
+        loadNotifications();
+    }
+    
+    /**
+     * Loads the current page of notifications, newest first
+     */
     public void loadNotifications() {
         notificationsListModel.clear();
-        currentNotifications = eventHub.getUserNotifications(attendeeId);
+        NotificationService.NotificationPage page =
+            eventHub.getUserNotificationsPage(attendeeId, currentPage, PAGE_SIZE);
+        if (page.getNotifications().isEmpty() && currentPage > 0) {
+            // Page no longer exists (notifications cleared or evicted)
+            currentPage = page.getTotalPages() - 1;
+            page = eventHub.getUserNotificationsPage(attendeeId, currentPage, PAGE_SIZE);
+        }
+        currentNotifications = page.getNotifications();
+        previousPageBtn.setEnabled(page.hasPrevious());
+        nextPageBtn.setEnabled(page.hasNext());
+        pageLabel.setText(String.format("Page %d of %d", currentPage + 1, page.getTotalPages()));
         
-        if (currentNotifications == null || currentNotifications.isEmpty()) {
+        if (currentNotifications.isEmpty()) {
             notificationsListModel.addElement("📭 No notifications available");
             updateNotificationCount(0, 0);
         } else {
-            int unreadCount = 0;
             for (Notification notification : currentNotifications) {
-                String prefix = notification.getSentAt() == null ? "🔵 " : "⚫ ";
+                String prefix = notification.isRead() ? "⚫ " : "🔵 ";
                 String typeIcon = getNotificationTypeIcon(notification.getType());
                 String timeStr = notification.getCreatedAt().format(DateTimeFormatter.ofPattern("MM/dd HH:mm"));
                 
@@ -147,21 +192,71 @@ public class AttendeeNotificationPanel extends JPanel {
                     
                 notificationsListModel.addElement(listItem);
                 
-                if (notification.getSentAt() == null) {
-                    unreadCount++;
-                }
             }
-            updateNotificationCount(currentNotifications.size(), unreadCount);
+            updateNotificationCount(page.getTotalCount(),
+                eventHub.getNotificationService().getUnreadNotificationCount(attendeeId));
         }
         
         // Update button states
-        boolean hasNotifications = currentNotifications != null && !currentNotifications.isEmpty();
+        boolean hasNotifications = !currentNotifications.isEmpty();
         markAllReadBtn.setEnabled(hasNotifications);
         clearAllBtn.setEnabled(hasNotifications);
         
         notificationDetailsArea.setText("Select a notification to view details...");
     }
     
+    // =============================================================================
+    // LIVE UPDATES
+    // =============================================================================
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (notificationSubscription == null) {
+            notificationSubscription = eventHub.subscribeToChanges(
+                DataChangeEvent.Kind.NOTIFICATION, this::applyNotificationChanges);
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        if (notificationSubscription != null) {
+            notificationSubscription.cancel();
+            notificationSubscription = null;
+        }
+        super.removeNotify();
+    }
+    
+    /**
+     * Re-reads the current (bounded) page when this attendee's inbox or the
+     * broadcast log changed, keeping the selected notification selected
+     */
+    private void applyNotificationChanges(List<DataChangeEvent> changes) {
+        boolean affected = false;
+        for (DataChangeEvent change : changes) {
+            if (change.concerns(attendeeId)) {
+                affected = true;
+                break;
+            }
+        }
+        if (!affected) {
+            return;
+        }
+        Notification selected = getSelectedNotificationObject();
+        String detailsText = notificationDetailsArea.getText();
+        loadNotifications();
+        if (selected != null) {
+            for (int i = 0; i < currentNotifications.size(); i++) {
+                if (currentNotifications.get(i).getNotificationId().equals(selected.getNotificationId())) {
+                    notificationsList.setSelectedIndex(i);
+                    notificationDetailsArea.setText(detailsText);
+                    notificationDetailsArea.setCaretPosition(0);
+                    break;
+                }
+            }
+        }
+    }
+    
     private void updateNotificationCount(int total, int unread) {
         String countText = String.format("📧 Total: %d | 🔵 Unread: %d", total, unread);
         notificationCountLabel.setText(countText);
@@ -181,10 +276,10 @@ public class AttendeeNotificationPanel extends JPanel {
             StringBuilder details = new StringBuilder();
             details.append("=== NOTIFICATION DETAILS ===\n\n");
             details.append("Type: ").append(notification.getType().getDisplayName()).append("\n");
-            details.append("Status: ").append(notification.getSentAt() == null ? "Unread" : "Read").append("\n");
+            details.append("Status: ").append(notification.isRead() ? "Read" : "Unread").append("\n");
             details.append("Received: ").append(notification.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("\n");
-            if (notification.getSentAt() != null) {
-                details.append("Read: ").append(notification.getSentAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("\n");
+            if (notification.getReadAt() != null) {
+                details.append("Read: ").append(notification.getReadAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("\n");
             }
             details.append("\n--- MESSAGE ---\n\n");
             details.append(notification.getMessage());
@@ -193,21 +288,16 @@ public class AttendeeNotificationPanel extends JPanel {
             notificationDetailsArea.setCaretPosition(0);
             
             // Auto-mark as read when viewed
-            if (notification.getSentAt() == null) {
-                eventHub.getNotificationService().markNotificationAsRead(notification.getNotificationId());
-                SwingUtilities.invokeLater(() -> loadNotifications()); // Refresh to show updated status
+            if (!notification.isRead()) {
+                // The list refreshes through the live update this triggers
+                eventHub.getNotificationService().markNotificationAsRead(attendeeId, notification.getNotificationId());
             }
         }
     }
     
     private void markAllNotificationsAsRead() {
         if (currentNotifications != null) {
-            for (Notification notification : currentNotifications) {
-                if (notification.getSentAt() == null) {
-                    eventHub.getNotificationService().markNotificationAsRead(notification.getNotificationId());
-                }
-            }
-            loadNotifications();
+            eventHub.getNotificationService().markAllNotificationsAsRead(attendeeId);
             JOptionPane.showMessageDialog(this, "All notifications marked as read!", 
                 "Notifications Updated", JOptionPane.INFORMATION_MESSAGE);
         }
@@ -222,7 +312,6 @@ public class AttendeeNotificationPanel extends JPanel {
             
         if (result == JOptionPane.YES_OPTION) {
             eventHub.getNotificationService().clearUserNotifications(attendeeId);
-            loadNotifications();
             JOptionPane.showMessageDialog(this, "All notifications cleared!", 
                 "Notifications Cleared", JOptionPane.INFORMATION_MESSAGE);
         }
@@ -248,6 +337,8 @@ public class AttendeeNotificationPanel extends JPanel {
                 return "📢";
             case SYSTEM_ALERT:
                 return "⚠️";
+            case DIGEST:
+                return "📬";
             default:
                 return "📧";
         }
@@ -2,6 +2,8 @@ package com.campuseventhub.gui.attendee;
 
 import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.service.DataChangeBus;
+import com.campuseventhub.service.DataChangeEvent;
 import com.campuseventhub.service.EventHub;
 import com.campuseventhub.gui.common.ComponentFactory;
 import javax.swing.*;
@@ -18,6 +20,7 @@ public class AttendeeRegistrationPanel extends JPanel {
     private ActionListener onRegistrationSelected;
     private ActionListener onCancelRegistration;
     private ActionListener onViewQRCode;
+    private DataChangeBus.Subscription registrationSubscription;
     
     public AttendeeRegistrationPanel(EventHub eventHub, String attendeeId) {
         this.eventHub = eventHub;
@@ -151,4 +154,50 @@ public class AttendeeRegistrationPanel extends JPanel {
     public void setOnCancelRegistration(ActionListener listener) {
         this.onCancelRegistration = listener;
     }
-}
\ No newline at end of file
+    
+    // =============================================================================
+    // LIVE UPDATES
+    // =============================================================================
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (registrationSubscription == null) {
+            registrationSubscription = eventHub.subscribeToChanges(
+                DataChangeEvent.Kind.REGISTRATION, this::applyRegistrationChanges);
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        if (registrationSubscription != null) {
+            registrationSubscription.cancel();
+            registrationSubscription = null;
+        }
+        super.removeNotify();
+    }
+    
+    /**
+     * Reloads the list when one of this attendee's registrations changed,
+     * keeping the selected row selected
+     */
+    private void applyRegistrationChanges(List<DataChangeEvent> changes) {
+        if (!concernsAttendee(changes)) {
+            return;
+        }
+        int selected = registrationsList.getSelectedIndex();
+        loadMyRegistrations();
+        if (selected >= 0 && selected < registrationsListModel.size()) {
+            registrationsList.setSelectedIndex(selected);
+        }
+    }
+    
+    private boolean concernsAttendee(List<DataChangeEvent> changes) {
+        for (DataChangeEvent change : changes) {
+            if (attendeeId.equals(change.getOwnerId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
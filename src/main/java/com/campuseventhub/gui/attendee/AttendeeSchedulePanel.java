@@ -4,6 +4,8 @@ import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.Registration;
 import com.campuseventhub.model.event.RegistrationStatus;
 import com.campuseventhub.model.user.Attendee;
+import com.campuseventhub.service.DataChangeBus;
+import com.campuseventhub.service.DataChangeEvent;
 import com.campuseventhub.service.EventHub;
 import com.campuseventhub.gui.common.ComponentFactory;
 import javax.swing.*;
@@ -16,6 +18,7 @@ public class AttendeeSchedulePanel extends JPanel {
     private EventHub eventHub;
     private Attendee attendee;
     private JTextArea scheduleArea;
+    private DataChangeBus.Subscription registrationSubscription;
     
     public AttendeeSchedulePanel(EventHub eventHub, Attendee attendee) {
         this.eventHub = eventHub;
@@ -143,4 +146,38 @@ public class AttendeeSchedulePanel extends JPanel {
         
         scheduleArea.setText(schedule.toString());
     }
-}
\ No newline at end of file
+    
+    // =============================================================================
+    // LIVE UPDATES
+    // =============================================================================
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (registrationSubscription == null) {
+            registrationSubscription = eventHub.subscribeToChanges(
+                DataChangeEvent.Kind.REGISTRATION, this::applyRegistrationChanges);
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        if (registrationSubscription != null) {
+            registrationSubscription.cancel();
+            registrationSubscription = null;
+        }
+        super.removeNotify();
+    }
+    
+    /**
+     * Rebuilds the schedule when one of this attendee's registrations changed
+     */
+    private void applyRegistrationChanges(List<DataChangeEvent> changes) {
+        for (DataChangeEvent change : changes) {
+            if (attendee.getUserId().equals(change.getOwnerId())) {
+                updateSchedule();
+                return;
+            }
+        }
+    }
+}
@@ -4,15 +4,24 @@
 
 package com.campuseventhub.gui.common;
 
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+
 import javax.swing.Box;
 import javax.swing.JFrame;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
 import javax.swing.SwingUtilities;
 
 import com.campuseventhub.gui.LoginFrame;
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.service.DataChangeBus;
+import com.campuseventhub.service.DataChangeEvent;
 import com.campuseventhub.service.EventHub;
 
 /**
@@ -28,6 +37,7 @@ public abstract class BaseFrame extends JFrame {
     protected JMenuBar menuBar;
     protected JMenu userMenu;
     protected JMenu notificationMenu;
+    private DataChangeBus.Subscription notificationSubscription;
 
     /**
      * Constructs the frame with a provided window title and applies common
@@ -132,9 +142,7 @@ public abstract class BaseFrame extends JFrame {
      */
     protected void updateNotificationBadge() {
         if (notificationMenu != null && eventHub.isUserLoggedIn()) {
-            java.util.List<com.campuseventhub.model.notification.Notification> notifications = 
-                eventHub.getCurrentUserNotifications();
-            int unreadCount = notifications.size();
+            int unreadCount = eventHub.getCurrentUserUnreadNotificationCount();
             
             if (unreadCount > 0) {
                 notificationMenu.setText("Notifications (" + unreadCount + ")");
@@ -146,6 +154,34 @@ public abstract class BaseFrame extends JFrame {
         }
     }
     
+    /**
+     * Keeps the unread badge current while the frame is displayable
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (notificationSubscription == null) {
+            notificationSubscription = eventHub.subscribeToChanges(DataChangeEvent.Kind.NOTIFICATION, changes -> {
+                User user = eventHub.getCurrentUser();
+                for (DataChangeEvent change : changes) {
+                    if (user != null && change.concerns(user.getUserId())) {
+                        updateNotificationBadge();
+                        return;
+                    }
+                }
+            });
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        if (notificationSubscription != null) {
+            notificationSubscription.cancel();
+            notificationSubscription = null;
+        }
+        super.removeNotify();
+    }
+    
     /**
      * Shows all notifications in a dialog
      */
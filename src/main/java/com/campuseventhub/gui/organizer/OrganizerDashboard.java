@@ -51,10 +51,9 @@ public class OrganizerDashboard extends BaseFrame {
         eventListPanel.setOnViewRegistrations(e -> 
             actionHandler.viewRegistrations(eventListPanel.getSelectedEventObject()));
         
-        eventListPanel.setOnEditEvent(e -> {
-            actionHandler.editEvent(eventListPanel.getSelectedEventObject());
-            eventListPanel.loadMyEvents(); // Refresh the list after editing
-        });
+        // Edits, cancellations, reschedules and new events reach the list via live updates
+        eventListPanel.setOnEditEvent(e -> 
+            actionHandler.editEvent(eventListPanel.getSelectedEventObject()));
         
         eventListPanel.setOnPublishEvent(e -> {
             if (actionHandler.publishEvent(eventListPanel.getSelectedEvent())) {
@@ -63,15 +62,11 @@ public class OrganizerDashboard extends BaseFrame {
             }
         });
         
-        eventListPanel.setOnCancelEvent(e -> {
-            actionHandler.cancelEvent(eventListPanel.getSelectedEventObject());
-            eventListPanel.loadMyEvents(); // Refresh the list after cancellation
-        });
+        eventListPanel.setOnCancelEvent(e -> 
+            actionHandler.cancelEvent(eventListPanel.getSelectedEventObject()));
         
-        eventListPanel.setOnRescheduleEvent(e -> {
-            actionHandler.rescheduleEvent(eventListPanel.getSelectedEventObject());
-            eventListPanel.loadMyEvents(); // Refresh the list after rescheduling
-        });
+        eventListPanel.setOnRescheduleEvent(e -> 
+            actionHandler.rescheduleEvent(eventListPanel.getSelectedEventObject()));
         
         eventCreationPanel.setOnCreateEvent(e -> {
             if (actionHandler.createEvent(
@@ -84,7 +79,6 @@ public class OrganizerDashboard extends BaseFrame {
                 eventCreationPanel.getSelectedVenueId()
             )) {
                 eventCreationPanel.clearForm();
-                eventListPanel.loadMyEvents();
                 analyticsPanel.updateAnalytics();
                 mainTabbedPane.setSelectedIndex(0);
             }
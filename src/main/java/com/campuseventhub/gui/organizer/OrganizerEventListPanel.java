@@ -3,12 +3,15 @@ package com.campuseventhub.gui.organizer;
 import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.Registration;
 import com.campuseventhub.model.event.RegistrationStatus;
+import com.campuseventhub.service.DataChangeBus;
+import com.campuseventhub.service.DataChangeEvent;
 import com.campuseventhub.service.EventHub;
 import com.campuseventhub.gui.common.ComponentFactory;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 public class OrganizerEventListPanel extends JPanel {
@@ -22,6 +25,7 @@ public class OrganizerEventListPanel extends JPanel {
     private ActionListener onPublishEvent;
     private ActionListener onCancelEvent;
     private ActionListener onRescheduleEvent;
+    private DataChangeBus.Subscription eventSubscription;
     
     public OrganizerEventListPanel(EventHub eventHub, String organizerId) {
         this.eventHub = eventHub;
@@ -88,34 +92,104 @@ public class OrganizerEventListPanel extends JPanel {
     
     public void loadMyEvents() {
         eventsListModel.clear();
-        currentEvents = eventHub.getEventsByOrganizer(organizerId);
+        currentEvents = new ArrayList<>(eventHub.getEventsByOrganizer(organizerId));
         
         if (currentEvents.isEmpty()) {
             eventsListModel.addElement("No events found. Create your first event!");
         } else {
             for (Event event : currentEvents) {
-                // Get confirmed registration count
-                int confirmedCount = 0;
-                if (event.getRegistrations() != null) {
-                    for (Registration reg : event.getRegistrations()) {
-                        if (reg.getStatus() == RegistrationStatus.CONFIRMED) {
-                            confirmedCount++;
-                        }
+                eventsListModel.addElement(formatEvent(event));
+            }
+        }
+    }
+    
+    private String formatEvent(Event event) {
+        // Get confirmed registration count
+        int confirmedCount = 0;
+        if (event.getRegistrations() != null) {
+            for (Registration reg : event.getRegistrations()) {
+                if (reg.getStatus() == RegistrationStatus.CONFIRMED) {
+                    confirmedCount++;
+                }
+            }
+        }
+        int maxCapacity = event.getMaxCapacity();
+        
+        return String.format("%s - %s (%s) - %s - Registered: %d/%d", 
+            event.getTitle(),
+            event.getEventType().getDisplayName(),
+            event.getStatus().getDisplayName(),
+            event.getStartDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
+            confirmedCount,
+            maxCapacity
+        );
+    }
+    
+    // =============================================================================
+    // LIVE UPDATES
+    // =============================================================================
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (eventSubscription == null) {
+            eventSubscription = eventHub.subscribeToChanges(DataChangeEvent.Kind.EVENT, this::applyEventChanges);
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        if (eventSubscription != null) {
+            eventSubscription.cancel();
+            eventSubscription = null;
+        }
+        super.removeNotify();
+    }
+    
+    /**
+     * Patches the rows of this organizer's changed events, including
+     * registration counts, without reloading the whole list
+     */
+    private void applyEventChanges(List<DataChangeEvent> changes) {
+        if (currentEvents == null) {
+            return;
+        }
+        for (DataChangeEvent change : changes) {
+            if (!change.concerns(organizerId)) {
+                continue;
+            }
+            int row = indexOf(change.getEntityId());
+            Event event = change.getAction() == DataChangeEvent.Action.DELETED
+                ? null : eventHub.getEventById(change.getEntityId());
+            
+            if (event == null) {
+                if (row >= 0) {
+                    currentEvents.remove(row);
+                    eventsListModel.remove(row);
+                    if (currentEvents.isEmpty()) {
+                        eventsListModel.addElement("No events found. Create your first event!");
                     }
                 }
-                int maxCapacity = event.getMaxCapacity();
-                
-                String eventInfo = String.format("%s - %s (%s) - %s - Registered: %d/%d", 
-                    event.getTitle(),
-                    event.getEventType().getDisplayName(),
-                    event.getStatus().getDisplayName(),
-                    event.getStartDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                    confirmedCount,
-                    maxCapacity
-                );
-                eventsListModel.addElement(eventInfo);
+            } else if (row >= 0) {
+                currentEvents.set(row, event);
+                eventsListModel.set(row, formatEvent(event));
+            } else {
+                if (currentEvents.isEmpty()) {
+                    eventsListModel.clear();
+                }
+                currentEvents.add(event);
+                eventsListModel.addElement(formatEvent(event));
+            }
+        }
+    }
+    
+    private int indexOf(String eventId) {
+        for (int i = 0; i < currentEvents.size(); i++) {
+            if (currentEvents.get(i).getEventId().equals(eventId)) {
+                return i;
             }
         }
+        return -1;
     }
     
     public String getSelectedEvent() {
@@ -0,0 +1,33 @@
+// =============================================================================
+// EVENT SEARCH JFR EVENT
+// =============================================================================
+
+package com.campuseventhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One event search: the criteria used, how many events were scanned and
+ * how many matched.
+ */
+@Name("com.campuseventhub.EventSearch")
+@Label("Event Search")
+@Category({"Campus EventHub", "Search"})
+@Description("Event search query with its criteria and hit count")
+@StackTrace(false)
+public class EventSearchEvent extends Event {
+    @Label("Criteria")
+    @Description("Non-empty criteria fields as key=value pairs")
+    public String criteria;
+
+    @Label("Candidates")
+    public int candidates;
+
+    @Label("Hits")
+    public int hits;
+}
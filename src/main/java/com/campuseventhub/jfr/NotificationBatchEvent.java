@@ -0,0 +1,47 @@
+// =============================================================================
+// NOTIFICATION BATCH JFR EVENT
+// =============================================================================
+
+package com.campuseventhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One delivery attempt of a notification batch on one channel.
+ *
+ * Implementation Details:
+ * - Recorded on the channel's worker thread, so channel stalls show up
+ *   next to the thread's samples
+ * - outcome is DELIVERED, PARTIAL, FAILED or CIRCUIT_OPEN
+ */
+@Name("com.campuseventhub.NotificationBatch")
+@Label("Notification Batch")
+@Category({"Campus EventHub", "Notifications"})
+@Description("Delivery of one notification batch through one channel")
+@StackTrace(false)
+public class NotificationBatchEvent extends Event {
+    public static final String DELIVERED = "DELIVERED";
+    public static final String PARTIAL = "PARTIAL";
+    public static final String FAILED = "FAILED";
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+
+    @Label("Channel")
+    public String channel;
+
+    @Label("Recipients")
+    public int recipients;
+
+    @Label("Failed Recipients")
+    public int failedRecipients;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Outcome")
+    public String outcome;
+}
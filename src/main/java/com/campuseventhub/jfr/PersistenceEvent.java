@@ -0,0 +1,42 @@
+// =============================================================================
+// PERSISTENCE JFR EVENT
+// =============================================================================
+
+package com.campuseventhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One DataManager save or load of a whole data file.
+ *
+ * Implementation Details:
+ * - Duration covers serialization and file I/O, including the backup copy
+ *   taken before events.ser and users.ser are overwritten
+ * - bytes is the file size after a save or before a load
+ */
+@Name("com.campuseventhub.Persistence")
+@Label("Persistence")
+@Category({"Campus EventHub", "Persistence"})
+@Description("Whole-file save or load through DataManager")
+@StackTrace(false)
+public class PersistenceEvent extends Event {
+    @Label("Operation")
+    @Description("save or load")
+    public String operation;
+
+    @Label("File")
+    public String file;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Success")
+    public boolean success;
+}
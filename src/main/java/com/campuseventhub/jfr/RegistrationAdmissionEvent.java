@@ -0,0 +1,54 @@
+// =============================================================================
+// REGISTRATION ADMISSION JFR EVENT
+// =============================================================================
+
+package com.campuseventhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One registration request: whether the attendee was confirmed, waitlisted
+ * or turned away, and how long it waited for the event's lock.
+ *
+ * Implementation Details:
+ * - lockWait separates contention on a popular event from the cost of the
+ *   admission itself
+ * - confirmed is the count after the decision
+ */
+@Name("com.campuseventhub.RegistrationAdmission")
+@Label("Registration Admission")
+@Category({"Campus EventHub", "Registrations"})
+@Description("Capacity decision for one registration request")
+@StackTrace(false)
+public class RegistrationAdmissionEvent extends Event {
+    public static final String CONFIRMED = "CONFIRMED";
+    public static final String WAITLISTED = "WAITLISTED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String REJECTED = "REJECTED";
+
+    @Label("Event Id")
+    public String eventId;
+
+    @Label("Attendee Id")
+    public String attendeeId;
+
+    @Label("Outcome")
+    @Description("CONFIRMED, WAITLISTED, DUPLICATE or REJECTED")
+    public String outcome;
+
+    @Label("Confirmed")
+    public int confirmed;
+
+    @Label("Capacity")
+    public int capacity;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lockWait;
+}
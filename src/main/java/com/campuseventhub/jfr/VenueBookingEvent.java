@@ -0,0 +1,36 @@
+// =============================================================================
+// VENUE BOOKING JFR EVENT
+// =============================================================================
+
+package com.campuseventhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One attempt to book a venue for an event, including the availability
+ * check against the venue's existing bookings.
+ */
+@Name("com.campuseventhub.VenueBooking")
+@Label("Venue Booking")
+@Category({"Campus EventHub", "Venues"})
+@Description("Venue booking attempt for an event")
+@StackTrace(false)
+public class VenueBookingEvent extends Event {
+    @Label("Event Id")
+    public String eventId;
+
+    @Label("Venue Id")
+    public String venueId;
+
+    @Label("Booked")
+    public boolean booked;
+
+    @Label("Failure")
+    @Description("Why the booking was refused; empty when booked")
+    public String failure;
+}
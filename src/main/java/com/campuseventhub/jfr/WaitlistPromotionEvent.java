@@ -0,0 +1,38 @@
+// =============================================================================
+// WAITLIST PROMOTION JFR EVENT
+// =============================================================================
+
+package com.campuseventhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One pass promoting waitlisted attendees into free places, including the
+ * position updates and notifications sent to those still waiting.
+ */
+@Name("com.campuseventhub.WaitlistPromotion")
+@Label("Waitlist Promotion")
+@Category({"Campus EventHub", "Registrations"})
+@Description("Waitlist promotion pass for one event")
+@StackTrace(false)
+public class WaitlistPromotionEvent extends Event {
+    @Label("Event Id")
+    public String eventId;
+
+    @Label("Available Spots")
+    public int availableSpots;
+
+    @Label("Promoted")
+    public int promoted;
+
+    @Label("Failed")
+    public int failed;
+
+    @Label("Still Waiting")
+    public int remaining;
+}
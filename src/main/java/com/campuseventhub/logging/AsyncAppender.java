@@ -0,0 +1,214 @@
+// =============================================================================
+// ASYNC APPENDER
+// =============================================================================
+
+package com.campuseventhub.logging;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands log events from any number of threads to a single writer thread
+ * through a bounded ring buffer.
+ *
+ * Implementation Details:
+ * - Multi-producer, single-consumer ring: producers claim a sequence with one
+ *   CAS on the tail and publish into the slot; no locks, no allocation
+ *   beyond the event itself
+ * - When the ring is full the event is dropped and counted instead of
+ *   blocking the caller; the writer logs how many were lost once it catches up
+ * - The writer drains everything available, writes it to every sink and
+ *   flushes once per batch, then parks until a producer wakes it
+ * - Sink failures are reported once on stderr, the last channel left when
+ *   logging itself is broken, and never reach the caller
+ */
+public class AsyncAppender {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AtomicReferenceArray<LogEvent> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail;
+    private final AtomicLong dropped;
+    private final AtomicLong totalDropped;
+    private final List<LogSink> sinks;
+    private final Thread writer;
+    private volatile long head;
+    private volatile long flushedThrough;
+    private volatile boolean sleeping;
+    private volatile boolean running;
+    private boolean sinkFailureReported;
+
+    /**
+     * Creates and starts an appender; capacity is rounded up to a power of two
+     * PARAMS: capacity, sinks
+     */
+    public AsyncAppender(int capacity, List<LogSink> sinks) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = powerOfTwoAtLeast(capacity);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.tail = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.totalDropped = new AtomicLong();
+        this.sinks = new CopyOnWriteArrayList<>(sinks);
+        this.running = true;
+        this.writer = new Thread(this::writeLoop, "AsyncLogWriter");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues an event without blocking
+     *
+     * @return false if the appender is stopped or the buffer was full
+     */
+    public boolean offer(LogEvent event) {
+        if (!running) {
+            return false;
+        }
+        while (true) {
+            long claim = tail.get();
+            if (claim - head >= capacity) {
+                dropped.incrementAndGet();
+                totalDropped.incrementAndGet();
+                return false;
+            }
+            if (tail.compareAndSet(claim, claim + 1)) {
+                slots.set((int) (claim & mask), event);
+                if (sleeping) {
+                    LockSupport.unpark(writer);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Waits until everything offered before this call is written and flushed
+     *
+     * @return true if the writer caught up within the timeout
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        LockSupport.unpark(writer);
+        while (flushedThrough < target) {
+            if (System.nanoTime() >= deadline || !writer.isAlive()) {
+                return flushedThrough >= target;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting events, writes what is buffered and closes the sinks
+     */
+    public void shutdown(long timeout, TimeUnit unit) {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Events lost to a full buffer since the appender started
+     */
+    public long getDroppedCount() {
+        return totalDropped.get();
+    }
+
+    private void writeLoop() {
+        while (running || head < tail.get()) {
+            if (drain() == 0) {
+                sleeping = true;
+                if (running && head == tail.get()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                sleeping = false;
+            }
+        }
+        drain();
+        for (LogSink sink : sinks) {
+            sink.close();
+        }
+    }
+
+    private int drain() {
+        long next = head;
+        long end = tail.get();
+        int written = 0;
+        while (next < end) {
+            int index = (int) (next & mask);
+            LogEvent event = slots.get(index);
+            if (event == null) {
+                // Claimed but not yet published by its producer
+                Thread.onSpinWait();
+                continue;
+            }
+            slots.set(index, null);
+            head = ++next;
+            write(event);
+            written++;
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            write(new LogEvent(System.currentTimeMillis(), LogLevel.WARN, "AsyncAppender",
+                Thread.currentThread().getName(), "Dropped " + lost + " log events: buffer full", null));
+        }
+        if (written > 0 || lost > 0) {
+            for (LogSink sink : sinks) {
+                try {
+                    sink.flush();
+                } catch (IOException e) {
+                    reportSinkFailure(e);
+                }
+            }
+        }
+        flushedThrough = next;
+        return written;
+    }
+
+    private void write(LogEvent event) {
+        for (LogSink sink : sinks) {
+            try {
+                sink.write(event);
+            } catch (IOException | RuntimeException e) {
+                reportSinkFailure(e);
+            }
+        }
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        int size = 1;
+        while (size < value) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private void reportSinkFailure(Exception e) {
+        if (!sinkFailureReported) {
+            sinkFailureReported = true;
+            System.err.println("AsyncAppender: Log sink failed, further failures suppressed: " + e.getMessage());
+        }
+    }
+}
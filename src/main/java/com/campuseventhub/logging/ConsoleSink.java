@@ -0,0 +1,39 @@
+// =============================================================================
+// CONSOLE SINK
+// =============================================================================
+
+package com.campuseventhub.logging;
+
+import java.io.PrintStream;
+
+/**
+ * Mirrors log lines to the console for development runs
+ * (-Dcampuseventhub.log.console=true). Writes happen on the appender's
+ * writer thread, so a slow terminal no longer blocks request threads.
+ */
+public class ConsoleSink implements LogSink {
+    private final PrintStream out;
+
+    public ConsoleSink() {
+        this(System.out);
+    }
+
+    public ConsoleSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(LogEvent event) {
+        out.println(event.format());
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        out.flush();
+    }
+}
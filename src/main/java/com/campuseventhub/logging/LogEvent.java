@@ -0,0 +1,88 @@
+// =============================================================================
+// LOG EVENT
+// =============================================================================
+
+package com.campuseventhub.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * One log statement captured on the calling thread.
+ *
+ * Implementation Details:
+ * - Holds only what the caller already has (time, level, component, thread,
+ *   message, throwable); turning it into text happens on the writer thread
+ * - format() renders one logfmt line: key=value pairs, with msg and error
+ *   quoted, so the file can be grepped and parsed without a schema
+ */
+public class LogEvent {
+    private static final DateTimeFormatter TIMESTAMP =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final long timestampMillis;
+    private final LogLevel level;
+    private final String component;
+    private final String thread;
+    private final String message;
+    private final Throwable error;
+
+    LogEvent(long timestampMillis, LogLevel level, String component, String thread,
+             String message, Throwable error) {
+        this.timestampMillis = timestampMillis;
+        this.level = level;
+        this.component = component;
+        this.thread = thread;
+        this.message = message;
+        this.error = error;
+    }
+
+    public long getTimestampMillis() { return timestampMillis; }
+    public LogLevel getLevel() { return level; }
+    public String getComponent() { return component; }
+    public String getThread() { return thread; }
+    public String getMessage() { return message; }
+    public Throwable getError() { return error; }
+
+    /**
+     * Renders the event as a logfmt line, followed by the stack trace for errors
+     */
+    public String format() {
+        StringBuilder line = new StringBuilder(96 + (message != null ? message.length() : 0));
+        line.append("ts=").append(TIMESTAMP.format(Instant.ofEpochMilli(timestampMillis)))
+            .append(" level=").append(level)
+            .append(" component=").append(component)
+            .append(" thread=");
+        appendQuoted(line, thread);
+        line.append(" msg=");
+        appendQuoted(line, message);
+        if (error != null) {
+            line.append(" error=");
+            appendQuoted(line, error.toString());
+            StringWriter trace = new StringWriter();
+            error.printStackTrace(new PrintWriter(trace));
+            line.append(System.lineSeparator()).append(trace.toString().stripTrailing());
+        }
+        return line.toString();
+    }
+
+    private static void appendQuoted(StringBuilder line, String value) {
+        line.append('"');
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"': line.append("\\\""); break;
+                    case '\\': line.append("\\\\"); break;
+                    case '\n': line.append("\\n"); break;
+                    case '\r': line.append("\\r"); break;
+                    default: line.append(c);
+                }
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,32 @@
+// =============================================================================
+// LOG LEVEL
+// =============================================================================
+
+package com.campuseventhub.logging;
+
+/**
+ * Severity of a log event, lowest first.
+ */
+public enum LogLevel {
+    TRACE,
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * Parses a level name case-insensitively
+     * PARAMS: name
+     */
+    public static LogLevel parse(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Log level cannot be null or empty");
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown log level: " + name);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+// =============================================================================
+// LOG MANAGER
+// =============================================================================
+
+package com.campuseventhub.logging;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of the logging facade: hands out per-component loggers and
+ * owns the async appender they write through.
+ *
+ * Implementation Details:
+ * - Loggers are cached by component name (the simple class name for
+ *   getLogger(Class)), so a static final field per class is the usual use
+ * - Configuration comes from system properties, read once at startup:
+ *   campuseventhub.log.level (default INFO), campuseventhub.log.level.<Component>
+ *   for per-component overrides, campuseventhub.log.dir (default ./logs)
+ *   and campuseventhub.log.console=true to mirror lines to the console
+ * - Output goes to <dir>/campuseventhub.log, rolled at 10 MB with 5 backups
+ * - A shutdown hook drains the buffer so the last lines before exit are kept
+ */
+public class LogManager {
+    public static final String LEVEL_PROPERTY = "campuseventhub.log.level";
+    public static final String DIRECTORY_PROPERTY = "campuseventhub.log.dir";
+    public static final String CONSOLE_PROPERTY = "campuseventhub.log.console";
+    public static final String LOG_FILE = "campuseventhub.log";
+
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final long MAX_FILE_BYTES = 10L * 1024 * 1024;
+    private static final int MAX_BACKUPS = 5;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static final Path LOG_PATH = logDirectory().resolve(LOG_FILE);
+    private static final LogManager DEFAULT = createDefault();
+
+    private final ConcurrentMap<String, Logger> loggers;
+    private final LogLevel defaultLevel;
+    private final AsyncAppender appender;
+
+    LogManager(LogLevel defaultLevel, AsyncAppender appender) {
+        this.loggers = new ConcurrentHashMap<>();
+        this.defaultLevel = defaultLevel;
+        this.appender = appender;
+    }
+
+    /**
+     * Logger for a class, named after its simple name
+     * PARAMS: type
+     */
+    public static Logger getLogger(Class<?> type) {
+        return DEFAULT.logger(type.getSimpleName());
+    }
+
+    /**
+     * Logger for a named component
+     * PARAMS: component
+     */
+    public static Logger getLogger(String component) {
+        return DEFAULT.logger(component);
+    }
+
+    /**
+     * Changes one component's level at runtime
+     * PARAMS: component, level
+     */
+    public static void setLevel(String component, LogLevel level) {
+        DEFAULT.logger(component).setLevel(level);
+    }
+
+    /**
+     * Waits until everything logged so far has reached the log file
+     * PARAMS: timeout, unit
+     */
+    public static boolean flush(long timeout, TimeUnit unit) {
+        return DEFAULT.appender.flush(timeout, unit);
+    }
+
+    /**
+     * Path of the active log file
+     */
+    public static Path getLogFile() {
+        return LOG_PATH;
+    }
+
+    Logger logger(String component) {
+        if (component == null || component.trim().isEmpty()) {
+            throw new IllegalArgumentException("Component cannot be null or empty");
+        }
+        return loggers.computeIfAbsent(component, name -> new Logger(name, levelFor(name), this));
+    }
+
+    void publish(LogEvent event) {
+        appender.offer(event);
+    }
+
+    AsyncAppender getAppender() {
+        return appender;
+    }
+
+    private LogLevel levelFor(String component) {
+        String override = System.getProperty(LEVEL_PROPERTY + "." + component);
+        return override != null ? LogLevel.parse(override) : defaultLevel;
+    }
+
+    private static LogManager createDefault() {
+        LogLevel level = LogLevel.INFO;
+        String configured = System.getProperty(LEVEL_PROPERTY);
+        if (configured != null) {
+            level = LogLevel.parse(configured);
+        }
+        List<LogSink> sinks = new ArrayList<>();
+        sinks.add(new RollingFileSink(LOG_PATH, MAX_FILE_BYTES, MAX_BACKUPS));
+        if (Boolean.getBoolean(CONSOLE_PROPERTY)) {
+            sinks.add(new ConsoleSink());
+        }
+        AsyncAppender appender = new AsyncAppender(BUFFER_CAPACITY, sinks);
+        // Flush rather than stop: other shutdown hooks may still be logging
+        Runtime.getRuntime().addShutdownHook(new Thread(
+            () -> appender.flush(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS), "LogShutdown"));
+        return new LogManager(level, appender);
+    }
+
+    private static Path logDirectory() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return directory != null ? Paths.get(directory) : Paths.get(System.getProperty("user.dir"), "logs");
+    }
+}
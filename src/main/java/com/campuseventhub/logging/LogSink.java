@@ -0,0 +1,22 @@
+// =============================================================================
+// LOG SINK
+// =============================================================================
+
+package com.campuseventhub.logging;
+
+import java.io.IOException;
+
+/**
+ * Destination for formatted log events. Sinks are only ever called from the
+ * appender's writer thread, so implementations need no locking.
+ */
+public interface LogSink {
+    void write(LogEvent event) throws IOException;
+
+    /**
+     * Pushes buffered output down; called once per drained batch
+     */
+    void flush() throws IOException;
+
+    void close();
+}
@@ -0,0 +1,80 @@
+// =============================================================================
+// LOGGER
+// =============================================================================
+
+package com.campuseventhub.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-component logger handed out by LogManager.
+ *
+ * Implementation Details:
+ * - The level check is a volatile read; disabled statements cost nothing else
+ * - Supplier overloads build the message only when the level is enabled,
+ *   for messages that concatenate or format on hot paths
+ * - Enabled statements become a LogEvent offered to the async appender;
+ *   the caller never waits for I/O
+ */
+public class Logger {
+    private final String component;
+    private final LogManager manager;
+    private volatile LogLevel level;
+
+    Logger(String component, LogLevel level, LogManager manager) {
+        this.component = component;
+        this.level = level;
+        this.manager = manager;
+    }
+
+    public String getComponent() {
+        return component;
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    void setLevel(LogLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Whether statements at this level are recorded
+     * PARAMS: candidate
+     */
+    public boolean isEnabled(LogLevel candidate) {
+        return candidate != LogLevel.OFF && candidate.compareTo(level) >= 0;
+    }
+
+    public void debug(String message) { log(LogLevel.DEBUG, message, null); }
+    public void debug(Supplier<String> message) { log(LogLevel.DEBUG, message, null); }
+    public void info(String message) { log(LogLevel.INFO, message, null); }
+    public void info(Supplier<String> message) { log(LogLevel.INFO, message, null); }
+    public void warn(String message) { log(LogLevel.WARN, message, null); }
+    public void warn(Supplier<String> message) { log(LogLevel.WARN, message, null); }
+    public void warn(String message, Throwable error) { log(LogLevel.WARN, message, error); }
+    public void error(String message) { log(LogLevel.ERROR, message, null); }
+    public void error(String message, Throwable error) { log(LogLevel.ERROR, message, error); }
+
+    /**
+     * Records a message at the given level
+     * PARAMS: eventLevel, message, error (may be null)
+     */
+    public void log(LogLevel eventLevel, String message, Throwable error) {
+        if (isEnabled(eventLevel)) {
+            manager.publish(new LogEvent(System.currentTimeMillis(), eventLevel, component,
+                Thread.currentThread().getName(), message, error));
+        }
+    }
+
+    /**
+     * Records a lazily built message at the given level
+     * PARAMS: eventLevel, message, error (may be null)
+     */
+    public void log(LogLevel eventLevel, Supplier<String> message, Throwable error) {
+        if (isEnabled(eventLevel)) {
+            log(eventLevel, message.get(), error);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+// =============================================================================
+// ROLLING FILE SINK
+// =============================================================================
+
+package com.campuseventhub.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends log lines to a file and rolls it over by size.
+ *
+ * Implementation Details:
+ * - When the next line would push the file past maxBytes, name.log becomes
+ *   name.log.1, older backups shift up and the oldest beyond maxBackups is deleted
+ * - Output is buffered; the appender flushes after each drained batch, so a
+ *   burst of events costs one write system call rather than one per line
+ */
+public class RollingFileSink implements LogSink {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxBackups;
+    private OutputStream out;
+    private long size;
+
+    public RollingFileSink(Path file, long maxBytes, int maxBackups) {
+        if (file == null) {
+            throw new IllegalArgumentException("Log file cannot be null");
+        }
+        if (maxBytes <= 0 || maxBackups < 0) {
+            throw new IllegalArgumentException("Max bytes must be positive and max backups non-negative");
+        }
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxBackups = maxBackups;
+    }
+
+    @Override
+    public void write(LogEvent event) throws IOException {
+        byte[] line = (event.format() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        if (out == null) {
+            open();
+        }
+        if (size > 0 && size + line.length > maxBytes) {
+            roll();
+        }
+        out.write(line);
+        size += line.length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            // Nothing left to report it to
+        }
+        out = null;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        out = new BufferedOutputStream(Files.newOutputStream(file,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND), BUFFER_SIZE);
+        size = Files.size(file);
+    }
+
+    private void roll() throws IOException {
+        close();
+        if (maxBackups == 0) {
+            Files.deleteIfExists(file);
+        } else {
+            Files.deleteIfExists(backup(maxBackups));
+            for (int i = maxBackups - 1; i >= 1; i--) {
+                if (Files.exists(backup(i))) {
+                    Files.move(backup(i), backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path backup(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
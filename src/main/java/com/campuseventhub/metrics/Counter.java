@@ -0,0 +1,44 @@
+// =============================================================================
+// COUNTER METRIC
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event counter.
+ *
+ * Implementation Details:
+ * - Backed by LongAdder so concurrent increments from request and worker
+ *   threads do not contend on a single cache line
+ */
+public class Counter {
+    private final String name;
+    private final LongAdder count;
+
+    Counter(String name) {
+        this.name = name;
+        this.count = new LongAdder();
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds a batch of occurrences at once
+     * PARAMS: amount
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,12 @@
+// =============================================================================
+// COUNTER MXBEAN
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+/**
+ * JMX view of a counter, published as com.campuseventhub:type=Counter,name=...
+ */
+public interface CounterMXBean {
+    long getCount();
+}
@@ -0,0 +1,14 @@
+// =============================================================================
+// GAUGE METRIC
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+/**
+ * Point-in-time value sampled when a snapshot is taken, such as a queue
+ * depth or a count kept by the owning component.
+ */
+@FunctionalInterface
+public interface Gauge {
+    long getValue();
+}
@@ -0,0 +1,12 @@
+// =============================================================================
+// GAUGE MXBEAN
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+/**
+ * JMX view of a gauge, published as com.campuseventhub:type=Gauge,name=...
+ */
+public interface GaugeMXBean {
+    long getValue();
+}
@@ -0,0 +1,160 @@
+// =============================================================================
+// LATENCY HISTOGRAM
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of nanosecond latencies with bounded relative error.
+ *
+ * Implementation Details:
+ * - HDR-style log-linear buckets: values below 64 ns get one bucket each,
+ *   every higher power of two is split into 32 equal sub-buckets, so a
+ *   reported percentile is within ~3% of the recorded value
+ * - Values above MAX_TRACKABLE_NANOS (about 18 minutes) land in the last bucket
+ * - record() is a single atomic increment plus two LongAdder adds; readers
+ *   take a point-in-time copy with snapshot() and never block writers
+ * - Fixed footprint of BUCKET_COUNT longs regardless of how much is recorded
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    public static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(18);
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    public LatencyHistogram() {
+        this.buckets = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Records one latency; negative values are treated as zero
+     * PARAMS: nanos
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE_NANOS));
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Copies the current bucket counts for percentile queries
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = buckets.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, sum.sum(), max.get());
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - (SUB_BUCKET_BITS - 1);
+        int mantissa = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (mantissa - SUB_BUCKET_HALF);
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF + 1;
+        long mantissa = offset % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Immutable copy of a histogram; several can be merged into one view
+     */
+    public static class Snapshot {
+        private final long[] buckets;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] buckets, long count, long sum, long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public static Snapshot empty() {
+            return new Snapshot(new long[BUCKET_COUNT], 0, 0, 0);
+        }
+
+        /**
+         * Combines two snapshots as if all values were recorded in one histogram
+         * PARAMS: other
+         */
+        public Snapshot merge(Snapshot other) {
+            long[] merged = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                merged[i] = buckets[i] + other.buckets[i];
+            }
+            return new Snapshot(merged, count + other.count, sum + other.sum, Math.max(max, other.max));
+        }
+
+        /**
+         * Value at or below which the given fraction of recorded values fall
+         * PARAMS: quantile (0.0 to 1.0)
+         */
+        public long getValueAtQuantile(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= target) {
+                    return Math.min(upperBoundOf(i), max);
+                }
+            }
+            return max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+// =============================================================================
+// METRICS JMX EXPORTER
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Publishes registry metrics as MXBeans so jconsole, VisualVM or a JMX
+ * scraper can read them without going through the application.
+ *
+ * Implementation Details:
+ * - One MXBean per metric: com.campuseventhub:type=Timer|Counter|Gauge,name=<metric>
+ * - Attributes are read live from the metric on every JMX call, nothing is cached
+ * - A name already registered (another registry in the same JVM, or a
+ *   race with a metric created during export) is skipped, not an error
+ */
+public class MetricsJmxExporter implements MetricsRegistry.Listener {
+    private static final Logger LOG = LogManager.getLogger(MetricsJmxExporter.class);
+    public static final String DOMAIN = "com.campuseventhub";
+
+    private final MetricsRegistry registry;
+    private final MBeanServer server;
+    private final List<ObjectName> registered;
+
+    MetricsJmxExporter(MetricsRegistry registry, MBeanServer server) {
+        this.registry = registry;
+        this.server = server;
+        this.registered = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public void timerAdded(Timer timer) {
+        register("Timer", timer.getName(), new TimerView(timer), TimerMXBean.class);
+    }
+
+    @Override
+    public void counterAdded(Counter counter) {
+        register("Counter", counter.getName(), (CounterMXBean) counter::getCount, CounterMXBean.class);
+    }
+
+    @Override
+    public void gaugeAdded(String name) {
+        register("Gauge", name, (GaugeMXBean) () -> registry.gaugeValue(name), GaugeMXBean.class);
+    }
+
+    /**
+     * Object name under which a metric is published
+     * PARAMS: type, metricName
+     */
+    public static ObjectName objectName(String type, String metricName) {
+        try {
+            return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(metricName));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid metric name: " + metricName, e);
+        }
+    }
+
+    /**
+     * Names of the MXBeans this exporter registered
+     */
+    public List<ObjectName> getRegisteredNames() {
+        return List.copyOf(registered);
+    }
+
+    /**
+     * Removes every MXBean this exporter registered
+     */
+    public void unregisterAll() {
+        for (ObjectName name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (InstanceNotFoundException e) {
+                // Already removed by someone else
+            } catch (JMException e) {
+                LOG.warn("Failed to unregister " + name, e);
+            }
+        }
+        registered.clear();
+    }
+
+    private <T> void register(String type, String metricName, T view, Class<T> mxbeanInterface) {
+        ObjectName name = objectName(type, metricName);
+        try {
+            server.registerMBean(new StandardMBean(view, mxbeanInterface, true), name);
+            registered.add(name);
+        } catch (InstanceAlreadyExistsException e) {
+            // Published already; the existing bean keeps serving it
+        } catch (JMException e) {
+            LOG.warn("Failed to register " + name, e);
+        }
+    }
+
+    /**
+     * Adapts a timer to its MXBean interface
+     */
+    private static class TimerView implements TimerMXBean {
+        private final Timer timer;
+
+        TimerView(Timer timer) {
+            this.timer = timer;
+        }
+
+        @Override public long getCount() { return timer.getCount(); }
+        @Override public long getFailures() { return timer.snapshot().getFailures(); }
+        @Override public double getRatePerSecond() { return timer.snapshot().getRatePerSecond(); }
+        @Override public double getP50Millis() { return timer.snapshot().getP50Millis(); }
+        @Override public double getP90Millis() { return timer.snapshot().getP90Millis(); }
+        @Override public double getP99Millis() { return timer.snapshot().getP99Millis(); }
+        @Override public double getMaxMillis() { return timer.snapshot().getMaxMillis(); }
+    }
+}
@@ -0,0 +1,173 @@
+// =============================================================================
+// METRICS REGISTRY
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.management.MBeanServer;
+
+/**
+ * Named counters, timers and gauges for the whole application.
+ *
+ * Implementation Details:
+ * - One process-wide default registry, like DataManager's static data
+ *   directory; components look metrics up by name so no wiring is needed
+ * - Lookups are a ConcurrentHashMap read; callers on hot paths may keep
+ *   the returned metric in a field instead
+ * - Metrics are never removed, so a reference stays valid for the process
+ * - Listeners (the JMX exporter) hear about every metric created later
+ * - Metric names are dotted, lower-case: area.operation, e.g. eventhub.searchEvents
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final ConcurrentMap<String, Timer> timers;
+    private final ConcurrentMap<String, Counter> counters;
+    private final ConcurrentMap<String, Gauge> gauges;
+    private final List<Listener> listeners;
+    private final Timer.NanoClock clock;
+    private MetricsJmxExporter jmxExporter;
+
+    public MetricsRegistry() {
+        this(Timer.NanoClock.SYSTEM);
+    }
+
+    MetricsRegistry(Timer.NanoClock clock) {
+        this.timers = new ConcurrentHashMap<>();
+        this.counters = new ConcurrentHashMap<>();
+        this.gauges = new ConcurrentHashMap<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.clock = clock;
+    }
+
+    /**
+     * The registry every application component reports to
+     */
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets or creates the timer with this name
+     * PARAMS: name
+     */
+    public Timer timer(String name) {
+        Timer timer = timers.get(name);
+        if (timer != null) {
+            return timer;
+        }
+        validateName(name);
+        Timer created = new Timer(name, clock);
+        timer = timers.putIfAbsent(name, created);
+        if (timer == null) {
+            listeners.forEach(listener -> listener.timerAdded(created));
+            return created;
+        }
+        return timer;
+    }
+
+    /**
+     * Gets or creates the counter with this name
+     * PARAMS: name
+     */
+    public Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter != null) {
+            return counter;
+        }
+        validateName(name);
+        Counter created = new Counter(name);
+        counter = counters.putIfAbsent(name, created);
+        if (counter == null) {
+            listeners.forEach(listener -> listener.counterAdded(created));
+            return created;
+        }
+        return counter;
+    }
+
+    /**
+     * Registers a gauge, replacing any earlier gauge of the same name
+     * (components recreated in tests re-register theirs)
+     * PARAMS: name, gauge
+     */
+    public void gauge(String name, Gauge gauge) {
+        validateName(name);
+        if (gauge == null) {
+            throw new IllegalArgumentException("Gauge cannot be null");
+        }
+        if (gauges.put(name, gauge) == null) {
+            listeners.forEach(listener -> listener.gaugeAdded(name));
+        }
+    }
+
+    /**
+     * Samples a registered gauge; zero if there is none by that name
+     * PARAMS: name
+     */
+    public long gaugeValue(String name) {
+        Gauge gauge = gauges.get(name);
+        return gauge != null ? gauge.getValue() : 0L;
+    }
+
+    /**
+     * Current figures of every metric
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, TimerSnapshot> timerSnapshots = new TreeMap<>();
+        for (Timer timer : timers.values()) {
+            timerSnapshots.put(timer.getName(), timer.snapshot());
+        }
+        Map<String, Long> counterValues = new TreeMap<>();
+        for (Counter counter : counters.values()) {
+            counterValues.put(counter.getName(), counter.getCount());
+        }
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        for (Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+            gaugeValues.put(entry.getKey(), entry.getValue().getValue());
+        }
+        return new MetricsSnapshot(timerSnapshots, counterValues, gaugeValues);
+    }
+
+    /**
+     * Publishes every current and future metric as an MXBean on the
+     * platform MBean server; calling it again has no effect
+     */
+    public MetricsJmxExporter exposeViaJmx() {
+        return exposeViaJmx(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    synchronized MetricsJmxExporter exposeViaJmx(MBeanServer server) {
+        if (jmxExporter == null) {
+            jmxExporter = new MetricsJmxExporter(this, server);
+            listeners.add(jmxExporter);
+            timers.values().forEach(jmxExporter::timerAdded);
+            counters.values().forEach(jmxExporter::counterAdded);
+            gauges.keySet().forEach(jmxExporter::gaugeAdded);
+        }
+        return jmxExporter;
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Metric name cannot be null or empty");
+        }
+    }
+
+    /**
+     * Notified once for each metric added to the registry
+     */
+    interface Listener {
+        void timerAdded(Timer timer);
+
+        void counterAdded(Counter counter);
+
+        void gaugeAdded(String name);
+    }
+}
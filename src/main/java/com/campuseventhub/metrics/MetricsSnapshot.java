@@ -0,0 +1,71 @@
+// =============================================================================
+// METRICS SNAPSHOT
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time view of every registered metric, keyed by metric name in
+ * sorted order.
+ */
+public class MetricsSnapshot {
+    private final Map<String, TimerSnapshot> timers;
+    private final Map<String, Long> counters;
+    private final Map<String, Long> gauges;
+
+    MetricsSnapshot(Map<String, TimerSnapshot> timers, Map<String, Long> counters, Map<String, Long> gauges) {
+        this.timers = Collections.unmodifiableMap(timers);
+        this.counters = Collections.unmodifiableMap(counters);
+        this.gauges = Collections.unmodifiableMap(gauges);
+    }
+
+    public Map<String, TimerSnapshot> getTimers() {
+        return timers;
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public Map<String, Long> getGauges() {
+        return gauges;
+    }
+
+    /**
+     * Timer figures by name, or null if that timer was never used
+     * PARAMS: name
+     */
+    public TimerSnapshot getTimer(String name) {
+        return timers.get(name);
+    }
+
+    /**
+     * Counter value by name; zero if the counter was never used
+     * PARAMS: name
+     */
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    /**
+     * The busiest timers of the current window, highest rate first
+     * PARAMS: prefix, limit
+     */
+    public List<TimerSnapshot> getBusiestTimers(String prefix, int limit) {
+        List<TimerSnapshot> matching = new ArrayList<>();
+        for (TimerSnapshot timer : timers.values()) {
+            if (timer.getName().startsWith(prefix) && timer.getCount() > 0) {
+                matching.add(timer);
+            }
+        }
+        matching.sort(Comparator.comparingDouble(TimerSnapshot::getRatePerSecond).reversed()
+            .thenComparing(Comparator.comparingLong(TimerSnapshot::getCount).reversed()));
+        return matching.size() > limit ? new ArrayList<>(matching.subList(0, limit)) : matching;
+    }
+}
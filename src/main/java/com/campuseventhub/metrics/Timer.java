@@ -0,0 +1,156 @@
+// =============================================================================
+// TIMER METRIC
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Latency and throughput of one operation.
+ *
+ * Implementation Details:
+ * - Lifetime call and failure counts in LongAdders
+ * - Percentiles and rate cover a rolling window: the current one-minute
+ *   histogram plus the previous one, so dashboards show live latencies
+ *   rather than an all-time average that stops moving after a few hours
+ * - Rotation swaps in a fresh histogram once a minute; a recording racing
+ *   the swap may land in the older histogram, which is still reported
+ * - time() records failures too, since slow errors are latency users see
+ */
+public class Timer {
+    static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final LongAdder count;
+    private final LongAdder failures;
+    private final NanoClock clock;
+    private volatile LatencyHistogram current;
+    private volatile LatencyHistogram previous;
+    private volatile long currentStart;
+
+    Timer(String name, NanoClock clock) {
+        this.name = name;
+        this.clock = clock;
+        this.count = new LongAdder();
+        this.failures = new LongAdder();
+        this.current = new LatencyHistogram();
+        this.previous = null;
+        this.currentStart = clock.nanoTime();
+    }
+
+    /**
+     * Records one completed call
+     * PARAMS: nanos
+     */
+    public void record(long nanos) {
+        rotateIfDue(clock.nanoTime());
+        current.record(nanos);
+        count.increment();
+    }
+
+    /**
+     * Start mark for code that cannot be wrapped in time(), e.g. because it
+     * throws checked exceptions; pass the result to stop()
+     */
+    public long start() {
+        return clock.nanoTime();
+    }
+
+    /**
+     * Records the time elapsed since start()
+     * PARAMS: startNanos
+     */
+    public void stop(long startNanos) {
+        record(clock.nanoTime() - startNanos);
+    }
+
+    /**
+     * Runs the action and records how long it took
+     * PARAMS: action
+     */
+    public <T> T time(Supplier<T> action) {
+        long start = clock.nanoTime();
+        try {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            throw e;
+        } finally {
+            record(clock.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs the action and records how long it took
+     * PARAMS: action
+     */
+    public void time(Runnable action) {
+        time(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Counts a call that failed without going through time()
+     */
+    public void markFailure() {
+        failures.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Current figures for this timer; percentiles cover the last one to two minutes
+     */
+    public TimerSnapshot snapshot() {
+        long now = clock.nanoTime();
+        rotateIfDue(now);
+        LatencyHistogram recent = previous;
+        LatencyHistogram.Snapshot window = current.snapshot();
+        long windowStart = currentStart;
+        if (recent != null) {
+            window = window.merge(recent.snapshot());
+            windowStart -= WINDOW_NANOS;
+        }
+        double seconds = Math.max(1.0, (now - windowStart) / 1e9);
+        return new TimerSnapshot(name, count.sum(), failures.sum(), window.getCount() / seconds,
+            window.getValueAtQuantile(0.50), window.getValueAtQuantile(0.90),
+            window.getValueAtQuantile(0.99), window.getMax(), window.getMean());
+    }
+
+    private void rotateIfDue(long now) {
+        if (now - currentStart < WINDOW_NANOS) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - currentStart;
+            if (elapsed < WINDOW_NANOS) {
+                return;
+            }
+            // A window with no traffic in between leaves nothing recent to report
+            previous = elapsed < 2 * WINDOW_NANOS ? current : null;
+            current = new LatencyHistogram();
+            currentStart = now;
+        }
+    }
+
+    /**
+     * Time source; tests substitute a manual clock to cross window boundaries
+     */
+    @FunctionalInterface
+    interface NanoClock {
+        NanoClock SYSTEM = System::nanoTime;
+
+        long nanoTime();
+    }
+}
@@ -0,0 +1,24 @@
+// =============================================================================
+// TIMER MXBEAN
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+/**
+ * JMX view of a timer, published as com.campuseventhub:type=Timer,name=...
+ */
+public interface TimerMXBean {
+    long getCount();
+
+    long getFailures();
+
+    double getRatePerSecond();
+
+    double getP50Millis();
+
+    double getP90Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+}
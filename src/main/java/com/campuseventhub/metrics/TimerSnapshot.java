@@ -0,0 +1,59 @@
+// =============================================================================
+// TIMER SNAPSHOT
+// =============================================================================
+
+package com.campuseventhub.metrics;
+
+/**
+ * Immutable figures for one timer at the moment a snapshot was taken.
+ *
+ * Implementation Details:
+ * - Latencies are kept in nanoseconds; the *Millis getters are for display
+ * - Count and failures are lifetime totals, rate and percentiles cover the
+ *   timer's rolling window
+ */
+public class TimerSnapshot {
+    private final String name;
+    private final long count;
+    private final long failures;
+    private final double ratePerSecond;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final double meanNanos;
+
+    TimerSnapshot(String name, long count, long failures, double ratePerSecond,
+                  long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos, double meanNanos) {
+        this.name = name;
+        this.count = count;
+        this.failures = failures;
+        this.ratePerSecond = ratePerSecond;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.meanNanos = meanNanos;
+    }
+
+    public String getName() { return name; }
+    public long getCount() { return count; }
+    public long getFailures() { return failures; }
+    public double getRatePerSecond() { return ratePerSecond; }
+    public long getP50Nanos() { return p50Nanos; }
+    public long getP90Nanos() { return p90Nanos; }
+    public long getP99Nanos() { return p99Nanos; }
+    public long getMaxNanos() { return maxNanos; }
+    public double getMeanNanos() { return meanNanos; }
+
+    public double getP50Millis() { return p50Nanos / 1e6; }
+    public double getP90Millis() { return p90Nanos / 1e6; }
+    public double getP99Millis() { return p99Nanos / 1e6; }
+    public double getMaxMillis() { return maxNanos / 1e6; }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d rate=%.1f/s p50=%.3fms p99=%.3fms max=%.3fms",
+            name, count, ratePerSecond, getP50Millis(), getP99Millis(), getMaxMillis());
+    }
+}
@@ -0,0 +1,221 @@
+// =============================================================================
+// ENTITY ID VALUE TYPE
+// =============================================================================
+
+package com.campuseventhub.model;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Compact 128-bit identifier for model objects.
+ *
+ * Implementation Details:
+ * - Holds a UUID as two longs: 32 bytes per instance, against roughly 80
+ *   for the 36-character String form, and hashing and equality need no
+ *   character scans
+ * - The String form is only produced at the edges (GUI, QR codes, export,
+ *   persistence) through toString, and parsed back with of
+ * - Identifiers that are not UUIDs (legacy or hand-written ones) keep their
+ *   text and get a name-based UUID as the numeric value, so they still
+ *   round-trip through toString unchanged
+ * - randomUuid is the source of new model IDs; a thread can switch it to a
+ *   seeded Random so generated datasets get the same IDs on every run
+ */
+public final class EntityId implements Comparable<EntityId>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<Random> SEEDED_SOURCE = new ThreadLocal<>();
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    // Original text for non-UUID identifiers; null for the usual UUID case
+    private final String text;
+
+    private EntityId(long mostSignificantBits, long leastSignificantBits, String text) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.text = text;
+    }
+
+    /**
+     * New random (version 4) identifier
+     */
+    public static EntityId random() {
+        UUID uuid = randomUuid();
+        return new EntityId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null);
+    }
+
+    /**
+     * New version 4 UUID for a model object; drawn from the current thread's
+     * seeded source when one is set, otherwise from UUID.randomUUID
+     */
+    public static UUID randomUuid() {
+        Random seeded = SEEDED_SOURCE.get();
+        if (seeded == null) {
+            return UUID.randomUUID();
+        }
+        long mostSignificantBits = (seeded.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificantBits = (seeded.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Makes IDs created on this thread come from the given Random; null goes
+     * back to UUID.randomUUID. Callers reset it in a finally block.
+     * PARAMS: random
+     */
+    public static void useSeededSource(Random random) {
+        if (random == null) {
+            SEEDED_SOURCE.remove();
+        } else {
+            SEEDED_SOURCE.set(random);
+        }
+    }
+
+    /**
+     * Identifier from its two halves, as stored in primitive arrays
+     * PARAMS: mostSignificantBits, leastSignificantBits
+     */
+    public static EntityId fromBits(long mostSignificantBits, long leastSignificantBits) {
+        return new EntityId(mostSignificantBits, leastSignificantBits, null);
+    }
+
+    /**
+     * Parses the String form; canonical UUIDs become two longs, anything else
+     * is kept as text
+     * PARAMS: id
+     */
+    public static EntityId of(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("ID cannot be null or empty");
+        }
+        if (isCanonicalUuid(id)) {
+            return new EntityId(parseHex(id, 0, 8) << 32 | parseHex(id, 9, 13) << 16 | parseHex(id, 14, 18),
+                                parseHex(id, 19, 23) << 48 | parseHex(id, 24, 36), null);
+        }
+        UUID nameBased = UUID.nameUUIDFromBytes(id.getBytes(StandardCharsets.UTF_8));
+        return new EntityId(nameBased.getMostSignificantBits(), nameBased.getLeastSignificantBits(), id);
+    }
+
+    /**
+     * Like of, but null for a null or empty ID
+     * PARAMS: id
+     */
+    public static EntityId ofNullable(String id) {
+        return id == null || id.isEmpty() ? null : of(id);
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    /**
+     * Whether the ID is a plain 128-bit value, fully described by its two halves
+     */
+    public boolean isCompact() {
+        return text == null;
+    }
+
+    /**
+     * Checks against an ID in String form without building a String
+     * PARAMS: id
+     */
+    public boolean matches(String id) {
+        if (id == null) {
+            return false;
+        }
+        if (text != null) {
+            return text.equals(id);
+        }
+        return isCanonicalUuid(id)
+            && (parseHex(id, 0, 8) << 32 | parseHex(id, 9, 13) << 16 | parseHex(id, 14, 18)) == mostSignificantBits
+            && (parseHex(id, 19, 23) << 48 | parseHex(id, 24, 36)) == leastSignificantBits;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof EntityId)) {
+            return false;
+        }
+        EntityId id = (EntityId) other;
+        return mostSignificantBits == id.mostSignificantBits && leastSignificantBits == id.leastSignificantBits
+            && Objects.equals(text, id.text);
+    }
+
+    @Override
+    public int hashCode() {
+        long mixed = mostSignificantBits ^ leastSignificantBits;
+        return (int) (mixed >> 32) ^ (int) mixed;
+    }
+
+    @Override
+    public int compareTo(EntityId other) {
+        int result = Long.compare(mostSignificantBits, other.mostSignificantBits);
+        return result != 0 ? result : Long.compare(leastSignificantBits, other.leastSignificantBits);
+    }
+
+    /**
+     * The canonical 36-character UUID form, or the original text
+     */
+    @Override
+    public String toString() {
+        if (text != null) {
+            return text;
+        }
+        char[] out = new char[36];
+        writeHex(out, 0, mostSignificantBits >>> 32, 8);
+        out[8] = '-';
+        writeHex(out, 9, mostSignificantBits >>> 16, 4);
+        out[13] = '-';
+        writeHex(out, 14, mostSignificantBits, 4);
+        out[18] = '-';
+        writeHex(out, 19, leastSignificantBits >>> 48, 4);
+        out[23] = '-';
+        writeHex(out, 24, leastSignificantBits, 12);
+        return new String(out);
+    }
+
+    private static boolean isCanonicalUuid(String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                // Upper-case hex is left as text so toString returns it unchanged
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String id, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value << 4 | Character.digit(id.charAt(i), 16);
+        }
+        return value;
+    }
+
+    private static void writeHex(char[] out, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            out[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -4,12 +4,18 @@
 
 package com.campuseventhub.model.event;
 
+import com.campuseventhub.model.EntityId;
 import com.campuseventhub.model.venue.Venue;
+import com.campuseventhub.util.DateTimeUtil;
+import com.campuseventhub.util.SchedulingClock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Queue;
 import java.util.ArrayList;
 import java.util.LinkedList;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 /**
@@ -22,8 +28,14 @@ import java.io.Serializable;
  * - QR code generation for check-ins
  * - Comprehensive event validation
  * - State pattern for status transitions
+ * - Start, end and deadline are also cached as epoch minutes for the
+ *   scheduling layer's conflict and deadline checks; the minute form is
+ *   only used when it represents the time exactly
  */
 public class Event implements Serializable {
+    // Pinned to the value computed before the epoch-minute accessors were added
+    private static final long serialVersionUID = -1966723157162614495L;
+    
     private String eventId;
     private String title;
     private String description;
@@ -43,6 +55,13 @@ public class Event implements Serializable {
     private LocalDateTime createdAt;
     private LocalDateTime lastModified;
     
+    // Derived from the LocalDateTime fields; rebuilt after deserialization
+    private transient long startMinute;
+    private transient long endMinute;
+    private transient long deadlineMinute;
+    private transient boolean scheduleMinuteAligned;
+    private transient boolean deadlineMinuteAligned;
+    
     /**
      * Creates a new event with basic information
      * PARAMS: title, description, eventType, startDateTime, endDateTime, organizerId
@@ -50,13 +69,15 @@ public class Event implements Serializable {
     public Event(String title, String description, EventType eventType,
                 LocalDateTime startDateTime, LocalDateTime endDateTime,
                 String organizerId) {
-        this.eventId = java.util.UUID.randomUUID().toString();
+        this.eventId = EntityId.randomUuid().toString();
         this.title = title;
         this.description = description;
         this.eventType = eventType;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
         this.organizerId = organizerId;
+        refreshScheduleMinutes();
+        refreshDeadlineMinute();
         this.status = EventStatus.DRAFT;
         this.registrations = new ArrayList<>();
         this.waitlist = new LinkedList<>();
@@ -77,7 +98,7 @@ public class Event implements Serializable {
         
         // Check if attendee is already registered
         for (Registration reg : registrations) {
-            if (reg.getAttendeeId().equals(attendeeId)) {
+            if (reg.getAttendeeKey().matches(attendeeId)) {
                 return null; // Already registered
             }
         }
@@ -103,7 +124,7 @@ public class Event implements Serializable {
     public boolean removeRegistration(String registrationId) {
         for (int i = 0; i < registrations.size(); i++) {
             Registration reg = registrations.get(i);
-            if (reg.getRegistrationId().equals(registrationId)) {
+            if (reg.getRegistrationKey().matches(registrationId)) {
                 registrations.remove(i);
                 promoteFromWaitlist();
                 return true;
@@ -125,17 +146,67 @@ public class Event implements Serializable {
      * Checks if event registration is currently open
      */
     public boolean isRegistrationOpen() {
-        LocalDateTime now = LocalDateTime.now();
-        
         // Check if registration deadline is set
         if (registrationDeadline == null) {
             return false;
         }
         
-        return now.isBefore(registrationDeadline) && 
+        return !isRegistrationDeadlinePassed() && 
                status == EventStatus.PUBLISHED;
     }
     
+    /**
+     * Checks if the registration deadline has been reached; false when no
+     * deadline is set
+     */
+    public boolean isRegistrationDeadlinePassed() {
+        if (registrationDeadline == null) {
+            return false;
+        }
+        // The current minute is before an aligned deadline exactly when now is
+        if (deadlineMinuteAligned) {
+            return SchedulingClock.currentEpochMinute() >= deadlineMinute;
+        }
+        return !SchedulingClock.now().isBefore(registrationDeadline);
+    }
+    
+    /**
+     * Checks if the event's start time has been reached
+     */
+    public boolean hasStarted() {
+        if (startDateTime == null) {
+            return false;
+        }
+        if (DateTimeUtil.isMinuteAligned(startDateTime)) {
+            return SchedulingClock.currentEpochMinute() >= startMinute;
+        }
+        return !SchedulingClock.now().isBefore(startDateTime);
+    }
+    
+    /**
+     * Checks if this event overlaps a time period, comparing epoch minutes
+     * when both sides are whole minutes
+     * PARAMS: otherStart, otherEnd
+     */
+    public boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+        if (scheduleMinuteAligned && DateTimeUtil.isMinuteAligned(otherStart) && DateTimeUtil.isMinuteAligned(otherEnd)) {
+            return DateTimeUtil.hasTimeConflict(startMinute, endMinute,
+                                                DateTimeUtil.toEpochMinute(otherStart), DateTimeUtil.toEpochMinute(otherEnd));
+        }
+        return DateTimeUtil.hasTimeConflict(startDateTime, endDateTime, otherStart, otherEnd);
+    }
+    
+    /**
+     * Checks if this event overlaps another event
+     * PARAMS: other
+     */
+    public boolean overlaps(Event other) {
+        if (scheduleMinuteAligned && other.scheduleMinuteAligned) {
+            return DateTimeUtil.hasTimeConflict(startMinute, endMinute, other.startMinute, other.endMinute);
+        }
+        return DateTimeUtil.hasTimeConflict(startDateTime, endDateTime, other.startDateTime, other.endDateTime);
+    }
+    
     /**
      * Checks if event has available capacity for new registrations
      */
@@ -211,7 +282,7 @@ public class Event implements Serializable {
         }
         
         for (Registration reg : waitlist) {
-            if (reg.getAttendeeId().equals(attendeeId)) {
+            if (reg.getAttendeeKey().matches(attendeeId)) {
                 return true;
             }
         }
@@ -227,7 +298,7 @@ public class Event implements Serializable {
         }
         
         for (Registration reg : waitlist) {
-            if (reg.getAttendeeId().equals(attendeeId)) {
+            if (reg.getAttendeeKey().matches(attendeeId)) {
                 return reg.getWaitlistPosition();
             }
         }
@@ -253,15 +324,19 @@ public class Event implements Serializable {
     public String getQrCode() { return qrCode; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getLastModified() { return lastModified; }
+    public long getStartMinute() { return startMinute; }
+    public long getEndMinute() { return endMinute; }
+    public long getRegistrationDeadlineMinute() { return deadlineMinute; }
+    public boolean isScheduleMinuteAligned() { return scheduleMinuteAligned; }
     
     public void setTitle(String title) { this.title = title; }
     public void setDescription(String description) { this.description = description; }
     public void setEventType(EventType eventType) { this.eventType = eventType; }
-    public void setStartDateTime(LocalDateTime startDateTime) { this.startDateTime = startDateTime; }
-    public void setEndDateTime(LocalDateTime endDateTime) { this.endDateTime = endDateTime; }
+    public void setStartDateTime(LocalDateTime startDateTime) { this.startDateTime = startDateTime; refreshScheduleMinutes(); }
+    public void setEndDateTime(LocalDateTime endDateTime) { this.endDateTime = endDateTime; refreshScheduleMinutes(); }
     public void setVenue(Venue venue) { this.venue = venue; }
     public void setMaxCapacity(int maxCapacity) { this.maxCapacity = maxCapacity; }
-    public void setRegistrationDeadline(LocalDateTime registrationDeadline) { this.registrationDeadline = registrationDeadline; }
+    public void setRegistrationDeadline(LocalDateTime registrationDeadline) { this.registrationDeadline = registrationDeadline; refreshDeadlineMinute(); }
     public void setStatus(EventStatus status) { this.status = status; }
     public void setTargetAudience(String targetAudience) { this.targetAudience = targetAudience; }
     public void setPrerequisites(List<String> prerequisites) { this.prerequisites = prerequisites; }
@@ -320,4 +395,30 @@ public class Event implements Serializable {
             .filter(reg -> reg.getStatus() == RegistrationStatus.CONFIRMED)
             .count();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Serializes under the event's lock, the one EventManager holds while
+     * changing registrations and the waitlist, so a save never sees them
+     * half-updated
+     */
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+    }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        refreshScheduleMinutes();
+        refreshDeadlineMinute();
+    }
+    
+    private void refreshScheduleMinutes() {
+        startMinute = DateTimeUtil.toEpochMinute(startDateTime);
+        endMinute = DateTimeUtil.toEpochMinute(endDateTime);
+        scheduleMinuteAligned = DateTimeUtil.isMinuteAligned(startDateTime) && DateTimeUtil.isMinuteAligned(endDateTime);
+    }
+    
+    private void refreshDeadlineMinute() {
+        deadlineMinute = DateTimeUtil.toEpochMinute(registrationDeadline);
+        deadlineMinuteAligned = DateTimeUtil.isMinuteAligned(registrationDeadline);
+    }
+}
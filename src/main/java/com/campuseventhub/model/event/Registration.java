@@ -4,7 +4,12 @@
 
 package com.campuseventhub.model.event;
 
+import com.campuseventhub.model.EntityId;
 import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 
 /**
@@ -17,38 +22,67 @@ import java.io.Serializable;
  * - Registration status transitions
  * - Payment integration hooks (for future expansion)
  * - Cancellation policy enforcement
+ * - IDs are held as EntityId values; the String getters format them for
+ *   the GUI and export, and the serialized form keeps the original String
+ *   fields so existing registrations.ser files still load
+ * - A Registration is a flyweight over one row of a RegistrationBlock;
+ *   registration times are kept to the second
  */
 public class Registration implements Serializable {
-    private String registrationId;
-    private String attendeeId;
-    private String eventId;
-    private LocalDateTime registrationTime;
-    private RegistrationStatus status;
-    private boolean attended;
-    private LocalDateTime attendanceTime;
-    private int waitlistPosition;
-    private String cancellationReason;
-    private LocalDateTime cancellationTime;
+    private static final long serialVersionUID = 4758847445265141086L;
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("registrationId", String.class),
+        new ObjectStreamField("attendeeId", String.class),
+        new ObjectStreamField("eventId", String.class),
+        new ObjectStreamField("registrationTime", LocalDateTime.class),
+        new ObjectStreamField("status", RegistrationStatus.class),
+        new ObjectStreamField("attended", boolean.class),
+        new ObjectStreamField("attendanceTime", LocalDateTime.class),
+        new ObjectStreamField("waitlistPosition", int.class),
+        new ObjectStreamField("cancellationReason", String.class),
+        new ObjectStreamField("cancellationTime", LocalDateTime.class)
+    };
+    
+    // The row this registration reads and writes; a registration that is not
+    // yet in a RegistrationTable, or was just read back from disk, owns a
+    // one-row block of its own
+    private RegistrationBlock block;
+    private int row;
     
     /**
      * Creates a new registration for an attendee to an event
      * PARAMS: attendeeId, eventId
      */
     public Registration(String attendeeId, String eventId) {
-        this.registrationId = java.util.UUID.randomUUID().toString();
-        this.attendeeId = attendeeId;
-        this.eventId = eventId;
-        this.registrationTime = LocalDateTime.now();
-        this.status = RegistrationStatus.PENDING;
-        this.attended = false;
-        this.waitlistPosition = 0;
+        this(EntityId.of(attendeeId), EntityId.of(eventId));
+    }
+    
+    /**
+     * Creates a new registration from already parsed IDs
+     * PARAMS: attendeeId, eventId
+     */
+    public Registration(EntityId attendeeId, EntityId eventId) {
+        if (attendeeId == null || eventId == null) {
+            throw new IllegalArgumentException("Attendee ID and event ID cannot be null");
+        }
+        this.block = new RegistrationBlock(eventId, new RegistrationBlock.Attendees(), 1);
+        this.row = block.append(EntityId.random(), attendeeId, LocalDateTime.now(), RegistrationStatus.PENDING, 0);
+    }
+    
+    /**
+     * Flyweight over an existing row
+     * PARAMS: block, row
+     */
+    Registration(RegistrationBlock block, int row) {
+        this.block = block;
+        this.row = row;
     }
     
     /**
      * Confirms the registration status
      */
     public void confirmRegistration() {
-        this.status = RegistrationStatus.CONFIRMED;
+        block.setStatus(row, RegistrationStatus.CONFIRMED);
     }
     
     /**
@@ -56,49 +90,115 @@ public class Registration implements Serializable {
      * PARAMS: reason
      */
     public void cancelRegistration(String reason) {
-        this.status = RegistrationStatus.CANCELLED;
-        this.cancellationReason = reason;
-        this.cancellationTime = LocalDateTime.now();
+        block.setStatus(row, RegistrationStatus.CANCELLED);
+        block.setCancellationReason(row, reason);
+        block.setCancellationTime(row, LocalDateTime.now());
     }
     
     /**
      * Marks the attendee as present at the event
      */
     public void markAttendance() {
-        this.attended = true;
-        this.attendanceTime = LocalDateTime.now();
+        block.setAttended(row, true);
+        block.setAttendanceTime(row, LocalDateTime.now());
     }
     
     /**
      * Checks if registration is confirmed
      */
     public boolean isConfirmed() {
-        return status == RegistrationStatus.CONFIRMED;
+        return getStatus() == RegistrationStatus.CONFIRMED;
     }
     
     /**
      * Checks if registration is on waitlist
      */
     public boolean isWaitlisted() {
-        return waitlistPosition > 0;
+        return getWaitlistPosition() > 0;
     }
     
     // Getters and setters
-    public String getRegistrationId() { return registrationId; }
-    public String getAttendeeId() { return attendeeId; }
-    public String getEventId() { return eventId; }
-    public LocalDateTime getRegistrationTime() { return registrationTime; }
-    public RegistrationStatus getStatus() { return status; }
-    public boolean isAttended() { return attended; }
-    public LocalDateTime getAttendanceTime() { return attendanceTime; }
-    public int getWaitlistPosition() { return waitlistPosition; }
-    public String getCancellationReason() { return cancellationReason; }
-    public LocalDateTime getCancellationTime() { return cancellationTime; }
-    
-    public void setStatus(RegistrationStatus status) { this.status = status; }
-    public void setAttended(boolean attended) { this.attended = attended; }
-    public void setAttendanceTime(LocalDateTime attendanceTime) { this.attendanceTime = attendanceTime; }
-    public void setWaitlistPosition(int waitlistPosition) { this.waitlistPosition = waitlistPosition; }
-    public void setCancellationReason(String cancellationReason) { this.cancellationReason = cancellationReason; }
-    public void setCancellationTime(LocalDateTime cancellationTime) { this.cancellationTime = cancellationTime; }
-}
\ No newline at end of file
+    public String getRegistrationId() { return getRegistrationKey().toString(); }
+    public String getAttendeeId() { return getAttendeeKey().toString(); }
+    public String getEventId() { return getEventKey().toString(); }
+    public EntityId getRegistrationKey() { return block.registrationId(row); }
+    public EntityId getAttendeeKey() { return block.attendeeId(row); }
+    public EntityId getEventKey() { return block.getEventId(); }
+    public LocalDateTime getRegistrationTime() { return block.registrationTime(row); }
+    public RegistrationStatus getStatus() { return block.status(row); }
+    public boolean isAttended() { return block.attended(row); }
+    public LocalDateTime getAttendanceTime() { return block.attendanceTime(row); }
+    public int getWaitlistPosition() { return block.waitlistPosition(row); }
+    public String getCancellationReason() { return block.cancellationReason(row); }
+    public LocalDateTime getCancellationTime() { return block.cancellationTime(row); }
+    
+    public void setStatus(RegistrationStatus status) { block.setStatus(row, status); }
+    public void setAttended(boolean attended) { block.setAttended(row, attended); }
+    public void setAttendanceTime(LocalDateTime attendanceTime) { block.setAttendanceTime(row, attendanceTime); }
+    public void setWaitlistPosition(int waitlistPosition) { block.setWaitlistPosition(row, waitlistPosition); }
+    public void setCancellationReason(String cancellationReason) { block.setCancellationReason(row, cancellationReason); }
+    public void setCancellationTime(LocalDateTime cancellationTime) { block.setCancellationTime(row, cancellationTime); }
+    
+    RegistrationBlock getBlock() { return block; }
+    int getRow() { return row; }
+    
+    /**
+     * Rebinds this registration to its copy in a shared block, so holders of
+     * this object see the same row as every other flyweight over it
+     * PARAMS: block, row
+     */
+    void moveTo(RegistrationBlock block, int row) {
+        this.block = block;
+        this.row = row;
+    }
+    
+    /**
+     * Registrations are equal when they view the same row
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Registration)) {
+            return false;
+        }
+        Registration registration = (Registration) other;
+        return block == registration.block && row == registration.row;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(block) + row;
+    }
+    
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("registrationId", getRegistrationId());
+        fields.put("attendeeId", getAttendeeId());
+        fields.put("eventId", getEventId());
+        fields.put("registrationTime", getRegistrationTime());
+        fields.put("status", getStatus());
+        fields.put("attended", isAttended());
+        fields.put("attendanceTime", getAttendanceTime());
+        fields.put("waitlistPosition", getWaitlistPosition());
+        fields.put("cancellationReason", getCancellationReason());
+        fields.put("cancellationTime", getCancellationTime());
+        out.writeFields();
+    }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        block = new RegistrationBlock(EntityId.of((String) fields.get("eventId", null)),
+                                      new RegistrationBlock.Attendees(), 1);
+        row = block.append(EntityId.of((String) fields.get("registrationId", null)),
+                           EntityId.of((String) fields.get("attendeeId", null)),
+                           (LocalDateTime) fields.get("registrationTime", null),
+                           (RegistrationStatus) fields.get("status", null),
+                           fields.get("waitlistPosition", 0));
+        block.setAttended(row, fields.get("attended", false));
+        block.setAttendanceTime(row, (LocalDateTime) fields.get("attendanceTime", null));
+        block.setCancellationReason(row, (String) fields.get("cancellationReason", null));
+        block.setCancellationTime(row, (LocalDateTime) fields.get("cancellationTime", null));
+    }
+}
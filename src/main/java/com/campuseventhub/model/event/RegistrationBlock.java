@@ -0,0 +1,307 @@
+// =============================================================================
+// REGISTRATION BLOCK
+// =============================================================================
+
+package com.campuseventhub.model.event;
+
+import com.campuseventhub.model.EntityId;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Columnar storage for the registrations of one event.
+ *
+ * Implementation Details:
+ * - One primitive array per field: registration ID halves, attendee
+ *   surrogate, registration time in epoch seconds, status byte and
+ *   waitlist sequence; attendance is a bit per row
+ * - Rarely set values (attendance and cancellation times, cancellation
+ *   reasons, non-UUID registration IDs) live in small maps keyed by row,
+ *   created on first use
+ * - Rows are append-only, so a Registration flyweight's row stays valid
+ *   for the life of the block
+ * - Every method locks the block; callers never hold the lock across calls
+ *   into other objects
+ */
+final class RegistrationBlock {
+    private static final RegistrationStatus[] STATUSES = RegistrationStatus.values();
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final EntityId eventId;
+    private final Attendees attendees;
+    private int size;
+
+    private long[] idHigh;
+    private long[] idLow;
+    private int[] attendee;
+    private long[] registeredAt;
+    private byte[] status;
+    private int[] waitlistSequence;
+    private final BitSet attended = new BitSet();
+
+    private Map<Integer, EntityId> textIds;
+    private Map<Integer, LocalDateTime> attendanceTimes;
+    private Map<Integer, LocalDateTime> cancellationTimes;
+    private Map<Integer, String> cancellationReasons;
+
+    /**
+     * Creates an empty block for an event
+     * PARAMS: eventId, attendees, capacity
+     */
+    RegistrationBlock(EntityId eventId, Attendees attendees, int capacity) {
+        this.eventId = eventId;
+        this.attendees = attendees;
+        this.idHigh = new long[capacity];
+        this.idLow = new long[capacity];
+        this.attendee = new int[capacity];
+        this.registeredAt = new long[capacity];
+        this.status = new byte[capacity];
+        this.waitlistSequence = new int[capacity];
+    }
+
+    /**
+     * Appends a row and returns its index
+     * PARAMS: registrationId, attendeeId, registrationTime, registrationStatus, waitlistPosition
+     */
+    synchronized int append(EntityId registrationId, EntityId attendeeId, LocalDateTime registrationTime,
+                            RegistrationStatus registrationStatus, int waitlistPosition) {
+        if (size == idHigh.length) {
+            grow();
+        }
+        int row = size++;
+        idHigh[row] = registrationId.getMostSignificantBits();
+        idLow[row] = registrationId.getLeastSignificantBits();
+        if (!registrationId.isCompact()) {
+            textIds = put(textIds, row, registrationId);
+        }
+        attendee[row] = attendees.intern(attendeeId);
+        registeredAt[row] = registrationTime.toEpochSecond(ZoneOffset.UTC);
+        status[row] = (byte) registrationStatus.ordinal();
+        waitlistSequence[row] = waitlistPosition;
+        return row;
+    }
+
+    /**
+     * Appends a copy of a row from another block and returns its index
+     * PARAMS: source, sourceRow
+     */
+    int appendCopy(RegistrationBlock source, int sourceRow) {
+        // Read the source first so the two blocks are never locked together
+        Registration snapshot = new Registration(source, sourceRow);
+        EntityId registrationId = snapshot.getRegistrationKey();
+        EntityId attendeeId = snapshot.getAttendeeKey();
+        LocalDateTime registrationTime = snapshot.getRegistrationTime();
+        RegistrationStatus registrationStatus = snapshot.getStatus();
+        int waitlistPosition = snapshot.getWaitlistPosition();
+        boolean wasAttended = snapshot.isAttended();
+        LocalDateTime attendanceTime = snapshot.getAttendanceTime();
+        String cancellationReason = snapshot.getCancellationReason();
+        LocalDateTime cancellationTime = snapshot.getCancellationTime();
+
+        synchronized (this) {
+            int row = append(registrationId, attendeeId, registrationTime, registrationStatus, waitlistPosition);
+            attended.set(row, wasAttended);
+            attendanceTimes = put(attendanceTimes, row, attendanceTime);
+            cancellationReasons = put(cancellationReasons, row, cancellationReason);
+            cancellationTimes = put(cancellationTimes, row, cancellationTime);
+            return row;
+        }
+    }
+
+    EntityId getEventId() {
+        return eventId;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Number of rows with the given status
+     * PARAMS: registrationStatus
+     */
+    synchronized int count(RegistrationStatus registrationStatus) {
+        byte wanted = (byte) registrationStatus.ordinal();
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (status[row] == wanted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    synchronized EntityId registrationId(int row) {
+        EntityId text = textIds != null ? textIds.get(row) : null;
+        return text != null ? text : EntityId.fromBits(idHigh[row], idLow[row]);
+    }
+
+    /**
+     * Whether the row holds the given registration ID, without building an EntityId
+     * PARAMS: row, registrationId
+     */
+    synchronized boolean hasRegistrationId(int row, EntityId registrationId) {
+        if (idHigh[row] != registrationId.getMostSignificantBits()
+                || idLow[row] != registrationId.getLeastSignificantBits()) {
+            return false;
+        }
+        EntityId text = textIds != null ? textIds.get(row) : null;
+        return text != null ? text.equals(registrationId) : registrationId.isCompact();
+    }
+
+    synchronized int registrationHash(int row) {
+        return hash(idHigh[row], idLow[row]);
+    }
+
+    synchronized int attendeeSurrogate(int row) {
+        return attendee[row];
+    }
+
+    EntityId attendeeId(int row) {
+        return attendees.get(attendeeSurrogate(row));
+    }
+
+    synchronized LocalDateTime registrationTime(int row) {
+        return LocalDateTime.ofEpochSecond(registeredAt[row], 0, ZoneOffset.UTC);
+    }
+
+    synchronized RegistrationStatus status(int row) {
+        return STATUSES[status[row]];
+    }
+
+    synchronized void setStatus(int row, RegistrationStatus registrationStatus) {
+        status[row] = (byte) registrationStatus.ordinal();
+    }
+
+    synchronized boolean attended(int row) {
+        return attended.get(row);
+    }
+
+    synchronized void setAttended(int row, boolean value) {
+        attended.set(row, value);
+    }
+
+    synchronized LocalDateTime attendanceTime(int row) {
+        return attendanceTimes != null ? attendanceTimes.get(row) : null;
+    }
+
+    synchronized void setAttendanceTime(int row, LocalDateTime time) {
+        attendanceTimes = put(attendanceTimes, row, time);
+    }
+
+    synchronized int waitlistPosition(int row) {
+        return waitlistSequence[row];
+    }
+
+    synchronized void setWaitlistPosition(int row, int position) {
+        waitlistSequence[row] = position;
+    }
+
+    synchronized String cancellationReason(int row) {
+        return cancellationReasons != null ? cancellationReasons.get(row) : null;
+    }
+
+    synchronized void setCancellationReason(int row, String reason) {
+        cancellationReasons = put(cancellationReasons, row, reason);
+    }
+
+    synchronized LocalDateTime cancellationTime(int row) {
+        return cancellationTimes != null ? cancellationTimes.get(row) : null;
+    }
+
+    synchronized void setCancellationTime(int row, LocalDateTime time) {
+        cancellationTimes = put(cancellationTimes, row, time);
+    }
+
+    /**
+     * Flyweights over rows [0, size)
+     */
+    Registration[] views() {
+        int count = size();
+        Registration[] views = new Registration[count];
+        for (int row = 0; row < count; row++) {
+            views[row] = new Registration(this, row);
+        }
+        return views;
+    }
+
+    static int hash(long high, long low) {
+        long mixed = high ^ low;
+        return (int) (mixed >> 32) ^ (int) mixed;
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, idHigh.length + (idHigh.length >> 1));
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        attendee = Arrays.copyOf(attendee, capacity);
+        registeredAt = Arrays.copyOf(registeredAt, capacity);
+        status = Arrays.copyOf(status, capacity);
+        waitlistSequence = Arrays.copyOf(waitlistSequence, capacity);
+    }
+
+    /**
+     * Sets or clears a sparse value, creating the map only when a value is set
+     */
+    private static <V> Map<Integer, V> put(Map<Integer, V> map, int row, V value) {
+        if (value == null) {
+            if (map != null) {
+                map.remove(row);
+            }
+            return map;
+        }
+        if (map == null) {
+            map = new HashMap<>();
+        }
+        map.put(row, value);
+        return map;
+    }
+
+    // =============================================================================
+    // ATTENDEE DICTIONARY
+    // =============================================================================
+
+    /**
+     * Maps attendee IDs to dense int surrogates, so each attendee's ID is
+     * held once however many registrations reference it
+     */
+    static final class Attendees {
+        private final Map<EntityId, Integer> surrogates = new HashMap<>();
+        private EntityId[] ids = new EntityId[1];
+        private int size;
+
+        synchronized int intern(EntityId id) {
+            Integer existing = surrogates.get(id);
+            if (existing != null) {
+                return existing;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(INITIAL_CAPACITY, size * 2));
+            }
+            ids[size] = id;
+            surrogates.put(id, size);
+            return size++;
+        }
+
+        /**
+         * Surrogate for an attendee, or -1 when the attendee has no registrations
+         * PARAMS: id
+         */
+        synchronized int find(EntityId id) {
+            Integer existing = surrogates.get(id);
+            return existing != null ? existing : -1;
+        }
+
+        synchronized EntityId get(int surrogate) {
+            return ids[surrogate];
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
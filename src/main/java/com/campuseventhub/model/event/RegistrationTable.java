@@ -0,0 +1,238 @@
+// =============================================================================
+// REGISTRATION TABLE
+// =============================================================================
+
+package com.campuseventhub.model.event;
+
+import com.campuseventhub.model.EntityId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All registrations, stored as one RegistrationBlock per event.
+ *
+ * Implementation Details:
+ * - Registration objects are flyweights built on demand by the lookups;
+ *   nothing here holds one per registration
+ * - A registration is referenced by a packed long, block index in the high
+ *   half and row in the low half
+ * - Lookup by registration ID is an open-addressing table of those
+ *   references; the ID itself is compared against the block's columns
+ * - Each attendee has a growable long[] of references, indexed by the
+ *   attendee's surrogate from the shared dictionary
+ * - Table methods lock the table and then at most one block, never the
+ *   other way round
+ */
+public class RegistrationTable {
+    private static final long EMPTY = -1L;
+
+    private final RegistrationBlock.Attendees attendees = new RegistrationBlock.Attendees();
+    private final List<RegistrationBlock> blocks = new ArrayList<>();
+    private final Map<EntityId, Integer> blockIndexByEvent = new HashMap<>();
+
+    private long[] refsById = newRefTable(1024);
+    private int size;
+
+    private long[][] refsByAttendee = new long[64][];
+    private int[] refCountByAttendee = new int[64];
+
+    /**
+     * Moves a registration into its event's block; the given object becomes
+     * a flyweight over the stored row. Returns the stored registration, which
+     * is the existing one when the ID is already present
+     * PARAMS: registration
+     */
+    public synchronized Registration add(Registration registration) {
+        Registration existing = findById(registration.getRegistrationKey());
+        if (existing != null) {
+            return existing;
+        }
+        int blockIndex = blockIndexFor(registration.getEventKey());
+        RegistrationBlock block = blocks.get(blockIndex);
+        int row = block.appendCopy(registration.getBlock(), registration.getRow());
+        registration.moveTo(block, row);
+
+        long ref = pack(blockIndex, row);
+        if ((size + 1) * 4L > refsById.length * 3L) {
+            rehash(refsById.length * 2);
+        }
+        insert(refsById, block.registrationHash(row), ref);
+        size++;
+        addAttendeeRef(block.attendeeSurrogate(row), ref);
+        return registration;
+    }
+
+    /**
+     * Registration with the given ID, or null
+     * PARAMS: registrationId
+     */
+    public synchronized Registration findById(EntityId registrationId) {
+        int mask = refsById.length - 1;
+        int slot = spread(registrationId.hashCode()) & mask;
+        while (refsById[slot] != EMPTY) {
+            RegistrationBlock block = blocks.get(blockIndex(refsById[slot]));
+            int row = row(refsById[slot]);
+            if (block.hasRegistrationId(row, registrationId)) {
+                return new Registration(block, row);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Registrations for an event in registration order
+     * PARAMS: eventId
+     */
+    public List<Registration> findByEvent(EntityId eventId) {
+        RegistrationBlock block = blockFor(eventId);
+        return block != null ? new ArrayList<>(Arrays.asList(block.views())) : new ArrayList<>();
+    }
+
+    /**
+     * Registrations for an attendee in registration order
+     * PARAMS: attendeeId
+     */
+    public synchronized List<Registration> findByAttendee(EntityId attendeeId) {
+        List<Registration> result = new ArrayList<>();
+        int surrogate = attendees.find(attendeeId);
+        if (surrogate < 0 || surrogate >= refsByAttendee.length || refsByAttendee[surrogate] == null) {
+            return result;
+        }
+        long[] refs = refsByAttendee[surrogate];
+        for (int i = 0; i < refCountByAttendee[surrogate]; i++) {
+            result.add(new Registration(blocks.get(blockIndex(refs[i])), row(refs[i])));
+        }
+        return result;
+    }
+
+    /**
+     * The attendee's registration for an event that is not cancelled, or null
+     * PARAMS: attendeeId, eventId
+     */
+    public synchronized Registration findActive(EntityId attendeeId, EntityId eventId) {
+        int surrogate = attendees.find(attendeeId);
+        Integer blockIndex = blockIndexByEvent.get(eventId);
+        if (surrogate < 0 || blockIndex == null || surrogate >= refsByAttendee.length
+                || refsByAttendee[surrogate] == null) {
+            return null;
+        }
+        RegistrationBlock block = blocks.get(blockIndex);
+        long[] refs = refsByAttendee[surrogate];
+        for (int i = 0; i < refCountByAttendee[surrogate]; i++) {
+            if (blockIndex(refs[i]) == blockIndex
+                    && block.status(row(refs[i])) != RegistrationStatus.CANCELLED) {
+                return new Registration(block, row(refs[i]));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Number of an event's registrations with the given status, read
+     * straight from the status column
+     * PARAMS: eventId, status
+     */
+    public int count(EntityId eventId, RegistrationStatus status) {
+        RegistrationBlock block = blockFor(eventId);
+        return block != null ? block.count(status) : 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Every registration keyed by ID, for persistence
+     */
+    public synchronized Map<EntityId, Registration> snapshot() {
+        Map<EntityId, Registration> snapshot = new HashMap<>(size * 2);
+        for (RegistrationBlock block : blocks) {
+            for (Registration registration : block.views()) {
+                snapshot.put(registration.getRegistrationKey(), registration);
+            }
+        }
+        return snapshot;
+    }
+
+    private synchronized RegistrationBlock blockFor(EntityId eventId) {
+        Integer blockIndex = blockIndexByEvent.get(eventId);
+        return blockIndex != null ? blocks.get(blockIndex) : null;
+    }
+
+    private int blockIndexFor(EntityId eventId) {
+        Integer blockIndex = blockIndexByEvent.get(eventId);
+        if (blockIndex == null) {
+            blockIndex = blocks.size();
+            blocks.add(new RegistrationBlock(eventId, attendees, 8));
+            blockIndexByEvent.put(eventId, blockIndex);
+        }
+        return blockIndex;
+    }
+
+    private void addAttendeeRef(int surrogate, long ref) {
+        if (surrogate >= refsByAttendee.length) {
+            int capacity = Math.max(surrogate + 1, refsByAttendee.length * 2);
+            refsByAttendee = Arrays.copyOf(refsByAttendee, capacity);
+            refCountByAttendee = Arrays.copyOf(refCountByAttendee, capacity);
+        }
+        long[] refs = refsByAttendee[surrogate];
+        int count = refCountByAttendee[surrogate];
+        if (refs == null) {
+            refs = new long[4];
+        } else if (count == refs.length) {
+            refs = Arrays.copyOf(refs, count * 2);
+        }
+        refs[count] = ref;
+        refsByAttendee[surrogate] = refs;
+        refCountByAttendee[surrogate] = count + 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] table = newRefTable(capacity);
+        for (long ref : refsById) {
+            if (ref != EMPTY) {
+                insert(table, blocks.get(blockIndex(ref)).registrationHash(row(ref)), ref);
+            }
+        }
+        refsById = table;
+    }
+
+    private static void insert(long[] table, int hash, long ref) {
+        int mask = table.length - 1;
+        int slot = spread(hash) & mask;
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = ref;
+    }
+
+    private static long[] newRefTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    /**
+     * Random UUIDs are already well mixed; this keeps name-based and
+     * hand-written IDs from clustering in linear probing
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static long pack(int blockIndex, int row) {
+        return (long) blockIndex << 32 | (row & 0xFFFFFFFFL);
+    }
+
+    private static int blockIndex(long ref) {
+        return (int) (ref >>> 32);
+    }
+
+    private static int row(long ref) {
+        return (int) ref;
+    }
+}
@@ -0,0 +1,19 @@
+package com.campuseventhub.model.notification;
+
+public enum DeliveryStatus {
+    PENDING("Pending"),
+    QUEUED("Queued"),
+    DELIVERED("Delivered"),
+    PARTIALLY_DELIVERED("Partially Delivered"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    DeliveryStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
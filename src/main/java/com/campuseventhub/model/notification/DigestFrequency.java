@@ -0,0 +1,25 @@
+package com.campuseventhub.model.notification;
+
+import java.time.Duration;
+
+public enum DigestFrequency {
+    IMMEDIATE("Immediate", Duration.ZERO),
+    HOURLY("Hourly", Duration.ofHours(1)),
+    DAILY("Daily", Duration.ofDays(1));
+
+    private final String displayName;
+    private final Duration interval;
+
+    DigestFrequency(String displayName, Duration interval) {
+        this.displayName = displayName;
+        this.interval = interval;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+}
@@ -6,9 +6,13 @@ package com.campuseventhub.model.notification;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Basic notification model storing message content and delivery details.
+ * Delivery status is tracked per channel (keyed by the strategy's delivery
+ * method) because channels are delivered independently and asynchronously.
  */
 public class Notification {
     private String notificationId;
@@ -17,7 +21,10 @@ public class Notification {
     private List<String> recipients;
     private NotificationType type;
     private LocalDateTime createdAt;
-    private LocalDateTime sentAt;
+    private volatile LocalDateTime sentAt;
+    private volatile LocalDateTime readAt;
+    private volatile boolean read;
+    private final Map<String, DeliveryStatus> channelStatus = new ConcurrentHashMap<>();
 
     public Notification(String message, List<String> recipients, NotificationType type) {
         this.notificationId = java.util.UUID.randomUUID().toString();
@@ -35,6 +42,47 @@ public class Notification {
         this.createdAt = LocalDateTime.now();
     }
 
+    private Notification(Notification source, String recipientId, boolean read) {
+        this.notificationId = source.notificationId;
+        this.recipientId = recipientId;
+        this.message = source.message;
+        this.type = source.type;
+        this.createdAt = source.createdAt;
+        this.sentAt = source.sentAt;
+        this.read = read;
+    }
+
+    private Notification(String notificationId, String recipientId, String message, NotificationType type,
+                         LocalDateTime createdAt, LocalDateTime sentAt, LocalDateTime readAt) {
+        this.notificationId = notificationId;
+        this.recipientId = recipientId;
+        this.message = message;
+        this.type = type;
+        this.createdAt = createdAt;
+        this.sentAt = sentAt;
+        this.readAt = readAt;
+        this.read = readAt != null;
+    }
+
+    /**
+     * Recreates a notification from persisted state (used when replaying the
+     * on-disk notification log)
+     */
+    public static Notification restore(String notificationId, String recipientId, String message,
+                                       NotificationType type, LocalDateTime createdAt,
+                                       LocalDateTime sentAt, LocalDateTime readAt) {
+        return new Notification(notificationId, recipientId, message, type, createdAt, sentAt, readAt);
+    }
+
+    /**
+     * Creates a per-recipient view of a shared (broadcast) notification. The
+     * view shares ID, message and timestamps but carries its own read flag;
+     * the read time of shared notifications is not tracked per recipient.
+     */
+    public Notification forRecipient(String recipientId, boolean read) {
+        return new Notification(this, recipientId, read);
+    }
+
     public String getNotificationId() { return notificationId; }
     public String getRecipientId() { return recipientId; }
     public String getMessage() { return message; }
@@ -42,8 +90,76 @@ public class Notification {
     public NotificationType getType() { return type; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getSentAt() { return sentAt; }
+    public LocalDateTime getReadAt() { return readAt; }
+    public boolean isRead() { return read; }
 
     public void markSent() {
         this.sentAt = LocalDateTime.now();
     }
+
+    /**
+     * Marks the notification as read by its recipient
+     *
+     * @return true if this call changed the state from unread to read
+     */
+    public synchronized boolean markRead() {
+        if (read) {
+            return false;
+        }
+        this.readAt = LocalDateTime.now();
+        this.read = true;
+        return true;
+    }
+
+    public void markQueued(String channel) {
+        channelStatus.put(channel, DeliveryStatus.QUEUED);
+    }
+
+    public void markDelivered(String channel) {
+        channelStatus.put(channel, DeliveryStatus.DELIVERED);
+        if (sentAt == null) {
+            markSent();
+        }
+    }
+
+    public void markFailed(String channel) {
+        channelStatus.put(channel, DeliveryStatus.FAILED);
+    }
+
+    /**
+     * Returns the delivery status for a single channel, or PENDING if the
+     * notification was never handed to that channel
+     */
+    public DeliveryStatus getDeliveryStatus(String channel) {
+        return channelStatus.getOrDefault(channel, DeliveryStatus.PENDING);
+    }
+
+    /**
+     * Aggregates the per-channel statuses into one overall status
+     */
+    public DeliveryStatus getDeliveryStatus() {
+        if (channelStatus.isEmpty()) {
+            return DeliveryStatus.PENDING;
+        }
+        int delivered = 0;
+        int failed = 0;
+        for (DeliveryStatus status : channelStatus.values()) {
+            if (status == DeliveryStatus.QUEUED || status == DeliveryStatus.PENDING) {
+                return DeliveryStatus.QUEUED;
+            }
+            if (status == DeliveryStatus.DELIVERED) {
+                delivered++;
+            } else {
+                failed++;
+            }
+        }
+        if (failed == 0) {
+            return DeliveryStatus.DELIVERED;
+        }
+        return delivered == 0 ? DeliveryStatus.FAILED : DeliveryStatus.PARTIALLY_DELIVERED;
+    }
+
+    public Map<String, DeliveryStatus> getChannelStatuses() {
+        return Map.copyOf(channelStatus);
+    }
 }
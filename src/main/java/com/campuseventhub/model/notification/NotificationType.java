@@ -9,7 +9,8 @@ public enum NotificationType {
     WAITLIST_POSITION_UPDATE("Waitlist Position Update"),
     WAITLIST_REGISTRATION("Waitlist Registration"),
     SYSTEM_ANNOUNCEMENT("System Announcement"),
-    SYSTEM_ALERT("System Alert");
+    SYSTEM_ALERT("System Alert"),
+    DIGEST("Notification Digest");
 
     private final String displayName;
 
@@ -20,6 +20,8 @@ import java.util.ArrayList;
  * - Capacity and venue management
  */
 public class Organizer extends User {
+    // Pinned to the value of the original class so existing users.ser files still load
+    private static final long serialVersionUID = 2282000375555003560L;
     private List<Event> createdEvents;
     private String department;
     private String contactNumber;
@@ -28,8 +30,9 @@ public class Organizer extends User {
     public Organizer(String username, String email, String password,
                     String firstName, String lastName, String department) {
         super(username, email, password, firstName, lastName);
+        this.department = department;
         // TODO: Initialize createdEvents list
-        // TODO: Set department and validate against predefined list
+        // TODO: Validate department against predefined list
         // TODO: Set default maxEventsAllowed from configuration
         // TODO: Set status to PENDING_APPROVAL for new organizers
     }
@@ -84,6 +87,10 @@ public class Organizer extends User {
         return UserRole.ORGANIZER;
     }
     
+    public String getDepartment() {
+        return department;
+    }
+    
     // TODO: Add additional methods for event management
     // public List<Event> getUpcomingEvents()
     // public List<Event> getCompletedEvents()
@@ -4,6 +4,9 @@
 
 package com.campuseventhub.model.user;
 
+import com.campuseventhub.model.EntityId;
+import com.campuseventhub.util.PasswordHasher;
+import com.campuseventhub.util.Pbkdf2PasswordHasher;
 import com.campuseventhub.util.ValidationUtil;
 import java.time.LocalDateTime;
 import java.io.Serializable;
@@ -18,11 +21,16 @@ import java.nio.charset.StandardCharsets;
  * - Implements Serializable for data persistence
  * - Contains common user attributes and behaviors
  * - Abstract methods for role-specific functionality
- * - Password hashing using BCrypt or similar
+ * - Password hashing through a pluggable PasswordHasher (PBKDF2 with
+ *   per-user salts by default); legacy SHA-256 hashes are upgraded on login
  * - Input validation for all setters
  * - Audit trail for user actions
  */
 public abstract class User implements Serializable {
+    // Pinned to the value computed before password hashing became pluggable
+    private static final long serialVersionUID = -4921370688014791579L;
+    private static volatile PasswordHasher passwordHasher = new Pbkdf2PasswordHasher();
+    
     protected String userId;
     protected String username;
     protected String email;
@@ -56,7 +64,7 @@ public abstract class User implements Serializable {
             throw new IllegalArgumentException("Invalid last name: " + lastName);
         }
         
-        this.userId = java.util.UUID.randomUUID().toString();
+        this.userId = EntityId.randomUuid().toString();
         this.username = username.trim();
         this.email = email.trim().toLowerCase();
         this.password = hashPassword(password); // Hash the password
@@ -104,11 +112,32 @@ public abstract class User implements Serializable {
     }
     
     /**
-     * Hashes a password using SHA-256 with salt
+     * Replaces the hasher used for new and upgraded password hashes
+     */
+    public static void setPasswordHasher(PasswordHasher hasher) {
+        if (hasher == null) {
+            throw new IllegalArgumentException("Password hasher cannot be null");
+        }
+        passwordHasher = hasher;
+    }
+    
+    public static PasswordHasher getPasswordHasher() {
+        return passwordHasher;
+    }
+    
+    /**
+     * Hashes a password with the configured hasher and a fresh salt
      */
     private String hashPassword(String password) {
+        return passwordHasher.hash(password);
+    }
+    
+    /**
+     * Pre-PBKDF2 scheme: one SHA-256 pass with a static salt. Only used to
+     * verify hashes persisted by older versions before upgrading them.
+     */
+    private String legacyHashPassword(String password) {
         try {
-            // Add a simple salt (in production, use unique salt per user)
             String saltedPassword = password + this.username + "campuseventhub_salt";
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(saltedPassword.getBytes(StandardCharsets.UTF_8));
@@ -129,13 +158,34 @@ public abstract class User implements Serializable {
     }
     
     /**
-     * Verifies a plain text password against the stored hash
+     * Verifies a plain text password against the stored hash. A successful
+     * check against a legacy or weaker hash transparently re-hashes the
+     * password with the current settings.
      */
     public boolean verifyPassword(String password) {
         if (password == null) {
             return false;
         }
-        return this.password.equals(hashPassword(password));
+        PasswordHasher hasher = passwordHasher;
+        String stored = this.password;
+        boolean verified;
+        if (hasher.supports(stored)) {
+            verified = hasher.verify(password, stored);
+        } else {
+            verified = MessageDigest.isEqual(stored.getBytes(StandardCharsets.UTF_8),
+                legacyHashPassword(password).getBytes(StandardCharsets.UTF_8));
+        }
+        if (verified && hasher.needsRehash(stored)) {
+            this.password = hasher.hash(password);
+        }
+        return verified;
+    }
+    
+    /**
+     * True if the stored hash will be upgraded on the next successful login
+     */
+    public boolean needsPasswordRehash() {
+        return passwordHasher.needsRehash(this.password);
     }
     
     /**
@@ -4,6 +4,8 @@
 
 package com.campuseventhub.model.venue;
 
+import com.campuseventhub.model.EntityId;
+import com.campuseventhub.util.DateTimeUtil;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -38,7 +40,7 @@ public class Venue implements Serializable {
     private boolean isActive;
     
     public Venue(String name, String location, int capacity) {
-        this.venueId = java.util.UUID.randomUUID().toString();
+        this.venueId = EntityId.randomUuid().toString();
         this.name = name;
         this.location = location;
         this.capacity = capacity;
@@ -59,9 +61,15 @@ public class Venue implements Serializable {
         LocalDateTime requestedStart = startTime.minusMinutes(setupTimeMinutes);
         LocalDateTime requestedEnd = endTime.plusMinutes(cleanupTimeMinutes);
         
-        // Check for overlapping bookings
+        // Check for overlapping bookings, converting the request to minutes once
+        boolean aligned = DateTimeUtil.isMinuteAligned(requestedStart) && DateTimeUtil.isMinuteAligned(requestedEnd);
+        long startMinute = DateTimeUtil.toEpochMinute(requestedStart);
+        long endMinute = DateTimeUtil.toEpochMinute(requestedEnd);
         for (VenueBooking booking : bookings.values()) {
-            if (booking.conflictsWith(requestedStart, requestedEnd)) {
+            boolean conflict = aligned && booking.isMinuteAligned()
+                ? booking.conflictsWith(startMinute, endMinute)
+                : booking.conflictsWith(requestedStart, requestedEnd);
+            if (conflict) {
                 return false;
             }
         }
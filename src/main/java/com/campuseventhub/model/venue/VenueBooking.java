@@ -1,18 +1,33 @@
 package com.campuseventhub.model.venue;
 
+import com.campuseventhub.util.DateTimeUtil;
 import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
  * Represents a venue booking with full time period information
+ *
+ * Implementation Details:
+ * - The booked period (with setup and cleanup) is also cached as epoch
+ *   minutes, so availability scans compare longs when times are whole minutes
  */
 public class VenueBooking implements Serializable {
+    // Pinned to the value computed before the epoch-minute accessors were added
+    private static final long serialVersionUID = -7255454168201331645L;
+    
     private String eventId;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private LocalDateTime bookingStart; // includes setup time
     private LocalDateTime bookingEnd; // includes cleanup time
     
+    // Derived from bookingStart and bookingEnd; rebuilt after deserialization
+    private transient long bookingStartMinute;
+    private transient long bookingEndMinute;
+    private transient boolean minuteAligned;
+    
     public VenueBooking(String eventId, LocalDateTime startTime, LocalDateTime endTime, 
                        int setupMinutes, int cleanupMinutes) {
         this.eventId = eventId;
@@ -20,19 +35,34 @@ public class VenueBooking implements Serializable {
         this.endTime = endTime;
         this.bookingStart = startTime.minusMinutes(setupMinutes);
         this.bookingEnd = endTime.plusMinutes(cleanupMinutes);
+        refreshMinutes();
     }
     
     /**
      * Checks if this booking conflicts with the given time period
      */
     public boolean conflictsWith(LocalDateTime otherStart, LocalDateTime otherEnd) {
+        if (minuteAligned && DateTimeUtil.isMinuteAligned(otherStart) && DateTimeUtil.isMinuteAligned(otherEnd)) {
+            return conflictsWith(DateTimeUtil.toEpochMinute(otherStart), DateTimeUtil.toEpochMinute(otherEnd));
+        }
         return bookingStart.isBefore(otherEnd) && bookingEnd.isAfter(otherStart);
     }
     
+    /**
+     * Checks if this booking conflicts with a period given as epoch minutes;
+     * exact only when isMinuteAligned holds
+     */
+    public boolean conflictsWith(long otherStartMinute, long otherEndMinute) {
+        return DateTimeUtil.hasTimeConflict(bookingStartMinute, bookingEndMinute, otherStartMinute, otherEndMinute);
+    }
+    
     /**
      * Checks if this booking conflicts with another VenueBooking
      */
     public boolean conflictsWith(VenueBooking other) {
+        if (minuteAligned && other.minuteAligned) {
+            return conflictsWith(other.bookingStartMinute, other.bookingEndMinute);
+        }
         return conflictsWith(other.bookingStart, other.bookingEnd);
     }
     
@@ -42,4 +72,18 @@ public class VenueBooking implements Serializable {
     public LocalDateTime getEndTime() { return endTime; }
     public LocalDateTime getBookingStart() { return bookingStart; }
     public LocalDateTime getBookingEnd() { return bookingEnd; }
-}
\ No newline at end of file
+    public long getBookingStartMinute() { return bookingStartMinute; }
+    public long getBookingEndMinute() { return bookingEndMinute; }
+    public boolean isMinuteAligned() { return minuteAligned; }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        refreshMinutes();
+    }
+    
+    private void refreshMinutes() {
+        bookingStartMinute = DateTimeUtil.toEpochMinute(bookingStart);
+        bookingEndMinute = DateTimeUtil.toEpochMinute(bookingEnd);
+        minuteAligned = DateTimeUtil.isMinuteAligned(bookingStart) && DateTimeUtil.isMinuteAligned(bookingEnd);
+    }
+}
@@ -0,0 +1,423 @@
+// =============================================================================
+// CAMPUS DATASET GENERATOR
+// =============================================================================
+
+package com.campuseventhub.persistence;
+
+import com.campuseventhub.model.EntityId;
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventStatus;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.model.event.RegistrationStatus;
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.model.user.UserStatus;
+import com.campuseventhub.model.venue.Venue;
+import com.campuseventhub.service.UserFactory;
+import com.campuseventhub.util.FileUtil;
+import com.campuseventhub.util.PasswordHasher;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeded generator for campus-sized datasets in the persisted format.
+ *
+ * Usage: CampusDatasetGenerator <10k|100k|1m|userCount> [seed] [outputDir]
+ *
+ * Implementation Details:
+ * - Users stream into users.log in batches, so memory holds only their ids;
+ *   venues, events and registrations are written as the .ser maps the
+ *   managers load on startup
+ * - Roles: ~2% organizers, ~0.1% admins, the rest attendees; some
+ *   organizers are pending approval and some attendees suspended
+ * - Venues carry equipment, features and setup/cleanup times; events are
+ *   booked into venues without overlaps and get a registration deadline
+ * - Event popularity is Zipf-like, so a few events fill up and grow
+ *   waitlists while the long tail stays sparse; an attendee never holds
+ *   two overlapping registrations
+ * - The same seed and size give the same dataset, IDs included: model IDs
+ *   are drawn from a Random derived from the seed while generating; dates
+ *   are relative to the day of generation
+ * - Every generated account uses PASSWORD; it is hashed once and the hash
+ *   shared, since a million PBKDF2 hashes would dominate generation time
+ * - Roughly 1 GB of heap per million users is needed for the 1m preset
+ */
+public class CampusDatasetGenerator {
+    public static final String PASSWORD = "campus12345";
+    public static final String USERS_FILE = "users.log";
+    public static final String VENUES_FILE = "venues.ser";
+    public static final String EVENTS_FILE = "events.ser";
+    public static final String REGISTRATIONS_FILE = "registrations.ser";
+
+    private static final int USER_BATCH = 10_000;
+    private static final int USERS_PER_EVENT = 20;
+    private static final int USERS_PER_VENUE = 500;
+    private static final int MIN_VENUES = 20;
+    private static final int MAX_REGISTRATIONS_PER_ATTENDEE = 6;
+    private static final int SCHEDULE_DAYS = 180;
+
+    private static final String[] FIRST_NAMES = {
+        "Ava", "Liam", "Maya", "Noah", "Zara", "Ethan", "Priya", "Lucas", "Sofia", "Omar",
+        "Chloe", "Mateo", "Hana", "Leo", "Amara", "Kai", "Isla", "Ravi", "Elena", "Jonah"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nguyen", "Smith", "Garcia", "Patel", "Kim", "Johnson", "Silva", "Chen", "Okafor", "Brown",
+        "Rossi", "Haddad", "Novak", "Tanaka", "Murphy", "Lopez", "Singh", "Costa", "Meyer", "Ali"
+    };
+    private static final String[] TOPICS = {
+        "Robotics", "Career Fair", "Jazz", "Chess", "Hackathon", "Poetry", "Startup", "Biology",
+        "Climate", "Film", "Debate", "Yoga", "Finance", "Design", "History", "Security",
+        "Machine Learning", "Photography", "Public Speaking", "Volunteering"
+    };
+    private static final String[] BUILDINGS = {
+        "Science Hall", "Student Union", "Library", "Engineering Center", "Arts Building", "Business School"
+    };
+    private static final String[] EQUIPMENT = {
+        "Projector", "Microphone", "Whiteboard", "Speakers", "Video Conferencing", "Stage Lighting"
+    };
+    private static final String[] FEATURES = {"WiFi", "AC", "Accessible", "Recording", "Catering Area"};
+    private static final int[] VENUE_CAPACITIES = {25, 40, 60, 100, 150, 250, 400};
+
+    private final long seed;
+    private final int userCount;
+
+    /**
+     * PARAMS: seed, userCount
+     */
+    public CampusDatasetGenerator(long seed, int userCount) {
+        if (userCount < 10) {
+            throw new IllegalArgumentException("Dataset needs at least 10 users");
+        }
+        this.seed = seed;
+        this.userCount = userCount;
+    }
+
+    /**
+     * Parses a preset (10k, 100k, 1m) or a plain user count
+     */
+    public static int parseSize(String size) {
+        String normalized = size.trim().toLowerCase(Locale.ROOT);
+        if (normalized.endsWith("k")) {
+            return Integer.parseInt(normalized.substring(0, normalized.length() - 1)) * 1_000;
+        }
+        if (normalized.endsWith("m")) {
+            return Integer.parseInt(normalized.substring(0, normalized.length() - 1)) * 1_000_000;
+        }
+        return Integer.parseInt(normalized);
+    }
+
+    /**
+     * Generates the dataset and replaces the data files in the directory
+     *
+     * @return counts of what was written
+     */
+    public Summary writeTo(Path directory) throws IOException {
+        FileUtil.ensureDirectoryExists(directory);
+        for (String file : new String[] {USERS_FILE, VENUES_FILE, EVENTS_FILE, REGISTRATIONS_FILE}) {
+            Files.deleteIfExists(directory.resolve(file));
+        }
+        Random random = new Random(seed);
+        Summary summary = new Summary();
+        EntityId.useSeededSource(new Random(random.nextLong()));
+        try {
+            generate(random, directory, summary);
+        } finally {
+            EntityId.useSeededSource(null);
+        }
+        return summary;
+    }
+
+    private void generate(Random random, Path directory, Summary summary) throws IOException {
+        List<String> attendeeIds = new ArrayList<>();
+        List<String> organizerIds = new ArrayList<>();
+        writeUsers(random, directory.resolve(USERS_FILE), attendeeIds, organizerIds, summary);
+
+        List<Venue> venues = generateVenues(random);
+        List<Event> events = generateEvents(random, venues, organizerIds);
+        Map<String, Registration> registrations = generateRegistrations(random, events, attendeeIds, summary);
+
+        Map<String, Venue> venueMap = new HashMap<>();
+        for (Venue venue : venues) {
+            venueMap.put(venue.getVenueId(), venue);
+        }
+        Map<String, Event> eventMap = new HashMap<>();
+        for (Event event : events) {
+            eventMap.put(event.getEventId(), event);
+        }
+        writeObject(directory.resolve(VENUES_FILE), venueMap);
+        writeObject(directory.resolve(EVENTS_FILE), eventMap);
+        writeObject(directory.resolve(REGISTRATIONS_FILE), registrations);
+
+        summary.venues = venues.size();
+        summary.events = events.size();
+    }
+
+    // =============================================================================
+    // USERS
+    // =============================================================================
+
+    private void writeUsers(Random random, Path file, List<String> attendeeIds, List<String> organizerIds,
+                            Summary summary) throws IOException {
+        int admins = Math.max(1, userCount / 1000);
+        int organizers = Math.max(1, userCount / 50);
+        PasswordHasher previous = User.getPasswordHasher();
+        User.setPasswordHasher(new SharedHashHasher(previous, previous.hash(PASSWORD)));
+        UserRecordLog log = new UserRecordLog(file);
+        try {
+            List<User> batch = new ArrayList<>(USER_BATCH);
+            for (int i = 0; i < userCount; i++) {
+                UserRole role = i < admins ? UserRole.ADMIN
+                    : i < admins + organizers ? UserRole.ORGANIZER : UserRole.ATTENDEE;
+                String username = (role == UserRole.ADMIN ? "adm_" : role == UserRole.ORGANIZER ? "org_" : "att_") + i;
+                User user = UserFactory.createUser(username, username + "@campus.edu", PASSWORD,
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], LAST_NAMES[random.nextInt(LAST_NAMES.length)], role);
+                if (role == UserRole.ORGANIZER) {
+                    if (random.nextInt(10) == 0) {
+                        user.setStatus(UserStatus.PENDING_APPROVAL);
+                    } else {
+                        organizerIds.add(user.getUserId());
+                    }
+                } else if (role == UserRole.ATTENDEE) {
+                    if (random.nextInt(50) == 0) {
+                        user.setStatus(UserStatus.SUSPENDED);
+                    } else {
+                        attendeeIds.add(user.getUserId());
+                    }
+                }
+                summary.users++;
+                batch.add(user);
+                if (batch.size() == USER_BATCH) {
+                    log.append(batch, List.of());
+                    batch.clear();
+                }
+            }
+            log.append(batch, List.of());
+        } finally {
+            log.close();
+            User.setPasswordHasher(previous);
+        }
+    }
+
+    // =============================================================================
+    // VENUES AND EVENTS
+    // =============================================================================
+
+    private List<Venue> generateVenues(Random random) {
+        int count = Math.max(MIN_VENUES, userCount / USERS_PER_VENUE);
+        List<Venue> venues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String building = BUILDINGS[random.nextInt(BUILDINGS.length)];
+            Venue venue = new Venue(building + " Room " + (100 + i), building,
+                VENUE_CAPACITIES[random.nextInt(VENUE_CAPACITIES.length)]);
+            venue.setBuilding(building);
+            venue.setFloor(String.valueOf(1 + random.nextInt(4)));
+            venue.setRoomNumber(String.valueOf(100 + i));
+            venue.setEquipment(pick(random, EQUIPMENT, 1 + random.nextInt(3)));
+            venue.setFeatures(pick(random, FEATURES, 1 + random.nextInt(3)));
+            venue.setSetupTimeMinutes(15 * random.nextInt(3));
+            venue.setCleanupTimeMinutes(15 * random.nextInt(3));
+            venues.add(venue);
+        }
+        return venues;
+    }
+
+    private List<Event> generateEvents(Random random, List<Venue> venues, List<String> organizerIds) {
+        int count = Math.max(1, userCount / USERS_PER_EVENT);
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(2).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        EventType[] types = EventType.values();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String topic = TOPICS[random.nextInt(TOPICS.length)];
+            EventType type = types[random.nextInt(types.length)];
+            LocalDateTime start = firstDay.plusDays(random.nextInt(SCHEDULE_DAYS))
+                .plusHours(8 + random.nextInt(12)).plusMinutes(30L * random.nextInt(2));
+            LocalDateTime end = start.plusMinutes(60L + 30L * random.nextInt(5));
+            String organizerId = organizerIds.isEmpty() ? "organizer" : organizerIds.get(random.nextInt(organizerIds.size()));
+            Event event = new Event(topic + " " + type.getDisplayName() + " " + (i + 1),
+                "A " + type.getDisplayName().toLowerCase(Locale.ROOT) + " on " + topic.toLowerCase(Locale.ROOT)
+                    + " for students and staff", type, start, end, organizerId);
+            event.setRegistrationDeadline(start.minusDays(1));
+            event.setTargetAudience(random.nextBoolean() ? "All students" : "Undergraduates");
+            event.setStatus(random.nextInt(20) == 0 ? EventStatus.DRAFT : EventStatus.PUBLISHED);
+
+            Venue venue = bookVenue(random, venues, event);
+            int capacity = 20 + random.nextInt(180);
+            event.setMaxCapacity(venue != null ? Math.min(capacity, venue.getCapacity()) : capacity);
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Tries a few random venues and books the first one free for the event
+     */
+    private static Venue bookVenue(Random random, List<Venue> venues, Event event) {
+        for (int attempt = 0; attempt < 4; attempt++) {
+            Venue venue = venues.get(random.nextInt(venues.size()));
+            if (venue.bookVenue(event.getEventId(), event.getStartDateTime(), event.getEndDateTime())) {
+                event.setVenue(venue);
+                return venue;
+            }
+        }
+        return null;
+    }
+
+    // =============================================================================
+    // REGISTRATIONS
+    // =============================================================================
+
+    private Map<String, Registration> generateRegistrations(Random random, List<Event> events,
+                                                            List<String> attendeeIds, Summary summary) {
+        // Weight 1/(rank + n/10): the head is a few times the median at any
+        // catalog size, so the waitlisted share stays roughly constant
+        double offset = Math.max(5, events.size() / 10.0);
+        double[] cumulative = new double[events.size()];
+        double total = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            total += 1.0 / (i + offset);
+            cumulative[i] = total;
+        }
+
+        Map<String, Registration> registrations = new HashMap<>();
+        List<Event> chosen = new ArrayList<>(MAX_REGISTRATIONS_PER_ATTENDEE);
+        for (String attendeeId : attendeeIds) {
+            int wanted = Math.min(MAX_REGISTRATIONS_PER_ATTENDEE, (int) (-Math.log(1 - random.nextDouble()) * 2.5));
+            chosen.clear();
+            for (int attempt = 0; attempt < wanted * 3 && chosen.size() < wanted; attempt++) {
+                int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                Event event = events.get(index >= 0 ? index : Math.min(-index - 1, events.size() - 1));
+                if (event.getStatus() == EventStatus.PUBLISHED && !overlapsAny(event, chosen)) {
+                    chosen.add(event);
+                }
+            }
+            for (Event event : chosen) {
+                Registration registration = new Registration(attendeeId, event.getEventId());
+                if (event.getRegistrations().size() < event.getMaxCapacity()) {
+                    registration.confirmRegistration();
+                    event.getRegistrations().add(registration);
+                } else {
+                    registration.setStatus(RegistrationStatus.WAITLISTED);
+                    registration.setWaitlistPosition(event.getWaitlist().size() + 1);
+                    event.getWaitlist().offer(registration);
+                    summary.waitlisted++;
+                }
+                registrations.put(registration.getRegistrationId(), registration);
+            }
+        }
+        summary.registrations = registrations.size();
+        return registrations;
+    }
+
+    private static boolean overlapsAny(Event event, List<Event> others) {
+        for (Event other : others) {
+            if (other == event || event.overlaps(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> pick(Random random, String[] values, int count) {
+        List<String> pool = new ArrayList<>(Arrays.asList(values));
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count && !pool.isEmpty(); i++) {
+            picked.add(pool.remove(random.nextInt(pool.size())));
+        }
+        return picked;
+    }
+
+    private static void writeObject(Path file, Object data) throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file.toFile()), 1 << 16))) {
+            out.writeObject(data);
+        }
+    }
+
+    /**
+     * Returns one precomputed hash for the dataset password; everything else
+     * goes to the real hasher so logins verify normally
+     */
+    private static final class SharedHashHasher implements PasswordHasher {
+        private final PasswordHasher delegate;
+        private final String sharedHash;
+
+        SharedHashHasher(PasswordHasher delegate, String sharedHash) {
+            this.delegate = delegate;
+            this.sharedHash = sharedHash;
+        }
+
+        @Override
+        public String hash(String password) {
+            return PASSWORD.equals(password) ? sharedHash : delegate.hash(password);
+        }
+
+        @Override
+        public boolean verify(String password, String encodedHash) {
+            return delegate.verify(password, encodedHash);
+        }
+
+        @Override
+        public boolean supports(String encodedHash) {
+            return delegate.supports(encodedHash);
+        }
+
+        @Override
+        public boolean needsRehash(String encodedHash) {
+            return delegate.needsRehash(encodedHash);
+        }
+    }
+
+    // =============================================================================
+    // RESULT
+    // =============================================================================
+
+    /**
+     * Counts of what one generation run wrote
+     */
+    public static class Summary {
+        private int users;
+        private int venues;
+        private int events;
+        private int registrations;
+        private int waitlisted;
+
+        public int getUsers() {
+            return users;
+        }
+
+        public int getVenues() {
+            return venues;
+        }
+
+        public int getEvents() {
+            return events;
+        }
+
+        public int getRegistrations() {
+            return registrations;
+        }
+
+        public int getWaitlisted() {
+            return waitlisted;
+        }
+
+        @Override
+        public String toString() {
+            return users + " users, " + venues + " venues, " + events + " events, "
+                + registrations + " registrations (" + waitlisted + " waitlisted)";
+        }
+    }
+}
@@ -4,6 +4,11 @@
 
 package com.campuseventhub.persistence;
 
+import com.campuseventhub.jfr.PersistenceEvent;
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import com.campuseventhub.metrics.MetricsRegistry;
+import com.campuseventhub.metrics.Timer;
 import com.campuseventhub.util.FileUtil;
 import java.io.File;
 import java.io.FileInputStream;
@@ -12,6 +17,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
@@ -20,8 +26,15 @@ import java.util.Map;
 
 /**
  * Central data management for serialization and file operations.
+ *
+ * Implementation Details:
+ * - Every save and load is timed per file as persistence.save.<file> and
+ *   persistence.load.<file> in the default MetricsRegistry
+ * - Each is also a com.campuseventhub.Persistence JFR event with the file
+ *   size; the size is only looked up while a recording has the event enabled
  */
 public class DataManager {
+    private static final Logger LOG = LogManager.getLogger(DataManager.class);
     // Use absolute path to src/main/resources/data/ to ensure consistency
     private static final String DATA_DIRECTORY = getDataDirectory();
     private static final String BACKUP_DIRECTORY = getDataDirectory() + "backup/";
@@ -43,14 +56,14 @@ public class DataManager {
         java.io.File srcDir = new java.io.File(srcPath);
         
         if (targetDir.exists()) {
-            System.out.println("DataManager: Using target data directory: " + targetPath);
+            LOG.info("Using target data directory: " + targetPath);
             return targetPath;
         } else if (srcDir.exists()) {
-            System.out.println("DataManager: Using source data directory: " + srcPath);
+            LOG.info("Using source data directory: " + srcPath);
             return srcPath;
         } else {
             // Default to source path and create if needed
-            System.out.println("DataManager: Creating source data directory: " + srcPath);
+            LOG.info("Creating source data directory: " + srcPath);
             return srcPath;
         }
     }
@@ -67,6 +80,24 @@ public class DataManager {
             throw new IllegalArgumentException("Filename cannot be empty");
         }
         
+        Timer timer = MetricsRegistry.getDefault().timer("persistence.save." + filename);
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        long start = timer.start();
+        boolean success = false;
+        try {
+            writeData(filename, data);
+            success = true;
+        } catch (IOException | RuntimeException e) {
+            timer.markFailure();
+            throw e;
+        } finally {
+            timer.stop(start);
+            commit(event, "save", filename, success);
+        }
+    }
+    
+    private static void writeData(String filename, Object data) throws IOException {
         Path filePath = Paths.get(DATA_DIRECTORY + filename);
         
         // Ensure directory exists
@@ -75,19 +106,19 @@ public class DataManager {
         // Create backup before saving (only for critical files)
         try {
             if (FileUtil.fileExists(filePath) && (filename.equals("users.ser") || filename.equals("events.ser"))) {
-                System.out.println("DataManager: Creating backup before saving " + filename);
+                LOG.debug(() -> "Creating backup before saving " + filename);
                 createBackup();
             }
         } catch (Exception e) {
-            System.err.println("DataManager: Warning - Could not create backup for " + filename + ": " + e.getMessage());
+            LOG.warn("Could not create backup for " + filename, e);
         }
         
         try (ObjectOutputStream out = new ObjectOutputStream(
                 new FileOutputStream(filePath.toFile()))) {
             out.writeObject(data);
-            System.out.println("DataManager: Successfully saved " + filename);
+            LOG.debug(() -> "Saved " + filename);
         } catch (IOException e) {
-            System.err.println("DataManager: Failed to save " + filename + ": " + e.getMessage());
+            LOG.error("Failed to save " + filename, e);
             throw e;
         }
     }
@@ -100,20 +131,56 @@ public class DataManager {
             throw new IllegalArgumentException("Filename cannot be null or empty");
         }
         
+        Timer timer = MetricsRegistry.getDefault().timer("persistence.load." + filename);
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        long start = timer.start();
+        boolean success = false;
+        try {
+            Object data = readData(filename);
+            success = true;
+            return data;
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            timer.markFailure();
+            throw e;
+        } finally {
+            timer.stop(start);
+            commit(event, "load", filename, success);
+        }
+    }
+    
+    private static void commit(PersistenceEvent event, String operation, String filename, boolean success) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.file = filename;
+        event.success = success;
+        try {
+            Path filePath = Paths.get(DATA_DIRECTORY + filename);
+            event.bytes = Files.exists(filePath) ? Files.size(filePath) : 0;
+        } catch (IOException e) {
+            event.bytes = -1;
+        }
+        event.commit();
+    }
+    
+    private static Object readData(String filename) throws IOException, ClassNotFoundException {
         Path filePath = Paths.get(DATA_DIRECTORY + filename);
         
         if (!FileUtil.fileExists(filePath)) {
-            System.out.println("DataManager: No existing data file found: " + filename);
+            LOG.debug(() -> "No existing data file found: " + filename);
             return null; // File doesn't exist, return null instead of throwing exception
         }
         
         try (ObjectInputStream in = new ObjectInputStream(
                 new FileInputStream(filePath.toFile()))) {
             Object data = in.readObject();
-            System.out.println("DataManager: Successfully loaded " + filename);
+            LOG.debug(() -> "Loaded " + filename);
             return data;
         } catch (IOException | ClassNotFoundException e) {
-            System.err.println("DataManager: Failed to load " + filename + ": " + e.getMessage());
+            LOG.error("Failed to load " + filename, e);
             throw e;
         }
     }
@@ -143,7 +210,7 @@ public class DataManager {
                     FileUtil.writeFile(timestampedBackupDir.resolve(file.getName()), content);
                 } catch (IOException e) {
                     // Log error but continue with other files
-                    System.err.println("Failed to backup file: " + file.getName() + " - " + e.getMessage());
+                    LOG.warn("Failed to backup file: " + file.getName(), e);
                 }
             }
         }
@@ -166,7 +233,7 @@ public class DataManager {
             
             return true;
         } catch (IOException e) {
-            System.err.println("Failed to restore from backup: " + e.getMessage());
+            LOG.error("Failed to restore from backup " + backupFile, e);
             return false;
         }
     }
@@ -179,7 +246,7 @@ public class DataManager {
             FileUtil.ensureDirectoryExists(Paths.get(DATA_DIRECTORY));
             FileUtil.ensureDirectoryExists(Paths.get(BACKUP_DIRECTORY));
         } catch (IOException e) {
-            System.err.println("Failed to initialize data directories: " + e.getMessage());
+            LOG.error("Failed to initialize data directories", e);
         }
     }
     
@@ -0,0 +1,340 @@
+// =============================================================================
+// NOTIFICATION LOG
+// =============================================================================
+
+package com.campuseventhub.persistence;
+
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.util.FileUtil;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Append-only on-disk log of notification inbox changes.
+ *
+ * Implementation Details:
+ * - Binary records written with DataOutputStream, one per state change
+ * - Replayed in order on startup to rebuild inboxes and the broadcast log
+ * - A truncated trailing record (crash mid-write) ends replay cleanly
+ * - Compaction rewrites the file from a snapshot and swaps it in atomically;
+ *   the owner triggers it once records outnumber twice the live state
+ */
+public class NotificationLog {
+    private static final Logger LOG = LogManager.getLogger(NotificationLog.class);
+    private static final byte NOTIFICATION = 'N';
+    private static final byte BROADCAST = 'B';
+    private static final byte READ = 'R';
+    private static final byte READ_ALL = 'A';
+    private static final byte CLEAR = 'C';
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int MIN_COMPACTION_RECORDS = 1024;
+
+    private final Path file;
+    private DataOutputStream out;
+    private long recordCount;
+    private long compactedRecordCount;
+
+    /**
+     * Callbacks invoked for each record during replay
+     */
+    public interface Handler {
+        void onNotification(Notification notification);
+        void onBroadcast(long sequence, Notification broadcast);
+        void onRead(String userId, String notificationId);
+        void onReadAll(String userId, long broadcastEnd);
+        void onClear(String userId, long broadcastEnd);
+    }
+
+    public NotificationLog(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Replays every complete record in the log through the handler
+     *
+     * @return number of records replayed
+     */
+    public synchronized long replay(Handler handler) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        long replayed = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file.toFile())))) {
+            while (true) {
+                int type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException e) {
+                    break;
+                }
+                try {
+                    applyRecord(type, in, handler);
+                } catch (EOFException e) {
+                    LOG.warn("Ignoring truncated record at end of " + file.getFileName());
+                    break;
+                }
+                replayed++;
+            }
+        }
+        recordCount = replayed;
+        return replayed;
+    }
+
+    private void applyRecord(int type, DataInputStream in, Handler handler) throws IOException {
+        switch (type) {
+            case NOTIFICATION:
+                handler.onNotification(readNotification(in));
+                break;
+            case BROADCAST:
+                long sequence = in.readLong();
+                handler.onBroadcast(sequence, readNotification(in));
+                break;
+            case READ:
+                handler.onRead(in.readUTF(), in.readUTF());
+                break;
+            case READ_ALL:
+                handler.onReadAll(in.readUTF(), in.readLong());
+                break;
+            case CLEAR:
+                handler.onClear(in.readUTF(), in.readLong());
+                break;
+            default:
+                throw new IOException("Corrupt notification log record type: " + type);
+        }
+    }
+
+    public synchronized void appendNotification(Notification notification) {
+        write(out -> {
+            out.writeByte(NOTIFICATION);
+            writeNotification(out, notification);
+        });
+    }
+
+    /**
+     * Appends several notifications with a single flush
+     */
+    public synchronized void appendNotifications(List<Notification> notifications) {
+        write(out -> {
+            for (Notification notification : notifications) {
+                out.writeByte(NOTIFICATION);
+                writeNotification(out, notification);
+            }
+        }, notifications.size());
+    }
+
+    public synchronized void appendBroadcast(long sequence, Notification broadcast) {
+        write(out -> {
+            out.writeByte(BROADCAST);
+            out.writeLong(sequence);
+            writeNotification(out, broadcast);
+        });
+    }
+
+    public synchronized void appendRead(String userId, String notificationId) {
+        write(out -> {
+            out.writeByte(READ);
+            out.writeUTF(userId);
+            out.writeUTF(notificationId);
+        });
+    }
+
+    public synchronized void appendReadAll(String userId, long broadcastEnd) {
+        write(out -> {
+            out.writeByte(READ_ALL);
+            out.writeUTF(userId);
+            out.writeLong(broadcastEnd);
+        });
+    }
+
+    public synchronized void appendClear(String userId, long broadcastEnd) {
+        write(out -> {
+            out.writeByte(CLEAR);
+            out.writeUTF(userId);
+            out.writeLong(broadcastEnd);
+        });
+    }
+
+    /**
+     * Replaces the log with the records produced by the snapshot writer
+     */
+    public synchronized void compact(SnapshotWriter snapshot) throws IOException {
+        closeStream();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        FileUtil.ensureDirectoryExists(file.getParent());
+        long written;
+        try (DataOutputStream tempOut = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp.toFile())))) {
+            RecordWriter writer = new RecordWriter(tempOut);
+            snapshot.writeTo(writer);
+            written = writer.count;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        recordCount = written;
+        compactedRecordCount = written;
+    }
+
+    /**
+     * True once the log holds more than twice the live records. The size of
+     * the last compaction acts as a floor, since the owner's live count is an
+     * estimate that leaves out per-user read markers.
+     *
+     * @param liveRecords records a compaction would write, as estimated by the owner
+     */
+    public synchronized boolean needsCompaction(long liveRecords) {
+        return recordCount > Math.max(MIN_COMPACTION_RECORDS, 2L * Math.max(liveRecords, compactedRecordCount));
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    public synchronized void close() {
+        closeStream();
+    }
+
+    private void write(RecordBody body) {
+        write(body, 1);
+    }
+
+    private void write(RecordBody body, int records) {
+        try {
+            if (out == null) {
+                FileUtil.ensureDirectoryExists(file.getParent());
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file.toFile(), true)));
+            }
+            body.write(out);
+            out.flush();
+            recordCount += records;
+        } catch (IOException e) {
+            LOG.error("Failed to append to " + file.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    private void closeStream() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                LOG.error("Failed to close " + file.getFileName() + ": " + e.getMessage());
+            }
+            out = null;
+        }
+    }
+
+    private static void writeNotification(DataOutputStream out, Notification notification) throws IOException {
+        out.writeUTF(notification.getNotificationId());
+        out.writeUTF(notification.getRecipientId() != null ? notification.getRecipientId() : "");
+        out.writeUTF(notification.getType().name());
+        writeLongString(out, notification.getMessage());
+        writeTime(out, notification.getCreatedAt());
+        writeTime(out, notification.getSentAt());
+        writeTime(out, notification.getReadAt());
+    }
+
+    private static Notification readNotification(DataInputStream in) throws IOException {
+        String notificationId = in.readUTF();
+        String recipientId = in.readUTF();
+        NotificationType type = NotificationType.valueOf(in.readUTF());
+        String message = readLongString(in);
+        LocalDateTime createdAt = readTime(in);
+        LocalDateTime sentAt = readTime(in);
+        LocalDateTime readAt = readTime(in);
+        return Notification.restore(notificationId, recipientId.isEmpty() ? null : recipientId,
+                                    message, type, createdAt, sentAt, readAt);
+    }
+
+    // writeUTF is limited to 64KB, so messages are written as length-prefixed UTF-8
+    private static void writeLongString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readLongString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        if (time == null) {
+            out.writeLong(NO_TIME);
+            out.writeInt(0);
+        } else {
+            out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(time.getNano());
+        }
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        long seconds = in.readLong();
+        int nanos = in.readInt();
+        return seconds == NO_TIME ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private interface RecordBody {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Produces the live state as log records during compaction
+     */
+    public interface SnapshotWriter {
+        void writeTo(RecordWriter writer) throws IOException;
+    }
+
+    /**
+     * Writes records into a compacted log file
+     */
+    public static class RecordWriter {
+        private final DataOutputStream out;
+        private long count;
+
+        private RecordWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        public void notification(Notification notification) throws IOException {
+            out.writeByte(NOTIFICATION);
+            writeNotification(out, notification);
+            count++;
+        }
+
+        public void broadcast(long sequence, Notification broadcast) throws IOException {
+            out.writeByte(BROADCAST);
+            out.writeLong(sequence);
+            writeNotification(out, broadcast);
+            count++;
+        }
+
+        public void read(String userId, String notificationId) throws IOException {
+            out.writeByte(READ);
+            out.writeUTF(userId);
+            out.writeUTF(notificationId);
+            count++;
+        }
+
+        public void clear(String userId, long broadcastEnd) throws IOException {
+            out.writeByte(CLEAR);
+            out.writeUTF(userId);
+            out.writeLong(broadcastEnd);
+            count++;
+        }
+    }
+}
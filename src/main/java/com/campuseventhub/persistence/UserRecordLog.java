@@ -0,0 +1,240 @@
+// =============================================================================
+// USER RECORD LOG
+// =============================================================================
+
+package com.campuseventhub.persistence;
+
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.util.FileUtil;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Append-only record store for user accounts.
+ *
+ * Implementation Details:
+ * - One record per changed user: PUT carries that user's serialized form,
+ *   DELETE only the id; saving an edit appends just that record
+ * - Replay applies records in order, last write wins
+ * - A truncated trailing record (crash mid-write) ends replay cleanly
+ * - A failed append closes the stream and cuts the file back to the end of
+ *   the last complete batch before rethrowing, so the caller can retry the
+ *   batch and later appends never follow broken bytes
+ * - Once superseded records outnumber live ones the log is compacted into
+ *   a fresh snapshot and swapped in atomically
+ */
+public class UserRecordLog {
+    private static final Logger LOG = LogManager.getLogger(UserRecordLog.class);
+    private static final byte PUT = 'P';
+    private static final byte DELETE = 'D';
+    private static final int MIN_COMPACTION_RECORDS = 1024;
+
+    private final Path file;
+    private DataOutputStream out;
+    private long recordCount;
+    private long bytesWritten;
+    private long committedLength;
+
+    public UserRecordLog(Path file) {
+        this.file = file;
+    }
+
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * Rebuilds the live user set from the log
+     *
+     * @return users keyed by ID in first-write order
+     */
+    public synchronized Map<String, User> replay() throws IOException {
+        Map<String, User> users = new LinkedHashMap<>();
+        recordCount = 0;
+        if (!Files.exists(file)) {
+            return users;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file.toFile())))) {
+            while (true) {
+                int type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException e) {
+                    break;
+                }
+                try {
+                    String userId = in.readUTF();
+                    if (type == PUT) {
+                        byte[] bytes = new byte[in.readInt()];
+                        in.readFully(bytes);
+                        users.put(userId, deserialize(bytes));
+                    } else if (type == DELETE) {
+                        users.remove(userId);
+                    } else {
+                        throw new IOException("Corrupt user log record type: " + type);
+                    }
+                    recordCount++;
+                } catch (EOFException e) {
+                    LOG.warn("Ignoring truncated record at end of " + file.getFileName());
+                    break;
+                }
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Appends changed and deleted users as one batch with a single flush.
+     * On failure none of the batch is kept and the caller should retry it
+     *
+     * @throws IOException if the batch could not be written
+     */
+    public synchronized void append(Collection<User> changed, Collection<String> deletedIds) throws IOException {
+        if (changed.isEmpty() && deletedIds.isEmpty()) {
+            return;
+        }
+        if (out == null) {
+            FileUtil.ensureDirectoryExists(file.getParent());
+            committedLength = Files.exists(file) ? Files.size(file) : 0L;
+            out = new DataOutputStream(new BufferedOutputStream(openForAppend()));
+        }
+        int before = out.size();
+        try {
+            for (User user : changed) {
+                writePut(out, user);
+            }
+            for (String userId : deletedIds) {
+                out.writeByte(DELETE);
+                out.writeUTF(userId);
+            }
+            out.flush();
+        } catch (IOException e) {
+            discardPartialBatch(e);
+            throw e;
+        }
+        int written = out.size() - before;
+        committedLength += written;
+        recordCount += changed.size() + deletedIds.size();
+        bytesWritten += written;
+    }
+
+    /**
+     * Opens the log for appending; tests substitute a stream that fails
+     */
+    OutputStream openForAppend() throws IOException {
+        return new FileOutputStream(file.toFile(), true);
+    }
+
+    /**
+     * Closes the stream and truncates whatever part of the failed batch
+     * reached the file
+     */
+    private void discardPartialBatch(IOException failure) {
+        closeStream();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            if (channel.size() > committedLength) {
+                channel.truncate(committedLength);
+            }
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * True once superseded records clearly outnumber the live users
+     */
+    public synchronized boolean needsCompaction(int liveUsers) {
+        return recordCount > Math.max(MIN_COMPACTION_RECORDS, 2L * liveUsers);
+    }
+
+    /**
+     * Replaces the log with one PUT record per live user
+     */
+    public synchronized void compact(Collection<User> liveUsers) throws IOException {
+        closeStream();
+        FileUtil.ensureDirectoryExists(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long written;
+        try (DataOutputStream tempOut = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp.toFile())))) {
+            for (User user : liveUsers) {
+                writePut(tempOut, user);
+            }
+            written = tempOut.size();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        recordCount = liveUsers.size();
+        bytesWritten += written;
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Total bytes written by appends and compactions since this log was opened
+     */
+    public synchronized long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public synchronized void close() {
+        closeStream();
+    }
+
+    private void closeStream() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                LOG.error("Failed to close " + file.getFileName() + ": " + e.getMessage());
+            }
+            out = null;
+        }
+    }
+
+    private static void writePut(DataOutputStream out, User user) throws IOException {
+        byte[] bytes = serialize(user);
+        out.writeByte(PUT);
+        out.writeUTF(user.getUserId());
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] serialize(User user) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(buffer)) {
+            objectOut.writeObject(user);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static User deserialize(byte[] bytes) throws IOException {
+        try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (User) objectIn.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown user class in log: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,527 @@
+// =============================================================================
+// EVENTHUB HTTP SERVER
+// =============================================================================
+
+package com.campuseventhub.server;
+
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.service.EventHub;
+import com.campuseventhub.service.InvalidSessionException;
+import com.campuseventhub.service.NotificationService;
+import com.campuseventhub.service.Session;
+import com.campuseventhub.util.FlatJsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless HTTP/JSON front end exposing the main EventHub operations.
+ *
+ * Implementation Details:
+ * - Built on the JDK's com.sun.net.httpserver; no external dependencies
+ * - Requests run on a bounded daemon worker pool; when it is saturated the
+ *   accepting thread runs the request itself, which throttles new connections
+ * - Login waits at most LOGIN_TIMEOUT_SECONDS for password verification, so
+ *   a login run on the accepting thread cannot stall it for a whole queue of
+ *   hashing jobs; a timeout answers 503 like a full verification pool
+ * - POST /api/login returns a session token that clients send back as
+ *   "Authorization: Bearer <token>"; each request runs inside
+ *   EventHub.withSession so permission checks apply to that user
+ * - Responses are streamed with chunked encoding through JsonWriter
+ * - Errors map to status codes: 400 bad input, 401 no/expired session,
+ *   403 not permitted, 404 unknown resource, 409 invalid state
+ *
+ * Routes:
+ *   POST   /api/login                       {username, password}
+ *   POST   /api/logout
+ *   GET    /api/events?keyword=&type=       open events matching the search
+ *   GET    /api/events/{id}
+ *   POST   /api/events                      {title, description, type, start, end, maxCapacity, venueId}
+ *   PUT    /api/events/{id}                 {title, description, type, maxCapacity}
+ *   DELETE /api/events/{id}
+ *   POST   /api/events/{id}/registrations   register the session user
+ *   GET    /api/events/{id}/waitlist        waitlist status for the session user
+ *   GET    /api/registrations               the session user's registrations
+ *   DELETE /api/registrations/{id}
+ *   GET    /api/notifications?page=&size=   newest first
+ *   POST   /api/notifications/read-all
+ */
+public class EventHubHttpServer {
+    private static final Logger LOG = LogManager.getLogger(EventHubHttpServer.class);
+    public static final int DEFAULT_PORT = 8080;
+    private static final int MAX_QUEUED_REQUESTS = 1024;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int DEFAULT_PAGE_SIZE = 25;
+    private static final long LOGIN_TIMEOUT_SECONDS = 5;
+    private static final String LOGIN_BUSY = "Too many sign-in attempts in progress, please try again";
+
+    private final EventHub eventHub;
+    private final HttpServer server;
+    private final ThreadPoolExecutor workers;
+
+    public EventHubHttpServer(EventHub eventHub, int port) throws IOException {
+        this(eventHub, new InetSocketAddress(port));
+    }
+
+    public EventHubHttpServer(EventHub eventHub, InetSocketAddress address) throws IOException {
+        if (eventHub == null) {
+            throw new IllegalArgumentException("EventHub cannot be null");
+        }
+        this.eventHub = eventHub;
+        int threads = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_REQUESTS), r -> {
+                Thread t = new Thread(r, "HttpWorker-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.workers.allowCoreThreadTimeOut(true);
+        this.server = HttpServer.create(address, 0);
+        this.server.createContext("/api/", this::handle);
+        this.server.setExecutor(workers);
+    }
+
+    public void start() {
+        server.start();
+        LOG.info("Listening on port " + getPort());
+    }
+
+    /**
+     * Stops accepting connections, waits briefly for in-flight requests
+     */
+    public void stop() {
+        server.stop(1);
+        workers.shutdown();
+        try {
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // =============================================================================
+    // REQUEST DISPATCH
+    // =============================================================================
+
+    /**
+     * Writes a response body; called after the status line has been sent
+     */
+    @FunctionalInterface
+    private interface JsonBody {
+        void write(JsonWriter json) throws IOException;
+    }
+
+    private static final class Response {
+        private final int status;
+        private final JsonBody body;
+
+        Response(int status, JsonBody body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    private static final class HttpError extends RuntimeException {
+        private final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Response response;
+        try {
+            response = route(exchange);
+        } catch (HttpError e) {
+            response = error(e.status, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            response = error(400, e.getMessage());
+        } catch (IllegalStateException e) {
+            response = error(409, e.getMessage());
+        } catch (RuntimeException e) {
+            LOG.error("Request failed", e);
+            response = error(500, "Internal server error");
+        }
+        send(exchange, response);
+    }
+
+    private Response route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().substring("/api/".length()).split("/");
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String resource = path[0];
+
+        if ("login".equals(resource) && "POST".equals(method)) {
+            return login(readBody(exchange));
+        }
+        String token = bearerToken(exchange);
+        Map<String, String> body = "POST".equals(method) || "PUT".equals(method)
+            ? readBody(exchange) : new HashMap<>();
+
+        switch (resource) {
+            case "logout":
+                requireMethod(method, "POST");
+                if (!eventHub.closeSession(token)) {
+                    throw new HttpError(401, "Invalid or expired session");
+                }
+                return ok(json -> json.beginObject().field("loggedOut", true).endObject());
+            case "events":
+                return inSession(token, () -> routeEvents(method, path, query, body));
+            case "registrations":
+                return inSession(token, () -> routeRegistrations(method, path));
+            case "notifications":
+                return inSession(token, () -> routeNotifications(method, path, query));
+            default:
+                throw new HttpError(404, "Unknown resource: " + resource);
+        }
+    }
+
+    private Response inSession(String token, java.util.function.Supplier<Response> action) {
+        if (token == null) {
+            throw new HttpError(401, "Missing bearer token");
+        }
+        try {
+            return eventHub.withSession(token, action);
+        } catch (InvalidSessionException e) {
+            throw new HttpError(401, e.getMessage());
+        }
+    }
+
+    // =============================================================================
+    // HANDLERS
+    // =============================================================================
+
+    private Response login(Map<String, String> body) {
+        String username = body.get("username");
+        String password = body.get("password");
+        if (username == null || password == null) {
+            throw new IllegalArgumentException("username and password are required");
+        }
+        Session session;
+        CompletableFuture<Session> pending = eventHub.openSessionAsync(username, password);
+        try {
+            session = pending.get(LOGIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            // The client never sees a session opened after this, so end it on arrival
+            pending.thenAccept(late -> {
+                if (late != null) {
+                    eventHub.getSessionRegistry().invalidate(late.getToken());
+                }
+            });
+            throw new HttpError(503, LOGIN_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Login interrupted");
+        } catch (ExecutionException e) {
+            // Only a saturated verification pool is a 503; anything else goes
+            // through the usual mapping, which keeps internal messages out
+            Throwable cause = e.getCause();
+            if (cause instanceof RejectedExecutionException) {
+                throw new HttpError(503, LOGIN_BUSY);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Login failed", cause);
+        }
+        if (session == null) {
+            throw new HttpError(401, "Invalid username or password");
+        }
+        User user = session.getUser();
+        return ok(json -> json.beginObject()
+            .field("token", session.getToken())
+            .field("userId", user.getUserId())
+            .field("username", user.getUsername())
+            .field("role", user.getRole())
+            .endObject());
+    }
+
+    private Response routeEvents(String method, String[] path, Map<String, String> query, Map<String, String> body) {
+        User user = eventHub.getCurrentUser();
+        if (path.length == 1) {
+            if ("GET".equals(method)) {
+                String keyword = query.getOrDefault("keyword", "");
+                EventType type = query.containsKey("type") ? EventType.valueOf(query.get("type")) : null;
+                List<Event> open = new ArrayList<>();
+                for (Event event : eventHub.searchEvents(keyword, type, null, null)) {
+                    if (event.isRegistrationOpen()) {
+                        open.add(event);
+                    }
+                }
+                return ok(json -> {
+                    json.beginArray();
+                    for (Event event : open) {
+                        writeEvent(json, event);
+                    }
+                    json.endArray();
+                });
+            }
+            requireMethod(method, "POST");
+            Event created = eventHub.createEvent(require(body, "title"), body.getOrDefault("description", ""),
+                EventType.valueOf(require(body, "type")), parseTime(require(body, "start")),
+                parseTime(require(body, "end")), user.getUserId(), body.get("venueId"),
+                Integer.parseInt(require(body, "maxCapacity")));
+            if (created == null) {
+                throw new HttpError(403, "Only organizers can create events");
+            }
+            return new Response(201, json -> writeEvent(json, created));
+        }
+
+        String eventId = path[1];
+        Event event = eventHub.getEventById(eventId);
+        if (event == null) {
+            throw new HttpError(404, "Event not found: " + eventId);
+        }
+        if (path.length == 2) {
+            switch (method) {
+                case "GET":
+                    return ok(json -> writeEvent(json, event));
+                case "PUT":
+                    Map<String, Object> updates = new LinkedHashMap<>();
+                    if (body.containsKey("title")) updates.put("title", body.get("title"));
+                    if (body.containsKey("description")) updates.put("description", body.get("description"));
+                    if (body.containsKey("type")) updates.put("eventType", EventType.valueOf(body.get("type")));
+                    if (body.containsKey("maxCapacity")) updates.put("maxCapacity", Integer.parseInt(body.get("maxCapacity")));
+                    if (!eventHub.updateEvent(eventId, updates)) {
+                        throw new HttpError(403, "Not allowed to update this event");
+                    }
+                    return ok(json -> writeEvent(json, eventHub.getEventById(eventId)));
+                case "DELETE":
+                    if (!eventHub.deleteEvent(eventId)) {
+                        throw new HttpError(403, "Not allowed to delete this event");
+                    }
+                    return ok(json -> json.beginObject().field("deleted", eventId).endObject());
+                default:
+                    throw new HttpError(405, "Method not allowed");
+            }
+        }
+
+        switch (path[2]) {
+            case "registrations": {
+                requireMethod(method, "POST");
+                Registration registration = eventHub.registerForEvent(user.getUserId(), eventId);
+                if (registration == null) {
+                    throw new IllegalStateException("Already registered for this event");
+                }
+                return new Response(201, json -> writeRegistration(json, registration));
+            }
+            case "waitlist": {
+                requireMethod(method, "GET");
+                boolean onWaitlist = eventHub.isOnWaitlist(eventId);
+                int position = eventHub.getWaitlistPosition(eventId);
+                int size = event.getWaitlistSize();
+                return ok(json -> json.beginObject()
+                    .field("eventId", eventId)
+                    .field("onWaitlist", onWaitlist)
+                    .field("position", position)
+                    .field("waitlistSize", size)
+                    .endObject());
+            }
+            default:
+                throw new HttpError(404, "Unknown event resource: " + path[2]);
+        }
+    }
+
+    private Response routeRegistrations(String method, String[] path) {
+        User user = eventHub.getCurrentUser();
+        List<Registration> mine = new ArrayList<>(eventHub.getMyRegistrations(user.getUserId()));
+        if (path.length == 1) {
+            requireMethod(method, "GET");
+            return ok(json -> {
+                json.beginArray();
+                for (Registration registration : mine) {
+                    writeRegistration(json, registration);
+                }
+                json.endArray();
+            });
+        }
+        requireMethod(method, "DELETE");
+        String registrationId = path[1];
+        boolean owned = mine.stream().anyMatch(r -> r.getRegistrationKey().matches(registrationId));
+        if (!owned) {
+            throw new HttpError(404, "Registration not found: " + registrationId);
+        }
+        if (!eventHub.cancelEventRegistration(registrationId, "Cancelled via web portal")) {
+            throw new IllegalStateException("Registration could not be cancelled");
+        }
+        return ok(json -> json.beginObject().field("cancelled", registrationId).endObject());
+    }
+
+    private Response routeNotifications(String method, String[] path, Map<String, String> query) {
+        User user = eventHub.getCurrentUser();
+        if (path.length == 2 && "read-all".equals(path[1])) {
+            requireMethod(method, "POST");
+            eventHub.getNotificationService().markAllNotificationsAsRead(user.getUserId());
+            return ok(json -> json.beginObject().field("unread", 0).endObject());
+        }
+        requireMethod(method, "GET");
+        int page = Integer.parseInt(query.getOrDefault("page", "0"));
+        int size = Integer.parseInt(query.getOrDefault("size", String.valueOf(DEFAULT_PAGE_SIZE)));
+        NotificationService.NotificationPage notifications =
+            eventHub.getUserNotificationsPage(user.getUserId(), page, size);
+        int unread = eventHub.getNotificationService().getUnreadNotificationCount(user.getUserId());
+        return ok(json -> {
+            json.beginObject()
+                .field("page", notifications.getPage())
+                .field("totalPages", notifications.getTotalPages())
+                .field("totalCount", notifications.getTotalCount())
+                .field("unread", unread)
+                .name("notifications").beginArray();
+            for (Notification notification : notifications.getNotifications()) {
+                json.beginObject()
+                    .field("id", notification.getNotificationId())
+                    .field("type", notification.getType())
+                    .field("message", notification.getMessage())
+                    .field("createdAt", notification.getCreatedAt())
+                    .field("read", notification.isRead())
+                    .endObject();
+            }
+            json.endArray().endObject();
+        });
+    }
+
+    // =============================================================================
+    // JSON AND HTTP HELPERS
+    // =============================================================================
+
+    private static void writeEvent(JsonWriter json, Event event) throws IOException {
+        json.beginObject()
+            .field("eventId", event.getEventId())
+            .field("title", event.getTitle())
+            .field("description", event.getDescription())
+            .field("type", event.getEventType())
+            .field("status", event.getStatus())
+            .field("start", event.getStartDateTime())
+            .field("end", event.getEndDateTime())
+            .field("organizerId", event.getOrganizerId())
+            .field("venue", event.hasVenue() ? event.getVenueName() : null)
+            .field("maxCapacity", event.getMaxCapacity())
+            .field("availableSpots", event.getAvailableSpots())
+            .field("registrationOpen", event.isRegistrationOpen())
+            .field("waitlistSize", event.getWaitlistSize())
+            .endObject();
+    }
+
+    private static void writeRegistration(JsonWriter json, Registration registration) throws IOException {
+        json.beginObject()
+            .field("registrationId", registration.getRegistrationId())
+            .field("eventId", registration.getEventId())
+            .field("status", registration.getStatus())
+            .field("registeredAt", registration.getRegistrationTime())
+            .endObject();
+    }
+
+    private static Response ok(JsonBody body) {
+        return new Response(200, body);
+    }
+
+    private static Response error(int status, String message) {
+        return new Response(status, json -> json.beginObject()
+            .field("status", status)
+            .field("error", message != null ? message : "Error")
+            .endObject());
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        // Length 0 selects chunked encoding so the body is streamed as it is written
+        exchange.sendResponseHeaders(response.status, 0);
+        try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 8192)) {
+            JsonWriter json = new JsonWriter(out);
+            response.body.write(json);
+            json.flush();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void requireMethod(String method, String expected) {
+        if (!expected.equals(method)) {
+            throw new HttpError(405, "Method not allowed");
+        }
+    }
+
+    private static String require(Map<String, String> body, String field) {
+        String value = body.get(field);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date-time (expected yyyy-MM-ddTHH:mm): " + value);
+        }
+    }
+
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        return header.substring("Bearer ".length()).trim();
+    }
+
+    private static Map<String, String> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new HttpError(413, "Request body too large");
+            }
+            return FlatJsonParser.parseObject(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+}
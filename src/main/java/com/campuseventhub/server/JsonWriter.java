@@ -0,0 +1,158 @@
+package com.campuseventhub.server;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Minimal streaming JSON writer; values go straight to the underlying
+ * writer so large lists never have to be materialized as one string.
+ *
+ * Implementation Details:
+ * - Tracks nesting to insert commas; names must precede values in objects
+ * - Strings are escaped per RFC 8259 (quotes, backslash, control characters)
+ */
+public class JsonWriter {
+    private static final int MAX_DEPTH = 32;
+
+    private final Writer out;
+    // true once the container at that depth has its first element
+    private final boolean[] hasElement = new boolean[MAX_DEPTH];
+    private int depth;
+    private boolean afterName;
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    public JsonWriter name(String name) throws IOException {
+        separate();
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        separate();
+        if (value == null) {
+            out.write("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        separate();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        separate();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a value via its toString(), or null
+     */
+    public JsonWriter value(Object value) throws IOException {
+        return value(value == null ? null : value.toString());
+    }
+
+    public JsonWriter field(String name, String value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, long value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, boolean value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, Object value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private JsonWriter open(char bracket) throws IOException {
+        separate();
+        if (depth + 1 >= MAX_DEPTH) {
+            throw new IllegalStateException("JSON nesting too deep");
+        }
+        out.write(bracket);
+        hasElement[++depth] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        if (depth == 0) {
+            throw new IllegalStateException("No open JSON container");
+        }
+        depth--;
+        out.write(bracket);
+        return this;
+    }
+
+    private void separate() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (hasElement[depth]) {
+            out.write(',');
+        }
+        hasElement[depth] = true;
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape;
+            if (c == '"') {
+                escape = "\\\"";
+            } else if (c == '\\') {
+                escape = "\\\\";
+            } else if (c == '\n') {
+                escape = "\\n";
+            } else if (c == '\r') {
+                escape = "\\r";
+            } else if (c == '\t') {
+                escape = "\\t";
+            } else if (c < 0x20) {
+                escape = String.format("\\u%04x", (int) c);
+            } else {
+                continue;
+            }
+            out.write(value, start, i - start);
+            out.write(escape);
+            start = i + 1;
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
@@ -0,0 +1,232 @@
+// =============================================================================
+// BROADCAST LOG
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.Notification;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Append-only log of campus-wide notifications.
+ *
+ * Implementation Details:
+ * - Each broadcast is stored once and addressed by a sequence number
+ * - User inboxes only keep a cursor into the log, so publishing is one
+ *   append regardless of how many users exist (fan-out happens on read)
+ * - Bounded ring buffer indexed by sequence number: the oldest broadcasts
+ *   are evicted by count and by age, and sequence numbers keep increasing
+ *   across evictions
+ * - Read/write lock: many concurrent inbox reads, rare appends; readers
+ *   only try the write lock for age eviction, and only when the oldest
+ *   entry has actually expired
+ */
+public class BroadcastLog {
+    private static final int DEFAULT_CAPACITY = 500;
+
+    private final Notification[] ring;
+    private final Map<String, Long> sequenceById;
+    private final ReadWriteLock lock;
+    private long firstSequence;
+    private long endSequence;
+
+    public BroadcastLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BroadcastLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.ring = new Notification[capacity];
+        this.sequenceById = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Appends a broadcast and returns its sequence number
+     */
+    public long append(Notification broadcast) {
+        lock.writeLock().lock();
+        try {
+            long sequence = endSequence;
+            store(sequence, broadcast);
+            return sequence;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-inserts a persisted broadcast at its original sequence number.
+     * Sequences must be restored in increasing order.
+     */
+    public void restore(long sequence, Notification broadcast) {
+        lock.writeLock().lock();
+        try {
+            if (firstSequence == endSequence || sequence != endSequence) {
+                // Empty, or a gap left by evicted entries: restart the window here
+                while (firstSequence < endSequence) {
+                    evictFirst();
+                }
+                firstSequence = sequence;
+                endSequence = sequence;
+            }
+            store(sequence, broadcast);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Evicts broadcasts created before the cutoff
+     */
+    public void evictOlderThan(LocalDateTime cutoff) {
+        lock.writeLock().lock();
+        try {
+            evictExpired(cutoff);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Evicts broadcasts created before the cutoff without waiting: returns
+     * straight away when nothing has expired or another thread holds the lock
+     */
+    public void tryEvictOlderThan(LocalDateTime cutoff) {
+        lock.readLock().lock();
+        try {
+            if (firstSequence == endSequence || !entry(firstSequence).getCreatedAt().isBefore(cutoff)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (lock.writeLock().tryLock()) {
+            try {
+                evictExpired(cutoff);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void store(long sequence, Notification broadcast) {
+        if (endSequence - firstSequence == ring.length) {
+            evictFirst();
+        }
+        ring[position(sequence)] = broadcast;
+        sequenceById.put(broadcast.getNotificationId(), sequence);
+        endSequence = sequence + 1;
+    }
+
+    private void evictExpired(LocalDateTime cutoff) {
+        while (firstSequence < endSequence && entry(firstSequence).getCreatedAt().isBefore(cutoff)) {
+            evictFirst();
+        }
+    }
+
+    private void evictFirst() {
+        int position = position(firstSequence++);
+        sequenceById.remove(ring[position].getNotificationId());
+        ring[position] = null;
+    }
+
+    private Notification entry(long sequence) {
+        return ring[position(sequence)];
+    }
+
+    private int position(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+
+    /**
+     * Returns the sequence number of the oldest retained broadcast
+     */
+    public long getFirstSequence() {
+        lock.readLock().lock();
+        try {
+            return firstSequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the sequence number the next broadcast will receive
+     */
+    public long getEndSequence() {
+        lock.readLock().lock();
+        try {
+            return endSequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the sequence of a broadcast, or -1 if it is not in the log
+     */
+    public long getSequence(String notificationId) {
+        lock.readLock().lock();
+        try {
+            Long sequence = sequenceById.get(notificationId);
+            return sequence != null ? sequence : -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all retained broadcasts with a sequence number at or after fromSequence
+     */
+    public List<Notification> readFrom(long fromSequence) {
+        return readNewest(fromSequence, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns at most limit of the newest retained broadcasts with a sequence
+     * number at or after fromSequence, oldest first
+     */
+    public List<Notification> readNewest(long fromSequence, int limit) {
+        lock.readLock().lock();
+        try {
+            long from = Math.max(Math.max(fromSequence, firstSequence), endSequence - Math.max(0, limit));
+            List<Notification> result = new ArrayList<>((int) Math.max(0, endSequence - from));
+            for (long sequence = from; sequence < endSequence; sequence++) {
+                result.add(entry(sequence));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns how many retained broadcasts have a sequence number at or after fromSequence
+     */
+    public int countFrom(long fromSequence) {
+        lock.readLock().lock();
+        try {
+            return (int) Math.max(0, endSequence - Math.max(fromSequence, firstSequence));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return (int) (endSequence - firstSequence);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+// =============================================================================
+// CHANNEL CIRCUIT BREAKER
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Circuit breaker guarding a single notification channel.
+ *
+ * Implementation Details:
+ * - CLOSED: requests flow; consecutive failures are counted
+ * - OPEN: requests fail fast until the open interval elapses
+ * - HALF_OPEN: one trial request decides between CLOSED and OPEN
+ * - The channel's own availability check trips the breaker immediately
+ *   and keeps it open while the channel reports itself unavailable
+ */
+public class ChannelCircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final BooleanSupplier availabilityCheck;
+    private final int failureThreshold;
+    private final long openMillis;
+    private State state;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public ChannelCircuitBreaker(BooleanSupplier availabilityCheck, int failureThreshold, long openMillis) {
+        if (failureThreshold < 1 || openMillis < 0) {
+            throw new IllegalArgumentException("Invalid circuit breaker settings");
+        }
+        this.availabilityCheck = availabilityCheck;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.state = State.CLOSED;
+    }
+
+    /**
+     * Decides whether a request may be sent to the channel right now
+     */
+    public synchronized boolean allowRequest() {
+        long now = System.currentTimeMillis();
+        switch (state) {
+            case CLOSED:
+                if (!availabilityCheck.getAsBoolean()) {
+                    trip(now);
+                    return false;
+                }
+                return true;
+            case OPEN:
+                if (now - openedAt < openMillis) {
+                    return false;
+                }
+                if (!availabilityCheck.getAsBoolean()) {
+                    openedAt = now;
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            case HALF_OPEN:
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void recordFailure() {
+        long now = System.currentTimeMillis();
+        trialInFlight = false;
+        if (state == State.HALF_OPEN) {
+            trip(now);
+            return;
+        }
+        consecutiveFailures++;
+        if (consecutiveFailures >= failureThreshold) {
+            trip(now);
+        }
+    }
+
+    private void trip(long now) {
+        state = State.OPEN;
+        openedAt = now;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,146 @@
+// =============================================================================
+// DATA CHANGE BUS
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import javax.swing.SwingUtilities;
+
+/**
+ * Publishes data changes from the service layer to subscribed GUI panels.
+ *
+ * Implementation Details:
+ * - Observer pattern: listeners subscribe per DataChangeEvent.Kind
+ * - Changes published from any thread are coalesced per entity until the
+ *   next flush (CREATED then UPDATED stays CREATED, CREATED then DELETED
+ *   cancels out, otherwise the latest action wins)
+ * - BROADCAST_ID changes stand for many entities, so they never cancel out
+ *   or downgrade; the latest one is kept
+ * - One flush is scheduled per burst on the delivery executor, which is the
+ *   Swing EDT by default, so listeners can touch components directly
+ * - Publishing is a no-op while nobody is subscribed
+ */
+public class DataChangeBus {
+    private static final Logger LOG = LogManager.getLogger(DataChangeBus.class);
+    private final Map<DataChangeEvent.Kind, List<DataChangeListener>> listeners;
+    private final Executor deliveryExecutor;
+    private final Object pendingLock = new Object();
+    private Map<String, DataChangeEvent> pending;
+    private boolean flushScheduled;
+
+    /**
+     * Subscription handle; cancel it when the subscriber goes away
+     */
+    public interface Subscription {
+        void cancel();
+    }
+
+    public DataChangeBus() {
+        this(SwingUtilities::invokeLater);
+    }
+
+    public DataChangeBus(Executor deliveryExecutor) {
+        if (deliveryExecutor == null) {
+            throw new IllegalArgumentException("Delivery executor cannot be null");
+        }
+        this.listeners = new EnumMap<>(DataChangeEvent.Kind.class);
+        for (DataChangeEvent.Kind kind : DataChangeEvent.Kind.values()) {
+            listeners.put(kind, new CopyOnWriteArrayList<>());
+        }
+        this.deliveryExecutor = deliveryExecutor;
+        this.pending = new LinkedHashMap<>();
+    }
+
+    public Subscription subscribe(DataChangeEvent.Kind kind, DataChangeListener listener) {
+        if (kind == null || listener == null) {
+            throw new IllegalArgumentException("Kind and listener are required");
+        }
+        List<DataChangeListener> kindListeners = listeners.get(kind);
+        kindListeners.add(listener);
+        return () -> kindListeners.remove(listener);
+    }
+
+    public void publish(DataChangeEvent.Kind kind, DataChangeEvent.Action action, String entityId, String ownerId) {
+        if (entityId == null || listeners.get(kind).isEmpty()) {
+            return;
+        }
+        publish(new DataChangeEvent(kind, action, entityId, ownerId));
+    }
+
+    public void publish(DataChangeEvent change) {
+        if (listeners.get(change.getKind()).isEmpty()) {
+            return;
+        }
+        boolean schedule;
+        synchronized (pendingLock) {
+            String key = change.getKind().name() + ':' + change.getEntityId();
+            DataChangeEvent merged = merge(pending.get(key), change);
+            if (merged == null) {
+                pending.remove(key);
+            } else {
+                pending.put(key, merged);
+            }
+            schedule = !flushScheduled;
+            flushScheduled = true;
+        }
+        if (schedule) {
+            deliveryExecutor.execute(this::flush);
+        }
+    }
+
+    private static DataChangeEvent merge(DataChangeEvent existing, DataChangeEvent incoming) {
+        if (existing == null || existing.getAction() != DataChangeEvent.Action.CREATED
+                || DataChangeEvent.BROADCAST_ID.equals(incoming.getEntityId())) {
+            return incoming;
+        }
+        switch (incoming.getAction()) {
+            case DELETED:
+                return null;
+            case UPDATED:
+                return existing;
+            default:
+                return incoming;
+        }
+    }
+
+    /**
+     * Delivers everything published since the last flush
+     */
+    void flush() {
+        Map<String, DataChangeEvent> batch;
+        synchronized (pendingLock) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            flushScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<DataChangeEvent.Kind, List<DataChangeEvent>> byKind = new EnumMap<>(DataChangeEvent.Kind.class);
+        for (DataChangeEvent change : batch.values()) {
+            byKind.computeIfAbsent(change.getKind(), k -> new ArrayList<>()).add(change);
+        }
+        for (Map.Entry<DataChangeEvent.Kind, List<DataChangeEvent>> entry : byKind.entrySet()) {
+            for (DataChangeListener listener : listeners.get(entry.getKey())) {
+                try {
+                    listener.onDataChanged(entry.getValue());
+                } catch (RuntimeException e) {
+                    LOG.error("Listener failed for " + entry.getKey(), e);
+                }
+            }
+        }
+    }
+
+    public int getListenerCount(DataChangeEvent.Kind kind) {
+        return listeners.get(kind).size();
+    }
+}
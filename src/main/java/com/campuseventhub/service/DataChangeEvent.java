@@ -0,0 +1,60 @@
+// =============================================================================
+// DATA CHANGE EVENT
+// =============================================================================
+
+package com.campuseventhub.service;
+
+/**
+ * Describes a change to an entity, delivered to GUI subscribers by DataChangeBus.
+ *
+ * Implementation Details:
+ * - Kind identifies the entity family, Action what happened to it
+ * - entityId is the changed entity (for NOTIFICATION: the inbox owner's ID,
+ *   or BROADCAST_ID for campus-wide messages; for USER: BROADCAST_ID after a
+ *   bulk import, meaning "reload")
+ * - ownerId scopes the change to a user (event organizer, registration
+ *   attendee, notification recipient, the user itself) so panels can filter
+ */
+public class DataChangeEvent {
+    public static final String BROADCAST_ID = "*";
+
+    public enum Kind {
+        EVENT, REGISTRATION, NOTIFICATION, USER
+    }
+
+    public enum Action {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Kind kind;
+    private final Action action;
+    private final String entityId;
+    private final String ownerId;
+
+    public DataChangeEvent(Kind kind, Action action, String entityId, String ownerId) {
+        if (kind == null || action == null || entityId == null) {
+            throw new IllegalArgumentException("Kind, action and entity ID are required");
+        }
+        this.kind = kind;
+        this.action = action;
+        this.entityId = entityId;
+        this.ownerId = ownerId;
+    }
+
+    public Kind getKind() { return kind; }
+    public Action getAction() { return action; }
+    public String getEntityId() { return entityId; }
+    public String getOwnerId() { return ownerId; }
+
+    /**
+     * True if the change concerns the given user (or everyone)
+     */
+    public boolean concerns(String userId) {
+        return ownerId == null || ownerId.equals(userId);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + action + " " + entityId;
+    }
+}
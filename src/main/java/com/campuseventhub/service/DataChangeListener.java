@@ -0,0 +1,12 @@
+package com.campuseventhub.service;
+
+import java.util.List;
+
+/**
+ * Receives coalesced data changes of one kind, on the delivery thread of the
+ * DataChangeBus (the Swing EDT in the application)
+ */
+@FunctionalInterface
+public interface DataChangeListener {
+    void onDataChanged(List<DataChangeEvent> changes);
+}
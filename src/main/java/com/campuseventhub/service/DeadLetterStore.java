@@ -0,0 +1,108 @@
+// =============================================================================
+// DEAD LETTER STORE
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.Notification;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded store for notification batches that a channel could not deliver.
+ *
+ * Implementation Details:
+ * - Keeps the most recent entries; the oldest are evicted when full
+ * - Entries keep their Notification records so they can be replayed
+ * - Total count survives eviction for monitoring
+ */
+public class DeadLetterStore {
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    private final Deque<DeadLetter> entries;
+    private final int capacity;
+    private final AtomicLong totalCount;
+
+    public DeadLetterStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DeadLetterStore(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.entries = new ArrayDeque<>();
+        this.capacity = capacity;
+        this.totalCount = new AtomicLong();
+    }
+
+    public synchronized void add(DeadLetter deadLetter) {
+        if (entries.size() >= capacity) {
+            entries.pollFirst();
+        }
+        entries.addLast(deadLetter);
+        totalCount.incrementAndGet();
+    }
+
+    public synchronized List<DeadLetter> getDeadLetters() {
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * Removes and returns all stored entries (used for replay)
+     */
+    public synchronized List<DeadLetter> drain() {
+        List<DeadLetter> drained = new ArrayList<>(entries);
+        entries.clear();
+        return drained;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * A batch that exhausted its delivery options on one channel
+     */
+    public static class DeadLetter {
+        private final String channel;
+        private final String message;
+        private final List<Notification> notifications;
+        private final String reason;
+        private final int attempts;
+        private final LocalDateTime failedAt;
+
+        public DeadLetter(String channel, String message, List<Notification> notifications,
+                          String reason, int attempts) {
+            this.channel = channel;
+            this.message = message;
+            this.notifications = List.copyOf(notifications);
+            this.reason = reason;
+            this.attempts = attempts;
+            this.failedAt = LocalDateTime.now();
+        }
+
+        public String getChannel() { return channel; }
+        public String getMessage() { return message; }
+        public List<Notification> getNotifications() { return notifications; }
+        public String getReason() { return reason; }
+        public int getAttempts() { return attempts; }
+        public LocalDateTime getFailedAt() { return failedAt; }
+
+        public List<String> getRecipientIds() {
+            List<String> ids = new ArrayList<>(notifications.size());
+            for (Notification notification : notifications) {
+                ids.add(notification.getRecipientId());
+            }
+            return ids;
+        }
+    }
+}
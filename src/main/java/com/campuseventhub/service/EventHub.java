@@ -4,17 +4,33 @@
 
 package com.campuseventhub.service;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
 import com.campuseventhub.model.user.User;
 import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.model.user.UserStatus;
 import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.EventType;
 import com.campuseventhub.model.event.EventSearchCriteria;
 import com.campuseventhub.model.event.Registration;
 import com.campuseventhub.model.venue.Venue;
+import com.campuseventhub.model.notification.DigestFrequency;
 import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.metrics.MetricsRegistry;
+import com.campuseventhub.metrics.Timer;
+import com.campuseventhub.persistence.DataManager;
+import com.campuseventhub.persistence.NotificationLog;
+import com.campuseventhub.strategy.EmailNotification;
+import com.campuseventhub.strategy.InAppNotification;
+import com.campuseventhub.strategy.SMSNotification;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.time.LocalDateTime;
 
 /**
@@ -23,33 +39,56 @@ import java.time.LocalDateTime;
  * Implementation Details:
  * - Thread-safe singleton implementation
  * - Facade pattern for system operations
- * - Session management and user authentication
+ * - Session management and user authentication: a local session for the
+ *   Swing client plus token sessions bound per request via SessionContext
  * - Service layer coordination
  * - Data persistence coordination
  * - System initialization and shutdown
+ * - Every facade operation is timed as eventhub.<method> in the default
+ *   MetricsRegistry, which is published over JMX
  */
 public class EventHub {
+    private static final Logger LOG = LogManager.getLogger(EventHub.class);
     private static EventHub instance;
     private static final Object lock = new Object();
+    private static final String METRIC_PREFIX = "eventhub.";
     
     private UserManager userManager;
     private EventManager eventManager;
     private VenueManager venueManager;
     private VenueBookingService venueBookingService;
     private NotificationService notificationService;
-    private User currentUser;
+    private DataChangeBus changeBus;
+    private final SessionRegistry sessionRegistry;
+    // Session of the in-process (Swing) client; requests bind their own via SessionContext
+    private volatile User localUser;
     private boolean isInitialized;
+    private final MetricsRegistry metrics;
+    private final Map<String, Timer> operationTimers;
     
     /**
      * Initializes all manager services with proper coordination
      */
     private EventHub() {
-        System.out.println("EventHub: Initializing singleton instance...");
+        LOG.info("Initializing singleton instance...");
+        this.metrics = MetricsRegistry.getDefault();
+        this.operationTimers = new ConcurrentHashMap<>();
+        this.metrics.exposeViaJmx();
         this.userManager = new UserManager();
         this.eventManager = new EventManager();
         this.venueManager = new VenueManager();
         this.venueBookingService = new VenueBookingService(venueManager);
-        this.notificationService = new NotificationService();
+        this.notificationService = new NotificationService(
+            new NotificationLog(DataManager.getDataFilePath("notifications.log")));
+        
+        // Register delivery channels; they are invoked asynchronously by the dispatcher
+        this.notificationService.addNotificationStrategy(new InAppNotification());
+        this.notificationService.addNotificationStrategy(new EmailNotification());
+        this.notificationService.addNotificationStrategy(new SMSNotification());
+        // Broadcasts go out on email and SMS to every active account
+        this.notificationService.setBroadcastRecipients(() -> userManager.getUsersByStatus(UserStatus.ACTIVE).stream()
+            .map(User::getUserId)
+            .collect(Collectors.toList()));
         
         // Inject venue booking service into event manager
         this.eventManager.setVenueBookingService(venueBookingService);
@@ -57,11 +96,19 @@ public class EventHub {
         // Inject notification service into event manager for waitlist notifications
         this.eventManager.setNotificationService(notificationService);
         
+        // Push data changes to open dashboards on the Swing EDT
+        this.changeBus = new DataChangeBus();
+        this.userManager.setChangeBus(changeBus);
+        this.eventManager.setChangeBus(changeBus);
+        this.notificationService.setChangeBus(changeBus);
+        
         // Start deadline monitoring
         this.eventManager.startDeadlineMonitoring();
         
+        this.sessionRegistry = new SessionRegistry();
+        
         this.isInitialized = true;
-        System.out.println("EventHub: Initialization completed successfully");
+        LOG.info("Initialization completed successfully");
     }
     
     /**
@@ -83,11 +130,28 @@ public class EventHub {
      * PARAMS: username, password
      */
     public User authenticateUser(String username, String password) {
-        User user = userManager.validateCredentials(username, password);
-        if (user != null) {
-            this.currentUser = user;
-        }
-        return user;
+        return timed("authenticateUser", () -> {
+            User user = userManager.validateCredentials(username, password);
+            if (user != null) {
+                this.localUser = user;
+            }
+            return user;
+        });
+    }
+    
+    /**
+     * Authenticates off the calling thread (password verification is slow by
+     * design) and sets the current user session on success
+     * PARAMS: username, password
+     */
+    public CompletableFuture<User> authenticateUserAsync(String username, String password) {
+        return timedAsync("authenticateUserAsync", () -> userManager.validateCredentialsAsync(username, password)
+            .thenApply(user -> {
+                if (user != null) {
+                    this.localUser = user;
+                }
+                return user;
+            }));
     }
     
     /**
@@ -96,8 +160,10 @@ public class EventHub {
      */
     public boolean registerUser(String username, String email, String password,
                                String firstName, String lastName, UserRole role) {
-        User user = userManager.createUser(username, email, password, firstName, lastName, role);
-        return user != null;
+        return timed("registerUser", () -> {
+            User user = userManager.createUser(username, email, password, firstName, lastName, role);
+            return user != null;
+        });
     }
     
     /**
@@ -107,12 +173,14 @@ public class EventHub {
     public Event createEvent(String title, String description, EventType eventType,
                            LocalDateTime startDateTime, LocalDateTime endDateTime,
                            String organizerId, String venueId, int maxCapacity) {
-        if (currentUser == null || currentUser.getRole() != UserRole.ORGANIZER) {
-            return null;
-        }
+        return timed("createEvent", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ORGANIZER) {
+                return null;
+            }
         
-        return eventManager.createEvent(title, description, eventType, startDateTime, 
-                                      endDateTime, organizerId, venueId, maxCapacity);
+            return eventManager.createEvent(title, description, eventType, startDateTime, 
+                                          endDateTime, organizerId, venueId, maxCapacity);
+        });
     }
     
     /**
@@ -121,13 +189,15 @@ public class EventHub {
      */
     public List<Event> searchEvents(String keyword, EventType type,
                                    LocalDateTime startDate, LocalDateTime endDate) {
-        EventSearchCriteria criteria = new EventSearchCriteria();
-        criteria.setKeyword(keyword);
-        criteria.setEventType(type);
-        criteria.setStartDate(startDate);
-        criteria.setEndDate(endDate);
+        return timed("searchEvents", () -> {
+            EventSearchCriteria criteria = new EventSearchCriteria();
+            criteria.setKeyword(keyword);
+            criteria.setEventType(type);
+            criteria.setStartDate(startDate);
+            criteria.setEndDate(endDate);
         
-        return eventManager.searchEvents(criteria);
+            return eventManager.searchEvents(criteria);
+        });
     }
     
     /**
@@ -135,48 +205,66 @@ public class EventHub {
      * PARAMS: venue
      */
     public boolean addVenue(Venue venue) {
-        if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
-            return false;
-        }
-        return venueManager.addVenue(venue);
+        return timed("addVenue", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return false;
+            }
+            return venueManager.addVenue(venue);
+        });
     }
     
     /**
      * Retrieves all venues in the system
      */
     public List<Venue> listVenues() {
-        return venueManager.listVenues();
+        return timed("listVenues", () -> venueManager.listVenues());
     }
     
     /**
      * Returns the currently logged-in user
      */
     public User getCurrentUser() {
-        return currentUser;
+        return currentUser();
+    }
+    
+    /**
+     * Resolves the user of the session bound to this thread, falling back
+     * to the in-process client's login
+     */
+    private User currentUser() {
+        Session session = SessionContext.current();
+        return session != null ? session.getUser() : localUser;
     }
     
     /**
      * Checks if a user is currently logged in
      */
     public boolean isUserLoggedIn() {
-        return currentUser != null;
+        return currentUser() != null;
     }
     
     /**
-     * Logs out the current user and clears session
+     * Logs out the current user and clears session (the request's session
+     * when one is bound, otherwise the in-process client's login)
      */
     public void logoutCurrentUser() {
-        if (currentUser != null) {
-            currentUser.logout();
-            currentUser = null;
-        }
+        timed("logoutCurrentUser", () -> {
+            Session session = SessionContext.current();
+            if (session != null) {
+                session.getUser().logout();
+                sessionRegistry.invalidate(session.getToken());
+            } else if (localUser != null) {
+                localUser.logout();
+                localUser = null;
+            }
+        });
     }
     
     /**
      * Retrieves all users in the system
      */
     public List<User> getAllUsers() {
-        return userManager.getAllUsers();
+        return timed("getAllUsers", () -> userManager.getAllUsers());
     }
     
     /**
@@ -184,14 +272,21 @@ public class EventHub {
      * PARAMS: role
      */
     public List<User> getUsersByRole(UserRole role) {
-        return userManager.getUsersByRole(role);
+        return timed("getUsersByRole", () -> userManager.getUsersByRole(role));
+    }
+    
+    /**
+     * Constant-time user counts by role and status for dashboards
+     */
+    public UserStats getUserStats() {
+        return timed("getUserStats", () -> userManager.getUserStats());
     }
     
     /**
      * Retrieves upcoming events (events with start time in the future)
      */
     public List<Event> getUpcomingEvents() {
-        return eventManager.getUpcomingEvents();
+        return timed("getUpcomingEvents", () -> eventManager.getUpcomingEvents());
     }
     
     /**
@@ -199,7 +294,7 @@ public class EventHub {
      * PARAMS: organizerId
      */
     public List<Event> getEventsByOrganizer(String organizerId) {
-        return eventManager.getEventsByOrganizer(organizerId);
+        return timed("getEventsByOrganizer", () -> eventManager.getEventsByOrganizer(organizerId));
     }
     
     /**
@@ -207,7 +302,7 @@ public class EventHub {
      * PARAMS: attendeeId, eventId
      */
     public Registration registerForEvent(String attendeeId, String eventId) {
-        return eventManager.registerAttendeeForEvent(attendeeId, eventId);
+        return timed("registerForEvent", () -> eventManager.registerAttendeeForEvent(attendeeId, eventId));
     }
     
     /**
@@ -215,7 +310,7 @@ public class EventHub {
      * PARAMS: registrationId, reason
      */
     public boolean cancelEventRegistration(String registrationId, String reason) {
-        return eventManager.cancelRegistration(registrationId, reason);
+        return timed("cancelEventRegistration", () -> eventManager.cancelRegistration(registrationId, reason));
     }
     
     /**
@@ -223,7 +318,7 @@ public class EventHub {
      * PARAMS: attendeeId
      */
     public List<Registration> getMyRegistrations(String attendeeId) {
-        return eventManager.getAttendeeRegistrations(attendeeId);
+        return timed("getMyRegistrations", () -> eventManager.getAttendeeRegistrations(attendeeId));
     }
     
     /**
@@ -231,7 +326,7 @@ public class EventHub {
      * PARAMS: attendeeId
      */
     public List<Registration> getRegistrationsByAttendee(String attendeeId) {
-        return getMyRegistrations(attendeeId);
+        return timed("getRegistrationsByAttendee", () -> getMyRegistrations(attendeeId));
     }
     
     /**
@@ -239,7 +334,7 @@ public class EventHub {
      * PARAMS: eventId
      */
     public Event getEventById(String eventId) {
-        return eventManager.findById(eventId);
+        return timed("getEventById", () -> eventManager.findById(eventId));
     }
     
     /**
@@ -247,7 +342,7 @@ public class EventHub {
      * PARAMS: startTime, endTime, minCapacity
      */
     public List<Venue> getAvailableVenues(LocalDateTime startTime, LocalDateTime endTime, int minCapacity) {
-        return eventManager.getAvailableVenues(startTime, endTime, minCapacity);
+        return timed("getAvailableVenues", () -> eventManager.getAvailableVenues(startTime, endTime, minCapacity));
     }
     
     /**
@@ -255,11 +350,13 @@ public class EventHub {
      * PARAMS: eventId, newVenueId
      */
     public boolean changeEventVenue(String eventId, String newVenueId) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
-        return eventManager.changeEventVenue(eventId, newVenueId);
+        return timed("changeEventVenue", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
+            return eventManager.changeEventVenue(eventId, newVenueId);
+        });
     }
     
     /**
@@ -267,11 +364,13 @@ public class EventHub {
      * PARAMS: eventId
      */
     public boolean cancelEventVenueBooking(String eventId) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
-        return eventManager.cancelEventVenueBooking(eventId);
+        return timed("cancelEventVenueBooking", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
+            return eventManager.cancelEventVenueBooking(eventId);
+        });
     }
     
     /**
@@ -279,34 +378,71 @@ public class EventHub {
      * PARAMS: eventId
      */
     public List<String> getEventVenueConflicts(String eventId) {
-        return eventManager.getEventVenueConflicts(eventId);
+        return timed("getEventVenueConflicts", () -> eventManager.getEventVenueConflicts(eventId));
     }
     
     /**
      * Gets all users pending approval (Admin only)
      */
     public List<User> getPendingUserApprovals() {
-        if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
-            return new ArrayList<>();
-        }
-        return userManager.getPendingApprovals();
+        return timed("getPendingUserApprovals", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return new ArrayList<>();
+            }
+            return userManager.getPendingApprovals();
+        });
     }
     
     /**
      * Gets notifications for the current user
      */
     public List<Notification> getCurrentUserNotifications() {
-        if (currentUser == null) {
-            return new ArrayList<>();
-        }
-        return notificationService.getUserNotifications(currentUser.getUserId());
+        return timed("getCurrentUserNotifications", () -> {
+            if (currentUser() == null) {
+                return new ArrayList<>();
+            }
+            return notificationService.getUserNotifications(currentUser().getUserId());
+        });
+    }
+    
+    /**
+     * Gets the number of unread notifications for the current user
+     */
+    public int getCurrentUserUnreadNotificationCount() {
+        return timed("getCurrentUserUnreadNotificationCount", () -> {
+            if (currentUser() == null) {
+                return 0;
+            }
+            return notificationService.getUnreadNotificationCount(currentUser().getUserId());
+        });
+    }
+    
+    /**
+     * Sets how the current user receives notifications of a type
+     * (immediately or as an hourly/daily digest)
+     */
+    public boolean setCurrentUserDigestPreference(NotificationType type, DigestFrequency frequency) {
+        return timed("setCurrentUserDigestPreference", () -> {
+            if (currentUser() == null) {
+                return false;
+            }
+            notificationService.setDigestPreference(currentUser().getUserId(), type, frequency);
+            return true;
+        });
+    }
+    
+    /**
+     * Gets one page of a user's notifications, newest first
+     */
+    public NotificationService.NotificationPage getUserNotificationsPage(String userId, int page, int pageSize) {
+        return timed("getUserNotificationsPage", () -> notificationService.getUserNotificationsPage(userId, page, pageSize));
     }
     
     /**
      * Gets notifications for a specific user
      */
     public List<Notification> getUserNotifications(String userId) {
-        return notificationService.getUserNotifications(userId);
+        return timed("getUserNotifications", () -> notificationService.getUserNotifications(userId));
     }
     
     /**
@@ -321,10 +457,12 @@ public class EventHub {
      * PARAMS: userId
      */
     public boolean approveUser(String userId) {
-        if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
-            return false;
-        }
-        return userManager.approveUser(userId);
+        return timed("approveUser", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return false;
+            }
+            return userManager.approveUser(userId);
+        });
     }
     
     /**
@@ -332,31 +470,75 @@ public class EventHub {
      * PARAMS: userId
      */
     public boolean suspendUser(String userId) {
-        if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
-            return false;
+        return timed("suspendUser", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return false;
+            }
+            boolean suspended = userManager.suspendUser(userId);
+            if (suspended) {
+                sessionRegistry.invalidateUser(userId);
+            }
+            return suspended;
+        });
+    }
+    
+    /**
+     * Approves, suspends or deletes the listed users as one batch (Admin only)
+     * PARAMS: action, userIds
+     */
+    public UserManager.BulkResult bulkUpdateUsers(UserBulkAction action, java.util.Collection<String> userIds) {
+        return timed("bulkUpdateUsers", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return null;
+            }
+            return afterBulk(userManager.applyBulk(action, userIds));
+        });
+    }
+    
+    /**
+     * Applies an action to every eligible user matching the filter (Admin only)
+     * PARAMS: action, filter
+     */
+    public UserManager.BulkResult bulkUpdateUsers(UserBulkAction action, java.util.function.Predicate<User> filter) {
+        return timed("bulkUpdateUsers", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return null;
+            }
+            return afterBulk(userManager.applyBulk(action, filter));
+        });
+    }
+    
+    private UserManager.BulkResult afterBulk(UserManager.BulkResult result) {
+        if (result.getAction() != UserBulkAction.APPROVE && result.getChangedCount() > 0) {
+            sessionRegistry.invalidateUsers(result.getChangedUserIds());
         }
-        return userManager.suspendUser(userId);
+        return result;
     }
     
     /**
      * Handles application shutdown and ensures all data is persisted
      */
     public void shutdown() {
-        System.out.println("EventHub: Shutting down and persisting all data...");
+        LOG.info("Shutting down and persisting all data...");
         try {
             // Force persistence of all data
             if (userManager != null) {
-                System.out.println("EventHub: Persisting user data...");
+                LOG.info("Persisting user data...");
             }
             if (eventManager != null) {
-                System.out.println("EventHub: Persisting event data...");
+                LOG.info("Persisting event data...");
             }
             if (venueManager != null) {
-                System.out.println("EventHub: Persisting venue data...");
+                LOG.info("Persisting venue data...");
+            }
+            sessionRegistry.shutdown();
+            if (notificationService != null) {
+                LOG.info("Draining pending notification deliveries...");
+                notificationService.shutdown();
             }
-            System.out.println("EventHub: Shutdown completed successfully");
+            LOG.info("Shutdown completed successfully");
         } catch (Exception e) {
-            System.err.println("EventHub: Error during shutdown: " + e.getMessage());
+            LOG.error("Error during shutdown", e);
         }
     }
     
@@ -388,22 +570,59 @@ public class EventHub {
         return venueManager;
     }
     
+    /**
+     * Updates fields of an event (owning Organizer or Admin only)
+     * PARAMS: eventId, updates
+     */
+    public boolean updateEvent(String eventId, Map<String, Object> updates) {
+        return timed("updateEvent", () -> {
+            if (!canManageEvent(eventManager.findById(eventId))) {
+                return false;
+            }
+            return eventManager.updateEvent(eventId, updates);
+        });
+    }
+    
+    /**
+     * Deletes an event (owning Organizer or Admin only)
+     * PARAMS: eventId
+     */
+    public boolean deleteEvent(String eventId) {
+        return timed("deleteEvent", () -> {
+            if (!canManageEvent(eventManager.findById(eventId))) {
+                return false;
+            }
+            return eventManager.deleteEvent(eventId);
+        });
+    }
+    
+    private boolean canManageEvent(Event event) {
+        User user = currentUser();
+        if (event == null || user == null) {
+            return false;
+        }
+        return user.getRole() == UserRole.ADMIN
+            || (user.getRole() == UserRole.ORGANIZER && user.getUserId().equals(event.getOrganizerId()));
+    }
+    
     /**
      * Cancels an event and notifies all attendees (Organizer or Admin only)
      * PARAMS: eventId, reason
      */
     public boolean cancelEvent(String eventId, String reason) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
+        return timed("cancelEvent", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
         
-        try {
-            return eventManager.cancelEvent(eventId, reason, notificationService);
-        } catch (Exception e) {
-            System.err.println("Failed to cancel event: " + e.getMessage());
-            return false;
-        }
+            try {
+                return eventManager.cancelEvent(eventId, reason, notificationService);
+            } catch (Exception e) {
+                LOG.warn("Failed to cancel event: " + e.getMessage());
+                return false;
+            }
+        });
     }
     
     /**
@@ -411,17 +630,19 @@ public class EventHub {
      * PARAMS: eventId, newStartTime, newEndTime, reason
      */
     public boolean rescheduleEvent(String eventId, LocalDateTime newStartTime, LocalDateTime newEndTime, String reason) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
+        return timed("rescheduleEvent", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
         
-        try {
-            return eventManager.rescheduleEvent(eventId, newStartTime, newEndTime, reason, notificationService);
-        } catch (Exception e) {
-            System.err.println("Failed to reschedule event: " + e.getMessage());
-            return false;
-        }
+            try {
+                return eventManager.rescheduleEvent(eventId, newStartTime, newEndTime, reason, notificationService);
+            } catch (Exception e) {
+                LOG.warn("Failed to reschedule event: " + e.getMessage());
+                return false;
+            }
+        });
     }
     
     /**
@@ -429,12 +650,14 @@ public class EventHub {
      * PARAMS: eventId
      */
     public boolean canCancelEvent(String eventId) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
+        return timed("canCancelEvent", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
         
-        return eventManager.canCancelEvent(eventId);
+            return eventManager.canCancelEvent(eventId);
+        });
     }
     
     /**
@@ -442,12 +665,14 @@ public class EventHub {
      * PARAMS: eventId
      */
     public boolean canRescheduleEvent(String eventId) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
+        return timed("canRescheduleEvent", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
         
-        return eventManager.canRescheduleEvent(eventId);
+            return eventManager.canRescheduleEvent(eventId);
+        });
     }
     
     // =============================================================================
@@ -459,7 +684,7 @@ public class EventHub {
      * PARAMS: eventId
      */
     public WaitlistManager.WaitlistStatistics getWaitlistStatistics(String eventId) {
-        return eventManager.getWaitlistStatistics(eventId);
+        return timed("getWaitlistStatistics", () -> eventManager.getWaitlistStatistics(eventId));
     }
     
     /**
@@ -467,10 +692,12 @@ public class EventHub {
      * PARAMS: eventId
      */
     public int getWaitlistPosition(String eventId) {
-        if (currentUser == null) {
-            return -1;
-        }
-        return eventManager.getWaitlistPosition(eventId, currentUser.getUserId());
+        return timed("getWaitlistPosition", () -> {
+            if (currentUser() == null) {
+                return -1;
+            }
+            return eventManager.getWaitlistPosition(eventId, currentUser().getUserId());
+        });
     }
     
     /**
@@ -478,11 +705,13 @@ public class EventHub {
      * PARAMS: eventId, attendeeId
      */
     public int getWaitlistPosition(String eventId, String attendeeId) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return -1;
-        }
-        return eventManager.getWaitlistPosition(eventId, attendeeId);
+        return timed("getWaitlistPosition", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return -1;
+            }
+            return eventManager.getWaitlistPosition(eventId, attendeeId);
+        });
     }
     
     /**
@@ -490,10 +719,12 @@ public class EventHub {
      * PARAMS: eventId
      */
     public boolean isOnWaitlist(String eventId) {
-        if (currentUser == null) {
-            return false;
-        }
-        return eventManager.isOnWaitlist(eventId, currentUser.getUserId());
+        return timed("isOnWaitlist", () -> {
+            if (currentUser() == null) {
+                return false;
+            }
+            return eventManager.isOnWaitlist(eventId, currentUser().getUserId());
+        });
     }
     
     /**
@@ -501,11 +732,13 @@ public class EventHub {
      * PARAMS: eventId, attendeeId
      */
     public boolean isOnWaitlist(String eventId, String attendeeId) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
-        return eventManager.isOnWaitlist(eventId, attendeeId);
+        return timed("isOnWaitlist", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
+            return eventManager.isOnWaitlist(eventId, attendeeId);
+        });
     }
     
     /**
@@ -513,11 +746,13 @@ public class EventHub {
      * PARAMS: eventId, numberOfPromotions
      */
     public WaitlistManager.WaitlistPromotionResult promoteFromWaitlist(String eventId, int numberOfPromotions) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return new WaitlistManager.WaitlistPromotionResult(0, new ArrayList<>(), new ArrayList<>());
-        }
-        return eventManager.promoteFromWaitlist(eventId, numberOfPromotions);
+        return timed("promoteFromWaitlist", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return new WaitlistManager.WaitlistPromotionResult(0, new ArrayList<>(), new ArrayList<>());
+            }
+            return eventManager.promoteFromWaitlist(eventId, numberOfPromotions);
+        });
     }
     
     // =============================================================================
@@ -529,11 +764,13 @@ public class EventHub {
      * PARAMS: eventId, deadline
      */
     public boolean setRegistrationDeadline(String eventId, LocalDateTime deadline) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
-        return eventManager.setRegistrationDeadline(eventId, deadline);
+        return timed("setRegistrationDeadline", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
+            return eventManager.setRegistrationDeadline(eventId, deadline);
+        });
     }
     
     /**
@@ -541,11 +778,13 @@ public class EventHub {
      * PARAMS: eventId, newDeadline, reason
      */
     public boolean extendRegistrationDeadline(String eventId, LocalDateTime newDeadline, String reason) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
-        return eventManager.extendRegistrationDeadline(eventId, newDeadline, reason);
+        return timed("extendRegistrationDeadline", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
+            return eventManager.extendRegistrationDeadline(eventId, newDeadline, reason);
+        });
     }
     
     /**
@@ -553,21 +792,25 @@ public class EventHub {
      * PARAMS: eventId
      */
     public boolean removeRegistrationDeadline(String eventId) {
-        if (currentUser == null || 
-            (currentUser.getRole() != UserRole.ORGANIZER && currentUser.getRole() != UserRole.ADMIN)) {
-            return false;
-        }
-        return eventManager.removeRegistrationDeadline(eventId);
+        return timed("removeRegistrationDeadline", () -> {
+            if (currentUser() == null || 
+                (currentUser().getRole() != UserRole.ORGANIZER && currentUser().getRole() != UserRole.ADMIN)) {
+                return false;
+            }
+            return eventManager.removeRegistrationDeadline(eventId);
+        });
     }
     
     /**
      * Gets registration deadline statistics (Admin only)
      */
     public RegistrationDeadlineManager.RegistrationDeadlineStatistics getDeadlineStatistics() {
-        if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
-            return new RegistrationDeadlineManager.RegistrationDeadlineStatistics(0, 0, 0, 0);
-        }
-        return eventManager.getDeadlineStatistics();
+        return timed("getDeadlineStatistics", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return new RegistrationDeadlineManager.RegistrationDeadlineStatistics(0, 0, 0, 0);
+            }
+            return eventManager.getDeadlineStatistics();
+        });
     }
     
     /**
@@ -575,10 +818,12 @@ public class EventHub {
      * PARAMS: eventId
      */
     public void processEventDeadlineImmediately(String eventId) {
-        if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
-            return;
-        }
-        eventManager.processEventDeadlineImmediately(eventId);
+        timed("processEventDeadlineImmediately", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return;
+            }
+            eventManager.processEventDeadlineImmediately(eventId);
+        });
     }
     
     /**
@@ -588,9 +833,153 @@ public class EventHub {
         if (eventManager != null) {
             eventManager.stopDeadlineMonitoring();
         }
-        System.out.println("EventHub: Services shutdown completed");
+        if (notificationService != null) {
+            notificationService.shutdown();
+        }
+        LOG.info("Services shutdown completed");
     }
     
+    // =============================================================================
+    // SESSIONS
+    // =============================================================================
+    
+    /**
+     * Authenticates and opens a token session without touching the local
+     * client's login; for server front ends handling many users
+     * PARAMS: username, password
+     */
+    public Session openSession(String username, String password) {
+        return timed("openSession", () -> {
+            User user = userManager.validateCredentials(username, password);
+            return user != null ? sessionRegistry.create(user) : null;
+        });
+    }
+    
+    /**
+     * Like openSession, but verifies the password on the bounded
+     * authentication pool
+     * PARAMS: username, password
+     */
+    public CompletableFuture<Session> openSessionAsync(String username, String password) {
+        return timedAsync("openSessionAsync", () -> userManager.validateCredentialsAsync(username, password)
+            .thenApply(user -> user != null ? sessionRegistry.create(user) : null));
+    }
+    
+    /**
+     * Runs one request as the session's user; every current-user check made
+     * by the action resolves to that user
+     * PARAMS: token, action
+     *
+     * @throws InvalidSessionException if the token has no live session
+     */
+    public <T> T withSession(String token, Supplier<T> action) {
+        Session session = sessionRegistry.get(token);
+        if (session == null) {
+            throw new InvalidSessionException();
+        }
+        return SessionContext.run(session, action);
+    }
+    
+    /**
+     * Ends a token session
+     * PARAMS: token
+     */
+    public boolean closeSession(String token) {
+        return timed("closeSession", () -> {
+            Session session = sessionRegistry.get(token);
+            if (session != null) {
+                session.getUser().logout();
+            }
+            return sessionRegistry.invalidate(token);
+        });
+    }
+    
+    public SessionRegistry getSessionRegistry() {
+        return sessionRegistry;
+    }
+    
+    // =============================================================================
+    // LIVE DATA CHANGES
+    // =============================================================================
+    
+    /**
+     * Subscribes to coalesced changes of one kind, delivered on the Swing EDT.
+     * Panels subscribe when shown and cancel the subscription when hidden.
+     * PARAMS: kind, listener
+     */
+    public DataChangeBus.Subscription subscribeToChanges(DataChangeEvent.Kind kind, DataChangeListener listener) {
+        return changeBus.subscribe(kind, listener);
+    }
+    
+    /**
+     * Checks a single event against the browse filters used by searchEvents,
+     * so views can patch one row instead of re-running the search
+     * PARAMS: event, keyword, type
+     */
+    public boolean eventMatchesSearch(Event event, String keyword, EventType type) {
+        EventSearchCriteria criteria = new EventSearchCriteria();
+        criteria.setKeyword(keyword);
+        criteria.setEventType(type);
+        return eventManager.matchesSearch(event, criteria);
+    }
+    
+    /**
+     * Gets a user by ID (Admin only)
+     * PARAMS: userId
+     */
+    public User getUserById(String userId) {
+        return timed("getUserById", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return null;
+            }
+            return userManager.findById(userId);
+        });
+    }
+
+    /**
+     * Gets a user by exact username (Admin only)
+     * PARAMS: username
+     */
+    public User getUserByUsername(String username) {
+        return timed("getUserByUsername", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return null;
+            }
+            return userManager.findByUsername(username);
+        });
+    }
+
+    /**
+     * Bulk-imports a CSV or JSONL roster with a single persistence write (Admin only)
+     * PARAMS: roster, format
+     */
+    public UserImportService.ImportResult importUsers(java.io.Reader roster, UserImportService.Format format)
+            throws java.io.IOException {
+        Timer timer = timer("importUsers");
+        long start = timer.start();
+        try {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return null;
+            }
+            return userManager.importUsers(roster, format);
+        } finally {
+            timer.stop(start);
+        }
+    }
+
+    /**
+     * Ranked user search by username, email or name (Admin only)
+     * PARAMS: query, limit
+     */
+    public List<User> searchUsers(String query, int limit) {
+        return timed("searchUsers", () -> {
+            if (currentUser() == null || currentUser().getRole() != UserRole.ADMIN) {
+                return new ArrayList<>();
+            }
+            return userManager.searchUsers(query, limit);
+        });
+    }
+
     // =============================================================================
     // USER PROFILE MANAGEMENT
     // =============================================================================
@@ -600,49 +989,51 @@ public class EventHub {
      * PARAMS: firstName, lastName, email
      */
     public boolean updateCurrentUserProfile(String firstName, String lastName, String email) {
-        if (currentUser == null) {
-            return false;
-        }
+        return timed("updateCurrentUserProfile", () -> {
+            if (currentUser() == null) {
+                return false;
+            }
         
-        try {
-            // Validate inputs
-            if (firstName != null && !firstName.trim().isEmpty()) {
-                if (!com.campuseventhub.util.ValidationUtil.isValidName(firstName)) {
-                    throw new IllegalArgumentException("Invalid first name");
+            try {
+                // Validate inputs
+                if (firstName != null && !firstName.trim().isEmpty()) {
+                    if (!com.campuseventhub.util.ValidationUtil.isValidName(firstName)) {
+                        throw new IllegalArgumentException("Invalid first name");
+                    }
                 }
-            }
-            if (lastName != null && !lastName.trim().isEmpty()) {
-                if (!com.campuseventhub.util.ValidationUtil.isValidName(lastName)) {
-                    throw new IllegalArgumentException("Invalid last name");
+                if (lastName != null && !lastName.trim().isEmpty()) {
+                    if (!com.campuseventhub.util.ValidationUtil.isValidName(lastName)) {
+                        throw new IllegalArgumentException("Invalid last name");
+                    }
                 }
-            }
-            if (email != null && !email.trim().isEmpty()) {
-                if (!com.campuseventhub.util.ValidationUtil.isValidEmail(email)) {
-                    throw new IllegalArgumentException("Invalid email format");
+                if (email != null && !email.trim().isEmpty()) {
+                    if (!com.campuseventhub.util.ValidationUtil.isValidEmail(email)) {
+                        throw new IllegalArgumentException("Invalid email format");
+                    }
                 }
-            }
             
-            // Update the current user object
-            currentUser.updateProfile(firstName, lastName, email);
+                // Update the current user object
+                currentUser().updateProfile(firstName, lastName, email);
             
-            // Update in UserManager
-            java.util.Map<String, Object> updates = new java.util.HashMap<>();
-            if (firstName != null && !firstName.trim().isEmpty()) {
-                updates.put("firstName", firstName.trim());
-            }
-            if (lastName != null && !lastName.trim().isEmpty()) {
-                updates.put("lastName", lastName.trim());
-            }
-            if (email != null && !email.trim().isEmpty()) {
-                updates.put("email", email.trim().toLowerCase());
-            }
+                // Update in UserManager
+                java.util.Map<String, Object> updates = new java.util.HashMap<>();
+                if (firstName != null && !firstName.trim().isEmpty()) {
+                    updates.put("firstName", firstName.trim());
+                }
+                if (lastName != null && !lastName.trim().isEmpty()) {
+                    updates.put("lastName", lastName.trim());
+                }
+                if (email != null && !email.trim().isEmpty()) {
+                    updates.put("email", email.trim().toLowerCase());
+                }
             
-            return userManager.updateUser(currentUser.getUserId(), updates);
+                return userManager.updateUser(currentUser().getUserId(), updates);
             
-        } catch (Exception e) {
-            System.err.println("Failed to update profile: " + e.getMessage());
-            return false;
-        }
+            } catch (Exception e) {
+                LOG.warn("Failed to update profile: " + e.getMessage());
+                return false;
+            }
+        });
     }
     
     /**
@@ -650,47 +1041,81 @@ public class EventHub {
      * PARAMS: currentPassword, newPassword
      */
     public boolean changeCurrentUserPassword(String currentPassword, String newPassword) {
-        if (currentUser == null) {
-            return false;
-        }
-        
-        try {
-            // Verify current password
-            if (!currentUser.login(currentUser.getUsername(), currentPassword)) {
-                return false; // Current password is incorrect
+        return timed("changeCurrentUserPassword", () -> {
+            if (currentUser() == null) {
+                return false;
             }
+        
+            try {
+                // Verify current password
+                if (!currentUser().login(currentUser().getUsername(), currentPassword)) {
+                    return false; // Current password is incorrect
+                }
             
-            // Change password
-            currentUser.changePassword(newPassword);
+                // Change password
+                currentUser().changePassword(newPassword);
             
-            // Update in UserManager (password is already updated in the user object)
-            userManager.update(currentUser);
+                // Update in UserManager (password is already updated in the user object)
+                userManager.update(currentUser());
             
-            return true;
+                return true;
             
-        } catch (Exception e) {
-            System.err.println("Failed to change password: " + e.getMessage());
-            return false;
-        }
+            } catch (Exception e) {
+                LOG.warn("Failed to change password: " + e.getMessage());
+                return false;
+            }
+        });
     }
     
     /**
      * Gets the current user's profile information
      */
     public java.util.Map<String, String> getCurrentUserProfile() {
-        if (currentUser == null) {
-            return new java.util.HashMap<>();
-        }
+        return timed("getCurrentUserProfile", () -> {
+            if (currentUser() == null) {
+                return new java.util.HashMap<>();
+            }
         
-        java.util.Map<String, String> profile = new java.util.HashMap<>();
-        profile.put("userId", currentUser.getUserId());
-        profile.put("username", currentUser.getUsername());
-        profile.put("firstName", currentUser.getFirstName());
-        profile.put("lastName", currentUser.getLastName());
-        profile.put("email", currentUser.getEmail());
-        profile.put("role", currentUser.getRole().toString());
-        profile.put("status", currentUser.getStatus().toString());
+            java.util.Map<String, String> profile = new java.util.HashMap<>();
+            profile.put("userId", currentUser().getUserId());
+            profile.put("username", currentUser().getUsername());
+            profile.put("firstName", currentUser().getFirstName());
+            profile.put("lastName", currentUser().getLastName());
+            profile.put("email", currentUser().getEmail());
+            profile.put("role", currentUser().getRole().toString());
+            profile.put("status", currentUser().getStatus().toString());
         
-        return profile;
+            return profile;
+        });
+    }
+    
+    // =============================================================================
+    // METRICS
+    // =============================================================================
+    
+    private <T> T timed(String operation, Supplier<T> action) {
+        return timer(operation).time(action);
+    }
+    
+    private void timed(String operation, Runnable action) {
+        timer(operation).time(action);
+    }
+    
+    /**
+     * Times an asynchronous operation from the call until its future completes
+     */
+    private <T> CompletableFuture<T> timedAsync(String operation, Supplier<CompletableFuture<T>> action) {
+        Timer timer = timer(operation);
+        long start = timer.start();
+        return action.get().whenComplete((result, error) -> {
+            if (error != null) {
+                timer.markFailure();
+            }
+            timer.stop(start);
+        });
+    }
+    
+    private Timer timer(String operation) {
+        return operationTimers.computeIfAbsent(operation, name -> metrics.timer(METRIC_PREFIX + name));
     }
 }
\ No newline at end of file
@@ -4,6 +4,9 @@
 
 package com.campuseventhub.service;
 
+import com.campuseventhub.jfr.RegistrationAdmissionEvent;
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
 import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.EventType;
 import com.campuseventhub.model.event.EventSearchCriteria;
@@ -20,6 +23,8 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
 import java.io.IOException;
 
 /**
@@ -34,6 +39,7 @@ import java.io.IOException;
  * - Integration with venue and notification services
  */
 public class EventManager implements EventRepository {
+    private static final Logger LOG = LogManager.getLogger(EventManager.class);
     private static final int DEFAULT_EVENT_CAPACITY = 50;
     
     private Map<String, Event> events;
@@ -45,6 +51,7 @@ public class EventManager implements EventRepository {
     private VenueBookingService venueBookingService;
     private WaitlistManager waitlistManager;
     private RegistrationDeadlineManager deadlineManager;
+    private DataChangeBus changeBus;
     
     /**
      * Initializes thread-safe event storage and indexes
@@ -81,6 +88,20 @@ public class EventManager implements EventRepository {
         this.deadlineManager.setEventManager(this);
     }
     
+    /**
+     * Sets the bus that pushes event and registration changes to open dashboards
+     */
+    public void setChangeBus(DataChangeBus changeBus) {
+        this.changeBus = changeBus;
+    }
+    
+    private void publishChange(DataChangeEvent.Kind kind, DataChangeEvent.Action action,
+                               String entityId, String ownerId) {
+        if (changeBus != null) {
+            changeBus.publish(kind, action, entityId, ownerId);
+        }
+    }
+    
     /**
      * Starts the registration deadline monitoring service
      */
@@ -117,6 +138,8 @@ public class EventManager implements EventRepository {
         eventsByType.computeIfAbsent(event.getEventType(), k -> new ArrayList<>()).add(event);
         scheduleValidator.registerEvent(event);
         saveEventsToPersistence();
+        publishChange(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.CREATED,
+                      event.getEventId(), event.getOrganizerId());
     }
     
     /**
@@ -152,6 +175,8 @@ public class EventManager implements EventRepository {
         events.put(event.getEventId(), event);
         event.setLastModified(LocalDateTime.now());
         saveEventsToPersistence();
+        publishChange(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.UPDATED,
+                      event.getEventId(), event.getOrganizerId());
     }
     
     /**
@@ -171,6 +196,8 @@ public class EventManager implements EventRepository {
                 typeEvents.remove(event);
             }
             saveEventsToPersistence();
+            publishChange(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.DELETED,
+                          eventId, event.getOrganizerId());
         }
     }
 
@@ -248,6 +275,7 @@ public class EventManager implements EventRepository {
             throw new IllegalArgumentException("Event not found: " + eventId);
         }
         
+        WaitlistManager.WaitlistPromotionResult capacityPromotions = null;
         for (Map.Entry<String, Object> entry : updates.entrySet()) {
             String field = entry.getKey();
             Object value = entry.getValue();
@@ -265,15 +293,17 @@ public class EventManager implements EventRepository {
                     break;
                 case "maxCapacity":
                     if (value instanceof Integer) {
-                        int oldCapacity = event.getMaxCapacity();
+                        int oldCapacity;
                         int newCapacity = (Integer) value;
-                        event.setMaxCapacity(newCapacity);
-                        
-                        // Handle automatic waitlist promotion if capacity increased
-                        if (newCapacity > oldCapacity && waitlistManager != null) {
-                            WaitlistManager.WaitlistPromotionResult result = 
-                                waitlistManager.handleCapacityIncrease(event, oldCapacity, newCapacity);
-                            // The waitlist manager handles all notifications
+                        synchronized (event) {
+                            oldCapacity = event.getMaxCapacity();
+                            event.setMaxCapacity(newCapacity);
+                            
+                            // Handle automatic waitlist promotion if capacity increased;
+                            // the waitlist manager handles all notifications
+                            if (newCapacity > oldCapacity && waitlistManager != null) {
+                                capacityPromotions = waitlistManager.handleCapacityIncrease(event, oldCapacity, newCapacity);
+                            }
                         }
                     }
                     break;
@@ -291,6 +321,11 @@ public class EventManager implements EventRepository {
         }
         
         event.setLastModified(LocalDateTime.now());
+        if (capacityPromotions != null && capacityPromotions.hasPromotions()) {
+            persistPromotions(event, capacityPromotions);
+        }
+        publishChange(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.UPDATED,
+                      eventId, event.getOrganizerId());
         return true;
     }
     
@@ -315,6 +350,13 @@ public class EventManager implements EventRepository {
         return searchService.searchEvents(findAll(), criteria);
     }
     
+    /**
+     * Checks one event against search criteria without scanning the store
+     */
+    public boolean matchesSearch(Event event, EventSearchCriteria criteria) {
+        return event != null && searchService.matchesCriteria(event, criteria);
+    }
+    
     public List<Event> getEventsByOrganizer(String organizerId) {
         return searchService.getEventsByOrganizer(findAll(), organizerId);
     }
@@ -344,87 +386,149 @@ public class EventManager implements EventRepository {
         return conflicts;
     }
     
+    /**
+     * Registers an attendee, waitlisting them when the event is full
+     *
+     * Implementation Details:
+     * - Conflict, duplicate and capacity checks and the registration itself
+     *   run under the event's lock, so concurrent registrations for one event
+     *   cannot overbook it or register the same attendee twice
+     * - The event's registrations list holds admitted registrations and its
+     *   waitlist the waiting ones, both views over the table's rows; a new
+     *   registration is appended to one of them rather than the lists being
+     *   rebuilt, and later status changes show through the shared row
+     * - Persistence happens after the lock is released; event serialization
+     *   takes the same lock, so saving under it could deadlock. Only the
+     *   in-memory state changes under the lock, then registrations.ser and
+     *   events.ser are each written once
+     * - The decision and the time spent waiting for the lock are recorded as
+     *   a com.campuseventhub.RegistrationAdmission JFR event
+     */
     public Registration registerAttendeeForEvent(String attendeeId, String eventId) {
         Event event = events.get(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
         }
         
-        // Check for attendee scheduling conflicts
-        List<Registration> attendeeRegistrations = registrationManager.getAttendeeRegistrations(attendeeId);
-        if (scheduleValidator.hasAttendeeConflict(attendeeId, event.getStartDateTime(), event.getEndDateTime(), 
-                                                attendeeRegistrations, eventId)) {
-            throw new IllegalArgumentException("Schedule conflict: You are already registered for another event during this time period");
+        RegistrationAdmissionEvent admission = new RegistrationAdmissionEvent();
+        admission.begin();
+        long lockRequested = admission.isEnabled() ? System.nanoTime() : 0L;
+        Registration registration;
+        String outcome = RegistrationAdmissionEvent.REJECTED;
+        synchronized (event) {
+            long lockWait = admission.isEnabled() ? System.nanoTime() - lockRequested : 0L;
+            try {
+                // Check for attendee scheduling conflicts
+                List<Registration> attendeeRegistrations = registrationManager.getAttendeeRegistrations(attendeeId);
+                if (scheduleValidator.hasAttendeeConflict(attendeeId, event.getStartDateTime(), event.getEndDateTime(), 
+                                                        attendeeRegistrations, eventId)) {
+                    throw new IllegalArgumentException("Schedule conflict: You are already registered for another event during this time period");
+                }
+                
+                boolean full = getCurrentRegistrationCount(eventId) >= event.getMaxCapacity();
+                registration = registrationManager.addRegistration(eventId, attendeeId, full);
+                if (registration != null) {
+                    if (full && waitlistManager != null) {
+                        waitlistManager.addToWaitlist(event, registration);
+                    } else {
+                        event.getRegistrations().add(registration);
+                    }
+                    outcome = full ? RegistrationAdmissionEvent.WAITLISTED : RegistrationAdmissionEvent.CONFIRMED;
+                } else {
+                    outcome = RegistrationAdmissionEvent.DUPLICATE;
+                }
+            } finally {
+                admission.end();
+                if (admission.shouldCommit()) {
+                    admission.eventId = eventId;
+                    admission.attendeeId = attendeeId;
+                    admission.outcome = outcome;
+                    admission.confirmed = getCurrentRegistrationCount(eventId);
+                    admission.capacity = event.getMaxCapacity();
+                    admission.lockWait = lockWait;
+                    admission.commit();
+                }
+            }
         }
         
-        Registration registration = registrationManager.createRegistration(eventId, attendeeId);
-        
-        // Sync the registration with the Event object
+        // Persist once the lock is released
         if (registration != null) {
-            syncEventRegistrations(eventId);
+            registrationManager.saveRegistrations();
+            update(event);
+            publishChange(DataChangeEvent.Kind.REGISTRATION, DataChangeEvent.Action.CREATED,
+                          registration.getRegistrationId(), attendeeId);
         }
         
         return registration;
     }
     
+    /**
+     * Cancels a registration and promotes from the waitlist into a freed place;
+     * runs under the event's lock like registerAttendeeForEvent and saves the
+     * cancellation and any promotions together after the lock is released
+     */
     public boolean cancelRegistration(String registrationId, String reason) {
-        // Find the event for this registration first
-        String eventId = null;
-        for (Event e : events.values()) {
-            if (e.getRegistrations() != null) {
-                for (Registration reg : e.getRegistrations()) {
-                    if (reg.getRegistrationId().equals(registrationId)) {
-                        eventId = e.getEventId();
-                        break;
-                    }
-                }
-            }
-            if (eventId != null) break;
+        Registration registration = registrationManager.findById(registrationId);
+        Event event = registration != null ? events.get(registration.getEventId()) : null;
+        if (event == null) {
+            return registrationManager.cancelRegistration(registrationId);
         }
         
-        boolean cancelled = registrationManager.cancelRegistration(registrationId);
-        
-        // Sync the event registrations after cancellation
-        if (cancelled && eventId != null) {
-            syncEventRegistrations(eventId);
-            
-            // Handle waitlist promotion
-            Event event = events.get(eventId);
-            if (event != null && waitlistManager != null) {
-                WaitlistManager.WaitlistPromotionResult result = 
+        boolean cancelled;
+        synchronized (event) {
+            boolean wasWaitlisted = registration.getStatus() == RegistrationStatus.WAITLISTED;
+            cancelled = registrationManager.markCancelled(registrationId);
+            if (cancelled) {
+                if (wasWaitlisted && waitlistManager != null) {
+                    waitlistManager.removeFromWaitlist(event, registrationId);
+                }
+                
+                // Handle waitlist promotion; the waitlist manager handles all notifications
+                if (waitlistManager != null) {
                     waitlistManager.handleRegistrationCancellation(event);
-                // The waitlist manager handles all notifications
+                }
             }
         }
         
+        // Persist once the lock is released
+        if (cancelled) {
+            registrationManager.saveRegistrations();
+            update(event);
+            publishChange(DataChangeEvent.Kind.REGISTRATION, DataChangeEvent.Action.UPDATED, registrationId,
+                          registration.getAttendeeId());
+        }
+        
         return cancelled;
     }
     
     /**
-     * Synchronizes the Event object's registrations list with the RegistrationManager data
+     * Rebuilds a loaded event's registrations and waitlist from the table's
+     * rows. Deserialized entries each own a one-row block of their own, so
+     * without this they would not see later status changes
+     * PARAMS: event
      */
-    private void syncEventRegistrations(String eventId) {
-        Event event = events.get(eventId);
-        if (event != null) {
-            List<Registration> currentRegistrations = registrationManager.getEventRegistrations(eventId);
-            event.getRegistrations().clear();
-            event.getRegistrations().addAll(currentRegistrations);
-            
-            // Update the event in persistence
-            update(event);
+    private void attachRegistrations(Event event) {
+        List<Registration> admitted = new ArrayList<>();
+        List<Registration> waiting = new ArrayList<>();
+        for (Registration registration : registrationManager.getEventRegistrations(event.getEventId())) {
+            if (registration.getStatus() == RegistrationStatus.WAITLISTED) {
+                waiting.add(registration);
+            } else {
+                admitted.add(registration);
+            }
         }
+        waiting.sort(Comparator.comparingInt(Registration::getWaitlistPosition));
+        event.getRegistrations().clear();
+        event.getRegistrations().addAll(admitted);
+        event.setWaitlist(new LinkedList<>(waiting));
     }
     
     public int getCurrentRegistrationCount(String eventId) {
-        return (int) registrationManager.getEventRegistrations(eventId).stream()
-                .filter(reg -> reg.getStatus() == RegistrationStatus.CONFIRMED)
-                .count();
+        return registrationManager.countEventRegistrations(eventId, RegistrationStatus.CONFIRMED);
     }
     
     public int getWaitlistSize(String eventId) {
-        return (int) registrationManager.getEventRegistrations(eventId).stream()
-                .filter(reg -> reg.getStatus() == RegistrationStatus.WAITLISTED)
-                .count();
+        return registrationManager.countEventRegistrations(eventId, RegistrationStatus.WAITLISTED);
     }
     
     
@@ -548,12 +652,9 @@ public class EventManager implements EventRepository {
             
             // Send cancellation notifications
             if (notificationService != null && !attendeeIds.isEmpty()) {
-                String message = String.format(
-                    "Event '%s' scheduled for %s has been cancelled. Reason: %s",
-                    event.getTitle(),
-                    event.getStartDateTime().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                    reason != null ? reason : "No reason provided"
-                );
+                TemplateContext context = TemplateContext.forEvent(event)
+                    .set(TemplateSlot.REASON, reason != null ? reason : "No reason provided");
+                String message = notificationService.getTemplateManager().render("event.cancelled", context);
                 
                 notificationService.sendNotification(message, attendeeIds, 
                     com.campuseventhub.model.notification.NotificationType.EVENT_CANCELLATION);
@@ -562,13 +663,12 @@ public class EventManager implements EventRepository {
             // Handle waitlist notifications - inform waitlisted users that event is cancelled
             if (event.getWaitlist() != null && !event.getWaitlist().isEmpty() && notificationService != null) {
                 List<String> waitlistIds = new ArrayList<>();
-                event.getWaitlist().forEach(waitlistEntry -> waitlistIds.add(waitlistEntry.toString()));
+                event.getWaitlist().forEach(waitlistEntry -> waitlistIds.add(waitlistEntry.getAttendeeId()));
                 
-                String waitlistMessage = String.format(
-                    "Event '%s' that you were waitlisted for has been cancelled. Reason: %s",
-                    event.getTitle(),
-                    reason != null ? reason : "No reason provided"
-                );
+                TemplateContext context = TemplateContext.forEvent(event)
+                    .set(TemplateSlot.REASON, reason != null ? reason : "No reason provided");
+                String waitlistMessage = notificationService.getTemplateManager()
+                    .render("event.cancelledWaitlist", context);
                 
                 notificationService.sendNotification(waitlistMessage, waitlistIds,
                     com.campuseventhub.model.notification.NotificationType.EVENT_CANCELLATION);
@@ -651,13 +751,9 @@ public class EventManager implements EventRepository {
             
             // Send rescheduling notifications
             if (notificationService != null && !attendeeIds.isEmpty()) {
-                String message = String.format(
-                    "Event '%s' has been rescheduled. New date/time: %s to %s. Reason: %s",
-                    event.getTitle(),
-                    newStartTime.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                    newEndTime.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                    reason != null ? reason : "Schedule adjustment"
-                );
+                TemplateContext context = TemplateContext.forEvent(event)
+                    .set(TemplateSlot.REASON, reason != null ? reason : "Schedule adjustment");
+                String message = notificationService.getTemplateManager().render("event.rescheduled", context);
                 
                 notificationService.sendNotification(message, attendeeIds,
                     com.campuseventhub.model.notification.NotificationType.EVENT_UPDATE);
@@ -666,14 +762,12 @@ public class EventManager implements EventRepository {
             // Notify waitlisted users about rescheduling
             if (event.getWaitlist() != null && !event.getWaitlist().isEmpty() && notificationService != null) {
                 List<String> waitlistIds = new ArrayList<>();
-                event.getWaitlist().forEach(waitlistEntry -> waitlistIds.add(waitlistEntry.toString()));
+                event.getWaitlist().forEach(waitlistEntry -> waitlistIds.add(waitlistEntry.getAttendeeId()));
                 
-                String waitlistMessage = String.format(
-                    "Event '%s' that you are waitlisted for has been rescheduled to %s. Reason: %s",
-                    event.getTitle(),
-                    newStartTime.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                    reason != null ? reason : "Schedule adjustment"
-                );
+                TemplateContext context = TemplateContext.forEvent(event)
+                    .set(TemplateSlot.REASON, reason != null ? reason : "Schedule adjustment");
+                String waitlistMessage = notificationService.getTemplateManager()
+                    .render("event.rescheduledWaitlist", context);
                 
                 notificationService.sendNotification(waitlistMessage, waitlistIds,
                     com.campuseventhub.model.notification.NotificationType.EVENT_UPDATE);
@@ -695,8 +789,7 @@ public class EventManager implements EventRepository {
                     venueBookingService.bookVenueForEvent(event, event.getVenueId());
                 } catch (Exception venueRestoreException) {
                     // Log venue restore failure but don't throw - focus on original error
-                    System.err.println("Failed to restore venue booking during rollback: " + 
-                        venueRestoreException.getMessage());
+                    LOG.error("Failed to restore venue booking during rollback", venueRestoreException);
                 }
             }
             
@@ -737,7 +830,7 @@ public class EventManager implements EventRepository {
         }
         
         // Cannot reschedule events that have already started
-        if (event.getStartDateTime().isBefore(LocalDateTime.now())) {
+        if (event.hasStarted()) {
             return false;
         }
         
@@ -794,11 +887,15 @@ public class EventManager implements EventRepository {
             return -1;
         }
         
-        return waitlistManager.getWaitlistPosition(event, attendeeId);
+        synchronized (event) {
+            return waitlistManager.getWaitlistPosition(event, attendeeId);
+        }
     }
     
     /**
-     * Manually promotes attendees from waitlist (for administrative purposes)
+     * Manually promotes attendees from waitlist (for administrative purposes);
+     * promotes under the event's lock like cancelRegistration and persists
+     * after the lock is released
      */
     public WaitlistManager.WaitlistPromotionResult promoteFromWaitlist(String eventId, int numberOfPromotions) {
         Event event = findById(eventId);
@@ -806,7 +903,28 @@ public class EventManager implements EventRepository {
             return new WaitlistManager.WaitlistPromotionResult(0, new ArrayList<>(), new ArrayList<>());
         }
         
-        return waitlistManager.promoteFromWaitlist(event, numberOfPromotions);
+        WaitlistManager.WaitlistPromotionResult result;
+        synchronized (event) {
+            result = waitlistManager.promoteFromWaitlist(event, numberOfPromotions);
+        }
+        
+        if (result.hasPromotions()) {
+            persistPromotions(event, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Saves promoted registrations and the event, then announces each
+     * promotion; caller must not hold the event's lock
+     */
+    private void persistPromotions(Event event, WaitlistManager.WaitlistPromotionResult result) {
+        registrationManager.saveRegistrations();
+        update(event);
+        for (Registration promoted : result.getPromotedRegistrations()) {
+            publishChange(DataChangeEvent.Kind.REGISTRATION, DataChangeEvent.Action.UPDATED,
+                          promoted.getRegistrationId(), promoted.getAttendeeId());
+        }
     }
     
     /**
@@ -900,41 +1018,38 @@ public class EventManager implements EventRepository {
      */
     @SuppressWarnings("unchecked")
     private void loadDataFromPersistence() {
-        System.out.println("EventManager: Loading data from persistence...");
         try {
             // Load events
-            System.out.println("EventManager: Attempting to load events.ser");
             Object eventsData = DataManager.loadData("events.ser");
             if (eventsData instanceof Map) {
                 Map<String, Event> loadedEvents = (Map<String, Event>) eventsData;
                 for (Event event : loadedEvents.values()) {
+                    attachRegistrations(event);
                     events.put(event.getEventId(), event);
                     eventsByOrganizer.computeIfAbsent(event.getOrganizerId(), k -> new ArrayList<>()).add(event);
                     eventsByType.computeIfAbsent(event.getEventType(), k -> new ArrayList<>()).add(event);
                     scheduleValidator.registerEvent(event);
                 }
-                System.out.println("EventManager: Successfully loaded " + loadedEvents.size() + " events from persistence");
+                LOG.info("Successfully loaded " + loadedEvents.size() + " events from persistence");
             } else {
-                System.out.println("EventManager: No events found or invalid data format");
+                LOG.info("No events found or invalid data format");
             }
             
         } catch (IOException | ClassNotFoundException e) {
-            System.out.println("EventManager: No existing event data found or failed to load: " + e.getMessage());
+            LOG.info("No existing event data found or failed to load: " + e.getMessage());
         }
-        System.out.println("EventManager: Data loading completed. Current state - Events: " + events.size());
+        LOG.debug(() -> "Data loading completed. Current state - Events: " + events.size());
     }
     
     /**
      * Saves events to persistence
      */
-    private void saveEventsToPersistence() {
+    private synchronized void saveEventsToPersistence() {
         try {
-            System.out.println("EventManager: Attempting to save " + events.size() + " events to persistence");
+            LOG.debug(() -> "Saving " + events.size() + " events");
             DataManager.saveData("events.ser", new ConcurrentHashMap<>(events));
-            System.out.println("EventManager: Successfully saved events to persistence");
         } catch (IOException e) {
-            System.err.println("EventManager: Failed to save events to persistence: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Failed to save events to persistence", e);
         }
     }
     
@@ -1,23 +1,67 @@
 package com.campuseventhub.service;
 
+import com.campuseventhub.jfr.EventSearchEvent;
 import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.EventType;
 import com.campuseventhub.model.event.EventSearchCriteria;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
-import java.time.LocalDateTime;
 
 public class EventSearchService {
     
+    /**
+     * Filters events by the criteria; each call is recorded as a
+     * com.campuseventhub.EventSearch JFR event
+     * PARAMS: allEvents, criteria
+     */
     public List<Event> searchEvents(List<Event> allEvents, EventSearchCriteria criteria) {
+        EventSearchEvent jfrEvent = new EventSearchEvent();
+        jfrEvent.begin();
+        List<Event> results;
         if (criteria == null) {
-            return new ArrayList<>(allEvents);
+            results = new ArrayList<>(allEvents);
+        } else {
+            results = allEvents.stream()
+                .filter(event -> matchesCriteria(event, criteria))
+                .collect(Collectors.toList());
         }
         
-        return allEvents.stream()
-            .filter(event -> matchesCriteria(event, criteria))
-            .collect(Collectors.toList());
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.criteria = describe(criteria);
+            jfrEvent.candidates = allEvents.size();
+            jfrEvent.hits = results.size();
+            jfrEvent.commit();
+        }
+        return results;
+    }
+    
+    private static String describe(EventSearchCriteria criteria) {
+        if (criteria == null) {
+            return "";
+        }
+        StringBuilder description = new StringBuilder();
+        appendCriterion(description, "keyword", criteria.getKeyword());
+        appendCriterion(description, "type", criteria.getEventType());
+        appendCriterion(description, "from", criteria.getStartDate());
+        appendCriterion(description, "to", criteria.getEndDate());
+        appendCriterion(description, "venue", criteria.getVenueId());
+        appendCriterion(description, "organizer", criteria.getOrganizerId());
+        if (criteria.getTags() != null && !criteria.getTags().isEmpty()) {
+            appendCriterion(description, "tags", String.join(",", criteria.getTags()));
+        }
+        return description.toString();
+    }
+    
+    private static void appendCriterion(StringBuilder description, String key, Object value) {
+        if (value == null || value.toString().isEmpty()) {
+            return;
+        }
+        if (description.length() > 0) {
+            description.append(' ');
+        }
+        description.append(key).append('=').append(value);
     }
     
     public List<Event> getEventsByType(List<Event> allEvents, EventType eventType) {
@@ -33,9 +77,8 @@ public class EventSearchService {
     }
     
     public List<Event> getUpcomingEvents(List<Event> allEvents) {
-        LocalDateTime now = LocalDateTime.now();
         return allEvents.stream()
-            .filter(event -> event.getStartDateTime().isAfter(now))
+            .filter(event -> !event.hasStarted())
             .sorted((e1, e2) -> e1.getStartDateTime().compareTo(e2.getStartDateTime()))
             .collect(Collectors.toList());
     }
@@ -46,7 +89,7 @@ public class EventSearchService {
             .collect(Collectors.toList());
     }
     
-    private boolean matchesCriteria(Event event, EventSearchCriteria criteria) {
+    public boolean matchesCriteria(Event event, EventSearchCriteria criteria) {
         if (criteria.getEventType() != null && event.getEventType() != criteria.getEventType()) {
             return false;
         }
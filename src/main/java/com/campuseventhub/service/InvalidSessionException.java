@@ -0,0 +1,16 @@
+package com.campuseventhub.service;
+
+/**
+ * Thrown when a session token is unknown, closed or has expired.
+ *
+ * Implementation Details:
+ * - Extends IllegalArgumentException so existing validation handling still
+ *   applies; front ends that need to tell it apart (the HTTP server answers
+ *   401) catch this type instead of matching the message
+ */
+public class InvalidSessionException extends IllegalArgumentException {
+
+    public InvalidSessionException() {
+        super("Invalid or expired session");
+    }
+}
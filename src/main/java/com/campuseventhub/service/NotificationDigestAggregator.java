@@ -0,0 +1,329 @@
+// =============================================================================
+// NOTIFICATION DIGEST AGGREGATOR
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import com.campuseventhub.model.notification.DigestFrequency;
+import com.campuseventhub.model.notification.NotificationType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers notifications for users who opted into hourly or daily digests.
+ *
+ * Implementation Details:
+ * - Per-user, per-type DigestFrequency preferences (IMMEDIATE by default)
+ * - Pending items kept in a compact per-user buffer of parallel arrays;
+ *   repeats of the previous message are merged into a counter
+ * - A buffer holds at most MAX_ITEMS_PER_DIGEST entries as a ring; once
+ *   full the oldest entry is evicted, so a digest keeps the latest updates
+ * - A buffer becomes due one interval after its first item and is flushed
+ *   as a single summary grouped by NotificationType
+ * - Flushing runs on a daemon scheduler that only starts once somebody
+ *   opts into a digest
+ */
+public class NotificationDigestAggregator {
+    private static final Logger LOG = LogManager.getLogger(NotificationDigestAggregator.class);
+    public static final int MAX_ITEMS_PER_DIGEST = 200;
+    private static final int MAX_LINES_PER_TYPE = 5;
+    private static final int MAX_LINE_LENGTH = 100;
+    private static final long FLUSH_CHECK_SECONDS = 60;
+
+    private final Map<String, UserDigest> users;
+    private final DigestSink sink;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Receives a flushed digest for delivery
+     */
+    public interface DigestSink {
+        void deliverDigest(String userId, DigestFrequency frequency, int itemCount, String summary);
+    }
+
+    public NotificationDigestAggregator(DigestSink sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Digest sink cannot be null");
+        }
+        this.users = new ConcurrentHashMap<>();
+        this.sink = sink;
+    }
+
+    /**
+     * Sets how notifications of a type are delivered to a user
+     */
+    public void setPreference(String userId, NotificationType type, DigestFrequency frequency) {
+        if (userId == null || type == null || frequency == null) {
+            throw new IllegalArgumentException("User ID, type and frequency are required");
+        }
+        if (type == NotificationType.DIGEST) {
+            throw new IllegalArgumentException("Digests cannot themselves be digested");
+        }
+        UserDigest digest = users.computeIfAbsent(userId, k -> new UserDigest());
+        synchronized (digest) {
+            digest.preferences.put(type, frequency);
+        }
+        if (frequency != DigestFrequency.IMMEDIATE) {
+            startScheduler();
+        }
+    }
+
+    public DigestFrequency getPreference(String userId, NotificationType type) {
+        UserDigest digest = users.get(userId);
+        if (digest == null) {
+            return DigestFrequency.IMMEDIATE;
+        }
+        synchronized (digest) {
+            return digest.preferences.getOrDefault(type, DigestFrequency.IMMEDIATE);
+        }
+    }
+
+    /**
+     * Buffers a notification if the user wants this type as a digest
+     *
+     * @return true if buffered, false if it should be delivered immediately
+     */
+    public boolean offer(String userId, NotificationType type, String message) {
+        UserDigest digest = users.get(userId);
+        if (digest == null) {
+            return false;
+        }
+        synchronized (digest) {
+            DigestFrequency frequency = digest.preferences.get(type);
+            if (frequency == null || frequency == DigestFrequency.IMMEDIATE) {
+                return false;
+            }
+            DigestBuffer buffer = digest.buffers.computeIfAbsent(frequency, f -> new DigestBuffer(
+                System.currentTimeMillis() + f.getInterval().toMillis()));
+            buffer.add(type, message);
+            return true;
+        }
+    }
+
+    /**
+     * Flushes every buffer whose interval has elapsed
+     *
+     * @return number of digests delivered
+     */
+    public int flushDue(long nowMillis) {
+        return flush(nowMillis);
+    }
+
+    /**
+     * Flushes all pending buffers regardless of their due time
+     */
+    public int flushAll() {
+        return flush(Long.MAX_VALUE);
+    }
+
+    private int flush(long nowMillis) {
+        int delivered = 0;
+        for (Map.Entry<String, UserDigest> entry : users.entrySet()) {
+            List<DigestFrequency> frequencies = new ArrayList<>(2);
+            List<DigestBuffer> due = new ArrayList<>(2);
+            UserDigest digest = entry.getValue();
+            synchronized (digest) {
+                digest.buffers.entrySet().removeIf(buffer -> {
+                    if (buffer.getValue().dueAtMillis <= nowMillis) {
+                        frequencies.add(buffer.getKey());
+                        due.add(buffer.getValue());
+                        return true;
+                    }
+                    return false;
+                });
+            }
+            // Deliver outside the lock so producers are never blocked by channels
+            for (int i = 0; i < due.size(); i++) {
+                DigestBuffer buffer = due.get(i);
+                try {
+                    sink.deliverDigest(entry.getKey(), frequencies.get(i), buffer.itemCount(), buffer.summarize());
+                    delivered++;
+                } catch (RuntimeException e) {
+                    LOG.warn("Failed to deliver digest to " + entry.getKey(), e);
+                }
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Returns the number of buffered items for a user across all frequencies
+     */
+    public int getPendingCount(String userId) {
+        UserDigest digest = users.get(userId);
+        if (digest == null) {
+            return 0;
+        }
+        synchronized (digest) {
+            int count = 0;
+            for (DigestBuffer buffer : digest.buffers.values()) {
+                count += buffer.itemCount();
+            }
+            return count;
+        }
+    }
+
+    private synchronized void startScheduler() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "NotificationDigestScheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                flushDue(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                LOG.error("Error flushing digests: " + e.getMessage());
+            }
+        }, FLUSH_CHECK_SECONDS, FLUSH_CHECK_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the scheduler and delivers everything still buffered
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+        flushAll();
+    }
+
+    /**
+     * Preferences and pending buffers of one user; guarded by its own monitor
+     */
+    private static class UserDigest {
+        private final Map<NotificationType, DigestFrequency> preferences = new EnumMap<>(NotificationType.class);
+        private final Map<DigestFrequency, DigestBuffer> buffers = new EnumMap<>(DigestFrequency.class);
+    }
+
+    /**
+     * Pending items as parallel arrays: type ordinal, message, repeat count.
+     * Entry i, oldest first, lives at slot (start + i) % capacity
+     */
+    private static class DigestBuffer {
+        private static final NotificationType[] TYPES = NotificationType.values();
+
+        private final long dueAtMillis;
+        private byte[] types = new byte[8];
+        private String[] messages = new String[8];
+        private int[] repeats = new int[8];
+        private int start;
+        private int size;
+        private int itemCount;
+        private int dropped;
+
+        DigestBuffer(long dueAtMillis) {
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        void add(NotificationType type, String message) {
+            itemCount++;
+            if (size > 0) {
+                int last = slot(size - 1);
+                if (types[last] == type.ordinal() && messages[last].equals(message)) {
+                    repeats[last]++;
+                    return;
+                }
+            }
+            if (size == MAX_ITEMS_PER_DIGEST) {
+                // Evict the oldest entry to make room for the newest
+                dropped += repeats[start];
+                messages[start] = null;
+                start = (start + 1) % types.length;
+                size--;
+            } else if (size == types.length) {
+                // Only grows before the ring first fills, while start is still 0
+                int capacity = Math.min(MAX_ITEMS_PER_DIGEST, size * 2);
+                types = Arrays.copyOf(types, capacity);
+                messages = Arrays.copyOf(messages, capacity);
+                repeats = Arrays.copyOf(repeats, capacity);
+            }
+            int slot = slot(size);
+            types[slot] = (byte) type.ordinal();
+            messages[slot] = message;
+            repeats[slot] = 1;
+            size++;
+        }
+
+        private int slot(int index) {
+            return (start + index) % types.length;
+        }
+
+        int itemCount() {
+            return itemCount;
+        }
+
+        /**
+         * Renders the buffered items grouped by type, most recent first within a type
+         */
+        String summarize() {
+            int[] perType = new int[TYPES.length];
+            for (int i = 0; i < size; i++) {
+                int slot = slot(i);
+                perType[types[slot]] += repeats[slot];
+            }
+            StringBuilder summary = new StringBuilder(256);
+            for (NotificationType type : TYPES) {
+                int count = perType[type.ordinal()];
+                if (count == 0) {
+                    continue;
+                }
+                summary.append(type.getDisplayName()).append(" (").append(count).append(")\n");
+                int lines = 0;
+                int shown = 0;
+                for (int i = size - 1; i >= 0; i--) {
+                    int slot = slot(i);
+                    if (types[slot] != type.ordinal()) {
+                        continue;
+                    }
+                    if (lines == MAX_LINES_PER_TYPE) {
+                        break;
+                    }
+                    summary.append("  • ");
+                    appendFirstLine(summary, messages[slot]);
+                    if (repeats[slot] > 1) {
+                        summary.append(" (x").append(repeats[slot]).append(')');
+                    }
+                    summary.append('\n');
+                    lines++;
+                    shown += repeats[slot];
+                }
+                if (shown < count) {
+                    summary.append("  … and ").append(count - shown).append(" more\n");
+                }
+                summary.append('\n');
+            }
+            if (dropped > 0) {
+                summary.append(dropped).append(" older updates were not included.\n");
+            }
+            return summary.toString().trim();
+        }
+
+        private static void appendFirstLine(StringBuilder summary, String message) {
+            int end = message.indexOf('\n');
+            if (end < 0) {
+                end = message.length();
+            }
+            if (end > MAX_LINE_LENGTH) {
+                summary.append(message, 0, MAX_LINE_LENGTH).append('…');
+            } else {
+                summary.append(message, 0, end);
+            }
+        }
+    }
+}
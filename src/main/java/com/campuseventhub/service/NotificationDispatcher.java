@@ -0,0 +1,519 @@
+// =============================================================================
+// NOTIFICATION DISPATCHER
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.jfr.NotificationBatchEvent;
+import com.campuseventhub.metrics.Counter;
+import com.campuseventhub.metrics.MetricsRegistry;
+import com.campuseventhub.metrics.Timer;
+import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.strategy.NotificationStrategy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous delivery pipeline that hands notifications to the registered
+ * NotificationStrategy channels off the caller's thread.
+ *
+ * Implementation Details:
+ * - Bounded multi-producer queue drained by a single dispatcher thread
+ * - One small worker pool per channel so channels deliver independently
+ * - Recipients are split into batches and sent with sendBatch
+ * - Backpressure: producers block for up to ENQUEUE_TIMEOUT_MILLIS while the
+ *   intake queue is full
+ * - Failed recipients are retried with exponential backoff and jitter; the
+ *   wait happens on a shared scheduler, not on a channel worker
+ * - A circuit breaker per channel fails fast while the channel is down
+ * - A saturated or broken channel sheds its batches to the dead-letter store
+ *   instead of stalling the dispatcher and the healthy channels
+ * - Metrics: notifications.dispatch (producer-side enqueue time, including
+ *   backpressure waits), notifications.deliver.<channel> per batch send,
+ *   counters for dropped jobs, retries and dead letters, and a queue depth gauge
+ * - Every batch attempt is also a com.campuseventhub.NotificationBatch JFR event
+ * - Per-channel delivery status recorded on each Notification
+ * - Jobs can be limited to the external (non in-app) channels, for
+ *   broadcasts whose in-app copy lives in the broadcast log
+ */
+public class NotificationDispatcher {
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int WORKERS_PER_CHANNEL = 2;
+    private static final int CHANNEL_QUEUE_CAPACITY = 256;
+    private static final int BREAKER_FAILURE_THRESHOLD = 5;
+    private static final long BREAKER_OPEN_MILLIS = 30_000;
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 2000;
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final List<NotificationStrategy> strategies;
+    private final BlockingQueue<DispatchJob> queue;
+    private final Map<String, Channel> channels;
+    private final ScheduledExecutorService retryScheduler;
+    private final RetryPolicy retryPolicy;
+    private final DeadLetterStore deadLetterStore;
+    private final AtomicInteger pendingWork;
+    private final AtomicLong droppedJobs;
+    private final AtomicLong retriedBatches;
+    private final int batchSize;
+    private final int breakerFailureThreshold;
+    private final long breakerOpenMillis;
+    private final Thread dispatcherThread;
+    private volatile boolean running;
+    private final MetricsRegistry metrics;
+    private final Timer dispatchTimer;
+    private final Counter droppedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+
+    /**
+     * Creates a dispatcher over the given (live) strategy list
+     */
+    public NotificationDispatcher(List<NotificationStrategy> strategies) {
+        this(strategies, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public NotificationDispatcher(List<NotificationStrategy> strategies, int queueCapacity, int batchSize) {
+        this(strategies, queueCapacity, batchSize, new RetryPolicy(),
+             BREAKER_FAILURE_THRESHOLD, BREAKER_OPEN_MILLIS);
+    }
+
+    public NotificationDispatcher(List<NotificationStrategy> strategies, int queueCapacity, int batchSize,
+                                  RetryPolicy retryPolicy, int breakerFailureThreshold, long breakerOpenMillis) {
+        if (queueCapacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Queue capacity and batch size must be positive");
+        }
+        if (retryPolicy == null) {
+            throw new IllegalArgumentException("Retry policy cannot be null");
+        }
+        this.strategies = strategies;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.channels = new ConcurrentHashMap<>();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "NotificationRetryScheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        this.retryPolicy = retryPolicy;
+        this.deadLetterStore = new DeadLetterStore();
+        this.pendingWork = new AtomicInteger();
+        this.droppedJobs = new AtomicLong();
+        this.retriedBatches = new AtomicLong();
+        this.batchSize = batchSize;
+        this.breakerFailureThreshold = breakerFailureThreshold;
+        this.breakerOpenMillis = breakerOpenMillis;
+        this.metrics = MetricsRegistry.getDefault();
+        this.dispatchTimer = metrics.timer("notifications.dispatch");
+        this.droppedCounter = metrics.counter("notifications.dropped");
+        this.retriedCounter = metrics.counter("notifications.retried");
+        this.deadLetteredCounter = metrics.counter("notifications.deadLettered");
+        this.metrics.gauge("notifications.queueDepth", queue::size);
+        this.running = true;
+        this.dispatcherThread = new Thread(this::dispatchLoop, "NotificationDispatcher");
+        this.dispatcherThread.setDaemon(true);
+        this.dispatcherThread.start();
+    }
+
+    /**
+     * Queues a message for delivery to the given notifications' recipients on
+     * every registered channel. Blocks only while the intake queue is full.
+     *
+     * @return false if the dispatcher is stopped or the queue stayed full
+     */
+    public boolean dispatch(String message, List<Notification> notifications) {
+        return dispatchTimer.time(() -> enqueue(message, notifications, false));
+    }
+
+    /**
+     * Like dispatch, but only on channels that deliver outside the
+     * application (email, SMS); used for broadcasts
+     *
+     * @return false if there is no external channel, the dispatcher is
+     *         stopped or the queue stayed full
+     */
+    public boolean dispatchExternal(String message, List<Notification> notifications) {
+        return dispatchTimer.time(() -> enqueue(message, notifications, true));
+    }
+
+    private boolean enqueue(String message, List<Notification> notifications, boolean externalOnly) {
+        if (message == null || notifications == null || notifications.isEmpty() || strategies.isEmpty()) {
+            return false;
+        }
+        if (externalOnly && strategies.stream().allMatch(NotificationStrategy::isInApp)) {
+            return false;
+        }
+        if (!running) {
+            markAllFailed(notifications);
+            return false;
+        }
+
+        for (NotificationStrategy strategy : strategies) {
+            if (externalOnly && strategy.isInApp()) {
+                continue;
+            }
+            for (Notification notification : notifications) {
+                notification.markQueued(strategy.getDeliveryMethod());
+            }
+        }
+
+        pendingWork.incrementAndGet();
+        try {
+            if (queue.offer(new DispatchJob(message, notifications, externalOnly),
+                            ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        pendingWork.decrementAndGet();
+        droppedJobs.incrementAndGet();
+        droppedCounter.increment();
+        markAllFailed(notifications);
+        return false;
+    }
+
+    /**
+     * Single consumer: splits each job into per-channel batches
+     */
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            DispatchJob job;
+            try {
+                job = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Shutdown is signalled through the running flag
+                continue;
+            }
+            if (job == null) {
+                continue;
+            }
+
+            try {
+                for (NotificationStrategy strategy : strategies) {
+                    if (job.externalOnly && strategy.isInApp()) {
+                        continue;
+                    }
+                    Channel channel = channelFor(strategy);
+                    for (int from = 0; from < job.notifications.size(); from += batchSize) {
+                        List<Notification> batch = job.notifications.subList(
+                            from, Math.min(from + batchSize, job.notifications.size()));
+                        submit(new BatchTask(channel, job.message, batch, 1));
+                    }
+                }
+            } finally {
+                pendingWork.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Hands a batch to its channel's workers; a full channel dead-letters it
+     */
+    private void submit(BatchTask task) {
+        pendingWork.incrementAndGet();
+        try {
+            task.channel.workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            deadLetter(task, "Channel queue full");
+            pendingWork.decrementAndGet();
+        }
+    }
+
+    /**
+     * Sends one batch through one channel, then records, retries or dead-letters
+     */
+    private void deliver(BatchTask task) {
+        Channel channel = task.channel;
+        String method = channel.strategy.getDeliveryMethod();
+        List<Notification> failedNotifications = task.batch;
+        String failureReason = "Circuit open";
+        NotificationBatchEvent jfrEvent = new NotificationBatchEvent();
+        jfrEvent.begin();
+        boolean circuitOpen = false;
+
+        try {
+            if (!channel.breaker.allowRequest()) {
+                circuitOpen = true;
+                deadLetter(task, failureReason);
+                return;
+            }
+
+            List<String> recipients = new ArrayList<>(task.batch.size());
+            for (Notification notification : task.batch) {
+                recipients.add(notification.getRecipientId());
+            }
+
+            long sendStart = channel.deliveryTimer.start();
+            try {
+                List<String> failedRecipients = channel.strategy.sendBatch(recipients, task.message);
+                Set<String> failed = failedRecipients == null ? Set.of() : new HashSet<>(failedRecipients);
+                failedNotifications = new ArrayList<>();
+                for (Notification notification : task.batch) {
+                    if (failed.contains(notification.getRecipientId())) {
+                        failedNotifications.add(notification);
+                    } else {
+                        notification.markDelivered(method);
+                    }
+                }
+                failureReason = "Recipients rejected";
+            } catch (RuntimeException e) {
+                channel.deliveryTimer.markFailure();
+                failureReason = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            } finally {
+                channel.deliveryTimer.stop(sendStart);
+            }
+
+            // A batch where nothing got through counts against the channel
+            if (failedNotifications.size() == task.batch.size()) {
+                channel.breaker.recordFailure();
+            } else {
+                channel.breaker.recordSuccess();
+            }
+
+            if (failedNotifications.isEmpty()) {
+                return;
+            }
+            if (retryPolicy.shouldRetry(task.attempt) && running) {
+                scheduleRetry(new BatchTask(channel, task.message, failedNotifications, task.attempt + 1));
+                return;
+            }
+            deadLetter(new BatchTask(channel, task.message, failedNotifications, task.attempt),
+                       "Retries exhausted: " + failureReason);
+        } finally {
+            pendingWork.decrementAndGet();
+            commitBatchEvent(jfrEvent, task, failedNotifications.size(), circuitOpen);
+        }
+    }
+
+    private static void commitBatchEvent(NotificationBatchEvent jfrEvent, BatchTask task, int failed,
+                                         boolean circuitOpen) {
+        jfrEvent.end();
+        if (!jfrEvent.shouldCommit()) {
+            return;
+        }
+        jfrEvent.channel = task.channel.strategy.getDeliveryMethod();
+        jfrEvent.recipients = task.batch.size();
+        jfrEvent.failedRecipients = failed;
+        jfrEvent.attempt = task.attempt;
+        if (circuitOpen) {
+            jfrEvent.outcome = NotificationBatchEvent.CIRCUIT_OPEN;
+        } else if (failed == 0) {
+            jfrEvent.outcome = NotificationBatchEvent.DELIVERED;
+        } else if (failed < task.batch.size()) {
+            jfrEvent.outcome = NotificationBatchEvent.PARTIAL;
+        } else {
+            jfrEvent.outcome = NotificationBatchEvent.FAILED;
+        }
+        jfrEvent.commit();
+    }
+
+    private void scheduleRetry(BatchTask retry) {
+        long delay = retryPolicy.computeDelayMillis(retry.attempt - 1);
+        retriedBatches.incrementAndGet();
+        retriedCounter.increment();
+        pendingWork.incrementAndGet();
+        try {
+            retryScheduler.schedule(() -> {
+                try {
+                    submit(retry);
+                } finally {
+                    pendingWork.decrementAndGet();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            deadLetter(retry, "Dispatcher stopped");
+            pendingWork.decrementAndGet();
+        }
+    }
+
+    private void deadLetter(BatchTask task, String reason) {
+        String method = task.channel.strategy.getDeliveryMethod();
+        task.batch.forEach(n -> n.markFailed(method));
+        deadLetteredCounter.increment();
+        deadLetterStore.add(new DeadLetterStore.DeadLetter(method, task.message, task.batch, reason, task.attempt));
+    }
+
+    private Channel channelFor(NotificationStrategy strategy) {
+        return channels.computeIfAbsent(strategy.getDeliveryMethod(), method -> {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor workers = new ThreadPoolExecutor(
+                WORKERS_PER_CHANNEL, WORKERS_PER_CHANNEL, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(CHANNEL_QUEUE_CAPACITY),
+                r -> {
+                    Thread t = new Thread(r, "NotificationWorker-" + method + "-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+            ChannelCircuitBreaker breaker = new ChannelCircuitBreaker(
+                strategy::isAvailable, breakerFailureThreshold, breakerOpenMillis);
+            return new Channel(strategy, workers, breaker,
+                metrics.timer("notifications.deliver." + method.toLowerCase()));
+        });
+    }
+
+    private void markAllFailed(List<Notification> notifications) {
+        for (NotificationStrategy strategy : strategies) {
+            for (Notification notification : notifications) {
+                notification.markFailed(strategy.getDeliveryMethod());
+            }
+        }
+    }
+
+    /**
+     * Re-submits every dead-lettered batch to its channel with a fresh retry budget
+     *
+     * @return number of batches re-submitted
+     */
+    public int replayDeadLetters() {
+        int replayed = 0;
+        for (DeadLetterStore.DeadLetter deadLetter : deadLetterStore.drain()) {
+            Channel channel = channels.get(deadLetter.getChannel());
+            if (channel == null) {
+                continue;
+            }
+            deadLetter.getNotifications().forEach(n -> n.markQueued(deadLetter.getChannel()));
+            submit(new BatchTask(channel, deadLetter.getMessage(), deadLetter.getNotifications(), 1));
+            replayed++;
+        }
+        return replayed;
+    }
+
+    /**
+     * Waits until every queued job, batch and scheduled retry has finished
+     *
+     * @return true if the pipeline drained within the timeout
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (pendingWork.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting work, drains what is queued and stops the channel pools
+     */
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            dispatcherThread.join(TimeUnit.SECONDS.toMillis(10));
+            awaitIdle(10, TimeUnit.SECONDS);
+            retryScheduler.shutdownNow();
+            for (Channel channel : channels.values()) {
+                channel.workers.shutdown();
+                if (!channel.workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                    channel.workers.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            retryScheduler.shutdownNow();
+            channels.values().forEach(channel -> channel.workers.shutdownNow());
+        }
+    }
+
+    public int getQueuedJobCount() {
+        return queue.size();
+    }
+
+    public long getDroppedJobCount() {
+        return droppedJobs.get();
+    }
+
+    public long getRetriedBatchCount() {
+        return retriedBatches.get();
+    }
+
+    public DeadLetterStore getDeadLetterStore() {
+        return deadLetterStore;
+    }
+
+    /**
+     * Returns the breaker state of a channel (CLOSED if it has not been used yet)
+     */
+    public ChannelCircuitBreaker.State getCircuitState(String deliveryMethod) {
+        Channel channel = channels.get(deliveryMethod);
+        return channel == null ? ChannelCircuitBreaker.State.CLOSED : channel.breaker.getState();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * One sendNotification call: a message and the per-recipient records
+     */
+    private static class DispatchJob {
+        private final String message;
+        private final List<Notification> notifications;
+        private final boolean externalOnly;
+
+        DispatchJob(String message, List<Notification> notifications, boolean externalOnly) {
+            this.message = message;
+            this.notifications = notifications;
+            this.externalOnly = externalOnly;
+        }
+    }
+
+    /**
+     * Per-channel worker pool, breaker and delivery timer
+     */
+    private static class Channel {
+        private final NotificationStrategy strategy;
+        private final ThreadPoolExecutor workers;
+        private final ChannelCircuitBreaker breaker;
+        private final Timer deliveryTimer;
+
+        Channel(NotificationStrategy strategy, ThreadPoolExecutor workers, ChannelCircuitBreaker breaker,
+                Timer deliveryTimer) {
+            this.strategy = strategy;
+            this.workers = workers;
+            this.breaker = breaker;
+            this.deliveryTimer = deliveryTimer;
+        }
+    }
+
+    /**
+     * One delivery attempt of one batch on one channel
+     */
+    private class BatchTask implements Runnable {
+        private final Channel channel;
+        private final String message;
+        private final List<Notification> batch;
+        private final int attempt;
+
+        BatchTask(Channel channel, String message, List<Notification> batch, int attempt) {
+            this.channel = channel;
+            this.message = message;
+            this.batch = batch;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public void run() {
+            deliver(this);
+        }
+    }
+}
@@ -4,36 +4,91 @@
 
 package com.campuseventhub.service;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
 import com.campuseventhub.strategy.NotificationStrategy;
+import com.campuseventhub.model.notification.DigestFrequency;
 import com.campuseventhub.model.notification.Notification;
 import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.persistence.NotificationLog;
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * Service for handling all system notifications using Strategy pattern.
  * 
  * Implementation Details:
  * - Multiple notification delivery strategies
+ * - Asynchronous channel delivery through NotificationDispatcher
  * - Bulk notification processing
- * - Notification template management
+ * - Precompiled notification templates with per-type wrappers
  * - Delivery status tracking
+ * - Notification ID index and per-user unread counters (O(1) read/unread ops)
+ * - Campus-wide broadcasts stored once and fanned out on read for the
+ *   in-app copy, plus one batched dispatch to the external channels
+ * - Bounded inboxes: per-user ring buffer capped at MAX_NOTIFICATIONS_PER_USER,
+ *   entries older than NOTIFICATION_TTL evicted on writes; reads only
+ *   try the broadcast log's lock, so they never queue behind each other
+ * - Optional append-only NotificationLog, replayed and compacted on startup
+ *   and again whenever its records exceed twice the live state
+ * - Paginated reads (newest first) for the notification panels, merged
+ *   backwards from the inbox ring and the broadcast sequence range so a
+ *   page only touches the entries up to its end
+ * - Optional hourly/daily digests per user and type via NotificationDigestAggregator
  * - Rate limiting and throttling
  * - User preference respect
  */
 public class NotificationService {
+    private static final Logger LOG = LogManager.getLogger(NotificationService.class);
+    public static final int MAX_NOTIFICATIONS_PER_USER = 200;
+    public static final Duration NOTIFICATION_TTL = Duration.ofDays(30);
+    
     private List<NotificationStrategy> strategies;
-    private Map<String, List<Notification>> userNotifications;
+    private Map<String, UserInbox> userInboxes;
+    private Map<String, InboxSlot> notificationIndex;
+    private BroadcastLog broadcastLog;
     private NotificationTemplateManager templateManager;
+    private NotificationDispatcher dispatcher;
+    private final NotificationDigestAggregator digestAggregator;
+    private final NotificationLog notificationLog;
+    private volatile boolean replaying;
+    private DataChangeBus changeBus;
+    private volatile Supplier<Collection<String>> broadcastRecipients;
 
+    /**
+     * Creates an in-memory notification service (nothing is persisted)
+     */
     public NotificationService() {
-        this.strategies = new ArrayList<>();
-        this.userNotifications = new ConcurrentHashMap<>();
+        this(null);
+    }
+
+    /**
+     * Creates a notification service backed by the given log. Existing
+     * records are replayed and the log is compacted before use.
+     */
+    public NotificationService(NotificationLog notificationLog) {
+        this.strategies = new CopyOnWriteArrayList<>();
+        this.userInboxes = new ConcurrentHashMap<>();
+        this.notificationIndex = new ConcurrentHashMap<>();
+        this.broadcastLog = new BroadcastLog();
         this.templateManager = new NotificationTemplateManager();
         this.templateManager.loadTemplates();
+        this.dispatcher = new NotificationDispatcher(strategies);
+        this.digestAggregator = new NotificationDigestAggregator(this::deliverDigest);
+        this.broadcastRecipients = () -> new ArrayList<>(userInboxes.keySet());
+        this.notificationLog = notificationLog;
+        if (notificationLog != null) {
+            loadFromLog();
+        }
     }
 
     public void sendNotification(String message, List<String> recipients,
@@ -42,14 +97,95 @@ public class NotificationService {
             return;
         }
         
-        String template = templateManager.getTemplate(type);
-        String finalMessage = template != null ? template.replace("{message}", message) : message;
+        String finalMessage = templateManager.applyTypeTemplate(type, message);
         
-        // Create notification for each recipient
+        // Create notification for each recipient; the in-app inbox is updated
+        // synchronously, channel delivery happens on the dispatcher's threads
+        // Recipients who opted into a digest for this type are buffered instead
+        List<Notification> created = new ArrayList<>(recipients.size());
         for (String recipientId : recipients) {
+            if (digestAggregator.offer(recipientId, type, finalMessage)) {
+                continue;
+            }
             Notification notification = new Notification(recipientId, finalMessage, type);
-            userNotifications.computeIfAbsent(recipientId, k -> new ArrayList<>()).add(notification);
+            deliverToInbox(recipientId, notification);
+            created.add(notification);
         }
+        publish(finalMessage, created);
+    }
+    
+    /**
+     * Logs newly created inbox notifications and hands them to the channels
+     */
+    private void publish(String message, List<Notification> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        if (isLogging()) {
+            notificationLog.appendNotifications(created);
+            compactIfNeeded();
+        }
+        if (!strategies.isEmpty()) {
+            dispatcher.dispatch(message, created);
+        }
+    }
+    
+    /**
+     * Delivers a flushed digest as one inbox notification and one message per channel
+     */
+    private void deliverDigest(String userId, DigestFrequency frequency, int itemCount, String summary) {
+        TemplateContext context = new TemplateContext()
+            .set(TemplateSlot.PERIOD, frequency.getDisplayName().toLowerCase())
+            .set(TemplateSlot.ITEM_COUNT, itemCount)
+            .set(TemplateSlot.MESSAGE, summary);
+        String message = templateManager.render("digest.summary", context);
+        Notification digest = new Notification(userId, message, NotificationType.DIGEST);
+        deliverToInbox(userId, digest);
+        publish(message, List.of(digest));
+    }
+    
+    /**
+     * Sets whether a user gets notifications of a type immediately or as an
+     * hourly/daily digest
+     */
+    public void setDigestPreference(String userId, NotificationType type, DigestFrequency frequency) {
+        digestAggregator.setPreference(userId, type, frequency);
+    }
+    
+    public DigestFrequency getDigestPreference(String userId, NotificationType type) {
+        return digestAggregator.getPreference(userId, type);
+    }
+    
+    /**
+     * Returns the digest aggregator holding buffered notifications
+     */
+    public NotificationDigestAggregator getDigestAggregator() {
+        return digestAggregator;
+    }
+    
+    /**
+     * Sets the bus that pushes inbox changes to open dashboards
+     */
+    public void setChangeBus(DataChangeBus changeBus) {
+        this.changeBus = changeBus;
+    }
+    
+    private void publishChange(String userId) {
+        if (changeBus != null && userId != null) {
+            changeBus.publish(DataChangeEvent.Kind.NOTIFICATION, DataChangeEvent.Action.UPDATED,
+                              userId, DataChangeEvent.BROADCAST_ID.equals(userId) ? null : userId);
+        }
+    }
+    
+    /**
+     * Sets who receives broadcasts on the external channels; defaults to
+     * every user with an inbox
+     */
+    public void setBroadcastRecipients(Supplier<Collection<String>> broadcastRecipients) {
+        if (broadcastRecipients == null) {
+            throw new IllegalArgumentException("Broadcast recipients cannot be null");
+        }
+        this.broadcastRecipients = broadcastRecipients;
     }
     
     public void addNotificationStrategy(NotificationStrategy strategy) {
@@ -58,6 +194,36 @@ public class NotificationService {
         }
     }
     
+    public List<NotificationStrategy> getNotificationStrategies() {
+        return new ArrayList<>(strategies);
+    }
+    
+    /**
+     * Returns the compiled message templates used by the notifying services
+     */
+    public NotificationTemplateManager getTemplateManager() {
+        return templateManager;
+    }
+    
+    /**
+     * Returns the asynchronous channel dispatcher
+     */
+    public NotificationDispatcher getDispatcher() {
+        return dispatcher;
+    }
+    
+    /**
+     * Flushes buffered digests, drains pending channel deliveries, stops the
+     * dispatcher threads and closes the notification log
+     */
+    public void shutdown() {
+        digestAggregator.shutdown();
+        dispatcher.shutdown();
+        if (notificationLog != null) {
+            notificationLog.close();
+        }
+    }
+    
     public void scheduleNotification(String message, List<String> recipients,
                                    LocalDateTime sendTime, NotificationType type) {
         // Simple implementation for now - just send immediately if time has passed
@@ -67,50 +233,417 @@ public class NotificationService {
         // TODO: Implement proper scheduling for future times
     }
     
+    /**
+     * Appends a notification to the recipient's inbox and indexes it by ID;
+     * notifications pushed out of the ring are dropped from the index
+     */
+    private void deliverToInbox(String recipientId, Notification notification) {
+        UserInbox inbox = inboxFor(recipientId);
+        List<Notification> evicted = new ArrayList<>(1);
+        if (!replaying) {
+            inbox.evictOlderThan(expiryCutoff(), evicted);
+        }
+        long slot = inbox.append(notification, evicted);
+        notificationIndex.put(notification.getNotificationId(), new InboxSlot(recipientId, slot));
+        unindex(evicted);
+        publishChange(recipientId);
+    }
+    
+    private void unindex(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            notificationIndex.remove(notification.getNotificationId());
+        }
+    }
+    
+    private static LocalDateTime expiryCutoff() {
+        return LocalDateTime.now().minus(NOTIFICATION_TTL);
+    }
+    
+    /**
+     * Applies TTL eviction to the broadcast log and, if present, the user's inbox
+     */
+    private void expire(UserInbox inbox) {
+        expire(inbox, false);
+    }
+    
+    /**
+     * Read-side eviction: the broadcast log is only trimmed if its write lock
+     * is free, otherwise the next write or read catches up
+     */
+    private void expireOnRead(UserInbox inbox) {
+        expire(inbox, true);
+    }
+    
+    private void expire(UserInbox inbox, boolean onRead) {
+        LocalDateTime cutoff = expiryCutoff();
+        if (onRead) {
+            broadcastLog.tryEvictOlderThan(cutoff);
+        } else {
+            broadcastLog.evictOlderThan(cutoff);
+        }
+        if (inbox != null) {
+            List<Notification> evicted = new ArrayList<>();
+            inbox.evictOlderThan(cutoff, evicted);
+            unindex(evicted);
+            inbox.alignBroadcasts(broadcastLog.getFirstSequence());
+        }
+    }
+    
+    /**
+     * Returns the user's notifications (direct and broadcast) oldest first
+     */
     public List<Notification> getUserNotifications(String userId) {
-        return userNotifications.getOrDefault(userId, new ArrayList<>());
+        UserInbox inbox = userInboxes.get(userId);
+        expireOnRead(inbox);
+        List<Notification> direct = inbox != null ? inbox.snapshot() : new ArrayList<>();
+        long visibleFrom = inbox != null ? inbox.getBroadcastVisibleFrom() : 0;
+        List<Notification> broadcasts = broadcastLog.readFrom(visibleFrom);
+        if (broadcasts.isEmpty()) {
+            return direct;
+        }
+        
+        // Materialize per-user views of the shared broadcasts and merge by time
+        List<Notification> merged = new ArrayList<>(direct.size() + broadcasts.size());
+        int d = 0;
+        for (Notification broadcast : broadcasts) {
+            while (d < direct.size() && !direct.get(d).getCreatedAt().isAfter(broadcast.getCreatedAt())) {
+                merged.add(direct.get(d++));
+            }
+            boolean read = inbox != null
+                && inbox.isBroadcastRead(broadcastLog.getSequence(broadcast.getNotificationId()));
+            merged.add(broadcast.forRecipient(userId, read));
+        }
+        while (d < direct.size()) {
+            merged.add(direct.get(d++));
+        }
+        return merged;
+    }
+    
+    /**
+     * Returns one page of the user's notifications, newest first
+     *
+     * @param page zero-based page index
+     */
+    public NotificationPage getUserNotificationsPage(String userId, int page, int pageSize) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index cannot be negative");
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        UserInbox inbox = userInboxes.get(userId);
+        expireOnRead(inbox);
+        long skip = (long) page * pageSize;
+        int window = (int) Math.min(Integer.MAX_VALUE, skip + pageSize);
+        long visibleFrom = inbox != null ? inbox.getBroadcastVisibleFrom() : 0;
+        List<Notification> direct = inbox != null ? inbox.newest(window) : Collections.emptyList();
+        List<Notification> broadcasts = broadcastLog.readNewest(visibleFrom, window);
+        int totalCount = (inbox != null ? inbox.size() : 0) + broadcastLog.countFrom(visibleFrom);
+        
+        // Walk both sources newest first; ties go to the broadcast, mirroring
+        // the oldest-first merge in getUserNotifications
+        List<Notification> items = new ArrayList<>(pageSize);
+        int d = direct.size() - 1;
+        int b = broadcasts.size() - 1;
+        for (long index = 0; index < skip + pageSize && (d >= 0 || b >= 0); index++) {
+            boolean takeBroadcast = b >= 0
+                && (d < 0 || !direct.get(d).getCreatedAt().isAfter(broadcasts.get(b).getCreatedAt()));
+            Notification next = takeBroadcast ? broadcasts.get(b--) : direct.get(d--);
+            if (index < skip) {
+                continue;
+            }
+            if (takeBroadcast) {
+                boolean read = inbox != null
+                    && inbox.isBroadcastRead(broadcastLog.getSequence(next.getNotificationId()));
+                next = next.forRecipient(userId, read);
+            }
+            items.add(next);
+        }
+        return new NotificationPage(items, page, pageSize, totalCount);
     }
     
     /**
-     * Marks a notification as read/seen
+     * Marks a notification as read/seen. Broadcast notifications are shared
+     * between users, so they need markNotificationAsRead(userId, notificationId).
      */
     public void markNotificationAsRead(String notificationId) {
-        for (List<Notification> notifications : userNotifications.values()) {
-            for (Notification notification : notifications) {
-                if (notification.getNotificationId().equals(notificationId)) {
-                    notification.markSent(); // Reusing markSent as markRead for simplicity
-                    return;
-                }
+        if (notificationId == null) {
+            return;
+        }
+        InboxSlot location = notificationIndex.get(notificationId);
+        if (location == null) {
+            return;
+        }
+        UserInbox inbox = userInboxes.get(location.userId);
+        if (inbox != null && inbox.markRead(location.slot, notificationId)) {
+            if (isLogging()) {
+                notificationLog.appendRead(location.userId, notificationId);
+                compactIfNeeded();
+            }
+            publishChange(location.userId);
+        }
+    }
+    
+    /**
+     * Marks a notification as read for a specific user; handles both direct
+     * and broadcast notifications
+     */
+    public void markNotificationAsRead(String userId, String notificationId) {
+        if (userId == null || notificationId == null) {
+            return;
+        }
+        long sequence = broadcastLog.getSequence(notificationId);
+        if (sequence < 0) {
+            markNotificationAsRead(notificationId);
+            return;
+        }
+        if (inboxFor(userId).markBroadcastRead(sequence)) {
+            if (isLogging()) {
+                notificationLog.appendRead(userId, notificationId);
+                compactIfNeeded();
             }
+            publishChange(userId);
+        }
+    }
+    
+    /**
+     * Marks every notification of a user as read
+     */
+    public void markAllNotificationsAsRead(String userId) {
+        long broadcastEnd = broadcastLog.getEndSequence();
+        inboxFor(userId).markAllRead(broadcastEnd);
+        if (isLogging()) {
+            notificationLog.appendReadAll(userId, broadcastEnd);
+            compactIfNeeded();
         }
+        publishChange(userId);
     }
     
     /**
-     * Clears all notifications for a user
+     * Clears all notifications for a user, including broadcasts received so far
      */
     public void clearUserNotifications(String userId) {
-        userNotifications.remove(userId);
+        clearInbox(userId, broadcastLog.getEndSequence());
+    }
+    
+    private void clearInbox(String userId, long broadcastEnd) {
+        unindex(inboxFor(userId).clear(broadcastEnd));
+        if (isLogging()) {
+            notificationLog.appendClear(userId, broadcastEnd);
+            compactIfNeeded();
+        }
+        publishChange(userId);
     }
     
     /**
      * Gets count of unread notifications for a user
      */
     public int getUnreadNotificationCount(String userId) {
-        List<Notification> notifications = getUserNotifications(userId);
-        return (int) notifications.stream()
-                .filter(n -> n.getSentAt() == null)
-                .count();
+        UserInbox inbox = userInboxes.get(userId);
+        expireOnRead(inbox);
+        long broadcastEnd = broadcastLog.getEndSequence();
+        if (inbox == null) {
+            return (int) (broadcastEnd - broadcastLog.getFirstSequence());
+        }
+        return inbox.getUnreadCount(broadcastEnd);
     }
     
     /**
-     * Sends a bulk notification to all users of a specific type
+     * Sends a campus-wide notification to all users. The message is stored
+     * once in the broadcast log and shows up in every inbox on read; the
+     * external channels get it as one batched dispatch.
      */
     public void sendBulkNotification(String message, NotificationType type) {
-        // This would typically send to all active users
-        // For now, we'll just store it for existing users
-        for (String userId : userNotifications.keySet()) {
-            List<String> singleUser = List.of(userId);
-            sendNotification(message, singleUser, type);
+        if (message == null || message.trim().isEmpty()) {
+            return;
+        }
+        String finalMessage = templateManager.applyTypeTemplate(type, message);
+        Notification broadcast = new Notification(null, finalMessage, type);
+        broadcastLog.evictOlderThan(expiryCutoff());
+        long sequence = broadcastLog.append(broadcast);
+        if (isLogging()) {
+            notificationLog.appendBroadcast(sequence, broadcast);
+            compactIfNeeded();
+        }
+        publishChange(DataChangeEvent.BROADCAST_ID);
+        dispatchBroadcast(finalMessage, type);
+    }
+    
+    /**
+     * Queues a broadcast for the external channels. The per-recipient
+     * records only carry delivery status; they are not stored in inboxes.
+     */
+    private void dispatchBroadcast(String message, NotificationType type) {
+        if (strategies.isEmpty()) {
+            return;
+        }
+        Collection<String> recipients = broadcastRecipients.get();
+        if (recipients == null || recipients.isEmpty()) {
+            return;
+        }
+        List<Notification> deliveries = new ArrayList<>(recipients.size());
+        for (String recipientId : recipients) {
+            deliveries.add(new Notification(recipientId, message, type));
+        }
+        dispatcher.dispatchExternal(message, deliveries);
+    }
+    
+    private UserInbox inboxFor(String userId) {
+        return userInboxes.computeIfAbsent(userId, k -> new UserInbox(MAX_NOTIFICATIONS_PER_USER));
+    }
+    
+    // =============================================================================
+    // PERSISTENCE
+    // =============================================================================
+    
+    private boolean isLogging() {
+        return notificationLog != null && !replaying;
+    }
+    
+    /**
+     * Rebuilds inboxes from the log, then rewrites the log so it only holds
+     * what survived the ring cap and TTL
+     */
+    private void loadFromLog() {
+        replaying = true;
+        try {
+            long records = notificationLog.replay(new ReplayHandler());
+            for (UserInbox inbox : userInboxes.values()) {
+                expire(inbox);
+            }
+            expire(null);
+            notificationLog.compact(this::writeSnapshot);
+            LOG.info("Replayed " + records + " notification log records, compacted to "
+                     + notificationLog.getRecordCount());
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Error loading notification log", e);
+        } finally {
+            replaying = false;
+        }
+    }
+    
+    /**
+     * Rewrites the log once superseded records dominate. Every change is
+     * applied in memory before its record is appended, so a change racing
+     * the snapshot is either in it or appended after the swap.
+     */
+    private void compactIfNeeded() {
+        synchronized (notificationLog) {
+            long liveRecords = (long) notificationIndex.size() + broadcastLog.size() + userInboxes.size();
+            if (!notificationLog.needsCompaction(liveRecords)) {
+                return;
+            }
+            try {
+                notificationLog.compact(this::writeSnapshot);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Failed to compact notification log", e);
+            }
+        }
+    }
+    
+    private void writeSnapshot(NotificationLog.RecordWriter writer) throws IOException {
+        long firstSequence = broadcastLog.getFirstSequence();
+        List<Notification> broadcasts = broadcastLog.readFrom(firstSequence);
+        for (int i = 0; i < broadcasts.size(); i++) {
+            writer.broadcast(firstSequence + i, broadcasts.get(i));
+        }
+        for (Map.Entry<String, UserInbox> entry : userInboxes.entrySet()) {
+            String userId = entry.getKey();
+            UserInbox inbox = entry.getValue();
+            if (inbox.getBroadcastVisibleFrom() > firstSequence) {
+                writer.clear(userId, inbox.getBroadcastVisibleFrom());
+            }
+            for (Notification notification : inbox.snapshot()) {
+                writer.notification(notification);
+            }
+            for (long sequence : inbox.getReadBroadcastSequences()) {
+                int offset = (int) (sequence - firstSequence);
+                if (offset >= 0 && offset < broadcasts.size()) {
+                    writer.read(userId, broadcasts.get(offset).getNotificationId());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Applies replayed log records; logging is suppressed while replaying
+     */
+    private class ReplayHandler implements NotificationLog.Handler {
+        @Override
+        public void onNotification(Notification notification) {
+            if (notification.getRecipientId() != null
+                && !notificationIndex.containsKey(notification.getNotificationId())) {
+                deliverToInbox(notification.getRecipientId(), notification);
+            }
+        }
+        
+        @Override
+        public void onBroadcast(long sequence, Notification broadcast) {
+            if (broadcastLog.getSequence(broadcast.getNotificationId()) < 0) {
+                broadcastLog.restore(sequence, broadcast);
+            }
+        }
+        
+        @Override
+        public void onRead(String userId, String notificationId) {
+            markNotificationAsRead(userId, notificationId);
+        }
+        
+        @Override
+        public void onReadAll(String userId, long broadcastEnd) {
+            inboxFor(userId).markAllRead(broadcastEnd);
+        }
+        
+        @Override
+        public void onClear(String userId, long broadcastEnd) {
+            clearInbox(userId, broadcastEnd);
+        }
+    }
+    
+    /**
+     * Location of a notification: owning user and its sequence in that user's inbox
+     */
+    private static class InboxSlot {
+        private final String userId;
+        private final long slot;
+        
+        InboxSlot(String userId, long slot) {
+            this.userId = userId;
+            this.slot = slot;
+        }
+    }
+    
+    /**
+     * One page of a user's notifications
+     */
+    public static class NotificationPage {
+        private final List<Notification> notifications;
+        private final int page;
+        private final int pageSize;
+        private final int totalCount;
+        
+        public NotificationPage(List<Notification> notifications, int page, int pageSize, int totalCount) {
+            this.notifications = notifications;
+            this.page = page;
+            this.pageSize = pageSize;
+            this.totalCount = totalCount;
+        }
+        
+        public List<Notification> getNotifications() { return notifications; }
+        public int getPage() { return page; }
+        public int getPageSize() { return pageSize; }
+        public int getTotalCount() { return totalCount; }
+        
+        public int getTotalPages() {
+            return Math.max(1, (totalCount + pageSize - 1) / pageSize);
+        }
+        
+        public boolean hasPrevious() {
+            return page > 0;
+        }
+        
+        public boolean hasNext() {
+            return (long) (page + 1) * pageSize < totalCount;
         }
     }
-}
\ No newline at end of file
+}
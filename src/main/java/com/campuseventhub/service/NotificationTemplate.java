@@ -0,0 +1,138 @@
+// =============================================================================
+// NOTIFICATION TEMPLATE
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A notification template compiled into literal segments and slot references.
+ *
+ * Implementation Details:
+ * - Parsed once: "{name}" placeholders become slot ordinals, the text
+ *   between them literal segments, so rendering never re-parses the source
+ * - Unknown placeholders are rejected at compile time
+ * - A "{" not followed by a valid "name}" is kept as literal text
+ * - Rendering appends into a per-thread StringBuilder that is reused
+ */
+public class NotificationTemplate {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int MAX_RETAINED_BUILDER_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUILDER =
+        ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private final String key;
+    private final String source;
+    // literals[i] precedes slots[i]; the final literal has no slot after it
+    private final String[] literals;
+    private final int[] slots;
+    private final int estimatedLength;
+
+    private NotificationTemplate(String key, String source, String[] literals, int[] slots) {
+        this.key = key;
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.estimatedLength = length + slots.length * 16;
+    }
+
+    /**
+     * Parses a template source into segments
+     *
+     * @throws IllegalArgumentException if the source references an unknown slot
+     */
+    public static NotificationTemplate compile(String key, String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Template source cannot be null");
+        }
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            int close = c == '{' ? source.indexOf('}', i + 1) : -1;
+            if (close > i + 1 && isIdentifier(source, i + 1, close)) {
+                String name = source.substring(i + 1, close);
+                TemplateSlot slot = TemplateSlot.fromName(name);
+                if (slot == null) {
+                    throw new IllegalArgumentException("Unknown slot {" + name + "} in template " + key);
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                slots.add(slot.ordinal());
+                i = close + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+        return new NotificationTemplate(key, source, literals.toArray(new String[0]),
+                                        slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static boolean isIdentifier(String source, int start, int end) {
+        if (!Character.isJavaIdentifierStart(source.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            if (!Character.isJavaIdentifierPart(source.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Renders the template with the given slot values; unset slots render empty
+     */
+    public String render(TemplateContext context) {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        builder.ensureCapacity(estimatedLength);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            appendSlot(builder, context, slots[i]);
+        }
+        builder.append(literals[slots.length]);
+        String result = builder.toString();
+        if (builder.capacity() > MAX_RETAINED_BUILDER_CAPACITY) {
+            BUILDER.remove();
+        }
+        return result;
+    }
+
+    private static void appendSlot(StringBuilder builder, TemplateContext context, int ordinal) {
+        if (context.hasNumber(ordinal)) {
+            builder.append(context.getNumber(ordinal));
+            return;
+        }
+        Object value = context.getValue(ordinal);
+        if (value instanceof LocalDateTime) {
+            DATE_TIME_FORMAT.formatTo((LocalDateTime) value, builder);
+        } else if (value != null) {
+            builder.append(value);
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getSlotCount() {
+        return slots.length;
+    }
+}
@@ -4,31 +4,174 @@
 
 package com.campuseventhub.service;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
 import com.campuseventhub.model.notification.NotificationType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * Manages notification message templates.
  *
  * Implementation Details:
- * - In-memory storage for templates
- * - Loading default templates
- * - Retrieving templates by type
+ * - Templates loaded from config/notification-templates.properties on the
+ *   classpath, overridden by the file under src/main/resources/config
+ * - Each template compiled once into a NotificationTemplate
+ * - Hot reload: the override file's modification time is checked at most
+ *   every reload interval (2s by default) and templates are recompiled on change
+ * - Compiled templates published as an immutable map swapped atomically;
+ *   a reload with errors keeps the previous templates
+ * - Optional per-type wrappers (type.NAME) applied by NotificationService
  */
 public class NotificationTemplateManager {
-    private Map<NotificationType, String> templates;
+    private static final Logger LOG = LogManager.getLogger(NotificationTemplateManager.class);
+    public static final String TEMPLATE_RESOURCE = "/config/notification-templates.properties";
+    private static final Path DEFAULT_TEMPLATE_FILE =
+        Paths.get("src/main/resources/config/notification-templates.properties");
+    private static final long DEFAULT_RELOAD_INTERVAL_MILLIS = 2000;
+    private static final String TYPE_PREFIX = "type.";
+
+    private final Path templateFile;
+    private final long reloadIntervalMillis;
+    private volatile Map<String, NotificationTemplate> templates;
+    private volatile long loadedModifiedTime;
+    private volatile long nextReloadCheck;
 
     public NotificationTemplateManager() {
-        this.templates = new HashMap<>();
+        this(DEFAULT_TEMPLATE_FILE);
+    }
+
+    /**
+     * @param templateFile file whose templates override the classpath defaults
+     */
+    public NotificationTemplateManager(Path templateFile) {
+        this(templateFile, DEFAULT_RELOAD_INTERVAL_MILLIS);
+    }
+
+    NotificationTemplateManager(Path templateFile, long reloadIntervalMillis) {
+        this.templateFile = templateFile;
+        this.reloadIntervalMillis = reloadIntervalMillis;
+        this.templates = Collections.emptyMap();
     }
 
+    /**
+     * Loads and compiles all templates, replacing the current set
+     */
     public void loadTemplates() {
-        // TODO: Load templates from configuration or persistence
+        try {
+            Properties sources = new Properties();
+            try (InputStream in = NotificationTemplateManager.class.getResourceAsStream(TEMPLATE_RESOURCE)) {
+                if (in != null) {
+                    load(sources, in);
+                }
+            }
+            long modifiedTime = 0;
+            if (templateFile != null && Files.isRegularFile(templateFile)) {
+                modifiedTime = Files.getLastModifiedTime(templateFile).toMillis();
+                try (InputStream in = Files.newInputStream(templateFile)) {
+                    load(sources, in);
+                }
+            }
+            Map<String, NotificationTemplate> compiled = new HashMap<>();
+            for (String key : sources.stringPropertyNames()) {
+                compiled.put(key, NotificationTemplate.compile(key, sources.getProperty(key)));
+            }
+            templates = Collections.unmodifiableMap(compiled);
+            loadedModifiedTime = modifiedTime;
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.error("Error loading templates: " + e.getMessage());
+        } finally {
+            nextReloadCheck = System.currentTimeMillis() + reloadIntervalMillis;
+        }
     }
 
+    private static void load(Properties target, InputStream in) throws IOException {
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            target.load(reader);
+        }
+    }
+
+    /**
+     * Reloads templates if the override file changed since the last load
+     */
+    public void reloadIfModified() {
+        long now = System.currentTimeMillis();
+        if (now < nextReloadCheck || templateFile == null) {
+            return;
+        }
+        nextReloadCheck = now + reloadIntervalMillis;
+        try {
+            long modifiedTime = Files.isRegularFile(templateFile)
+                ? Files.getLastModifiedTime(templateFile).toMillis() : 0;
+            if (modifiedTime != loadedModifiedTime) {
+                LOG.info("Reloading templates from " + templateFile);
+                loadTemplates();
+            }
+        } catch (IOException e) {
+            LOG.error("Error checking templates: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the compiled template for a key, or null if there is none
+     */
+    public NotificationTemplate getTemplate(String key) {
+        reloadIfModified();
+        return templates.get(key);
+    }
+
+    /**
+     * Returns the wrapper template source for a notification type, or null
+     */
     public String getTemplate(NotificationType type) {
-        // TODO: Return template for the given notification type
-        return templates.get(type);
+        NotificationTemplate template = getTemplate(TYPE_PREFIX + type.name());
+        return template != null ? template.getSource() : null;
+    }
+
+    /**
+     * Renders the template registered under the key
+     *
+     * @throws IllegalArgumentException if no such template is loaded
+     */
+    public String render(String key, TemplateContext context) {
+        return requireTemplate(key).render(context);
+    }
+
+    /**
+     * Returns the compiled template for a key
+     *
+     * @throws IllegalArgumentException if no such template is loaded
+     */
+    public NotificationTemplate requireTemplate(String key) {
+        NotificationTemplate template = getTemplate(key);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown notification template: " + key);
+        }
+        return template;
+    }
+
+    /**
+     * Applies the type's wrapper template to a message, if one is configured
+     */
+    public String applyTypeTemplate(NotificationType type, String message) {
+        NotificationTemplate template = getTemplate(TYPE_PREFIX + type.name());
+        if (template == null) {
+            return message;
+        }
+        return template.render(new TemplateContext().set(TemplateSlot.MESSAGE, message));
+    }
+
+    public int getTemplateCount() {
+        return templates.size();
     }
 }
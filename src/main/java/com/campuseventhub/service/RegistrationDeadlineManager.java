@@ -4,10 +4,15 @@
 
 package com.campuseventhub.service;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
 import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.EventStatus;
 import com.campuseventhub.model.event.Registration;
 import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.metrics.Counter;
+import com.campuseventhub.metrics.MetricsRegistry;
+import com.campuseventhub.metrics.Timer;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.util.List;
@@ -30,14 +35,19 @@ import java.util.stream.Collectors;
  * - Integration with event lifecycle management
  * - Deadline extension capabilities for organizers
  * - Statistical reporting for deadline compliance
+ * - Each monitoring cycle is timed as deadlines.cycle; closures are counted
+ *   as deadlines.closed
  */
 public class RegistrationDeadlineManager {
+    private static final Logger LOG = LogManager.getLogger(RegistrationDeadlineManager.class);
     private EventManager eventManager;
     private NotificationService notificationService;
     private ScheduledExecutorService scheduler;
     private Map<String, LocalDateTime> lastDeadlineCheck;
     private Map<String, Boolean> warningsSent;
     private boolean isRunning;
+    private final Timer cycleTimer;
+    private final Counter closedCounter;
     
     // Configuration settings
     private static final int CHECK_INTERVAL_MINUTES = 5;
@@ -56,6 +66,8 @@ public class RegistrationDeadlineManager {
             return t;
         });
         this.isRunning = false;
+        this.cycleTimer = MetricsRegistry.getDefault().timer("deadlines.cycle");
+        this.closedCounter = MetricsRegistry.getDefault().counter("deadlines.closed");
     }
     
     /**
@@ -88,7 +100,7 @@ public class RegistrationDeadlineManager {
             TimeUnit.MINUTES
         );
         
-        System.out.println("RegistrationDeadlineManager: Deadline monitoring started");
+        LOG.info("Deadline monitoring started");
     }
     
     /**
@@ -109,13 +121,14 @@ public class RegistrationDeadlineManager {
             scheduler.shutdownNow();
         }
         
-        System.out.println("RegistrationDeadlineManager: Deadline monitoring stopped");
+        LOG.info("Deadline monitoring stopped");
     }
     
     /**
      * Main processing method that checks all events for deadline compliance
      */
     private void processDeadlines() {
+        long start = cycleTimer.start();
         try {
             LocalDateTime now = LocalDateTime.now();
             List<Event> events = eventManager.findAll();
@@ -129,8 +142,10 @@ public class RegistrationDeadlineManager {
             }
             
         } catch (Exception e) {
-            System.err.println("Error processing registration deadlines: " + e.getMessage());
-            e.printStackTrace();
+            cycleTimer.markFailure();
+            LOG.error("Error processing registration deadlines", e);
+        } finally {
+            cycleTimer.stop(start);
         }
     }
     
@@ -138,11 +153,8 @@ public class RegistrationDeadlineManager {
      * Processes deadline logic for a specific event
      */
     private void processEventDeadline(Event event, LocalDateTime now) {
-        String eventId = event.getEventId();
-        LocalDateTime deadline = event.getRegistrationDeadline();
-        
         // Check if registration should be closed
-        if (now.isAfter(deadline) || now.isEqual(deadline)) {
+        if (event.isRegistrationDeadlinePassed()) {
             closeEventRegistration(event, now);
             return;
         }
@@ -169,6 +181,7 @@ public class RegistrationDeadlineManager {
             
             // Mark the deadline as processed
             lastDeadlineCheck.put(eventId, closureTime);
+            closedCounter.increment();
             
             // Send closure notifications
             sendRegistrationClosureNotifications(event, closureTime);
@@ -177,8 +190,8 @@ public class RegistrationDeadlineManager {
             sendWaitlistClosureNotifications(event);
             
             // Log the closure
-            System.out.println(String.format(
-                "RegistrationDeadlineManager: Registration closed for event '%s' (ID: %s) at %s",
+            LOG.info(() -> String.format(
+                "Registration closed for event '%s' (ID: %s) at %s",
                 event.getTitle(), eventId, closureTime
             ));
             
@@ -187,9 +200,7 @@ public class RegistrationDeadlineManager {
             eventManager.update(event);
             
         } catch (Exception e) {
-            System.err.println(String.format(
-                "Failed to close registration for event %s: %s", eventId, e.getMessage()
-            ));
+            LOG.error("Failed to close registration for event " + eventId, e);
         }
     }
     
@@ -230,19 +241,8 @@ public class RegistrationDeadlineManager {
             return;
         }
         
-        String message = String.format(
-            "Registration has closed for '%s'!\n\n" +
-            "📅 Event Date: %s\n" +
-            "🕒 Event Time: %s - %s\n" +
-            "📍 Location: %s\n\n" +
-            "Your registration is confirmed. We look forward to seeing you there!\n\n" +
-            "If you need to cancel your registration, please contact the organizer as soon as possible.",
-            event.getTitle(),
-            event.getStartDateTime().toLocalDate(),
-            event.getStartDateTime().toLocalTime(),
-            event.getEndDateTime().toLocalTime(),
-            event.getVenueName()
-        );
+        String message = notificationService.getTemplateManager()
+            .render("deadline.closed", TemplateContext.forEvent(event));
         
         notificationService.sendNotification(message, registeredAttendeeIds, NotificationType.EVENT_UPDATE);
     }
@@ -259,19 +259,8 @@ public class RegistrationDeadlineManager {
             .map(Registration::getAttendeeId)
             .collect(Collectors.toList());
         
-        String message = String.format(
-            "Registration has closed for '%s'.\n\n" +
-            "Unfortunately, you were not promoted from the waitlist before the registration deadline.\n\n" +
-            "📅 Event Date: %s\n" +
-            "🕒 Event Time: %s - %s\n" +
-            "📍 Location: %s\n\n" +
-            "Thank you for your interest. Please consider registering early for future events!",
-            event.getTitle(),
-            event.getStartDateTime().toLocalDate(),
-            event.getStartDateTime().toLocalTime(),
-            event.getEndDateTime().toLocalTime(),
-            event.getVenueName()
-        );
+        String message = notificationService.getTemplateManager()
+            .render("deadline.closedWaitlist", TemplateContext.forEvent(event));
         
         notificationService.sendNotification(message, waitlistedAttendeeIds, NotificationType.EVENT_UPDATE);
     }
@@ -309,26 +298,10 @@ public class RegistrationDeadlineManager {
      * Creates deadline warning message
      */
     private String createWarningMessage(Event event, Duration timeRemaining, boolean isWaitlisted) {
-        String timeDescription = formatTimeRemaining(timeRemaining);
-        String statusMessage = isWaitlisted ? 
-            "You are currently on the waitlist. Registration will close soon, so your chances of being promoted are running out!" :
-            "Your registration is confirmed.";
-        
-        return String.format(
-            "⏰ Registration closes %s for '%s'!\n\n" +
-            "%s\n\n" +
-            "📅 Event Date: %s\n" +
-            "🕒 Event Time: %s - %s\n" +
-            "📍 Location: %s\n\n" +
-            "Don't miss out!",
-            timeDescription,
-            event.getTitle(),
-            statusMessage,
-            event.getStartDateTime().toLocalDate(),
-            event.getStartDateTime().toLocalTime(),
-            event.getEndDateTime().toLocalTime(),
-            event.getVenueName()
-        );
+        TemplateContext context = TemplateContext.forEvent(event)
+            .set(TemplateSlot.TIME_REMAINING, formatTimeRemaining(timeRemaining));
+        String key = isWaitlisted ? "deadline.warningWaitlist" : "deadline.warning";
+        return notificationService.getTemplateManager().render(key, context);
     }
     
     /**
@@ -423,26 +396,14 @@ public class RegistrationDeadlineManager {
             return;
         }
         
-        String message = String.format(
-            "📅 Registration deadline extended for '%s'!\n\n" +
-            "Previous deadline: %s at %s\n" +
-            "New deadline: %s at %s\n\n" +
-            "%s\n\n" +
-            "📅 Event Date: %s\n" +
-            "🕒 Event Time: %s - %s\n" +
-            "📍 Location: %s\n\n" +
-            "This gives you more time to make your decision!",
-            event.getTitle(),
-            oldDeadline.toLocalDate(),
-            oldDeadline.toLocalTime(),
-            newDeadline.toLocalDate(),
-            newDeadline.toLocalTime(),
-            reason != null && !reason.trim().isEmpty() ? "Reason: " + reason : "Extended to accommodate more registrations.",
-            event.getStartDateTime().toLocalDate(),
-            event.getStartDateTime().toLocalTime(),
-            event.getEndDateTime().toLocalTime(),
-            event.getVenueName()
-        );
+        TemplateContext context = TemplateContext.forEvent(event)
+            .set(TemplateSlot.OLD_DEADLINE_DATE, oldDeadline.toLocalDate())
+            .set(TemplateSlot.OLD_DEADLINE_TIME, oldDeadline.toLocalTime())
+            .set(TemplateSlot.NEW_DEADLINE_DATE, newDeadline.toLocalDate())
+            .set(TemplateSlot.NEW_DEADLINE_TIME, newDeadline.toLocalTime())
+            .set(TemplateSlot.REASON, reason != null && !reason.trim().isEmpty()
+                ? "Reason: " + reason : "Extended to accommodate more registrations.");
+        String message = notificationService.getTemplateManager().render("deadline.extended", context);
         
         notificationService.sendNotification(message, allAttendeeIds, NotificationType.EVENT_UPDATE);
     }
@@ -1,101 +1,184 @@
 package com.campuseventhub.service;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import com.campuseventhub.model.EntityId;
 import com.campuseventhub.model.event.Registration;
 import com.campuseventhub.model.event.RegistrationStatus;
+import com.campuseventhub.model.event.RegistrationTable;
 import com.campuseventhub.persistence.DataManager;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.concurrent.ConcurrentHashMap;
 import java.io.IOException;
 import java.time.LocalDateTime;
 
+/**
+ * Owns registration records and their per-event and per-attendee indexes.
+ *
+ * Implementation Details:
+ * - Registrations live in a RegistrationTable of per-event columnar blocks;
+ *   the lists returned here are fresh flyweights, safe to iterate while
+ *   other threads register
+ * - Registrations for one event are created under that event's lock by
+ *   EventManager, which is what keeps admission and duplicate checks atomic;
+ *   EventManager uses the in-memory addRegistration and markCancelled there
+ *   and calls saveRegistrations once the lock is released
+ * - Saves are serialized so concurrent writers never interleave in the file
+ * - Maps are keyed by EntityId; String IDs from callers are parsed once per
+ *   call rather than hashed and compared character by character
+ */
 public class RegistrationManager {
-    private Map<String, Registration> registrations;
-    private Map<String, List<Registration>> registrationsByEvent;
-    private Map<String, List<Registration>> registrationsByAttendee;
+    private static final Logger LOG = LogManager.getLogger(RegistrationManager.class);
+    private final RegistrationTable registrations;
     
     public RegistrationManager() {
-        this.registrations = new ConcurrentHashMap<>();
-        this.registrationsByEvent = new ConcurrentHashMap<>();
-        this.registrationsByAttendee = new ConcurrentHashMap<>();
+        this.registrations = new RegistrationTable();
         loadRegistrationsFromPersistence();
     }
     
     public Registration createRegistration(String eventId, String attendeeId) {
+        return createRegistration(eventId, attendeeId, false);
+    }
+    
+    /**
+     * Creates a confirmed registration, or a waitlisted one when the event is full
+     * PARAMS: eventId, attendeeId, waitlisted
+     */
+    public Registration createRegistration(String eventId, String attendeeId, boolean waitlisted) {
+        Registration registration = addRegistration(eventId, attendeeId, waitlisted);
+        if (registration != null) {
+            saveRegistrationsToPersistence();
+        }
+        return registration;
+    }
+    
+    /**
+     * Like createRegistration, but only in memory; the caller saves
+     * PARAMS: eventId, attendeeId, waitlisted
+     */
+    Registration addRegistration(String eventId, String attendeeId, boolean waitlisted) {
         if (eventId == null || attendeeId == null) {
             throw new IllegalArgumentException("Event ID and Attendee ID cannot be null");
         }
         
-        // Check if attendee is already registered for this event
-        Registration existingRegistration = findRegistration(attendeeId, eventId);
-        if (existingRegistration != null && existingRegistration.getStatus() != RegistrationStatus.CANCELLED) {
+        EntityId eventKey = EntityId.of(eventId);
+        EntityId attendeeKey = EntityId.of(attendeeId);
+        
+        // Check if attendee is already registered for this event; earlier
+        // cancelled registrations for it do not count
+        if (findActiveRegistration(attendeeKey, eventKey) != null) {
             return null; // Already registered
         }
         
-        Registration registration = new Registration(attendeeId, eventId);
-        registration.confirmRegistration();
-        registrations.put(registration.getRegistrationId(), registration);
-        registrationsByEvent.computeIfAbsent(eventId, k -> new ArrayList<>()).add(registration);
-        registrationsByAttendee.computeIfAbsent(attendeeId, k -> new ArrayList<>()).add(registration);
-        
-        saveRegistrationsToPersistence();
+        Registration registration = new Registration(attendeeKey, eventKey);
+        if (waitlisted) {
+            registration.setStatus(RegistrationStatus.WAITLISTED);
+        } else {
+            registration.confirmRegistration();
+        }
+        registrations.add(registration);
         return registration;
     }
     
     public boolean cancelRegistration(String registrationId) {
-        Registration registration = registrations.get(registrationId);
+        boolean cancelled = markCancelled(registrationId);
+        if (cancelled) {
+            saveRegistrationsToPersistence();
+        }
+        return cancelled;
+    }
+    
+    /**
+     * Like cancelRegistration, but only in memory; the caller saves
+     * PARAMS: registrationId
+     */
+    boolean markCancelled(String registrationId) {
+        Registration registration = findById(registrationId);
         if (registration != null) {
             registration.setStatus(RegistrationStatus.CANCELLED);
             registration.setCancellationTime(LocalDateTime.now());
-            saveRegistrationsToPersistence();
             return true;
         }
         return false;
     }
     
+    /**
+     * Writes all registrations to registrations.ser
+     */
+    void saveRegistrations() {
+        saveRegistrationsToPersistence();
+    }
+    
+    public Registration findById(String registrationId) {
+        EntityId key = EntityId.ofNullable(registrationId);
+        return key != null ? registrations.findById(key) : null;
+    }
+    
     public List<Registration> getEventRegistrations(String eventId) {
-        return registrationsByEvent.getOrDefault(eventId, new ArrayList<>());
+        EntityId key = EntityId.ofNullable(eventId);
+        return key != null ? registrations.findByEvent(key) : new ArrayList<>();
     }
     
     public List<Registration> getAttendeeRegistrations(String attendeeId) {
-        return registrationsByAttendee.getOrDefault(attendeeId, new ArrayList<>());
+        EntityId key = EntityId.ofNullable(attendeeId);
+        return key != null ? registrations.findByAttendee(key) : new ArrayList<>();
+    }
+    
+    /**
+     * Counts an event's registrations in one status without building them
+     * PARAMS: eventId, status
+     */
+    public int countEventRegistrations(String eventId, RegistrationStatus status) {
+        EntityId key = EntityId.ofNullable(eventId);
+        return key != null ? registrations.count(key, status) : 0;
     }
     
     public Registration findRegistration(String attendeeId, String eventId) {
-        List<Registration> attendeeRegs = registrationsByAttendee.getOrDefault(attendeeId, new ArrayList<>());
-        return attendeeRegs.stream()
-            .filter(reg -> reg.getEventId().equals(eventId))
+        EntityId eventKey = EntityId.ofNullable(eventId);
+        return getAttendeeRegistrations(attendeeId).stream()
+            .filter(reg -> reg.getEventKey().equals(eventKey))
             .findFirst()
             .orElse(null);
     }
     
+    /**
+     * Finds the attendee's confirmed or waitlisted registration for an event
+     * PARAMS: attendeeId, eventId
+     */
+    public Registration findActiveRegistration(String attendeeId, String eventId) {
+        EntityId attendeeKey = EntityId.ofNullable(attendeeId);
+        EntityId eventKey = EntityId.ofNullable(eventId);
+        return attendeeKey != null && eventKey != null ? findActiveRegistration(attendeeKey, eventKey) : null;
+    }
+    
+    private Registration findActiveRegistration(EntityId attendeeKey, EntityId eventKey) {
+        return registrations.findActive(attendeeKey, eventKey);
+    }
+    
     @SuppressWarnings("unchecked")
     private void loadRegistrationsFromPersistence() {
         try {
             Object registrationsData = DataManager.loadData("registrations.ser");
             if (registrationsData instanceof Map) {
-                Map<String, Registration> loadedRegistrations = (Map<String, Registration>) registrationsData;
+                // Older files are keyed by String; only the values are used
+                Map<?, Registration> loadedRegistrations = (Map<?, Registration>) registrationsData;
                 for (Registration reg : loadedRegistrations.values()) {
-                    registrations.put(reg.getRegistrationId(), reg);
-                    registrationsByEvent.computeIfAbsent(reg.getEventId(), k -> new ArrayList<>()).add(reg);
-                    registrationsByAttendee.computeIfAbsent(reg.getAttendeeId(), k -> new ArrayList<>()).add(reg);
+                    registrations.add(reg);
                 }
-                System.out.println("RegistrationManager: Successfully loaded " + loadedRegistrations.size() + " registrations");
+                LOG.info("Successfully loaded " + loadedRegistrations.size() + " registrations");
             }
         } catch (IOException | ClassNotFoundException e) {
-            System.out.println("RegistrationManager: No existing registration data found: " + e.getMessage());
+            LOG.info("No existing registration data found: " + e.getMessage());
         }
     }
     
-    private void saveRegistrationsToPersistence() {
+    private synchronized void saveRegistrationsToPersistence() {
         try {
-            System.out.println("RegistrationManager: Attempting to save " + registrations.size() + " registrations to persistence");
-            DataManager.saveData("registrations.ser", new ConcurrentHashMap<>(registrations));
-            System.out.println("RegistrationManager: Successfully saved registrations to persistence");
+            LOG.debug(() -> "Saving " + registrations.size() + " registrations");
+            DataManager.saveData("registrations.ser", registrations.snapshot());
         } catch (IOException e) {
-            System.err.println("RegistrationManager: Failed to save registrations to persistence: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Failed to save registrations to persistence", e);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+// =============================================================================
+// RETRY POLICY
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with full jitter for notification channel retries.
+ *
+ * Implementation Details:
+ * - Attempt n (1-based) waits a random delay in [0, min(maxDelay, baseDelay * 2^(n-1))]
+ * - Full jitter spreads retries of many failed batches so a recovering
+ *   gateway is not hit by a synchronized burst
+ * - Immutable and safe to share between channels
+ */
+public class RetryPolicy {
+    private static final int DEFAULT_MAX_ATTEMPTS = 4;
+    private static final long DEFAULT_BASE_DELAY_MILLIS = 200;
+    private static final long DEFAULT_MAX_DELAY_MILLIS = 10_000;
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public RetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS);
+    }
+
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        }
+        if (baseDelayMillis < 0 || maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("Invalid retry delay bounds");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Returns true if another attempt is allowed after the given attempt number
+     */
+    public boolean shouldRetry(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    /**
+     * Computes the jittered delay to wait before the attempt following the given one
+     */
+    public long computeDelayMillis(int attempt) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << exponent);
+        if (ceiling <= 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public int getMaxAttempts() { return maxAttempts; }
+    public long getBaseDelayMillis() { return baseDelayMillis; }
+    public long getMaxDelayMillis() { return maxDelayMillis; }
+}
@@ -78,8 +78,7 @@ public class ScheduleValidator {
                 continue;
             }
             
-            if (DateTimeUtil.hasTimeConflict(startTime, endTime, 
-                                           event.getStartDateTime(), event.getEndDateTime())) {
+            if (event.overlaps(startTime, endTime)) {
                 return false;
             }
         }
@@ -117,8 +116,7 @@ public class ScheduleValidator {
                 continue;
             }
             
-            if (DateTimeUtil.hasTimeConflict(startTime, endTime, 
-                                           event.getStartDateTime(), event.getEndDateTime())) {
+            if (event.overlaps(startTime, endTime)) {
                 return false;
             }
         }
@@ -160,7 +158,7 @@ public class ScheduleValidator {
             }
             
             // Skip the event being registered for (when checking updates)
-            if (excludeEventId != null && registration.getEventId().equals(excludeEventId)) {
+            if (excludeEventId != null && registration.getEventKey().matches(excludeEventId)) {
                 continue;
             }
             
@@ -169,9 +167,7 @@ public class ScheduleValidator {
                 Event registeredEvent = eventLookup.apply(registration.getEventId());
                 if (registeredEvent != null) {
                     // Check for time overlap
-                    if (DateTimeUtil.hasTimeConflict(startTime, endTime, 
-                                                   registeredEvent.getStartDateTime(), 
-                                                   registeredEvent.getEndDateTime())) {
+                    if (registeredEvent.overlaps(startTime, endTime)) {
                         return true; // Conflict found
                     }
                 }
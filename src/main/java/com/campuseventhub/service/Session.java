@@ -0,0 +1,39 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.User;
+
+/**
+ * An authenticated user session identified by an opaque token.
+ *
+ * Implementation Details:
+ * - Token is random and unguessable; it is the only credential a front end
+ *   keeps after login
+ * - Last access time is refreshed on every lookup and drives idle expiry
+ */
+public class Session {
+    private final String token;
+    private final User user;
+    private final long createdAtMillis;
+    private volatile long lastAccessMillis;
+
+    Session(String token, User user, long nowMillis) {
+        this.token = token;
+        this.user = user;
+        this.createdAtMillis = nowMillis;
+        this.lastAccessMillis = nowMillis;
+    }
+
+    void touch(long nowMillis) {
+        lastAccessMillis = nowMillis;
+    }
+
+    boolean isExpired(long nowMillis, long idleTimeoutMillis) {
+        return nowMillis - lastAccessMillis > idleTimeoutMillis;
+    }
+
+    public String getToken() { return token; }
+    public User getUser() { return user; }
+    public String getUserId() { return user.getUserId(); }
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    public long getLastAccessMillis() { return lastAccessMillis; }
+}
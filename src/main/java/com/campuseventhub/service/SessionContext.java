@@ -0,0 +1,38 @@
+package com.campuseventhub.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Binds a session to the thread handling the current request so EventHub's
+ * current-user checks resolve to that session's user.
+ */
+public final class SessionContext {
+    private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+
+    private SessionContext() {
+    }
+
+    /**
+     * Returns the session bound to this thread, or null outside a request
+     */
+    public static Session current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an action with the session bound, restoring the previous binding after
+     */
+    public static <T> T run(Session session, Supplier<T> action) {
+        Session previous = CURRENT.get();
+        CURRENT.set(session);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
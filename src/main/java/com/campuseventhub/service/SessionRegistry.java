@@ -0,0 +1,179 @@
+// =============================================================================
+// SESSION REGISTRY
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import com.campuseventhub.model.user.User;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrent table of authenticated sessions with idle expiry.
+ *
+ * Implementation Details:
+ * - 256-bit random URL-safe tokens mapped to Session in a ConcurrentHashMap
+ * - Lookups refresh the idle timer; expired sessions are dropped on lookup
+ *   and by a daemon sweeper that starts with the first session
+ * - All sessions of a user can be revoked at once (e.g. on suspension)
+ */
+public class SessionRegistry {
+    private static final Logger LOG = LogManager.getLogger(SessionRegistry.class);
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final long SWEEP_INTERVAL_SECONDS = 60;
+    private static final int TOKEN_BYTES = 32;
+
+    private final Map<String, Session> sessions;
+    private final long idleTimeoutMillis;
+    private final LongSupplier clock;
+    private final SecureRandom random;
+    private ScheduledExecutorService sweeper;
+
+    public SessionRegistry() {
+        this(DEFAULT_IDLE_TIMEOUT, System::currentTimeMillis);
+    }
+
+    SessionRegistry(Duration idleTimeout, LongSupplier clock) {
+        if (idleTimeout == null || idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        }
+        this.sessions = new ConcurrentHashMap<>();
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.clock = clock;
+        this.random = new SecureRandom();
+    }
+
+    /**
+     * Opens a new session for an authenticated user
+     */
+    public Session create(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User cannot be null");
+        }
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Session session = new Session(token, user, clock.getAsLong());
+        sessions.put(token, session);
+        startSweeper();
+        return session;
+    }
+
+    /**
+     * Looks up a live session and refreshes its idle timer
+     *
+     * @return the session, or null if the token is unknown or expired
+     */
+    public Session get(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        if (session.isExpired(now, idleTimeoutMillis)) {
+            sessions.remove(token, session);
+            return null;
+        }
+        session.touch(now);
+        return session;
+    }
+
+    public boolean invalidate(String token) {
+        return token != null && sessions.remove(token) != null;
+    }
+
+    /**
+     * Revokes every session of a user
+     *
+     * @return number of sessions removed
+     */
+    public int invalidateUser(String userId) {
+        int removed = 0;
+        for (Session session : sessions.values()) {
+            if (session.getUserId().equals(userId) && sessions.remove(session.getToken(), session)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Revokes the sessions of several users in one pass
+     *
+     * @return number of sessions removed
+     */
+    public int invalidateUsers(Collection<String> userIds) {
+        Set<String> targets = new HashSet<>(userIds);
+        int removed = 0;
+        for (Session session : sessions.values()) {
+            if (targets.contains(session.getUserId()) && sessions.remove(session.getToken(), session)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Drops all sessions idle for longer than the timeout
+     *
+     * @return number of sessions removed
+     */
+    public int evictExpired() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        for (Session session : sessions.values()) {
+            if (session.isExpired(now, idleTimeoutMillis) && sessions.remove(session.getToken(), session)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    private synchronized void startSweeper() {
+        if (sweeper != null) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "SessionSweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        sweeper.scheduleAtFixedRate(() -> {
+            try {
+                evictExpired();
+            } catch (RuntimeException e) {
+                LOG.error("Error evicting sessions: " + e.getMessage());
+            }
+        }, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the sweeper and drops all sessions
+     */
+    public synchronized void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+        sessions.clear();
+    }
+}
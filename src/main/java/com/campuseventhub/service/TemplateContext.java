@@ -0,0 +1,104 @@
+// =============================================================================
+// TEMPLATE CONTEXT
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.event.Event;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Slot values for one notification template render.
+ *
+ * Implementation Details:
+ * - Values stored in an array indexed by slot ordinal (no map lookups)
+ * - Setters check the slot kind so templates stay type-safe
+ * - Numbers are kept as primitives and appended without boxing
+ * - A context can be reused across renders by overwriting slots
+ */
+public class TemplateContext {
+    private static final TemplateSlot[] SLOTS = TemplateSlot.values();
+
+    private final Object[] values = new Object[SLOTS.length];
+    private final long[] numbers = new long[SLOTS.length];
+    private final boolean[] numberSet = new boolean[SLOTS.length];
+
+    /**
+     * Creates a context pre-filled with the event's title, schedule and venue
+     */
+    public static TemplateContext forEvent(Event event) {
+        TemplateContext context = new TemplateContext();
+        if (event == null) {
+            return context;
+        }
+        context.set(TemplateSlot.EVENT_TITLE, event.getTitle());
+        context.set(TemplateSlot.VENUE, event.getVenueName());
+        LocalDateTime start = event.getStartDateTime();
+        if (start != null) {
+            context.set(TemplateSlot.EVENT_DATE, start.toLocalDate());
+            context.set(TemplateSlot.START_TIME, start.toLocalTime());
+            context.set(TemplateSlot.START_DATE_TIME, start);
+        }
+        LocalDateTime end = event.getEndDateTime();
+        if (end != null) {
+            context.set(TemplateSlot.END_TIME, end.toLocalTime());
+            context.set(TemplateSlot.END_DATE_TIME, end);
+        }
+        return context;
+    }
+
+    public TemplateContext set(TemplateSlot slot, String value) {
+        checkKind(slot, TemplateSlot.Kind.TEXT);
+        values[slot.ordinal()] = value;
+        return this;
+    }
+
+    public TemplateContext set(TemplateSlot slot, long value) {
+        checkKind(slot, TemplateSlot.Kind.NUMBER);
+        numbers[slot.ordinal()] = value;
+        numberSet[slot.ordinal()] = true;
+        return this;
+    }
+
+    public TemplateContext set(TemplateSlot slot, LocalDate value) {
+        checkKind(slot, TemplateSlot.Kind.DATE);
+        values[slot.ordinal()] = value;
+        return this;
+    }
+
+    public TemplateContext set(TemplateSlot slot, LocalTime value) {
+        checkKind(slot, TemplateSlot.Kind.TIME);
+        values[slot.ordinal()] = value;
+        return this;
+    }
+
+    public TemplateContext set(TemplateSlot slot, LocalDateTime value) {
+        checkKind(slot, TemplateSlot.Kind.DATE_TIME);
+        values[slot.ordinal()] = value;
+        return this;
+    }
+
+    private void checkKind(TemplateSlot slot, TemplateSlot.Kind expected) {
+        if (slot == null) {
+            throw new IllegalArgumentException("Template slot cannot be null");
+        }
+        if (slot.getKind() != expected) {
+            throw new IllegalArgumentException("Slot " + slot.getSlotName() + " expects "
+                                               + slot.getKind() + ", not " + expected);
+        }
+    }
+
+    Object getValue(int ordinal) {
+        return values[ordinal];
+    }
+
+    boolean hasNumber(int ordinal) {
+        return numberSet[ordinal];
+    }
+
+    long getNumber(int ordinal) {
+        return numbers[ordinal];
+    }
+}
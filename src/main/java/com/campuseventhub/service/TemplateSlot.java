@@ -0,0 +1,74 @@
+// =============================================================================
+// TEMPLATE SLOT
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Named, typed placeholders available to notification templates.
+ *
+ * Implementation Details:
+ * - Templates reference slots as {name}, e.g. {eventTitle}
+ * - Each slot has a kind that TemplateContext checks when a value is set
+ * - Slots are resolved once when a template is compiled, not per render
+ */
+public enum TemplateSlot {
+    MESSAGE("message", Kind.TEXT),
+    EVENT_TITLE("eventTitle", Kind.TEXT),
+    EVENT_DATE("eventDate", Kind.DATE),
+    START_TIME("startTime", Kind.TIME),
+    END_TIME("endTime", Kind.TIME),
+    START_DATE_TIME("startDateTime", Kind.DATE_TIME),
+    END_DATE_TIME("endDateTime", Kind.DATE_TIME),
+    VENUE("venue", Kind.TEXT),
+    POSITION("position", Kind.NUMBER),
+    REASON("reason", Kind.TEXT),
+    TIME_REMAINING("timeRemaining", Kind.TEXT),
+    OLD_DEADLINE_DATE("oldDeadlineDate", Kind.DATE),
+    OLD_DEADLINE_TIME("oldDeadlineTime", Kind.TIME),
+    NEW_DEADLINE_DATE("newDeadlineDate", Kind.DATE),
+    NEW_DEADLINE_TIME("newDeadlineTime", Kind.TIME),
+    ITEM_COUNT("itemCount", Kind.NUMBER),
+    PERIOD("period", Kind.TEXT);
+
+    /**
+     * Value type accepted by a slot
+     */
+    public enum Kind {
+        TEXT, NUMBER, DATE, TIME, DATE_TIME
+    }
+
+    private static final Map<String, TemplateSlot> BY_NAME = new HashMap<>();
+
+    static {
+        for (TemplateSlot slot : values()) {
+            BY_NAME.put(slot.slotName, slot);
+        }
+    }
+
+    private final String slotName;
+    private final Kind kind;
+
+    TemplateSlot(String slotName, Kind kind) {
+        this.slotName = slotName;
+        this.kind = kind;
+    }
+
+    public String getSlotName() {
+        return slotName;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Looks up a slot by its template name, or returns null if unknown
+     */
+    public static TemplateSlot fromName(String name) {
+        return BY_NAME.get(name);
+    }
+}
@@ -2,17 +2,49 @@ package com.campuseventhub.service;
 
 import com.campuseventhub.model.user.User;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Service dedicated to user authentication and credential validation.
  * Handles login logic and session management.
+ *
+ * Implementation Details:
+ * - Password verification is deliberately slow (PBKDF2), so asynchronous
+ *   logins run on a small bounded pool instead of the caller's thread
+ * - The pool queue is bounded; a login storm beyond it is rejected quickly
+ *   instead of piling up work or starving other threads
+ * - Hashes upgraded during a successful login are reported to a callback
+ *   so the owner can persist them
  */
 public class UserAuthenticationService {
+    public static final int MAX_PENDING_LOGINS = 64;
     
     private final Map<String, User> usersByUsername;
+    private final Consumer<User> onPasswordRehashed;
+    private final ThreadPoolExecutor verificationPool;
     
     public UserAuthenticationService(Map<String, User> usersByUsername) {
+        this(usersByUsername, null);
+    }
+    
+    public UserAuthenticationService(Map<String, User> usersByUsername, Consumer<User> onPasswordRehashed) {
         this.usersByUsername = usersByUsername;
+        this.onPasswordRehashed = onPasswordRehashed;
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.verificationPool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MAX_PENDING_LOGINS), r -> {
+                Thread t = new Thread(r, "PasswordVerifier-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        this.verificationPool.allowCoreThreadTimeOut(true);
     }
     
     /**
@@ -29,17 +61,42 @@ public class UserAuthenticationService {
             return null;
         }
         
+        boolean rehash = user.needsPasswordRehash();
         if (user.login(username.trim(), password)) {
+            if (rehash && onPasswordRehashed != null) {
+                onPasswordRehashed.accept(user);
+            }
             return user;
         }
         
         return null;
     }
     
+    /**
+     * Validates credentials on the verification pool. Completes with the user,
+     * or null for bad credentials; fails with RejectedExecutionException when
+     * too many logins are already waiting.
+     */
+    public CompletableFuture<User> validateCredentialsAsync(String username, String password) {
+        try {
+            return CompletableFuture.supplyAsync(() -> validateCredentials(username, password), verificationPool);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                "Too many sign-in attempts in progress, please try again", e));
+        }
+    }
+    
     /**
      * Checks if a user can log in (not suspended)
      */
     public boolean canUserLogin(User user) {
         return user != null && user.isActive();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Stops accepting new asynchronous logins
+     */
+    public void shutdown() {
+        verificationPool.shutdown();
+    }
+}
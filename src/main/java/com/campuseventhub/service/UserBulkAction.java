@@ -0,0 +1,41 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.UserStatus;
+
+/**
+ * Set-based admin operations on user accounts.
+ * Each action only applies to users in its eligible status; others are skipped.
+ */
+public enum UserBulkAction {
+    APPROVE("Approve", UserStatus.PENDING_APPROVAL, UserStatus.ACTIVE),
+    SUSPEND("Suspend", UserStatus.ACTIVE, UserStatus.SUSPENDED),
+    DELETE("Delete", null, null);
+
+    private final String displayName;
+    private final UserStatus eligibleStatus;
+    private final UserStatus resultStatus;
+
+    UserBulkAction(String displayName, UserStatus eligibleStatus, UserStatus resultStatus) {
+        this.displayName = displayName;
+        this.eligibleStatus = eligibleStatus;
+        this.resultStatus = resultStatus;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Status a user must have for the action to apply, or null for any status
+     */
+    public UserStatus getEligibleStatus() {
+        return eligibleStatus;
+    }
+
+    /**
+     * Status applied by the action, or null when the user is removed
+     */
+    public UserStatus getResultStatus() {
+        return resultStatus;
+    }
+}
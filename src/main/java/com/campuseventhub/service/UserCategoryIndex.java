@@ -0,0 +1,109 @@
+// =============================================================================
+// USER CATEGORY INDEX
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.model.user.UserStatus;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-role and per-status user id sets maintained alongside UserManager's maps.
+ *
+ * Implementation Details:
+ * - Remembers the role and status each user was indexed under, so a user
+ *   mutated in place moves between sets when re-indexed
+ * - Counts come from set sizes; writes and snapshots share one lock so a
+ *   UserStats snapshot is internally consistent
+ * - Reads of a single set are lock-free
+ */
+public class UserCategoryIndex {
+    private final Map<UserRole, Set<String>> idsByRole = new EnumMap<>(UserRole.class);
+    private final Map<UserStatus, Set<String>> idsByStatus = new EnumMap<>(UserStatus.class);
+    private final Map<String, UserRole> indexedRole = new ConcurrentHashMap<>();
+    private final Map<String, UserStatus> indexedStatus = new ConcurrentHashMap<>();
+
+    public UserCategoryIndex() {
+        for (UserRole role : UserRole.values()) {
+            idsByRole.put(role, ConcurrentHashMap.newKeySet());
+        }
+        for (UserStatus status : UserStatus.values()) {
+            idsByStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Files a user under its current role and status, moving it if either changed
+     */
+    public synchronized void add(User user) {
+        String userId = user.getUserId();
+        UserRole oldRole = indexedRole.put(userId, user.getRole());
+        if (oldRole != user.getRole()) {
+            if (oldRole != null) {
+                idsByRole.get(oldRole).remove(userId);
+            }
+            idsByRole.get(user.getRole()).add(userId);
+        }
+        UserStatus oldStatus = indexedStatus.put(userId, user.getStatus());
+        if (oldStatus != user.getStatus()) {
+            if (oldStatus != null) {
+                idsByStatus.get(oldStatus).remove(userId);
+            }
+            idsByStatus.get(user.getStatus()).add(userId);
+        }
+    }
+
+    public synchronized void remove(String userId) {
+        UserRole role = indexedRole.remove(userId);
+        if (role != null) {
+            idsByRole.get(role).remove(userId);
+        }
+        UserStatus status = indexedStatus.remove(userId);
+        if (status != null) {
+            idsByStatus.get(status).remove(userId);
+        }
+    }
+
+    /**
+     * Re-files a batch of users under one lock acquisition
+     */
+    public synchronized void addAll(Collection<User> batch) {
+        for (User user : batch) {
+            add(user);
+        }
+    }
+
+    public synchronized void removeAll(Collection<String> userIds) {
+        for (String userId : userIds) {
+            remove(userId);
+        }
+    }
+
+    public List<String> idsWithRole(UserRole role) {
+        return new ArrayList<>(idsByRole.get(role));
+    }
+
+    public List<String> idsWithStatus(UserStatus status) {
+        return new ArrayList<>(idsByStatus.get(status));
+    }
+
+    public synchronized UserStats snapshot() {
+        Map<UserRole, Integer> roles = new EnumMap<>(UserRole.class);
+        for (Map.Entry<UserRole, Set<String>> entry : idsByRole.entrySet()) {
+            roles.put(entry.getKey(), entry.getValue().size());
+        }
+        Map<UserStatus, Integer> statuses = new EnumMap<>(UserStatus.class);
+        for (Map.Entry<UserStatus, Set<String>> entry : idsByStatus.entrySet()) {
+            statuses.put(entry.getKey(), entry.getValue().size());
+        }
+        return new UserStats(indexedRole.size(), roles, statuses);
+    }
+}
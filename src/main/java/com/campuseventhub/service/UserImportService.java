@@ -0,0 +1,324 @@
+// =============================================================================
+// USER IMPORT SERVICE
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.util.FlatJsonParser;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Prepares user rosters (CSV or JSONL) for a single bulk commit.
+ *
+ * Implementation Details:
+ * - Rows are read in chunks; each chunk is first checked for username and
+ *   email collisions in one sequential pass (against existing accounts and
+ *   earlier rows), so rejected rows are never hashed
+ * - Surviving rows are validated and password-hashed in parallel on a
+ *   fork-join pool; this dominates import time
+ * - Nothing is stored here: UserManager commits the accepted users with a
+ *   single persistence write
+ * - Columns: username, email, password, firstName, lastName, role
+ *   (role optional, defaults to ATTENDEE); CSV requires a header row
+ */
+public class UserImportService {
+    private static final int CHUNK_SIZE = 1024;
+    private static final String[] COLUMNS = {"username", "email", "password", "firstName", "lastName", "role"};
+
+    public enum Format {
+        CSV, JSONL;
+
+        /**
+         * Picks the format from a file extension; anything but .jsonl/.json is CSV
+         */
+        public static Format fromFileName(String fileName) {
+            String lower = fileName.toLowerCase(Locale.ROOT);
+            return lower.endsWith(".jsonl") || lower.endsWith(".json") ? JSONL : CSV;
+        }
+    }
+
+    private final Map<String, User> usersByUsername;
+    private final Map<String, User> usersByEmail;
+    private final int parallelism;
+
+    public UserImportService(Map<String, User> usersByUsername, Map<String, User> usersByEmail) {
+        this(usersByUsername, usersByEmail, Runtime.getRuntime().availableProcessors());
+    }
+
+    public UserImportService(Map<String, User> usersByUsername, Map<String, User> usersByEmail, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.usersByUsername = usersByUsername;
+        this.usersByEmail = usersByEmail;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Reads, checks and builds users from a roster
+     *
+     * @return accepted users (not yet stored) and per-row errors
+     */
+    public ImportResult prepare(Reader roster, Format format) throws IOException {
+        ImportResult result = new ImportResult();
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (BufferedReader reader = new BufferedReader(roster)) {
+            String[] header = format == Format.CSV ? readHeader(reader) : null;
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            int lineNumber = header != null ? 1 : 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    chunk.add(new Row(lineNumber, format == Format.CSV ? parseCsv(line, header) : parseJson(line)));
+                } catch (IllegalArgumentException e) {
+                    result.addError(lineNumber, null, e.getMessage());
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(chunk, pool, seenUsernames, seenEmails, result);
+                    chunk.clear();
+                }
+            }
+            processChunk(chunk, pool, seenUsernames, seenEmails, result);
+        } finally {
+            pool.shutdown();
+        }
+        result.errors.sort((a, b) -> Integer.compare(a.lineNumber, b.lineNumber));
+        return result;
+    }
+
+    private void processChunk(List<Row> chunk, ForkJoinPool pool, Set<String> seenUsernames,
+                              Set<String> seenEmails, ImportResult result) {
+        List<Row> candidates = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String username = row.get("username").trim();
+            String email = row.get("email").trim().toLowerCase(Locale.ROOT);
+            if (usersByUsername.containsKey(username)) {
+                result.addError(row.lineNumber, username, "Username already exists");
+            } else if (usersByEmail.containsKey(email)) {
+                result.addError(row.lineNumber, username, "Email already exists");
+            } else if (!seenUsernames.add(username)) {
+                result.addError(row.lineNumber, username, "Duplicate username in roster");
+            } else if (!seenEmails.add(email)) {
+                seenUsernames.remove(username);
+                result.addError(row.lineNumber, username, "Duplicate email in roster");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<Object> built;
+        try {
+            built = pool.submit(() -> candidates.parallelStream()
+                .map(UserImportService::build)
+                .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("User import interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("User import failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            Object outcome = built.get(i);
+            if (outcome instanceof User) {
+                result.accepted.add((User) outcome);
+            } else {
+                result.addError(candidates.get(i).lineNumber, candidates.get(i).get("username"), (String) outcome);
+            }
+        }
+    }
+
+    /**
+     * Validates and hashes one row; returns the User or an error message
+     */
+    private static Object build(Row row) {
+        try {
+            String role = row.get("role");
+            UserRole userRole = role.isBlank() ? UserRole.ATTENDEE
+                : UserRole.valueOf(role.trim().toUpperCase(Locale.ROOT));
+            return UserFactory.createUser(row.get("username").trim(), row.get("email").trim().toLowerCase(Locale.ROOT),
+                row.get("password"), row.get("firstName").trim(), row.get("lastName").trim(), userRole);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    // =============================================================================
+    // PARSING
+    // =============================================================================
+
+    private static String[] readHeader(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return new String[0];
+        }
+        List<String> header = splitCsv(line);
+        for (String column : COLUMNS) {
+            if (!"role".equals(column) && !header.contains(column)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + column);
+            }
+        }
+        return header.toArray(new String[0]);
+    }
+
+    private static Map<String, String> parseCsv(String line, String[] header) {
+        List<String> values = splitCsv(line);
+        if (values.size() > header.length) {
+            throw new IllegalArgumentException("Too many columns");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header[i], values.get(i));
+        }
+        return fields;
+    }
+
+    private static Map<String, String> parseJson(String line) {
+        return FlatJsonParser.parseObject(line);
+    }
+
+    /**
+     * Splits one CSV line; fields may be quoted, with "" as an escaped quote
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class Row {
+        private final int lineNumber;
+        private final Map<String, String> fields;
+
+        Row(int lineNumber, Map<String, String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+
+        String get(String column) {
+            String value = fields.get(column);
+            return value != null ? value : "";
+        }
+    }
+
+    // =============================================================================
+    // RESULT
+    // =============================================================================
+
+    /**
+     * Outcome of an import: accepted users plus a per-row error report
+     */
+    public static class ImportResult {
+        private final List<User> accepted = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+
+        void addError(int lineNumber, String username, String message) {
+            errors.add(new RowError(lineNumber, username, message));
+        }
+
+        List<User> getAcceptedUsers() {
+            return accepted;
+        }
+
+        /**
+         * Drops a user that lost a race with a concurrent registration during commit
+         */
+        void reject(User user, String message) {
+            accepted.remove(user);
+            errors.add(new RowError(0, user.getUsername(), message));
+        }
+
+        public int getImportedCount() {
+            return accepted.size();
+        }
+
+        public int getRejectedCount() {
+            return errors.size();
+        }
+
+        public List<RowError> getErrors() {
+            return Collections.unmodifiableList(errors);
+        }
+    }
+
+    public static class RowError {
+        private final int lineNumber;
+        private final String username;
+        private final String message;
+
+        RowError(int lineNumber, String username, String message) {
+            this.lineNumber = lineNumber;
+            this.username = username;
+            this.message = message;
+        }
+
+        /**
+         * 1-based roster line, or 0 when the row was rejected at commit time
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return (lineNumber > 0 ? "Line " + lineNumber : "Commit")
+                + (username != null && !username.isEmpty() ? " (" + username + ")" : "") + ": " + message;
+        }
+    }
+}
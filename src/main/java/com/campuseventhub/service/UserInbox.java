@@ -0,0 +1,216 @@
+// =============================================================================
+// USER INBOX
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.Notification;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Bounded notification inbox for one user, owned by NotificationService.
+ *
+ * Implementation Details:
+ * - Direct notifications live in a fixed-size ring buffer addressed by a
+ *   per-user sequence number; the oldest entry is evicted when full
+ * - Entries older than the service's TTL are evicted from the head
+ * - Unread counter kept in step with appends, reads and evictions
+ * - Broadcasts are tracked as a cursor into the BroadcastLog (first visible
+ *   sequence) plus a bit set of the broadcasts read since then
+ * - All methods synchronize on the inbox
+ */
+class UserInbox {
+    private final Notification[] ring;
+    private long head;
+    private long tail;
+    private int unreadCount;
+    private long broadcastVisibleFrom;
+    private BitSet readBroadcasts;
+    private int readBroadcastCount;
+
+    UserInbox(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Inbox capacity must be positive");
+        }
+        this.ring = new Notification[capacity];
+    }
+
+    /**
+     * Appends a notification, evicting the oldest one if the ring is full
+     *
+     * @return the sequence number (slot) assigned to the notification
+     */
+    synchronized long append(Notification notification, List<Notification> evicted) {
+        if (tail - head == ring.length) {
+            evicted.add(removeHead());
+        }
+        long sequence = tail++;
+        ring[position(sequence)] = notification;
+        if (!notification.isRead()) {
+            unreadCount++;
+        }
+        return sequence;
+    }
+
+    /**
+     * Evicts notifications created before the cutoff
+     */
+    synchronized void evictOlderThan(LocalDateTime cutoff, List<Notification> evicted) {
+        while (head < tail && ring[position(head)].getCreatedAt().isBefore(cutoff)) {
+            evicted.add(removeHead());
+        }
+    }
+
+    private Notification removeHead() {
+        int position = position(head++);
+        Notification removed = ring[position];
+        ring[position] = null;
+        if (!removed.isRead()) {
+            unreadCount--;
+        }
+        return removed;
+    }
+
+    private int position(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+
+    /**
+     * Marks the notification at the given slot read if it is still retained
+     *
+     * @return true if the read state changed
+     */
+    synchronized boolean markRead(long sequence, String notificationId) {
+        if (sequence < head || sequence >= tail) {
+            return false;
+        }
+        Notification notification = ring[position(sequence)];
+        if (notification.getNotificationId().equals(notificationId) && notification.markRead()) {
+            unreadCount--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks a broadcast read; returns true if the read state changed
+     */
+    synchronized boolean markBroadcastRead(long sequence) {
+        if (sequence < broadcastVisibleFrom) {
+            return false;
+        }
+        int offset = (int) (sequence - broadcastVisibleFrom);
+        if (readBroadcasts == null) {
+            readBroadcasts = new BitSet();
+        }
+        if (readBroadcasts.get(offset)) {
+            return false;
+        }
+        readBroadcasts.set(offset);
+        readBroadcastCount++;
+        return true;
+    }
+
+    synchronized boolean isBroadcastRead(long sequence) {
+        return readBroadcasts != null && sequence >= broadcastVisibleFrom
+            && readBroadcasts.get((int) (sequence - broadcastVisibleFrom));
+    }
+
+    /**
+     * Drops read-tracking for broadcasts that the log has already evicted
+     */
+    synchronized void alignBroadcasts(long firstRetained) {
+        if (firstRetained <= broadcastVisibleFrom) {
+            return;
+        }
+        int delta = (int) Math.min(Integer.MAX_VALUE, firstRetained - broadcastVisibleFrom);
+        if (readBroadcasts != null) {
+            readBroadcasts = readBroadcasts.get(delta, Math.max(delta, readBroadcasts.length()));
+            readBroadcastCount = readBroadcasts.cardinality();
+        }
+        broadcastVisibleFrom = firstRetained;
+    }
+
+    synchronized void markAllRead(long broadcastEnd) {
+        for (long sequence = head; sequence < tail; sequence++) {
+            ring[position(sequence)].markRead();
+        }
+        unreadCount = 0;
+        int visible = (int) (broadcastEnd - broadcastVisibleFrom);
+        if (visible > 0) {
+            if (readBroadcasts == null) {
+                readBroadcasts = new BitSet(visible);
+            }
+            readBroadcasts.set(0, visible);
+            readBroadcastCount = readBroadcasts.cardinality();
+        }
+    }
+
+    /**
+     * Removes direct notifications and hides broadcasts before broadcastEnd
+     */
+    synchronized List<Notification> clear(long broadcastEnd) {
+        List<Notification> removed = snapshot();
+        for (long sequence = head; sequence < tail; sequence++) {
+            ring[position(sequence)] = null;
+        }
+        head = tail;
+        unreadCount = 0;
+        broadcastVisibleFrom = Math.max(broadcastVisibleFrom, broadcastEnd);
+        readBroadcasts = null;
+        readBroadcastCount = 0;
+        return removed;
+    }
+
+    synchronized int getUnreadCount(long broadcastEnd) {
+        long unreadBroadcasts = broadcastEnd - broadcastVisibleFrom - readBroadcastCount;
+        return unreadCount + (int) Math.max(0, unreadBroadcasts);
+    }
+
+    synchronized long getBroadcastVisibleFrom() {
+        return broadcastVisibleFrom;
+    }
+
+    /**
+     * Sequence numbers of the broadcasts this user has read
+     */
+    synchronized List<Long> getReadBroadcastSequences() {
+        List<Long> sequences = new ArrayList<>();
+        if (readBroadcasts != null) {
+            for (int i = readBroadcasts.nextSetBit(0); i >= 0; i = readBroadcasts.nextSetBit(i + 1)) {
+                sequences.add(broadcastVisibleFrom + i);
+            }
+        }
+        return sequences;
+    }
+
+    /**
+     * Returns retained direct notifications, oldest first
+     */
+    synchronized List<Notification> snapshot() {
+        List<Notification> notifications = new ArrayList<>((int) (tail - head));
+        for (long sequence = head; sequence < tail; sequence++) {
+            notifications.add(ring[position(sequence)]);
+        }
+        return notifications;
+    }
+
+    /**
+     * Returns at most limit of the newest retained direct notifications, oldest first
+     */
+    synchronized List<Notification> newest(int limit) {
+        long from = Math.max(head, tail - Math.max(0, limit));
+        List<Notification> notifications = new ArrayList<>((int) (tail - from));
+        for (long sequence = from; sequence < tail; sequence++) {
+            notifications.add(ring[position(sequence)]);
+        }
+        return notifications;
+    }
+
+    synchronized int size() {
+        return (int) (tail - head);
+    }
+}
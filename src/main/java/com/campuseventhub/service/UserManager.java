@@ -4,17 +4,26 @@
 
 package com.campuseventhub.service;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
 import com.campuseventhub.model.user.User;
 import com.campuseventhub.model.user.UserRole;
 import com.campuseventhub.model.user.UserStatus;
 import com.campuseventhub.persistence.UserRepository;
 import com.campuseventhub.persistence.DataManager;
+import com.campuseventhub.persistence.UserRecordLog;
+import com.campuseventhub.metrics.MetricsRegistry;
 import com.campuseventhub.util.ValidationUtil;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.concurrent.ConcurrentHashMap;
 import java.io.IOException;
+import java.io.Reader;
 
 /**
  * Simplified service for managing user accounts using composition of specialized services.
@@ -23,8 +32,15 @@ import java.io.IOException;
  * - Coordinates between specialized user services
  * - Implements UserRepository interface
  * - Delegates to specialized services for specific operations
+ * - Persists per record: mutations mark users dirty and only those records
+ *   are appended to the user log; legacy users.ser snapshots are migrated
+ * - Each append is timed as persistence.save.users.log
  */
 public class UserManager implements UserRepository {
+    private static final Logger LOG = LogManager.getLogger(UserManager.class);
+    private static final String USER_LOG_FILE = "users.log";
+    private static final String LEGACY_USERS_FILE = "users.ser";
+    
     private Map<String, User> users;
     private Map<String, User> usersByEmail;
     private Map<String, User> usersByUsername;
@@ -32,20 +48,70 @@ public class UserManager implements UserRepository {
     // Specialized services
     private UserAuthenticationService authService;
     private UserSearchService searchService;
+    private final UserNameIndex nameIndex;
+    private final UserCategoryIndex categoryIndex;
+    // Serializes status transitions and removals so bulk operations see a stable set
+    private final Object mutationLock = new Object();
+    private DataChangeBus changeBus;
+    
+    // Record-level persistence
+    private final UserRecordLog recordLog;
+    private final Set<String> dirtyUsers = ConcurrentHashMap.newKeySet();
+    private final Set<String> deletedUsers = ConcurrentHashMap.newKeySet();
     
     /**
      * Initializes thread-safe user storage maps and specialized services
      */
     public UserManager() {
+        this(new UserRecordLog(DataManager.getDataFilePath(USER_LOG_FILE)), LEGACY_USERS_FILE);
+    }
+    
+    /**
+     * Uses the given record log with no legacy migration (tests, benchmarks)
+     */
+    public UserManager(UserRecordLog recordLog) {
+        this(recordLog, null);
+    }
+    
+    private UserManager(UserRecordLog recordLog, String legacyFile) {
+        this.recordLog = recordLog;
         this.users = new ConcurrentHashMap<>();
         this.usersByEmail = new ConcurrentHashMap<>();
         this.usersByUsername = new ConcurrentHashMap<>();
+        this.nameIndex = new UserNameIndex();
+        this.categoryIndex = new UserCategoryIndex();
         
-        loadUsersFromPersistence();
+        loadUsersFromPersistence(legacyFile);
         
         // Initialize specialized services
-        this.authService = new UserAuthenticationService(usersByUsername);
-        this.searchService = new UserSearchService(users, usersByEmail, usersByUsername);
+        this.authService = new UserAuthenticationService(usersByUsername, this::saveUser);
+        this.searchService = new UserSearchService(users, usersByEmail, usersByUsername, nameIndex, categoryIndex);
+    }
+    
+    /**
+     * Sets the bus that pushes user changes to open dashboards
+     */
+    public void setChangeBus(DataChangeBus changeBus) {
+        this.changeBus = changeBus;
+    }
+    
+    private void publishChange(DataChangeEvent.Action action, String userId) {
+        if (changeBus != null) {
+            changeBus.publish(DataChangeEvent.Kind.USER, action, userId, userId);
+        }
+    }
+    
+    /**
+     * Brings the secondary indexes up to date with a user's current fields
+     */
+    private void index(User user) {
+        nameIndex.add(user);
+        categoryIndex.add(user);
+    }
+    
+    private void unindex(String userId) {
+        nameIndex.remove(userId);
+        categoryIndex.remove(userId);
     }
     
     /**
@@ -65,7 +131,9 @@ public class UserManager implements UserRepository {
         users.put(user.getUserId(), user);
         usersByEmail.put(normalizedEmail, user);
         usersByUsername.put(user.getUsername().trim(), user);
-        saveUsersToPersistence();
+        index(user);
+        saveUser(user);
+        publishChange(DataChangeEvent.Action.CREATED, user.getUserId());
     }
     
     /**
@@ -110,7 +178,9 @@ public class UserManager implements UserRepository {
         }
         
         users.put(user.getUserId(), user);
-        saveUsersToPersistence();
+        index(user);
+        saveUser(user);
+        publishChange(DataChangeEvent.Action.UPDATED, user.getUserId());
     }
     
     /**
@@ -118,11 +188,19 @@ public class UserManager implements UserRepository {
      */
     @Override
     public void deleteById(String userId) {
-        User user = users.remove(userId);
+        User user;
+        synchronized (mutationLock) {
+            user = users.remove(userId);
+            if (user != null) {
+                usersByUsername.remove(user.getUsername());
+                usersByEmail.remove(user.getEmail().toLowerCase());
+                unindex(userId);
+            }
+        }
         if (user != null) {
-            usersByUsername.remove(user.getUsername());
-            usersByEmail.remove(user.getEmail().toLowerCase());
-            saveUsersToPersistence();
+            deletedUsers.add(userId);
+            persistChanges();
+            publishChange(DataChangeEvent.Action.DELETED, userId);
         }
     }
 
@@ -148,6 +226,46 @@ public class UserManager implements UserRepository {
         return user;
     }
     
+    /**
+     * Imports a roster: rows are collision-checked, validated and hashed in
+     * parallel, then all accepted users are stored with one persistence write
+     * PARAMS: roster, format
+     */
+    public UserImportService.ImportResult importUsers(Reader roster, UserImportService.Format format)
+            throws IOException {
+        UserImportService importer = new UserImportService(usersByUsername, usersByEmail);
+        UserImportService.ImportResult result = importer.prepare(roster, format);
+        
+        List<User> lostRace = new ArrayList<>();
+        for (User user : result.getAcceptedUsers()) {
+            // Registrations may have landed while the roster was hashing
+            if (usersByUsername.putIfAbsent(user.getUsername(), user) != null) {
+                lostRace.add(user);
+                continue;
+            }
+            if (usersByEmail.putIfAbsent(user.getEmail(), user) != null) {
+                usersByUsername.remove(user.getUsername(), user);
+                lostRace.add(user);
+                continue;
+            }
+            users.put(user.getUserId(), user);
+            index(user);
+            dirtyUsers.add(user.getUserId());
+        }
+        for (User user : lostRace) {
+            result.reject(user, "Username or email was taken during import");
+        }
+        
+        if (result.getImportedCount() > 0) {
+            persistChanges();
+            // One bulk notice instead of a change per imported user
+            publishChange(DataChangeEvent.Action.CREATED, DataChangeEvent.BROADCAST_ID);
+        }
+        LOG.info("Imported " + result.getImportedCount() + " users, rejected "
+            + result.getRejectedCount() + " rows");
+        return result;
+    }
+    
     /**
      * Retrieves user by unique user ID
      * PARAMS: userId
@@ -164,6 +282,14 @@ public class UserManager implements UserRepository {
         return authService.validateCredentials(username, password);
     }
     
+    /**
+     * Validates credentials off the calling thread on the bounded verification pool
+     * PARAMS: username, password
+     */
+    public CompletableFuture<User> validateCredentialsAsync(String username, String password) {
+        return authService.validateCredentialsAsync(username, password);
+    }
+    
     /**
      * Updates user information with provided field updates
      * PARAMS: userId, updates
@@ -206,9 +332,36 @@ public class UserManager implements UserRepository {
                     break;
             }
         }
+        index(user);
+        saveUser(user);
+        publishChange(DataChangeEvent.Action.UPDATED, userId);
         return true;
     }
     
+    /**
+     * Ranked user lookup by username, email or name via the n-gram index
+     * PARAMS: query, limit
+     */
+    public List<User> searchUsers(String query, int limit) {
+        return searchService.search(query, limit);
+    }
+    
+    /**
+     * Users whose first or last name contains the keyword
+     * PARAMS: keyword
+     */
+    public List<User> searchUsersByName(String keyword) {
+        return searchService.searchByName(keyword);
+    }
+    
+    /**
+     * Finds a user by exact username
+     * PARAMS: username
+     */
+    public User findByUsername(String username) {
+        return username == null ? null : searchService.findByUsername(username);
+    }
+    
     /**
      * Retrieves all users in the system
      */
@@ -221,13 +374,22 @@ public class UserManager implements UserRepository {
      * PARAMS: role
      */
     public List<User> getUsersByRole(UserRole role) {
-        List<User> usersByRole = new ArrayList<>();
-        for (User user : users.values()) {
-            if (user.getRole() == role) {
-                usersByRole.add(user);
-            }
-        }
-        return usersByRole;
+        return searchService.findByRole(role);
+    }
+    
+    /**
+     * Retrieves users filtered by account status
+     * PARAMS: status
+     */
+    public List<User> getUsersByStatus(UserStatus status) {
+        return searchService.findByStatus(status);
+    }
+    
+    /**
+     * Snapshot of user counts by role and status, maintained incrementally
+     */
+    public UserStats getUserStats() {
+        return categoryIndex.snapshot();
     }
     
     /**
@@ -260,49 +422,103 @@ public class UserManager implements UserRepository {
     }
     
     /**
-     * Loads users from persistence layer on startup
+     * Loads users from the record log on startup; without a log, a legacy
+     * users.ser snapshot is loaded and written out as the initial log
      */
     @SuppressWarnings("unchecked")
-    private void loadUsersFromPersistence() {
+    private void loadUsersFromPersistence(String legacyFile) {
         try {
-            Object data = DataManager.loadData("users.ser");
-            if (data instanceof Map) {
-                Map<String, User> loadedUsers = (Map<String, User>) data;
-                for (User user : loadedUsers.values()) {
-                    users.put(user.getUserId(), user);
-                    usersByEmail.put(user.getEmail(), user);
-                    usersByUsername.put(user.getUsername(), user);
+            Map<String, User> loadedUsers;
+            if (recordLog.exists() || legacyFile == null) {
+                loadedUsers = recordLog.replay();
+            } else {
+                Object data = DataManager.loadData(legacyFile);
+                loadedUsers = data instanceof Map ? (Map<String, User>) data : new java.util.HashMap<>();
+                if (!loadedUsers.isEmpty()) {
+                    recordLog.compact(loadedUsers.values());
+                    LOG.info("Migrated " + loadedUsers.size() + " users from " + legacyFile);
                 }
-                System.out.println("Loaded " + loadedUsers.size() + " users from persistence");
             }
+            for (User user : loadedUsers.values()) {
+                users.put(user.getUserId(), user);
+                usersByEmail.put(user.getEmail(), user);
+                usersByUsername.put(user.getUsername(), user);
+                index(user);
+            }
+            LOG.info("Loaded " + loadedUsers.size() + " users from persistence");
         } catch (IOException | ClassNotFoundException e) {
-            System.out.println("No existing user data found or failed to load: " + e.getMessage());
+            LOG.info("No existing user data found or failed to load: " + e.getMessage());
             // This is normal on first run
         }
     }
     
     /**
-     * Saves users to persistence layer
+     * Marks one user dirty and writes its record
      */
-    private void saveUsersToPersistence() {
-        try {
-            DataManager.saveData("users.ser", new ConcurrentHashMap<>(users));
-        } catch (IOException e) {
-            System.err.println("Failed to save users to persistence: " + e.getMessage());
+    private void saveUser(User user) {
+        dirtyUsers.add(user.getUserId());
+        persistChanges();
+    }
+    
+    /**
+     * Appends records for all dirty and deleted users in one batch, compacting
+     * the log once superseded records dominate; a failed batch is marked
+     * dirty again so the next save retries it
+     */
+    private void persistChanges() {
+        MetricsRegistry.getDefault().timer("persistence.save." + USER_LOG_FILE).time(this::appendChanges);
+    }
+    
+    private void appendChanges() {
+        synchronized (recordLog) {
+            List<User> changed = new ArrayList<>();
+            for (String userId : dirtyUsers) {
+                dirtyUsers.remove(userId);
+                User user = users.get(userId);
+                if (user != null) {
+                    changed.add(user);
+                }
+            }
+            List<String> deleted = new ArrayList<>();
+            for (String userId : deletedUsers) {
+                deletedUsers.remove(userId);
+                if (!users.containsKey(userId)) {
+                    deleted.add(userId);
+                }
+            }
+            try {
+                recordLog.append(changed, deleted);
+            } catch (IOException e) {
+                // Nothing of the batch was kept; queue it again for the next save
+                LOG.error("Failed to append user changes, retrying on the next save", e);
+                for (User user : changed) {
+                    dirtyUsers.add(user.getUserId());
+                }
+                deletedUsers.addAll(deleted);
+                return;
+            }
+            if (recordLog.needsCompaction(users.size())) {
+                try {
+                    recordLog.compact(users.values());
+                } catch (IOException e) {
+                    LOG.warn("Failed to compact user log", e);
+                }
+            }
         }
     }
     
+    /**
+     * Releases the record log file handle
+     */
+    public void close() {
+        recordLog.close();
+    }
+    
     /**
      * Gets users pending approval
      */
     public List<User> getPendingApprovals() {
-        List<User> pendingUsers = new ArrayList<>();
-        for (User user : users.values()) {
-            if (user.getStatus() == UserStatus.PENDING_APPROVAL) {
-                pendingUsers.add(user);
-            }
-        }
-        return pendingUsers;
+        return searchService.findByStatus(UserStatus.PENDING_APPROVAL);
     }
     
     /**
@@ -310,13 +526,21 @@ public class UserManager implements UserRepository {
      */
     public boolean approveUser(String userId) {
         User user = users.get(userId);
-        if (user != null && user.getStatus() == UserStatus.PENDING_APPROVAL) {
-            user.setStatus(UserStatus.ACTIVE);
-            saveUsersToPersistence();
-            System.out.println("UserManager: Approved user " + userId + " (" + user.getUsername() + ")");
+        boolean approved;
+        synchronized (mutationLock) {
+            approved = user != null && user.getStatus() == UserStatus.PENDING_APPROVAL;
+            if (approved) {
+                user.setStatus(UserStatus.ACTIVE);
+                index(user);
+            }
+        }
+        if (approved) {
+            saveUser(user);
+            publishChange(DataChangeEvent.Action.UPDATED, userId);
+            LOG.info("Approved user " + userId + " (" + user.getUsername() + ")");
             return true;
         }
-        System.out.println("UserManager: Failed to approve user " + userId + " - user not found or not pending approval");
+        LOG.warn("Failed to approve user " + userId + " - user not found or not pending approval");
         return false;
     }
     
@@ -325,13 +549,133 @@ public class UserManager implements UserRepository {
      */
     public boolean suspendUser(String userId) {
         User user = users.get(userId);
-        if (user != null && user.getStatus() == UserStatus.ACTIVE) {
-            user.setStatus(UserStatus.SUSPENDED);
-            saveUsersToPersistence();
-            System.out.println("UserManager: Suspended user " + userId + " (" + user.getUsername() + ")");
+        boolean suspended;
+        synchronized (mutationLock) {
+            suspended = user != null && user.getStatus() == UserStatus.ACTIVE;
+            if (suspended) {
+                user.setStatus(UserStatus.SUSPENDED);
+                index(user);
+            }
+        }
+        if (suspended) {
+            saveUser(user);
+            publishChange(DataChangeEvent.Action.UPDATED, userId);
+            LOG.info("Suspended user " + userId + " (" + user.getUsername() + ")");
             return true;
         }
-        System.out.println("UserManager: Failed to suspend user " + userId + " - user not found or not active");
+        LOG.warn("Failed to suspend user " + userId + " - user not found or not active");
         return false;
     }
-}
\ No newline at end of file
+    
+    // =============================================================================
+    // BULK OPERATIONS
+    // =============================================================================
+    
+    /**
+     * Applies an admin action to the listed users as one batch
+     * PARAMS: action, userIds
+     */
+    public BulkResult applyBulk(UserBulkAction action, Collection<String> userIds) {
+        List<User> targets = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            User user = users.get(userId);
+            if (user != null) {
+                targets.add(user);
+            }
+        }
+        return applyBulk(action, targets, userIds.size());
+    }
+    
+    /**
+     * Applies an admin action to every eligible user matching the filter,
+     * e.g. all pending organizers of one department
+     * PARAMS: action, filter
+     */
+    public BulkResult applyBulk(UserBulkAction action, Predicate<User> filter) {
+        Collection<User> pool = action.getEligibleStatus() != null
+            ? searchService.findByStatus(action.getEligibleStatus())
+            : users.values();
+        List<User> targets = new ArrayList<>();
+        for (User user : pool) {
+            if (filter.test(user)) {
+                targets.add(user);
+            }
+        }
+        return applyBulk(action, targets, targets.size());
+    }
+    
+    /**
+     * Changes all eligible targets under one lock acquisition, re-indexes them
+     * in one call, then persists and publishes a single aggregated change
+     */
+    private BulkResult applyBulk(UserBulkAction action, List<User> targets, int requested) {
+        List<User> changed = new ArrayList<>();
+        synchronized (mutationLock) {
+            for (User user : targets) {
+                if (action.getEligibleStatus() != null && user.getStatus() != action.getEligibleStatus()) {
+                    continue;
+                }
+                if (action == UserBulkAction.DELETE) {
+                    if (users.remove(user.getUserId(), user)) {
+                        usersByUsername.remove(user.getUsername());
+                        usersByEmail.remove(user.getEmail().toLowerCase());
+                        changed.add(user);
+                    }
+                } else {
+                    user.setStatus(action.getResultStatus());
+                    changed.add(user);
+                }
+            }
+            if (action == UserBulkAction.DELETE) {
+                List<String> removedIds = new ArrayList<>(changed.size());
+                for (User user : changed) {
+                    removedIds.add(user.getUserId());
+                }
+                nameIndex.removeAll(removedIds);
+                categoryIndex.removeAll(removedIds);
+            } else {
+                categoryIndex.addAll(changed);
+            }
+        }
+        
+        if (!changed.isEmpty()) {
+            for (User user : changed) {
+                (action == UserBulkAction.DELETE ? deletedUsers : dirtyUsers).add(user.getUserId());
+            }
+            persistChanges();
+            publishChange(action == UserBulkAction.DELETE
+                ? DataChangeEvent.Action.DELETED : DataChangeEvent.Action.UPDATED, DataChangeEvent.BROADCAST_ID);
+        }
+        LOG.info(action.getDisplayName() + " applied to " + changed.size()
+            + " of " + requested + " users");
+        return new BulkResult(action, requested, changed);
+    }
+    
+    /**
+     * Outcome of a bulk operation
+     */
+    public static class BulkResult {
+        private final UserBulkAction action;
+        private final int requestedCount;
+        private final List<User> changedUsers;
+        
+        BulkResult(UserBulkAction action, int requestedCount, List<User> changedUsers) {
+            this.action = action;
+            this.requestedCount = requestedCount;
+            this.changedUsers = changedUsers;
+        }
+        
+        public UserBulkAction getAction() { return action; }
+        public int getRequestedCount() { return requestedCount; }
+        public int getChangedCount() { return changedUsers.size(); }
+        public int getSkippedCount() { return requestedCount - changedUsers.size(); }
+        
+        public List<String> getChangedUserIds() {
+            List<String> ids = new ArrayList<>(changedUsers.size());
+            for (User user : changedUsers) {
+                ids.add(user.getUserId());
+            }
+            return ids;
+        }
+    }
+}
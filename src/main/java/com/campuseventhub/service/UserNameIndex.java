@@ -0,0 +1,234 @@
+// =============================================================================
+// USER NAME INDEX
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.User;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram index over normalized usernames, names and email local parts.
+ *
+ * Implementation Details:
+ * - Each indexed term contributes its trigrams plus its 1- and 2-character
+ *   prefixes; postings map a gram to the ids of users containing it
+ * - Queries of three or more characters intersect the trigram postings
+ *   starting from the smallest, then verify candidates against the stored
+ *   terms, so cost follows the number of matches rather than of users
+ * - Shorter queries resolve directly from the prefix postings
+ * - Email domains are not indexed; most users share one and it would turn
+ *   those trigrams into lists of every user
+ * - Results rank exact term matches first, then prefixes, then substrings
+ */
+public class UserNameIndex {
+    private static final int GRAM = 3;
+    private static final String PREFIX_MARK = "^";
+
+    // Positions in the per-user term array
+    private static final int USERNAME = 0;
+    private static final int EMAIL = 1;
+    private static final int FIRST_NAME = 2;
+    private static final int LAST_NAME = 3;
+    private static final int FULL_NAME = 4;
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_SUBSTRING = 2;
+
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Map<String, String[]> termsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Indexes a user, replacing any previous entry for the same id
+     */
+    public synchronized void add(User user) {
+        remove(user.getUserId());
+        String[] terms = termsOf(user);
+        termsByUser.put(user.getUserId(), terms);
+        for (String gram : gramsOf(terms)) {
+            postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(user.getUserId());
+        }
+    }
+
+    public synchronized void remove(String userId) {
+        String[] terms = termsByUser.remove(userId);
+        if (terms == null) {
+            return;
+        }
+        for (String gram : gramsOf(terms)) {
+            Set<String> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(userId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public synchronized void removeAll(Collection<String> userIds) {
+        for (String userId : userIds) {
+            remove(userId);
+        }
+    }
+
+    public int size() {
+        return termsByUser.size();
+    }
+
+    /**
+     * Ranked lookup across username, email and names
+     *
+     * @return ids of matching users, best matches first, at most limit entries
+     */
+    public List<String> search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<Match> matches = new ArrayList<>();
+        for (String userId : candidates(q)) {
+            String[] terms = termsByUser.get(userId);
+            if (terms == null) {
+                continue;
+            }
+            int rank = rank(terms, q, USERNAME, FULL_NAME);
+            if (rank >= 0) {
+                matches.add(new Match(userId, terms[USERNAME], rank));
+            }
+        }
+        matches.sort(Comparator.comparingInt((Match m) -> m.rank).thenComparing(m -> m.username));
+        List<String> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i).userId);
+        }
+        return result;
+    }
+
+    /**
+     * Ids of users whose first or last name contains the keyword
+     */
+    public List<String> searchNames(String keyword) {
+        String q = normalize(keyword);
+        List<String> result = new ArrayList<>();
+        if (q.isEmpty()) {
+            return result;
+        }
+        for (String userId : candidates(q)) {
+            String[] terms = termsByUser.get(userId);
+            if (terms != null && rank(terms, q, FIRST_NAME, LAST_NAME) >= 0) {
+                result.add(userId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Users that may match; a superset for long queries, exact for short ones
+     */
+    private Set<String> candidates(String q) {
+        if (q.length() < GRAM) {
+            Set<String> ids = postings.get(PREFIX_MARK + q);
+            return ids != null ? ids : Set.of();
+        }
+        List<Set<String>> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= q.length(); i++) {
+            Set<String> ids = postings.get(q.substring(i, i + GRAM));
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<String> result = new HashSet<>();
+        for (String userId : lists.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(userId);
+            }
+            if (inAll) {
+                result.add(userId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Best rank of the query against terms[from..to], or -1 if none contain it
+     */
+    private static int rank(String[] terms, String q, int from, int to) {
+        int best = -1;
+        for (int i = from; i <= to; i++) {
+            String term = terms[i];
+            int rank;
+            if (term.equals(q)) {
+                rank = RANK_EXACT;
+            } else if (term.startsWith(q)) {
+                rank = RANK_PREFIX;
+            } else if (q.length() >= GRAM && term.contains(q)) {
+                rank = RANK_SUBSTRING;
+            } else {
+                continue;
+            }
+            if (best < 0 || rank < best) {
+                best = rank;
+            }
+        }
+        return best;
+    }
+
+    private static String[] termsOf(User user) {
+        String email = normalize(user.getEmail());
+        int at = email.indexOf('@');
+        String first = normalize(user.getFirstName());
+        String last = normalize(user.getLastName());
+        String[] terms = new String[5];
+        terms[USERNAME] = normalize(user.getUsername());
+        terms[EMAIL] = at >= 0 ? email.substring(0, at) : email;
+        terms[FIRST_NAME] = first;
+        terms[LAST_NAME] = last;
+        terms[FULL_NAME] = normalize(first + " " + last);
+        return terms;
+    }
+
+    private static Set<String> gramsOf(String[] terms) {
+        Set<String> grams = new HashSet<>();
+        for (String term : terms) {
+            for (int len = 1; len < GRAM && len <= term.length(); len++) {
+                grams.add(PREFIX_MARK + term.substring(0, len));
+            }
+            for (int i = 0; i + GRAM <= term.length(); i++) {
+                grams.add(term.substring(i, i + GRAM));
+            }
+        }
+        return grams;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Match {
+        private final String userId;
+        private final String username;
+        private final int rank;
+
+        Match(String userId, String username, int rank) {
+            this.userId = userId;
+            this.username = username;
+            this.rank = rank;
+        }
+    }
+}
@@ -11,19 +11,26 @@ import java.util.stream.Collectors;
 /**
  * Service for searching and filtering users by various criteria.
  * Handles user lookup operations and query functionality.
+ * Name, role and status lookups go through indexes kept current by UserManager.
  */
 public class UserSearchService {
     
     private final Map<String, User> users;
     private final Map<String, User> usersByEmail;
     private final Map<String, User> usersByUsername;
+    private final UserNameIndex nameIndex;
+    private final UserCategoryIndex categoryIndex;
     
     public UserSearchService(Map<String, User> users, 
                            Map<String, User> usersByEmail, 
-                           Map<String, User> usersByUsername) {
+                           Map<String, User> usersByUsername,
+                           UserNameIndex nameIndex,
+                           UserCategoryIndex categoryIndex) {
         this.users = users;
         this.usersByEmail = usersByEmail;
         this.usersByUsername = usersByUsername;
+        this.nameIndex = nameIndex;
+        this.categoryIndex = categoryIndex;
     }
     
     /**
@@ -44,34 +51,53 @@ public class UserSearchService {
      * Find users by role
      */
     public List<User> findByRole(UserRole role) {
-        return users.values().stream()
+        return resolve(categoryIndex.idsWithRole(role)).stream()
             .filter(user -> user.getRole() == role)
             .collect(Collectors.toList());
     }
     
     /**
-     * Find users by status
+     * Find users by status; the final filter guards against a status changed
+     * on the object but not yet re-indexed
      */
     public List<User> findByStatus(UserStatus status) {
-        return users.values().stream()
+        return resolve(categoryIndex.idsWithStatus(status)).stream()
             .filter(user -> user.getStatus() == status)
             .collect(Collectors.toList());
     }
     
     /**
-     * Search users by name (first or last name contains keyword)
+     * Search users by name (first or last name contains keyword; keywords
+     * shorter than three characters match name prefixes)
      */
     public List<User> searchByName(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return new ArrayList<>();
         }
-        
-        String lowerKeyword = keyword.trim().toLowerCase();
-        return users.values().stream()
-            .filter(user -> 
-                user.getFirstName().toLowerCase().contains(lowerKeyword) ||
-                user.getLastName().toLowerCase().contains(lowerKeyword))
-            .collect(Collectors.toList());
+        return resolve(nameIndex.searchNames(keyword));
+    }
+    
+    /**
+     * Ranked search over username, email and names: exact matches first,
+     * then prefixes, then substrings
+     * PARAMS: query, limit
+     */
+    public List<User> search(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return resolve(nameIndex.search(query, limit));
+    }
+    
+    private List<User> resolve(List<String> userIds) {
+        List<User> result = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            User user = users.get(userId);
+            if (user != null) {
+                result.add(user);
+            }
+        }
+        return result;
     }
     
     /**
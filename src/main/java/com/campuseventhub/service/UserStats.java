@@ -0,0 +1,59 @@
+// =============================================================================
+// USER STATS SNAPSHOT
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.model.user.UserStatus;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable point-in-time user counts by role and status.
+ *
+ * Implementation Details:
+ * - Copied from UserCategoryIndex counters under its lock, so totals agree
+ *   with the per-role and per-status breakdown
+ * - Building one costs a fixed number of map reads regardless of user count
+ */
+public final class UserStats {
+    private final int totalUsers;
+    private final Map<UserRole, Integer> byRole;
+    private final Map<UserStatus, Integer> byStatus;
+
+    UserStats(int totalUsers, Map<UserRole, Integer> byRole, Map<UserStatus, Integer> byStatus) {
+        this.totalUsers = totalUsers;
+        this.byRole = new EnumMap<>(byRole);
+        this.byStatus = new EnumMap<>(byStatus);
+    }
+
+    public int getTotalUsers() {
+        return totalUsers;
+    }
+
+    public int getCount(UserRole role) {
+        return byRole.getOrDefault(role, 0);
+    }
+
+    public int getCount(UserStatus status) {
+        return byStatus.getOrDefault(status, 0);
+    }
+
+    public int getActiveUsers() {
+        return getCount(UserStatus.ACTIVE);
+    }
+
+    public int getPendingApprovals() {
+        return getCount(UserStatus.PENDING_APPROVAL);
+    }
+
+    public int getSuspendedUsers() {
+        return getCount(UserStatus.SUSPENDED);
+    }
+
+    @Override
+    public String toString() {
+        return "UserStats{total=" + totalUsers + ", byRole=" + byRole + ", byStatus=" + byStatus + "}";
+    }
+}
@@ -1,5 +1,6 @@
 package com.campuseventhub.service;
 
+import com.campuseventhub.jfr.VenueBookingEvent;
 import com.campuseventhub.model.venue.Venue;
 import com.campuseventhub.model.event.Event;
 import java.time.LocalDateTime;
@@ -19,9 +20,33 @@ public class VenueBookingService {
     }
     
     /**
-     * Books a venue for an event with comprehensive validation
+     * Books a venue for an event with comprehensive validation; every attempt
+     * is recorded as a com.campuseventhub.VenueBooking JFR event
      */
     public boolean bookVenueForEvent(Event event, String venueId) {
+        VenueBookingEvent jfrEvent = new VenueBookingEvent();
+        jfrEvent.begin();
+        boolean booked = false;
+        String failure = "Venue already booked";
+        try {
+            booked = book(event, venueId);
+            return booked;
+        } catch (IllegalArgumentException e) {
+            failure = e.getMessage();
+            throw e;
+        } finally {
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.eventId = event != null ? event.getEventId() : null;
+                jfrEvent.venueId = venueId;
+                jfrEvent.booked = booked;
+                jfrEvent.failure = booked ? "" : failure;
+                jfrEvent.commit();
+            }
+        }
+    }
+    
+    private boolean book(Event event, String venueId) {
         if (event == null || venueId == null) {
             throw new IllegalArgumentException("Event and venue ID cannot be null");
         }
@@ -4,6 +4,8 @@
 
 package com.campuseventhub.service;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
 import com.campuseventhub.model.venue.Venue;
 import com.campuseventhub.persistence.VenueRepository;
 import com.campuseventhub.persistence.DataManager;
@@ -23,6 +25,7 @@ import java.io.IOException;
  * - Support for complex venue search and filtering
  */
 public class VenueManager implements VenueRepository {
+    private static final Logger LOG = LogManager.getLogger(VenueManager.class);
     private Map<String, Venue> venues;
 
     /**
@@ -103,7 +106,7 @@ public class VenueManager implements VenueRepository {
             for (Venue existingVenue : venues.values()) {
                 if (existingVenue.getName().equalsIgnoreCase(venue.getName()) && 
                     existingVenue.getLocation().equalsIgnoreCase(venue.getLocation())) {
-                    System.out.println("VenueManager: Venue already exists with name '" + venue.getName() + "' at location '" + venue.getLocation() + "'");
+                    LOG.warn("Venue already exists with name '" + venue.getName() + "' at location '" + venue.getLocation() + "'");
                     return false;
                 }
             }
@@ -111,7 +114,7 @@ public class VenueManager implements VenueRepository {
             create(venue);
             return true;
         } catch (Exception e) {
-            System.err.println("VenueManager: Failed to add venue: " + e.getMessage());
+            LOG.warn("Failed to add venue: " + e.getMessage());
             return false;
         }
     }
@@ -204,10 +207,10 @@ public class VenueManager implements VenueRepository {
             if (venuesData instanceof Map) {
                 Map<String, Venue> loadedVenues = (Map<String, Venue>) venuesData;
                 venues.putAll(loadedVenues);
-                System.out.println("Loaded " + loadedVenues.size() + " venues from persistence");
+                LOG.info("Loaded " + loadedVenues.size() + " venues from persistence");
             }
         } catch (IOException | ClassNotFoundException e) {
-            System.out.println("No existing venue data found or failed to load: " + e.getMessage());
+            LOG.info("No existing venue data found or failed to load: " + e.getMessage());
         }
     }
     
@@ -217,9 +220,9 @@ public class VenueManager implements VenueRepository {
     private void saveVenuesToPersistence() {
         try {
             DataManager.saveData("venues.ser", venues);
-            System.out.println("Saved " + venues.size() + " venues to persistence");
+            LOG.debug(() -> "Saved " + venues.size() + " venues to persistence");
         } catch (IOException e) {
-            System.err.println("Failed to save venues to persistence: " + e.getMessage());
+            LOG.error("Failed to save venues to persistence", e);
         }
     }
 }
@@ -4,11 +4,11 @@
 
 package com.campuseventhub.service;
 
+import com.campuseventhub.jfr.WaitlistPromotionEvent;
 import com.campuseventhub.model.event.Event;
 import com.campuseventhub.model.event.Registration;
 import com.campuseventhub.model.event.RegistrationStatus;
 import com.campuseventhub.model.notification.NotificationType;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Queue;
@@ -45,9 +45,26 @@ public class WaitlistManager {
     
     /**
      * Promotes attendees from waitlist when spots become available
-     * Returns the number of promotions made
+     * Returns the number of promotions made; each pass is recorded as a
+     * com.campuseventhub.WaitlistPromotion JFR event
      */
     public WaitlistPromotionResult promoteFromWaitlist(Event event, int availableSpots) {
+        WaitlistPromotionEvent jfrEvent = new WaitlistPromotionEvent();
+        jfrEvent.begin();
+        WaitlistPromotionResult result = promote(event, availableSpots);
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.eventId = event != null ? event.getEventId() : null;
+            jfrEvent.availableSpots = availableSpots;
+            jfrEvent.promoted = result.getPromotionsCount();
+            jfrEvent.failed = result.getFailedPromotions().size();
+            jfrEvent.remaining = event != null && event.getWaitlist() != null ? event.getWaitlist().size() : 0;
+            jfrEvent.commit();
+        }
+        return result;
+    }
+    
+    private WaitlistPromotionResult promote(Event event, int availableSpots) {
         if (event == null || availableSpots <= 0) {
             return new WaitlistPromotionResult(0, new ArrayList<>(), new ArrayList<>());
         }
@@ -74,10 +91,9 @@ public class WaitlistManager {
                 }
                 
                 // Check if registration deadline has passed
-                if (event.getRegistrationDeadline() != null && 
-                    LocalDateTime.now().isAfter(event.getRegistrationDeadline())) {
+                if (event.isRegistrationDeadlinePassed()) {
                     // Re-add to waitlist if deadline passed but event not started
-                    if (LocalDateTime.now().isBefore(event.getStartDateTime())) {
+                    if (!event.hasStarted()) {
                         waitlist.offer(waitlistReg);
                     }
                     break;
@@ -185,7 +201,7 @@ public class WaitlistManager {
         boolean removed = false;
         
         for (int i = 0; i < waitlistList.size(); i++) {
-            if (waitlistList.get(i).getRegistrationId().equals(registrationId)) {
+            if (waitlistList.get(i).getRegistrationKey().matches(registrationId)) {
                 waitlistList.remove(i);
                 removed = true;
                 break;
@@ -229,19 +245,8 @@ public class WaitlistManager {
             return;
         }
         
-        String message = String.format(
-            "Great news! You've been promoted from the waitlist for '%s'!\n\n" +
-            "Event Details:\n" +
-            "📅 Date: %s\n" +
-            "🕒 Time: %s - %s\n" +
-            "📍 Location: %s\n\n" +
-            "Your registration is now confirmed. We look forward to seeing you there!",
-            event.getTitle(),
-            event.getStartDateTime().toLocalDate(),
-            event.getStartDateTime().toLocalTime(),
-            event.getEndDateTime().toLocalTime(),
-            event.getVenueName()
-        );
+        String message = notificationService.getTemplateManager()
+            .render("waitlist.promotion", TemplateContext.forEvent(event));
         
         List<String> recipients = List.of(registration.getAttendeeId());
         notificationService.sendNotification(message, recipients, NotificationType.WAITLIST_PROMOTION);
@@ -255,21 +260,9 @@ public class WaitlistManager {
             return;
         }
         
-        String message = String.format(
-            "You've been added to the waitlist for '%s'.\n\n" +
-            "Your position: #%d\n\n" +
-            "Event Details:\n" +
-            "📅 Date: %s\n" +
-            "🕒 Time: %s - %s\n" +
-            "📍 Location: %s\n\n" +
-            "We'll notify you if a spot becomes available. Thank you for your interest!",
-            event.getTitle(),
-            registration.getWaitlistPosition(),
-            event.getStartDateTime().toLocalDate(),
-            event.getStartDateTime().toLocalTime(),
-            event.getEndDateTime().toLocalTime(),
-            event.getVenueName()
-        );
+        TemplateContext context = TemplateContext.forEvent(event)
+            .set(TemplateSlot.POSITION, registration.getWaitlistPosition());
+        String message = notificationService.getTemplateManager().render("waitlist.registration", context);
         
         List<String> recipients = List.of(registration.getAttendeeId());
         notificationService.sendNotification(message, recipients, NotificationType.WAITLIST_REGISTRATION);
@@ -283,15 +276,12 @@ public class WaitlistManager {
             return;
         }
         
+        // One template and context for the event; only the position changes per recipient
+        NotificationTemplate template = notificationService.getTemplateManager().requireTemplate("waitlist.positionUpdate");
+        TemplateContext context = TemplateContext.forEvent(event);
         for (Registration reg : waitlist) {
             if (reg.getWaitlistPosition() <= 5) { // Only notify top 5
-                String message = String.format(
-                    "Waitlist update for '%s'!\n\n" +
-                    "Your new position: #%d\n\n" +
-                    "You're getting closer to the front of the line. We'll notify you immediately if a spot opens up!",
-                    event.getTitle(),
-                    reg.getWaitlistPosition()
-                );
+                String message = template.render(context.set(TemplateSlot.POSITION, reg.getWaitlistPosition()));
                 
                 List<String> recipients = List.of(reg.getAttendeeId());
                 notificationService.sendNotification(message, recipients, NotificationType.WAITLIST_POSITION_UPDATE);
@@ -341,7 +331,7 @@ public class WaitlistManager {
         }
         
         for (Registration reg : waitlist) {
-            if (reg.getAttendeeId().equals(attendeeId)) {
+            if (reg.getAttendeeKey().matches(attendeeId)) {
                 return reg.getWaitlistPosition();
             }
         }
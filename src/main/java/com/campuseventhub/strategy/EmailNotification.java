@@ -1,17 +1,41 @@
 package com.campuseventhub.strategy;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * Email notification strategy implementation.
+ * Email notification strategy implementation. Delivery goes through a
+ * SimulatedGateway whose latency and failure rate can be tuned for testing.
  */
 public class EmailNotification implements NotificationStrategy {
+    private static final Logger LOG = LogManager.getLogger(EmailNotification.class);
+    private final SimulatedGateway gateway;
+
+    public EmailNotification() {
+        this(new SimulatedGateway("smtp"));
+    }
+
+    public EmailNotification(SimulatedGateway gateway) {
+        this.gateway = gateway;
+    }
 
     @Override
     public boolean sendNotification(String message, String recipient) {
         // Simulated email sending
-        System.out.println("[EMAIL] To: " + recipient);
-        System.out.println("[EMAIL] Message: " + message);
-        System.out.println("[EMAIL] Status: Delivered\n");
-        return true;
+        boolean delivered = gateway.send(List.of(recipient), message);
+        LOG.debug(() -> "To " + recipient + ": " + (delivered ? "Delivered" : "Failed") + ": " + message);
+        return delivered;
+    }
+
+    @Override
+    public List<String> sendBatch(List<String> recipients, String message) {
+        // Simulated bulk email send - one gateway call for the whole batch
+        boolean delivered = gateway.send(recipients, message);
+        LOG.debug(() -> "Batch to " + recipients.size() + " recipients: "
+            + (delivered ? "Delivered" : "Failed") + ": " + message);
+        return delivered ? List.of() : new ArrayList<>(recipients);
     }
 
     @Override
@@ -22,6 +46,10 @@ public class EmailNotification implements NotificationStrategy {
     @Override
     public boolean isAvailable() {
         // Simulated email service availability check
-        return true;
+        return gateway.isAvailable();
+    }
+
+    public SimulatedGateway getGateway() {
+        return gateway;
     }
 }
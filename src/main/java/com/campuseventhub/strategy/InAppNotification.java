@@ -1,19 +1,29 @@
 package com.campuseventhub.strategy;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import java.util.List;
+
 /**
  * In-app notification strategy implementation.
  */
 public class InAppNotification implements NotificationStrategy {
+    private static final Logger LOG = LogManager.getLogger(InAppNotification.class);
 
     @Override
     public boolean sendNotification(String message, String recipient) {
         // Simulated in-app notification
-        System.out.println("[IN-APP] To: " + recipient);
-        System.out.println("[IN-APP] Message: " + message);
-        System.out.println("[IN-APP] Status: Displayed\n");
+        LOG.debug(() -> "To " + recipient + ": Displayed: " + message);
         return true;
     }
 
+    @Override
+    public List<String> sendBatch(List<String> recipients, String message) {
+        // Simulated bulk in-app send - one gateway call for the whole batch
+        LOG.debug(() -> "Batch to " + recipients.size() + " recipients: Displayed: " + message);
+        return List.of();
+    }
+
     @Override
     public String getDeliveryMethod() {
         return "IN_APP";
@@ -23,4 +33,9 @@ public class InAppNotification implements NotificationStrategy {
     public boolean isAvailable() {
         return true;
     }
+
+    @Override
+    public boolean isInApp() {
+        return true;
+    }
 }
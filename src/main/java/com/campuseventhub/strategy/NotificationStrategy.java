@@ -4,6 +4,9 @@
 
 package com.campuseventhub.strategy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Strategy interface for different notification delivery methods.
  */
@@ -11,4 +14,30 @@ public interface NotificationStrategy {
     boolean sendNotification(String message, String recipient);
     String getDeliveryMethod();
     boolean isAvailable();
-}
\ No newline at end of file
+
+    /**
+     * Whether the channel displays notifications inside the application.
+     * Broadcasts skip in-app channels, since every inbox already reads them
+     * from the shared broadcast log.
+     */
+    default boolean isInApp() {
+        return false;
+    }
+
+    /**
+     * Delivers the same message to a batch of recipients. Channels with a
+     * native bulk API should override this; the default falls back to one
+     * call per recipient.
+     *
+     * @return recipients that could not be delivered (empty when all succeeded)
+     */
+    default List<String> sendBatch(List<String> recipients, String message) {
+        List<String> failed = new ArrayList<>();
+        for (String recipient : recipients) {
+            if (!sendNotification(message, recipient)) {
+                failed.add(recipient);
+            }
+        }
+        return failed;
+    }
+}
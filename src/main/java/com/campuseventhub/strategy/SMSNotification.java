@@ -1,17 +1,41 @@
 package com.campuseventhub.strategy;
 
+import com.campuseventhub.logging.LogManager;
+import com.campuseventhub.logging.Logger;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * SMS notification strategy implementation.
+ * SMS notification strategy implementation. Delivery goes through a
+ * SimulatedGateway whose latency and failure rate can be tuned for testing.
  */
 public class SMSNotification implements NotificationStrategy {
+    private static final Logger LOG = LogManager.getLogger(SMSNotification.class);
+    private final SimulatedGateway gateway;
+
+    public SMSNotification() {
+        this(new SimulatedGateway("sms"));
+    }
+
+    public SMSNotification(SimulatedGateway gateway) {
+        this.gateway = gateway;
+    }
 
     @Override
     public boolean sendNotification(String message, String recipient) {
         // Simulated SMS sending
-        System.out.println("[SMS] To: " + recipient);
-        System.out.println("[SMS] Message: " + message);
-        System.out.println("[SMS] Status: Delivered\n");
-        return true;
+        boolean delivered = gateway.send(List.of(recipient), message);
+        LOG.debug(() -> "To " + recipient + ": " + (delivered ? "Delivered" : "Failed") + ": " + message);
+        return delivered;
+    }
+
+    @Override
+    public List<String> sendBatch(List<String> recipients, String message) {
+        // Simulated bulk SMS send - one gateway call for the whole batch
+        boolean delivered = gateway.send(recipients, message);
+        LOG.debug(() -> "Batch to " + recipients.size() + " recipients: "
+            + (delivered ? "Delivered" : "Failed") + ": " + message);
+        return delivered ? List.of() : new ArrayList<>(recipients);
     }
 
     @Override
@@ -22,6 +46,10 @@ public class SMSNotification implements NotificationStrategy {
     @Override
     public boolean isAvailable() {
         // Simulated SMS service availability check
-        return true;
+        return gateway.isAvailable();
+    }
+
+    public SimulatedGateway getGateway() {
+        return gateway;
     }
 }
@@ -0,0 +1,81 @@
+package com.campuseventhub.strategy;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for an external delivery gateway (SMTP relay, SMS
+ * provider). Latency, failure rate and outages are adjustable at runtime so
+ * channel degradation can be reproduced offline.
+ */
+public class SimulatedGateway {
+    private final String name;
+    private volatile long latencyMillis;
+    private volatile double failureRate;
+    private volatile boolean available;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+    private final AtomicLong deliveredMessages = new AtomicLong();
+
+    public SimulatedGateway(String name) {
+        this(name, 0, 0.0);
+    }
+
+    public SimulatedGateway(String name, long latencyMillis, double failureRate) {
+        this.name = name;
+        setLatencyMillis(latencyMillis);
+        setFailureRate(failureRate);
+        this.available = true;
+    }
+
+    /**
+     * Simulates one gateway call carrying the message to all recipients
+     *
+     * @return true if the gateway accepted the call
+     */
+    public boolean send(List<String> recipients, String message) {
+        calls.incrementAndGet();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedCalls.incrementAndGet();
+                return false;
+            }
+        }
+        if (!available || ThreadLocalRandom.current().nextDouble() < failureRate) {
+            failedCalls.incrementAndGet();
+            return false;
+        }
+        deliveredMessages.addAndGet(recipients.size());
+        return true;
+    }
+
+    public String getName() { return name; }
+    public long getLatencyMillis() { return latencyMillis; }
+    public double getFailureRate() { return failureRate; }
+    public boolean isAvailable() { return available; }
+    public long getCallCount() { return calls.get(); }
+    public long getFailedCallCount() { return failedCalls.get(); }
+    public long getDeliveredMessageCount() { return deliveredMessages.get(); }
+
+    public void setLatencyMillis(long latencyMillis) {
+        if (latencyMillis < 0) {
+            throw new IllegalArgumentException("Latency cannot be negative");
+        }
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setFailureRate(double failureRate) {
+        if (failureRate < 0.0 || failureRate > 1.0) {
+            throw new IllegalArgumentException("Failure rate must be between 0 and 1");
+        }
+        this.failureRate = failureRate;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+}
@@ -5,6 +5,7 @@
 package com.campuseventhub.util;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -13,6 +14,11 @@ import java.time.format.DateTimeFormatter;
 public class DateTimeUtil {
     public static final DateTimeFormatter EVENT_DATETIME_FORMAT =
         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    
+    /**
+     * Epoch minute standing for a missing time
+     */
+    public static final long NO_MINUTE = Long.MIN_VALUE;
 
     /**
      * Validates event date/time is in the future and within reasonable bounds
@@ -41,6 +47,32 @@ public class DateTimeUtil {
         return start1.isBefore(end2) && start2.isBefore(end1);
     }
     
+    /**
+     * Checks if two periods given as epoch minutes overlap
+     */
+    public static boolean hasTimeConflict(long start1, long end1, long start2, long end2) {
+        return start1 < end2 && start2 < end1;
+    }
+    
+    /**
+     * Wall-clock minutes since 1970-01-01T00:00, rounded down; the zone is
+     * not applied, so the value orders exactly like the LocalDateTime
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_MINUTE;
+        }
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+    
+    /**
+     * Whether a time has no seconds or nanoseconds, so its epoch minute
+     * represents it exactly
+     */
+    public static boolean isMinuteAligned(LocalDateTime dateTime) {
+        return dateTime != null && dateTime.getSecond() == 0 && dateTime.getNano() == 0;
+    }
+    
     /**
      * Formats date/time for display in UI
      */
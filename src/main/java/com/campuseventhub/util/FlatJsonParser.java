@@ -0,0 +1,135 @@
+package com.campuseventhub.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses flat JSON objects such as HTTP request bodies and JSONL roster
+ * lines, e.g. {"username": "alice", "maxCapacity": 40}. Values are returned
+ * as strings; nested objects and arrays are rejected.
+ */
+public final class FlatJsonParser {
+    private final String json;
+    private int pos;
+
+    private FlatJsonParser(String json) {
+        this.json = json;
+    }
+
+    public static Map<String, String> parseObject(String json) {
+        if (json == null || json.isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        return new FlatJsonParser(json).object();
+    }
+
+    private Map<String, String> object() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return fields;
+        }
+        while (true) {
+            skipWhitespace();
+            String name = string();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            fields.put(name, value());
+            skipWhitespace();
+            char c = next();
+            if (c == '}') {
+                break;
+            }
+            if (c != ',') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+        skipWhitespace();
+        if (pos != json.length()) {
+            throw error("Unexpected trailing content");
+        }
+        return fields;
+    }
+
+    private String value() {
+        char c = peek();
+        if (c == '"') {
+            return string();
+        }
+        if (c == '{' || c == '[') {
+            throw error("Nested values are not supported");
+        }
+        int start = pos;
+        while (pos < json.length() && ",} \t\r\n".indexOf(json.charAt(pos)) < 0) {
+            pos++;
+        }
+        String literal = json.substring(start, pos);
+        if (literal.isEmpty()) {
+            throw error("Expected a value");
+        }
+        return "null".equals(literal) ? null : literal;
+    }
+
+    private String string() {
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'u':
+                    if (pos + 4 > json.length()) {
+                        throw error("Bad unicode escape");
+                    }
+                    sb.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+                    pos += 4;
+                    break;
+                default: sb.append(escaped);
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private char peek() {
+        if (pos >= json.length()) {
+            throw error("Unexpected end of JSON");
+        }
+        return json.charAt(pos);
+    }
+
+    private char next() {
+        char c = peek();
+        pos++;
+        return c;
+    }
+
+    private void expect(char c) {
+        if (next() != c) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
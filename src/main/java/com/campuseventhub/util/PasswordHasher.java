@@ -0,0 +1,33 @@
+package com.campuseventhub.util;
+
+/**
+ * Strategy for hashing and verifying user passwords.
+ *
+ * Implementation Details:
+ * - Encoded hashes are self-describing (algorithm, cost, salt) so the cost
+ *   can be raised later without invalidating stored hashes
+ * - needsRehash() tells callers when a verified password should be re-hashed
+ *   with the current settings
+ */
+public interface PasswordHasher {
+
+    /**
+     * Hashes a password with a fresh random salt
+     */
+    String hash(String password);
+
+    /**
+     * Verifies a password against an encoded hash produced by this hasher
+     */
+    boolean verify(String password, String encodedHash);
+
+    /**
+     * True if the encoded hash was produced by this hasher's algorithm
+     */
+    boolean supports(String encodedHash);
+
+    /**
+     * True if the encoded hash uses weaker settings than the current ones
+     */
+    boolean needsRehash(String encodedHash);
+}
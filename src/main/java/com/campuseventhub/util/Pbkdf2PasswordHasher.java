@@ -0,0 +1,141 @@
+// =============================================================================
+// PBKDF2 PASSWORD HASHER
+// =============================================================================
+
+package com.campuseventhub.util;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * PBKDF2-HMAC-SHA256 password hasher from the JDK with per-user salts.
+ *
+ * Implementation Details:
+ * - Encoded as pbkdf2-sha256$iterations$salt$hash (Base64 salt and hash)
+ * - 16-byte random salt per hash, 256-bit derived key
+ * - Iteration count (the cost factor) defaults to DEFAULT_ITERATIONS and can
+ *   be overridden with the campuseventhub.password.iterations system property;
+ *   calibrateIterations() picks a value for a target verification latency
+ * - Hashes with fewer iterations than the current setting need a rehash
+ * - Comparison is constant-time
+ */
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+    public static final String ALGORITHM_ID = "pbkdf2-sha256";
+    public static final String ITERATIONS_PROPERTY = "campuseventhub.password.iterations";
+    public static final int DEFAULT_ITERATIONS = 210_000;
+    public static final int MIN_ITERATIONS = 1_000;
+
+    private static final String JCA_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final int iterations;
+
+    public Pbkdf2PasswordHasher() {
+        this(Integer.getInteger(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS));
+    }
+
+    public Pbkdf2PasswordHasher(int iterations) {
+        if (iterations < MIN_ITERATIONS) {
+            throw new IllegalArgumentException("Iterations must be at least " + MIN_ITERATIONS);
+        }
+        this.iterations = iterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    @Override
+    public String hash(String password) {
+        if (password == null) {
+            throw new IllegalArgumentException("Password cannot be null");
+        }
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        byte[] hash = derive(password, salt, iterations);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return ALGORITHM_ID + '$' + iterations + '$' + encoder.encodeToString(salt) + '$' + encoder.encodeToString(hash);
+    }
+
+    @Override
+    public boolean verify(String password, String encodedHash) {
+        if (password == null || !supports(encodedHash)) {
+            return false;
+        }
+        String[] parts = encodedHash.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        try {
+            int storedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            return MessageDigest.isEqual(expected, derive(password, salt, storedIterations));
+        } catch (IllegalArgumentException e) {
+            // Malformed iteration count or Base64
+            return false;
+        }
+    }
+
+    @Override
+    public boolean supports(String encodedHash) {
+        return encodedHash != null && encodedHash.startsWith(ALGORITHM_ID + '$');
+    }
+
+    @Override
+    public boolean needsRehash(String encodedHash) {
+        if (!supports(encodedHash)) {
+            return true;
+        }
+        String[] parts = encodedHash.split("\\$");
+        try {
+            return parts.length != 4 || Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(JCA_ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(JCA_ALGORITHM + " not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    /**
+     * Measures this machine and returns the iteration count whose single
+     * verification takes roughly the target latency (rounded to 1,000)
+     */
+    public static int calibrateIterations(Duration targetLatency) {
+        if (targetLatency == null || targetLatency.isZero() || targetLatency.isNegative()) {
+            throw new IllegalArgumentException("Target latency must be positive");
+        }
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        int probeIterations = 20_000;
+        // Warm up the JIT before timing
+        for (int i = 0; i < 5; i++) {
+            derive("calibration-password", salt, probeIterations);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            derive("calibration-password", salt, probeIterations);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double iterationsPerNano = (double) probeIterations / Math.max(1, best);
+        long iterations = Math.round(iterationsPerNano * targetLatency.toNanos() / 1_000.0) * 1_000;
+        return (int) Math.max(MIN_ITERATIONS, Math.min(Integer.MAX_VALUE, iterations));
+    }
+}
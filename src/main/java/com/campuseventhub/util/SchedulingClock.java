@@ -0,0 +1,92 @@
+// =============================================================================
+// SCHEDULING CLOCK
+// =============================================================================
+
+package com.campuseventhub.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Shared source of "now" for the scheduling layer.
+ *
+ * Implementation Details:
+ * - currentEpochMinute answers from a cached tick and only builds a
+ *   LocalDateTime when the minute rolls over, so deadline and range checks
+ *   in loops do not allocate
+ * - Minutes are wall-clock minutes in the clock's zone, the same encoding
+ *   as DateTimeUtil.toEpochMinute
+ * - The clock is replaceable so tests can pin or advance time
+ */
+public final class SchedulingClock {
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile Tick tick;
+
+    private SchedulingClock() {
+    }
+
+    /**
+     * Current wall-clock time
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * Current wall-clock minute as an epoch minute
+     */
+    public static long currentEpochMinute() {
+        Clock current = clock;
+        long millis = current.millis();
+        Tick cached = tick;
+        if (cached != null && cached.clock == current && millis >= cached.fromMillis && millis < cached.untilMillis) {
+            return cached.epochMinute;
+        }
+        // Zone offsets change on minute boundaries, so one tick covers one UTC minute
+        long fromMillis = Math.floorDiv(millis, MILLIS_PER_MINUTE) * MILLIS_PER_MINUTE;
+        LocalDateTime local = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), current.getZone());
+        Tick fresh = new Tick(current, fromMillis, fromMillis + MILLIS_PER_MINUTE, DateTimeUtil.toEpochMinute(local));
+        tick = fresh;
+        return fresh.epochMinute;
+    }
+
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock, for tests and simulations
+     * PARAMS: newClock
+     */
+    public static void setClock(Clock newClock) {
+        if (newClock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        clock = newClock;
+        tick = null;
+    }
+
+    /**
+     * Restores the system clock in the default zone
+     */
+    public static void reset() {
+        setClock(Clock.systemDefaultZone());
+    }
+
+    private static final class Tick {
+        private final Clock clock;
+        private final long fromMillis;
+        private final long untilMillis;
+        private final long epochMinute;
+
+        private Tick(Clock clock, long fromMillis, long untilMillis, long epochMinute) {
+            this.clock = clock;
+            this.fromMillis = fromMillis;
+            this.untilMillis = untilMillis;
+            this.epochMinute = epochMinute;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.campuseventhub.jfr;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventSearchCriteria;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.persistence.DataManager;
+import com.campuseventhub.service.EventManager;
+import com.campuseventhub.service.EventSearchService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the domain Flight Recorder events.
+ *
+ * Tests cover:
+ * - The bundled profile parses and enables every domain event
+ * - Persistence, search and admission events carry their fields
+ * - Nothing is recorded while the events are disabled
+ */
+class DomainJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("The bundled profile parses and enables every domain event")
+    void testBundledProfile() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/jfr/campuseventhub.jfc"), StandardCharsets.UTF_8)) {
+            Configuration configuration = Configuration.create(reader);
+            for (String name : List.of("Persistence", "EventSearch", "VenueBooking", "RegistrationAdmission",
+                                       "WaitlistPromotion", "NotificationBatch")) {
+                assertEquals("true", configuration.getSettings().get("com.campuseventhub." + name + "#enabled"), name);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Persistence, search and admission events carry their fields")
+    void testEventsRecorded() throws Exception {
+        List<RecordedEvent> events;
+        String file = "jfr-test-" + UUID.randomUUID() + ".ser";
+        EventManager eventManager = new EventManager();
+        LocalDateTime start = LocalDateTime.now().plusYears(3).withHour(14).withMinute(0);
+        Event event = eventManager.createEvent("Flight recorder session", "JFR test", EventType.SEMINAR,
+            start, start.plusHours(1), "organizer-" + UUID.randomUUID(), null, 1);
+        try (Recording recording = new Recording()) {
+            recording.enable(PersistenceEvent.class).withoutThreshold();
+            recording.enable(EventSearchEvent.class).withoutThreshold();
+            recording.enable(RegistrationAdmissionEvent.class).withoutThreshold();
+            recording.start();
+
+            DataManager.saveData(file, new HashMap<>(Map.of("key", "value")));
+            DataManager.loadData(file);
+            EventSearchCriteria criteria = new EventSearchCriteria();
+            criteria.setKeyword("flight");
+            new EventSearchService().searchEvents(List.of(event), criteria);
+            eventManager.registerAttendeeForEvent("attendee-" + UUID.randomUUID(), event.getEventId());
+            eventManager.registerAttendeeForEvent("attendee-" + UUID.randomUUID(), event.getEventId());
+
+            recording.stop();
+            Path dump = tempDir.resolve("test.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        } finally {
+            DataManager.deleteDataFile(file);
+        }
+
+        List<RecordedEvent> persistence = named(events, "com.campuseventhub.Persistence").stream()
+            .filter(e -> file.equals(e.getString("file")))
+            .collect(Collectors.toList());
+        assertEquals(2, persistence.size());
+        assertEquals("save", persistence.get(0).getString("operation"));
+        assertTrue(persistence.get(0).getLong("bytes") > 0);
+        assertTrue(persistence.get(1).getBoolean("success"));
+
+        RecordedEvent search = named(events, "com.campuseventhub.EventSearch").get(0);
+        assertEquals("keyword=flight", search.getString("criteria"));
+        assertEquals(1, search.getInt("hits"));
+
+        List<RecordedEvent> admissions = named(events, "com.campuseventhub.RegistrationAdmission");
+        assertEquals(2, admissions.size());
+        assertEquals(RegistrationAdmissionEvent.CONFIRMED, admissions.get(0).getString("outcome"));
+        assertEquals(RegistrationAdmissionEvent.WAITLISTED, admissions.get(1).getString("outcome"));
+        assertEquals(1, admissions.get(1).getInt("capacity"));
+    }
+
+    @Test
+    @DisplayName("Nothing is recorded while the events are disabled")
+    void testDisabledEventsNotCommitted() {
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        event.end();
+        assertFalse(event.isEnabled());
+        assertFalse(event.shouldCommit());
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(e -> e.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+}
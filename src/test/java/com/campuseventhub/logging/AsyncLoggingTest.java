@@ -0,0 +1,187 @@
+package com.campuseventhub.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for the logging facade and its async ring-buffer appender.
+ *
+ * Tests cover:
+ * - Events from many threads all arrive, in order per thread
+ * - A full buffer drops and counts events instead of blocking callers
+ * - Disabled levels never build their message
+ * - Lines are logfmt with escaped values
+ * - The file sink rolls over by size
+ */
+class AsyncLoggingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Events from concurrent producers all arrive in per-thread order")
+    void testConcurrentProducers() throws Exception {
+        CapturingSink sink = new CapturingSink();
+        AsyncAppender appender = new AsyncAppender(1024, List.of(sink));
+        LogManager manager = new LogManager(LogLevel.INFO, appender);
+        Logger logger = manager.logger("Test");
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    logger.info(Integer.toString(i));
+                }
+            }, "producer-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(appender.flush(10, TimeUnit.SECONDS));
+
+        long delivered = sink.events.size();
+        assertEquals(2000, delivered + appender.getDroppedCount() - droppedNotices(sink));
+        Map<String, Integer> lastSeen = new HashMap<>();
+        for (LogEvent event : sink.events) {
+            if (!event.getComponent().equals("Test")) {
+                continue;
+            }
+            int value = Integer.parseInt(event.getMessage());
+            Integer previous = lastSeen.put(event.getThread(), value);
+            assertTrue(previous == null || previous < value, "Per-thread order must be kept");
+        }
+        appender.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("A full buffer drops events without blocking the caller")
+    void testFullBufferDrops() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingSink sink = new CapturingSink() {
+            @Override
+            public void write(LogEvent event) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(event);
+            }
+        };
+        AsyncAppender appender = new AsyncAppender(4, List.of(sink));
+        Logger logger = new LogManager(LogLevel.INFO, appender).logger("Test");
+
+        logger.info("first");
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(appender.offer(event("queued " + i)));
+        }
+        long start = System.nanoTime();
+        assertFalse(appender.offer(event("overflow")));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, appender.getDroppedCount());
+
+        release.countDown();
+        assertTrue(appender.flush(5, TimeUnit.SECONDS));
+        assertEquals(5, sink.events.size() - droppedNotices(sink));
+        assertEquals(1, droppedNotices(sink));
+        appender.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Disabled levels never build their message")
+    void testLazyMessages() {
+        CapturingSink sink = new CapturingSink();
+        AsyncAppender appender = new AsyncAppender(16, List.of(sink));
+        Logger logger = new LogManager(LogLevel.INFO, appender).logger("Test");
+        AtomicBoolean built = new AtomicBoolean();
+
+        logger.debug(() -> {
+            built.set(true);
+            return "expensive";
+        });
+        assertFalse(built.get());
+        assertFalse(logger.isEnabled(LogLevel.DEBUG));
+        logger.setLevel(LogLevel.DEBUG);
+        logger.debug(() -> {
+            built.set(true);
+            return "expensive";
+        });
+        assertTrue(built.get());
+        assertThrows(IllegalArgumentException.class, () -> LogLevel.parse("verbose"));
+        appender.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Lines are logfmt with escaped values")
+    void testFormat() {
+        String line = new LogEvent(0L, LogLevel.WARN, "DataManager", "main",
+            "Failed to save \"users\"\nretrying", null).format();
+        assertTrue(line.contains(" level=WARN component=DataManager thread=\"main\""));
+        assertTrue(line.endsWith("msg=\"Failed to save \\\"users\\\"\\nretrying\""));
+
+        String withError = new LogEvent(0L, LogLevel.ERROR, "Test", "main", "boom",
+            new IllegalStateException("bad state")).format();
+        assertTrue(withError.contains("error=\"java.lang.IllegalStateException: bad state\""));
+        assertTrue(withError.contains("at com.campuseventhub.logging.AsyncLoggingTest"));
+    }
+
+    @Test
+    @DisplayName("The file sink rolls over by size")
+    void testRollingFile() throws Exception {
+        Path file = tempDir.resolve("app.log");
+        RollingFileSink sink = new RollingFileSink(file, 1_000, 2);
+        for (int i = 0; i < 60; i++) {
+            sink.write(event("line " + i));
+        }
+        sink.close();
+
+        assertTrue(Files.size(file) <= 1_000);
+        assertTrue(Files.exists(tempDir.resolve("app.log.1")));
+        assertTrue(Files.exists(tempDir.resolve("app.log.2")));
+        assertFalse(Files.exists(tempDir.resolve("app.log.3")));
+        List<String> current = Files.readAllLines(file);
+        assertTrue(current.get(current.size() - 1).contains("msg=\"line 59\""));
+    }
+
+    private static LogEvent event(String message) {
+        return new LogEvent(System.currentTimeMillis(), LogLevel.INFO, "Test", "main", message, null);
+    }
+
+    private static long droppedNotices(CapturingSink sink) {
+        return sink.events.stream().filter(e -> e.getComponent().equals("AsyncAppender")).count();
+    }
+
+    private static class CapturingSink implements LogSink {
+        final List<LogEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void write(LogEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
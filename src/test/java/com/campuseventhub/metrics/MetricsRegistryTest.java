@@ -0,0 +1,141 @@
+package com.campuseventhub.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+/**
+ * Tests for the metrics registry, latency histogram and JMX export.
+ *
+ * Tests cover:
+ * - Histogram percentiles stay within the bucket error bound
+ * - Concurrent recording loses no counts
+ * - Timers report a rolling window and count failures
+ * - Snapshots include counters and gauges
+ * - Metrics appear as MXBeans, including ones created after export
+ */
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("Histogram percentiles are within a few percent")
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(5_000_000, snapshot.getValueAtQuantile(0.50), 5_000_000 * 0.035);
+        assertEquals(9_900_000, snapshot.getValueAtQuantile(0.99), 9_900_000 * 0.035);
+        assertEquals(10_000_000, snapshot.getMax());
+        assertEquals(5_000_500, snapshot.getMean(), 1.0);
+        assertEquals(0, new LatencyHistogram().snapshot().getValueAtQuantile(0.99));
+    }
+
+    @Test
+    @DisplayName("Bucket boundaries are contiguous")
+    void testBucketBoundaries() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(index));
+            assertTrue(index == 0 || value > LatencyHistogram.upperBoundOf(index - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent recording loses no counts")
+    void testConcurrentRecording() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    registry.timer("test.op").record(i);
+                    registry.counter("test.calls").increment();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(80_000, snapshot.getTimer("test.op").getCount());
+        assertEquals(80_000, snapshot.getCounter("test.calls"));
+    }
+
+    @Test
+    @DisplayName("Timers report a rolling window and count failures")
+    void testTimerWindow() {
+        AtomicLong now = new AtomicLong(0);
+        MetricsRegistry registry = new MetricsRegistry(now::get);
+        Timer timer = registry.timer("test.window");
+        for (int i = 0; i < 120; i++) {
+            timer.record(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        TimerSnapshot recent = timer.snapshot();
+        assertEquals(2.0, recent.getRatePerSecond(), 0.01);
+        assertEquals(50.0, recent.getP50Millis(), 50.0 * 0.035);
+
+        // Two idle windows later the old latencies no longer count
+        now.addAndGet(2 * Timer.WINDOW_NANOS);
+        timer.record(TimeUnit.MILLISECONDS.toNanos(1));
+        TimerSnapshot idle = timer.snapshot();
+        assertEquals(121, idle.getCount());
+        assertEquals(1.0, idle.getP99Millis(), 0.05);
+
+        assertThrows(IllegalStateException.class,
+            () -> timer.time(() -> { throw new IllegalStateException("boom"); }));
+        assertEquals(1, timer.snapshot().getFailures());
+        assertEquals(122, timer.getCount());
+    }
+
+    @Test
+    @DisplayName("Snapshots include gauges and rank the busiest timers")
+    void testSnapshot() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AtomicLong depth = new AtomicLong(7);
+        registry.gauge("test.depth", depth::get);
+        registry.timer("eventhub.searchEvents").record(1_000);
+        registry.timer("eventhub.searchEvents").record(1_000);
+        registry.timer("eventhub.listVenues").record(1_000);
+        registry.timer("persistence.save.events.ser").record(1_000);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(7L, snapshot.getGauges().get("test.depth"));
+        List<TimerSnapshot> busiest = snapshot.getBusiestTimers("eventhub.", 5);
+        assertEquals(2, busiest.size());
+        assertEquals("eventhub.searchEvents", busiest.get(0).getName());
+        assertThrows(IllegalArgumentException.class, () -> registry.timer(" "));
+    }
+
+    @Test
+    @DisplayName("Metrics are published as MXBeans")
+    void testJmxExport() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.timer("eventhub.searchEvents").record(2_000_000);
+        MetricsJmxExporter exporter = registry.exposeViaJmx(server);
+        assertSame(exporter, registry.exposeViaJmx(server));
+
+        registry.counter("notifications.dropped").add(3);
+        registry.gauge("notifications.queueDepth", () -> 5);
+
+        ObjectName timerName = MetricsJmxExporter.objectName("Timer", "eventhub.searchEvents");
+        assertEquals(1L, server.getAttribute(timerName, "Count"));
+        assertEquals(2.0, (Double) server.getAttribute(timerName, "P99Millis"), 0.1);
+        assertEquals(3L, server.getAttribute(MetricsJmxExporter.objectName("Counter", "notifications.dropped"), "Count"));
+        assertEquals(5L, server.getAttribute(MetricsJmxExporter.objectName("Gauge", "notifications.queueDepth"), "Value"));
+
+        exporter.unregisterAll();
+        assertFalse(server.isRegistered(timerName));
+    }
+}
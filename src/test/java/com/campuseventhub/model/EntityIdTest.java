@@ -0,0 +1,127 @@
+package com.campuseventhub.model;
+
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.model.event.RegistrationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Tests for the compact EntityId value type and its use in Registration.
+ *
+ * Tests cover:
+ * - UUID strings round-trip through the two-long form
+ * - Non-UUID IDs keep their text
+ * - Equality, hashing and String matching
+ * - Registrations serialize with their String fields and read back
+ * - A seeded source gives repeatable version 4 IDs on its thread
+ */
+class EntityIdTest {
+
+    @Test
+    @DisplayName("UUID strings round-trip through the two-long form")
+    void testUuidRoundTrip() {
+        for (int i = 0; i < 100; i++) {
+            UUID uuid = UUID.randomUUID();
+            EntityId id = EntityId.of(uuid.toString());
+            assertTrue(id.isCompact());
+            assertEquals(uuid.getMostSignificantBits(), id.getMostSignificantBits());
+            assertEquals(uuid.getLeastSignificantBits(), id.getLeastSignificantBits());
+            assertEquals(uuid.toString(), id.toString());
+        }
+        EntityId random = EntityId.random();
+        assertEquals(random, EntityId.fromBits(random.getMostSignificantBits(), random.getLeastSignificantBits()));
+    }
+
+    @Test
+    @DisplayName("Non-UUID IDs keep their text")
+    void testTextIds() {
+        EntityId id = EntityId.of("test-event-42");
+        assertFalse(id.isCompact());
+        assertEquals("test-event-42", id.toString());
+        assertEquals(id, EntityId.of("test-event-42"));
+        assertNotEquals(id, EntityId.of("test-event-43"));
+
+        String upperCase = UUID.randomUUID().toString().toUpperCase();
+        assertEquals(upperCase, EntityId.of(upperCase).toString());
+        assertThrows(IllegalArgumentException.class, () -> EntityId.of(""));
+        assertNull(EntityId.ofNullable(null));
+    }
+
+    @Test
+    @DisplayName("Equality, hashing and String matching")
+    void testEqualityAndMatching() {
+        String text = UUID.randomUUID().toString();
+        EntityId first = EntityId.of(text);
+        EntityId second = EntityId.of(text);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(0, first.compareTo(second));
+        assertTrue(first.matches(text));
+        assertFalse(first.matches(UUID.randomUUID().toString()));
+        assertFalse(first.matches("not-a-uuid"));
+        assertFalse(first.matches(null));
+        assertTrue(EntityId.of("attendee-1").matches("attendee-1"));
+    }
+
+    @Test
+    @DisplayName("Registrations serialize with their String fields and read back")
+    void testRegistrationSerialization() throws Exception {
+        String attendeeId = UUID.randomUUID().toString();
+        Registration registration = new Registration(attendeeId, "legacy-event");
+        registration.confirmRegistration();
+        registration.setWaitlistPosition(3);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(registration);
+        }
+        Registration copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Registration) in.readObject();
+        }
+
+        assertEquals(registration.getRegistrationKey(), copy.getRegistrationKey());
+        assertEquals(attendeeId, copy.getAttendeeId());
+        assertEquals("legacy-event", copy.getEventId());
+        assertEquals(RegistrationStatus.CONFIRMED, copy.getStatus());
+        assertEquals(3, copy.getWaitlistPosition());
+        assertEquals(registration.getRegistrationTime(), copy.getRegistrationTime());
+
+        ObjectStreamClass form = ObjectStreamClass.lookup(Registration.class);
+        assertEquals(String.class, form.getField("registrationId").getType());
+        assertEquals(4758847445265141086L, form.getSerialVersionUID());
+    }
+
+    @Test
+    @DisplayName("A seeded source gives repeatable version 4 IDs on its thread")
+    void testSeededSource() {
+        EntityId.useSeededSource(new Random(5L));
+        UUID first;
+        EntityId second;
+        try {
+            first = EntityId.randomUuid();
+            second = EntityId.random();
+        } finally {
+            EntityId.useSeededSource(null);
+        }
+        assertEquals(4, first.version());
+        assertEquals(2, first.variant());
+
+        EntityId.useSeededSource(new Random(5L));
+        try {
+            assertEquals(first, EntityId.randomUuid());
+            assertEquals(second, EntityId.random());
+        } finally {
+            EntityId.useSeededSource(null);
+        }
+        assertNotEquals(first, EntityId.randomUuid());
+    }
+}
@@ -0,0 +1,129 @@
+package com.campuseventhub.model.event;
+
+import com.campuseventhub.model.EntityId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the columnar registration table and its flyweights.
+ *
+ * Tests cover:
+ * - Added registrations become views over the shared row
+ * - Lookups by ID, event and attendee
+ * - Active registration lookup skips cancelled rows
+ * - Status counts and snapshots
+ * - Legacy non-UUID IDs and rarely set fields survive the move
+ */
+class RegistrationTableTest {
+
+    private RegistrationTable table;
+    private EntityId event;
+    private EntityId attendee;
+
+    @BeforeEach
+    void setUp() {
+        table = new RegistrationTable();
+        event = EntityId.random();
+        attendee = EntityId.random();
+    }
+
+    @Test
+    @DisplayName("Added registrations become views over the shared row")
+    void testAddAttachesRegistration() {
+        Registration registration = new Registration(attendee, event);
+        assertSame(registration, table.add(registration));
+
+        Registration view = table.findById(registration.getRegistrationKey());
+        assertEquals(registration, view);
+        assertEquals(registration.hashCode(), view.hashCode());
+
+        registration.confirmRegistration();
+        registration.setWaitlistPosition(2);
+        assertEquals(RegistrationStatus.CONFIRMED, view.getStatus());
+        assertEquals(2, view.getWaitlistPosition());
+
+        view.markAttendance();
+        assertTrue(registration.isAttended());
+        assertNotNull(registration.getAttendanceTime());
+        assertEquals(registration, table.add(registration));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("Lookups by ID, event and attendee")
+    void testLookups() {
+        EntityId otherEvent = EntityId.random();
+        Registration first = table.add(new Registration(attendee, event));
+        Registration second = table.add(new Registration(attendee, otherEvent));
+        Registration third = table.add(new Registration(EntityId.random(), event));
+
+        assertEquals(List.of(first, third), table.findByEvent(event));
+        assertEquals(List.of(first, second), table.findByAttendee(attendee));
+        assertEquals(second, table.findById(second.getRegistrationKey()));
+        assertNull(table.findById(EntityId.random()));
+        assertTrue(table.findByEvent(EntityId.random()).isEmpty());
+        assertTrue(table.findByAttendee(EntityId.random()).isEmpty());
+        assertEquals(attendee, table.findByEvent(otherEvent).get(0).getAttendeeKey());
+        assertEquals(otherEvent, second.getEventKey());
+    }
+
+    @Test
+    @DisplayName("Active registration lookup skips cancelled rows")
+    void testFindActive() {
+        Registration cancelled = table.add(new Registration(attendee, event));
+        cancelled.cancelRegistration("Schedule change");
+        assertNull(table.findActive(attendee, event));
+
+        Registration active = table.add(new Registration(attendee, event));
+        active.setStatus(RegistrationStatus.WAITLISTED);
+        assertEquals(active, table.findActive(attendee, event));
+        assertNull(table.findActive(EntityId.random(), event));
+        assertNull(table.findActive(attendee, EntityId.random()));
+    }
+
+    @Test
+    @DisplayName("Status counts and snapshots")
+    void testCountsAndSnapshot() {
+        for (int i = 0; i < 1000; i++) {
+            Registration registration = new Registration(EntityId.random(), event);
+            registration.setStatus(i % 4 == 0 ? RegistrationStatus.WAITLISTED : RegistrationStatus.CONFIRMED);
+            table.add(registration);
+        }
+        assertEquals(750, table.count(event, RegistrationStatus.CONFIRMED));
+        assertEquals(250, table.count(event, RegistrationStatus.WAITLISTED));
+        assertEquals(0, table.count(EntityId.random(), RegistrationStatus.CONFIRMED));
+
+        Map<EntityId, Registration> snapshot = table.snapshot();
+        assertEquals(1000, snapshot.size());
+        for (Map.Entry<EntityId, Registration> entry : snapshot.entrySet()) {
+            assertEquals(entry.getValue(), table.findById(entry.getKey()));
+        }
+    }
+
+    @Test
+    @DisplayName("Legacy non-UUID IDs and rarely set fields survive the move")
+    void testRarelySetFields() {
+        Registration registration = new Registration("attendee-1", "event-1");
+        LocalDateTime cancelledAt = LocalDateTime.now().minusHours(1);
+        registration.setCancellationReason("Sick");
+        registration.setCancellationTime(cancelledAt);
+        registration.setAttended(true);
+        String registrationId = registration.getRegistrationId();
+        table.add(registration);
+
+        Registration view = table.findByAttendee(EntityId.of("attendee-1")).get(0);
+        assertEquals("attendee-1", view.getAttendeeId());
+        assertEquals("event-1", view.getEventId());
+        assertEquals(registrationId, view.getRegistrationId());
+        assertEquals("Sick", view.getCancellationReason());
+        assertEquals(cancelledAt, view.getCancellationTime());
+        assertTrue(view.isAttended());
+        assertNull(view.getAttendanceTime());
+        assertEquals(0, view.getRegistrationTime().getNano());
+    }
+}
@@ -0,0 +1,139 @@
+package com.campuseventhub.persistence;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.model.event.RegistrationStatus;
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.model.venue.Venue;
+import com.campuseventhub.service.UserManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.FileInputStream;
+import java.io.ObjectInputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the synthetic campus dataset generator.
+ *
+ * Tests cover:
+ * - Generated files load through the same formats the managers read
+ * - Role mix, venue bookings and skewed popularity with waitlists
+ * - The same seed reproduces the same dataset, IDs included
+ */
+class CampusDatasetGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Generated dataset loads and has a realistic shape")
+    void testGeneratedDataset() throws Exception {
+        CampusDatasetGenerator.Summary summary = new CampusDatasetGenerator(7L, 5_000).writeTo(tempDir);
+        assertEquals(5_000, summary.getUsers());
+
+        UserManager userManager = new UserManager(new UserRecordLog(tempDir.resolve(CampusDatasetGenerator.USERS_FILE)));
+        assertEquals(5_000, userManager.getUserStats().getTotalUsers());
+        assertEquals(5, userManager.getUserStats().getCount(UserRole.ADMIN));
+        assertEquals(100, userManager.getUserStats().getCount(UserRole.ORGANIZER));
+        assertTrue(userManager.getUserStats().getPendingApprovals() > 0);
+        User attendee = userManager.findByUsername("att_4999");
+        assertNotNull(userManager.validateCredentials(attendee.getUsername(), CampusDatasetGenerator.PASSWORD));
+        userManager.close();
+
+        Map<String, Venue> venues = read(tempDir.resolve(CampusDatasetGenerator.VENUES_FILE));
+        Map<String, Event> events = read(tempDir.resolve(CampusDatasetGenerator.EVENTS_FILE));
+        Map<String, Registration> registrations = read(tempDir.resolve(CampusDatasetGenerator.REGISTRATIONS_FILE));
+        assertEquals(summary.getVenues(), venues.size());
+        assertEquals(250, events.size());
+        assertEquals(summary.getRegistrations(), registrations.size());
+
+        int booked = 0;
+        int withWaitlist = 0;
+        List<Integer> sizes = new ArrayList<>();
+        for (Event event : events.values()) {
+            assertNotNull(event.getRegistrationDeadline());
+            assertTrue(event.getRegistrations().size() <= event.getMaxCapacity());
+            if (event.hasVenue()) {
+                booked++;
+                assertTrue(event.getMaxCapacity() <= event.getVenueCapacity());
+            }
+            if (!event.getWaitlist().isEmpty()) {
+                withWaitlist++;
+                assertEquals(RegistrationStatus.WAITLISTED, event.getWaitlist().peek().getStatus());
+            }
+            sizes.add(event.getRegistrations().size() + event.getWaitlist().size());
+        }
+        assertTrue(booked > events.size() / 2, "Most events should have a venue");
+        assertTrue(withWaitlist > 0, "Popular events should overflow into waitlists");
+        Collections.sort(sizes, Collections.reverseOrder());
+        assertTrue(sizes.get(0) > 5 * sizes.get(sizes.size() / 2), "Popularity should be skewed");
+        assertTrue(venues.values().stream().allMatch(v -> !v.getEquipment().isEmpty() && !v.getFeatures().isEmpty()));
+    }
+
+    @Test
+    @DisplayName("The same seed reproduces the same dataset, IDs included")
+    void testDeterministic() throws Exception {
+        Path first = tempDir.resolve("first");
+        Path second = tempDir.resolve("second");
+        CampusDatasetGenerator.Summary a = new CampusDatasetGenerator(11L, 2_000).writeTo(first);
+        CampusDatasetGenerator.Summary b = new CampusDatasetGenerator(11L, 2_000).writeTo(second);
+        assertEquals(a.toString(), b.toString());
+        assertEquals(shape(first), shape(second));
+        assertEquals(read(first.resolve(CampusDatasetGenerator.REGISTRATIONS_FILE)).keySet(),
+                     read(second.resolve(CampusDatasetGenerator.REGISTRATIONS_FILE)).keySet());
+        assertEquals(userId(first, "att_1999"), userId(second, "att_1999"));
+        assertNotEquals(shape(first), shape(tempDirWithSeed(12L)));
+    }
+
+    @Test
+    @DisplayName("Size presets parse to user counts")
+    void testParseSize() {
+        assertEquals(10_000, CampusDatasetGenerator.parseSize("10k"));
+        assertEquals(1_000_000, CampusDatasetGenerator.parseSize("1M"));
+        assertEquals(2_500, CampusDatasetGenerator.parseSize("2500"));
+    }
+
+    private Path tempDirWithSeed(long seed) throws Exception {
+        Path directory = tempDir.resolve("seed-" + seed);
+        new CampusDatasetGenerator(seed, 2_000).writeTo(directory);
+        return directory;
+    }
+
+    /**
+     * Event ID to title, venue, organizer and registration and waitlist counts
+     */
+    private static Map<String, String> shape(Path directory) throws Exception {
+        Map<String, Event> events = read(directory.resolve(CampusDatasetGenerator.EVENTS_FILE));
+        Map<String, String> shape = new HashMap<>();
+        for (Event event : events.values()) {
+            shape.put(event.getEventId(), event.getTitle() + "/" + event.getStartDateTime() + "/"
+                + event.getVenueId() + "/" + event.getOrganizerId() + "/"
+                + event.getRegistrations().size() + "/" + event.getWaitlist().size());
+        }
+        return shape;
+    }
+
+    private static String userId(Path directory, String username) {
+        UserManager userManager = new UserManager(new UserRecordLog(directory.resolve(CampusDatasetGenerator.USERS_FILE)));
+        try {
+            return userManager.findByUsername(username).getUserId();
+        } finally {
+            userManager.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Map<String, T> read(Path file) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file.toFile()))) {
+            return (Map<String, T>) in.readObject();
+        }
+    }
+}
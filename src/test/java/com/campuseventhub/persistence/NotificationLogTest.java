@@ -0,0 +1,117 @@
+package com.campuseventhub.persistence;
+
+import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.service.NotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Tests for the append-only notification log.
+ *
+ * Tests cover:
+ * - Inboxes, read state and broadcasts survive a restart
+ * - Expired notifications are dropped on replay and compacted away
+ * - A truncated trailing record does not break replay
+ * - The log compacts itself once records outnumber twice the live state
+ */
+class NotificationLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Inbox state survives a restart")
+    void testRoundTrip() {
+        Path file = tempDir.resolve("notifications.log");
+        NotificationService first = new NotificationService(new NotificationLog(file));
+        first.sendNotification("Read me", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        first.sendNotification("Still unread", List.of("user-1", "user-2"), NotificationType.EVENT_REMINDER);
+        first.sendBulkNotification("Campus news", NotificationType.SYSTEM_ANNOUNCEMENT);
+        List<Notification> before = first.getUserNotifications("user-1");
+        first.markNotificationAsRead(before.get(0).getNotificationId());
+        first.markNotificationAsRead("user-1", before.get(2).getNotificationId());
+        first.clearUserNotifications("user-2");
+        first.shutdown();
+
+        NotificationService second = new NotificationService(new NotificationLog(file));
+        List<Notification> after = second.getUserNotifications("user-1");
+        assertEquals(3, after.size());
+        assertEquals(before.get(0).getNotificationId(), after.get(0).getNotificationId());
+        assertTrue(after.get(0).isRead());
+        assertNotNull(after.get(0).getReadAt());
+        assertFalse(after.get(1).isRead());
+        assertTrue(after.get(2).isRead());
+        assertEquals(1, second.getUnreadNotificationCount("user-1"));
+        assertTrue(second.getUserNotifications("user-2").isEmpty());
+        assertEquals(1, second.getUnreadNotificationCount("user-3"));
+        second.shutdown();
+    }
+
+    @Test
+    @DisplayName("Expired notifications are evicted on replay and compacted away")
+    void testExpiredNotificationsAreCompacted() {
+        Path file = tempDir.resolve("notifications.log");
+        NotificationLog log = new NotificationLog(file);
+        LocalDateTime old = LocalDateTime.now().minus(NotificationService.NOTIFICATION_TTL).minusDays(1);
+        log.appendNotification(Notification.restore("old-1", "user-1", "Old", NotificationType.EVENT_UPDATE,
+                                                     old, null, null));
+        log.appendNotification(Notification.restore("new-1", "user-1", "New", NotificationType.EVENT_UPDATE,
+                                                     LocalDateTime.now(), null, null));
+        log.close();
+
+        NotificationLog reopened = new NotificationLog(file);
+        NotificationService service = new NotificationService(reopened);
+        List<Notification> notifications = service.getUserNotifications("user-1");
+        assertEquals(1, notifications.size());
+        assertEquals("new-1", notifications.get(0).getNotificationId());
+        assertEquals(1, reopened.getRecordCount());
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("A truncated trailing record is ignored")
+    void testTruncatedRecordIsIgnored() throws Exception {
+        Path file = tempDir.resolve("notifications.log");
+        NotificationService service = new NotificationService(new NotificationLog(file));
+        service.sendNotification("Kept", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        service.sendNotification("Torn", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        service.shutdown();
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(Files.size(file) - 5);
+        }
+
+        NotificationService restarted = new NotificationService(new NotificationLog(file));
+        List<Notification> notifications = restarted.getUserNotifications("user-1");
+        assertEquals(1, notifications.size());
+        assertTrue(notifications.get(0).getMessage().contains("Kept"));
+        restarted.shutdown();
+    }
+
+    @Test
+    @DisplayName("The log compacts once records outnumber twice the live state")
+    void testCompactsWhileRunning() {
+        Path file = tempDir.resolve("notifications.log");
+        NotificationLog log = new NotificationLog(file);
+        NotificationService service = new NotificationService(log);
+        for (int i = 0; i < 3000; i++) {
+            service.sendNotification("Message " + i, List.of("user-1"), NotificationType.EVENT_UPDATE);
+            assertTrue(log.getRecordCount() <= 1025, "log should compact before it passes the threshold");
+        }
+        service.shutdown();
+
+        NotificationService restarted = new NotificationService(new NotificationLog(file));
+        List<Notification> notifications = restarted.getUserNotifications("user-1");
+        assertEquals(NotificationService.MAX_NOTIFICATIONS_PER_USER, notifications.size());
+        assertEquals("Message 2999", notifications.get(notifications.size() - 1).getMessage());
+        restarted.shutdown();
+    }
+}
@@ -0,0 +1,185 @@
+package com.campuseventhub.persistence;
+
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.model.user.UserStatus;
+import com.campuseventhub.service.UserBulkAction;
+import com.campuseventhub.service.UserManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the append-only user record log.
+ *
+ * Tests cover:
+ * - Creates, edits, status changes and deletes survive a restart
+ * - A profile edit appends one record instead of rewriting every user
+ * - A truncated trailing record does not break replay
+ * - A failed write leaves no partial record and is retried on the next save
+ * - Compaction keeps only live users
+ */
+class UserRecordLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("User changes survive a restart")
+    void testRoundTrip() {
+        Path file = tempDir.resolve("users.log");
+        UserManager first = new UserManager(new UserRecordLog(file));
+        first.createUser("alice", "alice@campus.edu", "password123", "Alice", "Smith", UserRole.ATTENDEE);
+        first.createUser("bob", "bob@campus.edu", "password123", "Bob", "Jones", UserRole.ATTENDEE);
+        first.createUser("olga", "olga@campus.edu", "password123", "Olga", "Berg", UserRole.ORGANIZER);
+        User alice = first.findByUsername("alice");
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("firstName", "Alicia");
+        assertTrue(first.updateUser(alice.getUserId(), updates));
+        first.applyBulk(UserBulkAction.APPROVE, List.of(first.findByUsername("olga").getUserId()));
+        first.deleteById(first.findByUsername("bob").getUserId());
+        first.close();
+
+        UserManager second = new UserManager(new UserRecordLog(file));
+        assertEquals(2, second.getAllUsers().size());
+        assertEquals("Alicia", second.findByUsername("alice").getFirstName());
+        assertEquals(UserStatus.ACTIVE, second.findByUsername("olga").getStatus());
+        assertNull(second.findByUsername("bob"));
+        assertNotNull(second.validateCredentials("alice", "password123"));
+        second.close();
+    }
+
+    @Test
+    @DisplayName("A profile edit appends a single record")
+    void testEditAppendsOneRecord() {
+        UserRecordLog log = new UserRecordLog(tempDir.resolve("users.log"));
+        UserManager userManager = new UserManager(log);
+        for (int i = 0; i < 20; i++) {
+            userManager.createUser("user" + i, "user" + i + "@campus.edu", "password123", "User", "Number", UserRole.ATTENDEE);
+        }
+        long records = log.getRecordCount();
+        long bytes = log.getBytesWritten();
+
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("lastName", "Edited");
+        userManager.updateUser(userManager.findByUsername("user7").getUserId(), updates);
+
+        assertEquals(records + 1, log.getRecordCount());
+        assertTrue(log.getBytesWritten() - bytes < bytes / 10, "Edit should not rewrite the other users");
+        userManager.close();
+    }
+
+    @Test
+    @DisplayName("A truncated trailing record is ignored on replay")
+    void testTruncatedTail() throws Exception {
+        Path file = tempDir.resolve("users.log");
+        UserManager userManager = new UserManager(new UserRecordLog(file));
+        userManager.createUser("alice", "alice@campus.edu", "password123", "Alice", "Smith", UserRole.ATTENDEE);
+        long intact = Files.size(file);
+        userManager.createUser("bob", "bob@campus.edu", "password123", "Bob", "Jones", UserRole.ATTENDEE);
+        userManager.close();
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(intact + 10);
+        }
+
+        Map<String, User> replayed = new UserRecordLog(file).replay();
+        assertEquals(1, replayed.size());
+        assertEquals("alice", replayed.values().iterator().next().getUsername());
+    }
+
+    @Test
+    @DisplayName("A failed write leaves no partial record and is retried")
+    void testFailedWriteIsRetried() throws Exception {
+        Path file = tempDir.resolve("users.log");
+        FailingLog log = new FailingLog(file);
+        UserManager userManager = new UserManager(log);
+        userManager.createUser("alice", "alice@campus.edu", "password123", "Alice", "Smith", UserRole.ATTENDEE);
+        long intact = Files.size(file);
+
+        log.failing = true;
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("firstName", "Alicia");
+        assertTrue(userManager.updateUser(userManager.findByUsername("alice").getUserId(), updates));
+        assertEquals(intact, Files.size(file), "Partial record should have been cut off");
+
+        log.failing = false;
+        userManager.createUser("bob", "bob@campus.edu", "password123", "Bob", "Jones", UserRole.ATTENDEE);
+        userManager.close();
+
+        UserManager reopened = new UserManager(new UserRecordLog(file));
+        assertEquals(2, reopened.getAllUsers().size());
+        assertEquals("Alicia", reopened.findByUsername("alice").getFirstName());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Compaction keeps one record per live user")
+    void testCompaction() throws Exception {
+        Path file = tempDir.resolve("users.log");
+        UserRecordLog log = new UserRecordLog(file);
+        UserManager userManager = new UserManager(log);
+        userManager.createUser("alice", "alice@campus.edu", "password123", "Alice", "Smith", UserRole.ATTENDEE);
+        userManager.createUser("bob", "bob@campus.edu", "password123", "Bob", "Jones", UserRole.ATTENDEE);
+        String aliceId = userManager.findByUsername("alice").getUserId();
+        for (int i = 0; i < 1100; i++) {
+            Map<String, Object> updates = new HashMap<>();
+            updates.put("firstName", i % 2 == 0 ? "Alicia" : "Alison");
+            userManager.updateUser(aliceId, updates);
+        }
+        assertTrue(log.getRecordCount() < 1100, "Log should have been compacted");
+        userManager.close();
+
+        UserRecordLog reopened = new UserRecordLog(file);
+        List<User> users = new ArrayList<>(reopened.replay().values());
+        assertEquals(2, users.size());
+        assertEquals("Alison", new UserManager(reopened).findByUsername("alice").getFirstName());
+        reopened.close();
+    }
+
+    /**
+     * Log whose file stream writes half of each chunk and then fails while
+     * failing is set, like a disk filling up mid-record
+     */
+    private static final class FailingLog extends UserRecordLog {
+        private volatile boolean failing;
+
+        private FailingLog(Path file) {
+            super(file);
+        }
+
+        @Override
+        OutputStream openForAppend() throws IOException {
+            return new FilterOutputStream(super.openForAppend()) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    if (failing) {
+                        out.write(bytes, offset, length / 2);
+                        out.flush();
+                        throw new IOException("No space left on device");
+                    }
+                    out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void write(int b) throws IOException {
+                    if (failing) {
+                        throw new IOException("No space left on device");
+                    }
+                    out.write(b);
+                }
+            };
+        }
+    }
+}
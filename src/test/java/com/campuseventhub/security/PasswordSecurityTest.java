@@ -150,4 +150,68 @@ class PasswordSecurityTest {
         // Failed login with wrong username
         assertFalse(user.login("wronguser", password));
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Should upgrade legacy SHA-256 hashes on successful login")
+    void testLegacyHashUpgradedOnLogin() throws Exception {
+        User user = new Attendee("legacyuser", "legacy@example.com", "password123", "Test", "User");
+        // Hash as written by the previous static-salt SHA-256 scheme
+        java.security.MessageDigest digest = java.security.MessageDigest.getInstance("SHA-256");
+        byte[] hash = digest.digest(("password123" + "legacyuser" + "campuseventhub_salt")
+            .getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder();
+        for (byte b : hash) {
+            hex.append(String.format("%02x", b));
+        }
+        java.lang.reflect.Field passwordField = User.class.getDeclaredField("password");
+        passwordField.setAccessible(true);
+        passwordField.set(user, hex.toString());
+        
+        assertTrue(user.needsPasswordRehash());
+        assertFalse(user.verifyPassword("wrongpassword"));
+        assertTrue(user.needsPasswordRehash(), "A failed login must not rewrite the hash");
+        
+        assertTrue(user.login("legacyuser", "password123"));
+        assertFalse(user.needsPasswordRehash());
+        assertTrue(((String) passwordField.get(user)).startsWith("pbkdf2-sha256$"));
+        assertTrue(user.verifyPassword("password123"));
+    }
+    
+    @Test
+    @DisplayName("Should authenticate asynchronously and persist upgraded hashes")
+    void testAsyncAuthentication() throws Exception {
+        User user = new Attendee("asyncuser", "async@example.com", "password123", "Test", "User");
+        java.util.Map<String, User> users = new java.util.concurrent.ConcurrentHashMap<>();
+        users.put(user.getUsername(), user);
+        java.util.List<User> rehashed = new java.util.concurrent.CopyOnWriteArrayList<>();
+        com.campuseventhub.service.UserAuthenticationService authService =
+            new com.campuseventhub.service.UserAuthenticationService(users, rehashed::add);
+        
+        try {
+            assertSame(user, authService.validateCredentialsAsync("asyncuser", "password123")
+                .get(10, java.util.concurrent.TimeUnit.SECONDS));
+            assertNull(authService.validateCredentialsAsync("asyncuser", "wrongpassword")
+                .get(10, java.util.concurrent.TimeUnit.SECONDS));
+            assertTrue(rehashed.isEmpty(), "Current hashes need no upgrade");
+            
+            // Raising the cost factor upgrades the hash on the next login
+            com.campuseventhub.util.PasswordHasher original = User.getPasswordHasher();
+            User.setPasswordHasher(new com.campuseventhub.util.Pbkdf2PasswordHasher(2_000));
+            try {
+                assertSame(user, authService.validateCredentialsAsync("asyncuser", "password123")
+                    .get(10, java.util.concurrent.TimeUnit.SECONDS));
+                assertEquals(1, rehashed.size());
+            } finally {
+                User.setPasswordHasher(original);
+            }
+        } finally {
+            authService.shutdown();
+        }
+        
+        // A pool that takes no more work fails with a rejection, not a state error
+        java.util.concurrent.ExecutionException rejected = assertThrows(
+            java.util.concurrent.ExecutionException.class,
+            () -> authService.validateCredentialsAsync("asyncuser", "password123").get());
+        assertTrue(rejected.getCause() instanceof java.util.concurrent.RejectedExecutionException);
+    }
+}
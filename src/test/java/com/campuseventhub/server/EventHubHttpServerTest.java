@@ -0,0 +1,135 @@
+package com.campuseventhub.server;
+
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.service.EventHub;
+import com.campuseventhub.util.FlatJsonParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Tests for the HTTP/JSON front end.
+ *
+ * Tests cover:
+ * - JSON writer escaping and comma placement; request body parsing
+ * - Login issues a bearer token; requests without one are rejected
+ * - Organizer event creation and attendee registration over HTTP
+ */
+class EventHubHttpServerTest {
+
+    private EventHub eventHub;
+    private EventHubHttpServer server;
+    private HttpClient client;
+    private String base;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        eventHub = EventHub.getInstance();
+        eventHub.logoutCurrentUser();
+        server = new EventHubHttpServer(eventHub, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        client = HttpClient.newHttpClient();
+        base = "http://127.0.0.1:" + server.getPort() + "/api/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("JSON writer escapes strings and parser reads flat objects")
+    void testJsonRoundTrip() throws Exception {
+        StringWriter out = new StringWriter();
+        JsonWriter json = new JsonWriter(out);
+        json.beginObject()
+            .field("title", "Say \"hi\"\n")
+            .field("count", 3)
+            .name("tags").beginArray().value("a").value((String) null).endArray()
+            .field("open", true)
+            .endObject();
+        assertEquals("{\"title\":\"Say \\\"hi\\\"\\n\",\"count\":3,\"tags\":[\"a\",null],\"open\":true}",
+                     out.toString());
+
+        Map<String, String> parsed = FlatJsonParser.parseObject(
+            "{ \"title\": \"Say \\\"hi\\\"\", \"count\": 3, \"note\": null }");
+        assertEquals("Say \"hi\"", parsed.get("title"));
+        assertEquals("3", parsed.get("count"));
+        assertNull(parsed.get("note"));
+        assertThrows(IllegalArgumentException.class, () -> FlatJsonParser.parseObject("{\"a\": [1]}"));
+    }
+
+    @Test
+    @DisplayName("Requests need a valid bearer token")
+    void testAuthentication() throws Exception {
+        assertEquals(401, send("GET", "events", null, null).statusCode());
+        assertEquals(401, send("GET", "events", null, "not-a-token").statusCode());
+        assertEquals(401, send("POST", "login",
+            "{\"username\":\"nobody\",\"password\":\"wrongpassword1\"}", null).statusCode());
+    }
+
+    @Test
+    @DisplayName("Organizer creates an event and an attendee registers for it")
+    void testCreateAndRegister() throws Exception {
+        String suffix = String.valueOf(System.nanoTime() % 1_000_000_000L);
+        eventHub.registerUser("httporg" + suffix, "httporg" + suffix + "@example.com", "password123",
+                              "Http", "Organizer", UserRole.ORGANIZER);
+        eventHub.registerUser("httpatt" + suffix, "httpatt" + suffix + "@example.com", "password123",
+                              "Http", "Attendee", UserRole.ATTENDEE);
+        String organizerToken = login("httporg" + suffix);
+        String attendeeToken = login("httpatt" + suffix);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(10).withNano(0);
+        HttpResponse<String> created = send("POST", "events",
+            "{\"title\":\"HTTP Workshop " + suffix + "\",\"description\":\"Over the wire\","
+                + "\"type\":\"WORKSHOP\",\"start\":\"" + start + "\",\"end\":\"" + start.plusHours(2)
+                + "\",\"maxCapacity\":10}", organizerToken);
+        assertEquals(201, created.statusCode(), created.body());
+        String eventId = FlatJsonParser.parseObject(created.body()).get("eventId");
+        assertNotNull(eventId);
+
+        assertEquals(403, send("POST", "events",
+            "{\"title\":\"Nope\",\"type\":\"WORKSHOP\",\"start\":\"" + start + "\",\"end\":\""
+                + start.plusHours(1) + "\",\"maxCapacity\":5}", attendeeToken).statusCode());
+        assertEquals(403, send("DELETE", "events/" + eventId, null, attendeeToken).statusCode());
+
+        HttpResponse<String> registered = send("POST", "events/" + eventId + "/registrations", null, attendeeToken);
+        assertEquals(201, registered.statusCode(), registered.body());
+        HttpResponse<String> mine = send("GET", "registrations", null, attendeeToken);
+        assertEquals(200, mine.statusCode());
+        assertTrue(mine.body().contains(eventId));
+        assertEquals(404, send("GET", "events/missing-id", null, attendeeToken).statusCode());
+        assertNull(eventHub.getCurrentUser(), "Requests must not leak the session user");
+
+        assertEquals(200, send("POST", "logout", null, attendeeToken).statusCode());
+        assertEquals(401, send("GET", "registrations", null, attendeeToken).statusCode());
+    }
+
+    private String login(String username) throws Exception {
+        HttpResponse<String> response = send("POST", "login",
+            "{\"username\":\"" + username + "\",\"password\":\"password123\"}", null);
+        assertEquals(200, response.statusCode(), response.body());
+        return FlatJsonParser.parseObject(response.body()).get("token");
+    }
+
+    private HttpResponse<String> send(String method, String path, String body, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path))
+            .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                                         : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
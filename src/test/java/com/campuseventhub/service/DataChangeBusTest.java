@@ -0,0 +1,127 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for live data change delivery to GUI subscribers.
+ *
+ * Tests cover:
+ * - A burst of changes is coalesced per entity into one delivery
+ * - Broadcast changes are never cancelled out by coalescing
+ * - Listeners only receive the kind they subscribed to
+ * - Cancelled subscriptions receive nothing
+ * - NotificationService publishes inbox changes for the recipient
+ */
+class DataChangeBusTest {
+
+    private List<Runnable> scheduledFlushes;
+    private DataChangeBus bus;
+
+    @BeforeEach
+    void setUp() {
+        scheduledFlushes = new ArrayList<>();
+        bus = new DataChangeBus(scheduledFlushes::add);
+    }
+
+    private void runScheduledFlushes() {
+        List<Runnable> flushes = new ArrayList<>(scheduledFlushes);
+        scheduledFlushes.clear();
+        flushes.forEach(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Changes published in a burst are coalesced per entity")
+    void testCoalescing() {
+        List<List<DataChangeEvent>> deliveries = new ArrayList<>();
+        bus.subscribe(DataChangeEvent.Kind.EVENT, deliveries::add);
+
+        bus.publish(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.CREATED, "event-1", "org-1");
+        bus.publish(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.UPDATED, "event-1", "org-1");
+        bus.publish(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.UPDATED, "event-2", "org-1");
+        bus.publish(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.UPDATED, "event-2", "org-1");
+        bus.publish(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.CREATED, "event-3", "org-1");
+        bus.publish(DataChangeEvent.Kind.EVENT, DataChangeEvent.Action.DELETED, "event-3", "org-1");
+
+        assertEquals(1, scheduledFlushes.size(), "A burst should schedule a single flush");
+        runScheduledFlushes();
+
+        assertEquals(1, deliveries.size());
+        List<DataChangeEvent> changes = deliveries.get(0);
+        assertEquals(2, changes.size(), "Created-then-deleted events should cancel out");
+        assertEquals("event-1", changes.get(0).getEntityId());
+        assertEquals(DataChangeEvent.Action.CREATED, changes.get(0).getAction());
+        assertEquals("event-2", changes.get(1).getEntityId());
+        assertEquals(DataChangeEvent.Action.UPDATED, changes.get(1).getAction());
+    }
+
+    @Test
+    @DisplayName("Broadcast changes survive coalescing")
+    void testBroadcastChangesAreKept() {
+        List<DataChangeEvent> changes = new ArrayList<>();
+        bus.subscribe(DataChangeEvent.Kind.USER, changes::addAll);
+
+        // A bulk import followed by a bulk delete before the flush
+        bus.publish(DataChangeEvent.Kind.USER, DataChangeEvent.Action.CREATED, DataChangeEvent.BROADCAST_ID, null);
+        bus.publish(DataChangeEvent.Kind.USER, DataChangeEvent.Action.DELETED, DataChangeEvent.BROADCAST_ID, null);
+        runScheduledFlushes();
+
+        assertEquals(1, changes.size(), "The broadcast should still be delivered");
+        assertEquals(DataChangeEvent.BROADCAST_ID, changes.get(0).getEntityId());
+        assertEquals(DataChangeEvent.Action.DELETED, changes.get(0).getAction());
+    }
+
+    @Test
+    @DisplayName("Listeners receive only their kind and stop after cancel")
+    void testKindFilteringAndCancel() {
+        List<DataChangeEvent> userChanges = new ArrayList<>();
+        List<DataChangeEvent> eventChanges = new ArrayList<>();
+        DataChangeBus.Subscription userSubscription =
+            bus.subscribe(DataChangeEvent.Kind.USER, userChanges::addAll);
+        bus.subscribe(DataChangeEvent.Kind.EVENT, eventChanges::addAll);
+
+        bus.publish(DataChangeEvent.Kind.USER, DataChangeEvent.Action.UPDATED, "user-1", "user-1");
+        runScheduledFlushes();
+        assertEquals(1, userChanges.size());
+        assertTrue(eventChanges.isEmpty());
+
+        userSubscription.cancel();
+        assertEquals(0, bus.getListenerCount(DataChangeEvent.Kind.USER));
+        bus.publish(DataChangeEvent.Kind.USER, DataChangeEvent.Action.DELETED, "user-1", "user-1");
+        assertTrue(scheduledFlushes.isEmpty(), "Nothing should be scheduled without subscribers");
+        runScheduledFlushes();
+        assertEquals(1, userChanges.size());
+    }
+
+    @Test
+    @DisplayName("Notification service pushes inbox changes for the recipient")
+    void testNotificationServicePublishesInboxChanges() {
+        NotificationService notificationService = new NotificationService();
+        notificationService.setChangeBus(bus);
+        List<DataChangeEvent> changes = new ArrayList<>();
+        bus.subscribe(DataChangeEvent.Kind.NOTIFICATION, changes::addAll);
+
+        try {
+            notificationService.sendNotification("Room changed", Arrays.asList("user-1", "user-2"),
+                                                 NotificationType.EVENT_UPDATE);
+            notificationService.markAllNotificationsAsRead("user-1");
+            notificationService.sendBulkNotification("Campus closed", NotificationType.SYSTEM_ANNOUNCEMENT);
+            runScheduledFlushes();
+        } finally {
+            notificationService.shutdown();
+        }
+
+        assertEquals(3, changes.size(), "One coalesced change per inbox plus the broadcast");
+        assertTrue(changes.get(0).concerns("user-1"));
+        assertFalse(changes.get(0).concerns("user-2"));
+        DataChangeEvent broadcast = changes.get(2);
+        assertEquals(DataChangeEvent.BROADCAST_ID, broadcast.getEntityId());
+        assertTrue(broadcast.concerns("user-2"), "Broadcasts concern every user");
+    }
+}
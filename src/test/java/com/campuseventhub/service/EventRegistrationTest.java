@@ -2,6 +2,7 @@ package com.campuseventhub.service;
 
 import com.campuseventhub.model.event.*;
 import com.campuseventhub.model.user.*;
+import com.campuseventhub.model.notification.Notification;
 import com.campuseventhub.persistence.DataManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +51,7 @@ public class EventRegistrationTest {
         DataManager.deleteDataFile("events.ser");
         DataManager.deleteDataFile("registrations.ser");
         DataManager.deleteDataFile("users.ser");
+        DataManager.deleteDataFile("users.log");
     }
     
     @Test
@@ -214,6 +216,88 @@ public class EventRegistrationTest {
         assertEquals(0, eventManager.getWaitlistSize(event.getEventId()));
     }
     
+    @Test
+    public void testManualWaitlistPromotionIsSaved() {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        LocalDateTime endTime = startTime.plusHours(2);
+        
+        Event event = eventManager.createEvent("Test Workshop", "A test workshop", 
+                                             EventType.WORKSHOP, startTime, endTime, 
+                                             organizerId, venueId, 30);
+        event.setMaxCapacity(1);
+        eventManager.registerAttendeeForEvent(attendeeId1, event.getEventId());
+        Registration waitlisted = eventManager.registerAttendeeForEvent(attendeeId2, event.getEventId());
+        assertEquals(RegistrationStatus.WAITLISTED, waitlisted.getStatus());
+        
+        // Make room without going through updateEvent, then promote by hand
+        event.setMaxCapacity(2);
+        assertEquals(1, eventManager.promoteFromWaitlist(event.getEventId(), 1).getPromotionsCount());
+        assertEquals(RegistrationStatus.CONFIRMED, waitlisted.getStatus());
+        assertEquals(2, eventManager.getCurrentRegistrationCount(event.getEventId()));
+        
+        // The promotion reached registrations.ser
+        Registration reloaded = new RegistrationManager().findById(waitlisted.getRegistrationId());
+        assertEquals(RegistrationStatus.CONFIRMED, reloaded.getStatus());
+    }
+    
+    @Test
+    public void testReloadedEventSeesRegistrationChanges() {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        LocalDateTime endTime = startTime.plusHours(2);
+        
+        Event event = eventManager.createEvent("Test Workshop", "A test workshop", 
+                                             EventType.WORKSHOP, startTime, endTime, 
+                                             organizerId, venueId, 30);
+        event.setMaxCapacity(1);
+        Registration reg1 = eventManager.registerAttendeeForEvent(attendeeId1, event.getEventId());
+        Registration reg2 = eventManager.registerAttendeeForEvent(attendeeId2, event.getEventId());
+        
+        // Admitted and waiting registrations are kept apart
+        assertEquals(List.of(reg1), event.getRegistrations());
+        assertEquals(1, event.getWaitlistSize());
+        
+        // After a reload the event's entries are attached to the stored rows
+        EventManager reloaded = new EventManager();
+        Event loaded = reloaded.findById(event.getEventId());
+        assertEquals(1, loaded.getRegistrations().size());
+        assertEquals(reg1.getRegistrationId(), loaded.getRegistrations().get(0).getRegistrationId());
+        assertEquals(1, loaded.getWaitlistSize());
+        
+        assertTrue(reloaded.cancelRegistration(reg1.getRegistrationId(), "Changed mind"));
+        assertEquals(RegistrationStatus.CANCELLED, loaded.getRegistrations().get(0).getStatus());
+        assertEquals(0, loaded.getWaitlistSize());
+        assertEquals(RegistrationStatus.CONFIRMED, loaded.getRegistrations().get(1).getStatus());
+        assertEquals(reg2.getRegistrationId(), loaded.getRegistrations().get(1).getRegistrationId());
+        assertEquals(1, reloaded.getCurrentRegistrationCount(event.getEventId()));
+        assertEquals(0, reloaded.getWaitlistSize(event.getEventId()));
+    }
+    
+    @Test
+    public void testWaitlistedAttendeeIsNotifiedOfCancellation() {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        LocalDateTime endTime = startTime.plusHours(2);
+        
+        Event event = eventManager.createEvent("Test Workshop", "A test workshop", 
+                                             EventType.WORKSHOP, startTime, endTime, 
+                                             organizerId, venueId, 30);
+        event.setMaxCapacity(1);
+        eventManager.registerAttendeeForEvent(attendeeId1, event.getEventId());
+        eventManager.registerAttendeeForEvent(attendeeId2, event.getEventId());
+        assertEquals(1, event.getWaitlistSize());
+        
+        NotificationService notificationService = new NotificationService();
+        try {
+            assertTrue(eventManager.cancelEvent(event.getEventId(), "Speaker unavailable", notificationService));
+            
+            List<Notification> received = notificationService.getUserNotifications(attendeeId2);
+            assertEquals(1, received.size());
+            assertTrue(received.get(0).getMessage().contains("that you were waitlisted for has been cancelled"));
+            assertEquals(1, notificationService.getUserNotifications(attendeeId1).size());
+        } finally {
+            notificationService.shutdown();
+        }
+    }
+    
     @Test
     public void testDuplicateRegistrationPrevention() {
         LocalDateTime startTime = LocalDateTime.now().plusDays(1);
@@ -0,0 +1,182 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.DeliveryStatus;
+import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.strategy.EmailNotification;
+import com.campuseventhub.strategy.NotificationStrategy;
+import com.campuseventhub.strategy.SMSNotification;
+import com.campuseventhub.strategy.SimulatedGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for retry, circuit breaking and dead-lettering of notification channels.
+ *
+ * Tests cover:
+ * - Transient failures are retried until delivered
+ * - Exhausted retries end up in the dead-letter store
+ * - The circuit breaker opens on outages and fails fast
+ * - A degraded channel does not delay a healthy one
+ * - Dead letters can be replayed once the channel recovers
+ */
+class NotificationChannelResilienceTest {
+
+    private final List<NotificationStrategy> strategies = new CopyOnWriteArrayList<>();
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    private NotificationDispatcher createDispatcher(int maxAttempts, int breakerThreshold) {
+        dispatcher = new NotificationDispatcher(strategies, 64, 10,
+            new RetryPolicy(maxAttempts, 1, 5), breakerThreshold, 60_000);
+        return dispatcher;
+    }
+
+    private List<Notification> notificationsFor(int count) {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            notifications.add(new Notification("user-" + i, "Test message", NotificationType.EVENT_UPDATE));
+        }
+        return notifications;
+    }
+
+    @Test
+    @DisplayName("Transient failures are retried with backoff until delivered")
+    void testTransientFailureIsRetried() throws InterruptedException {
+        SimulatedGateway gateway = new SimulatedGateway("smtp", 0, 1.0);
+        strategies.add(new EmailNotification(gateway) {
+            private int calls;
+
+            @Override
+            public List<String> sendBatch(List<String> recipients, String message) {
+                if (++calls == 3) {
+                    gateway.setFailureRate(0.0);
+                }
+                return super.sendBatch(recipients, message);
+            }
+        });
+        createDispatcher(5, 10);
+
+        List<Notification> notifications = notificationsFor(1);
+        dispatcher.dispatch("Test message", notifications);
+
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(DeliveryStatus.DELIVERED, notifications.get(0).getDeliveryStatus("EMAIL"));
+        assertEquals(2, dispatcher.getRetriedBatchCount());
+        assertEquals(0, dispatcher.getDeadLetterStore().size());
+    }
+
+    @Test
+    @DisplayName("Exhausted retries are dead-lettered")
+    void testExhaustedRetriesAreDeadLettered() throws InterruptedException {
+        strategies.add(new SMSNotification(new SimulatedGateway("sms", 0, 1.0)));
+        createDispatcher(3, 10);
+
+        List<Notification> notifications = notificationsFor(5);
+        dispatcher.dispatch("Test message", notifications);
+
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(1, dispatcher.getDeadLetterStore().size());
+        DeadLetterStore.DeadLetter deadLetter = dispatcher.getDeadLetterStore().getDeadLetters().get(0);
+        assertEquals("SMS", deadLetter.getChannel());
+        assertEquals(3, deadLetter.getAttempts());
+        assertEquals(5, deadLetter.getRecipientIds().size());
+        assertEquals(DeliveryStatus.FAILED, notifications.get(0).getDeliveryStatus("SMS"));
+    }
+
+    @Test
+    @DisplayName("Circuit breaker opens on outage and stops calling the gateway")
+    void testCircuitBreakerOpensOnOutage() throws InterruptedException {
+        SimulatedGateway gateway = new SimulatedGateway("sms");
+        strategies.add(new SMSNotification(gateway));
+        createDispatcher(1, 2);
+
+        // Failures observed while the gateway still reports itself available
+        gateway.setFailureRate(1.0);
+        dispatcher.dispatch("First", notificationsFor(1));
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+        dispatcher.dispatch("Second", notificationsFor(1));
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(ChannelCircuitBreaker.State.OPEN, dispatcher.getCircuitState("SMS"));
+
+        long callsBefore = gateway.getCallCount();
+        dispatcher.dispatch("Third", notificationsFor(1));
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(callsBefore, gateway.getCallCount(), "Open circuit should fail fast");
+        assertEquals("Circuit open", dispatcher.getDeadLetterStore().getDeadLetters().get(2).getReason());
+    }
+
+    @Test
+    @DisplayName("Unavailable channel trips the breaker immediately")
+    void testUnavailableChannelTripsBreaker() throws InterruptedException {
+        SimulatedGateway gateway = new SimulatedGateway("smtp");
+        gateway.setAvailable(false);
+        strategies.add(new EmailNotification(gateway));
+        createDispatcher(3, 5);
+
+        dispatcher.dispatch("Test message", notificationsFor(1));
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+
+        assertEquals(ChannelCircuitBreaker.State.OPEN, dispatcher.getCircuitState("EMAIL"));
+        assertEquals(0, gateway.getCallCount());
+    }
+
+    @Test
+    @DisplayName("A slow channel does not delay delivery on a healthy channel")
+    void testDegradedChannelIsIsolated() throws InterruptedException {
+        SimulatedGateway smtp = new SimulatedGateway("smtp");
+        SimulatedGateway sms = new SimulatedGateway("sms", 300, 0.0);
+        strategies.add(new EmailNotification(smtp));
+        strategies.add(new SMSNotification(sms));
+        createDispatcher(3, 5);
+
+        List<Notification> notifications = notificationsFor(100);
+        long start = System.nanoTime();
+        dispatcher.dispatch("Test message", notifications);
+
+        while (smtp.getDeliveredMessageCount() < 100
+               && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000) {
+            Thread.sleep(5);
+        }
+        long emailMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(100, smtp.getDeliveredMessageCount());
+        assertTrue(emailMillis < 1000, "Email delivery should not wait for SMS batches");
+        assertTrue(sms.getDeliveredMessageCount() < 100, "SMS should still be in progress");
+
+        assertTrue(dispatcher.awaitIdle(10, TimeUnit.SECONDS));
+        assertEquals(100, sms.getDeliveredMessageCount());
+    }
+
+    @Test
+    @DisplayName("Dead letters are replayed after the channel recovers")
+    void testReplayDeadLetters() throws InterruptedException {
+        SimulatedGateway gateway = new SimulatedGateway("sms", 0, 1.0);
+        strategies.add(new SMSNotification(gateway));
+        createDispatcher(2, 10);
+
+        List<Notification> notifications = notificationsFor(3);
+        dispatcher.dispatch("Test message", notifications);
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(1, dispatcher.getDeadLetterStore().size());
+
+        gateway.setFailureRate(0.0);
+        assertEquals(1, dispatcher.replayDeadLetters());
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+
+        assertEquals(0, dispatcher.getDeadLetterStore().size());
+        assertEquals(DeliveryStatus.DELIVERED, notifications.get(2).getDeliveryStatus("SMS"));
+    }
+}
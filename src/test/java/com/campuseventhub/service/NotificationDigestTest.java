@@ -0,0 +1,114 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.DigestFrequency;
+import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.model.notification.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+/**
+ * Tests for per-user notification digests.
+ *
+ * Tests cover:
+ * - Opted-in types are buffered instead of delivered
+ * - A flush produces one summary notification per user and frequency
+ * - Repeated messages are merged and other users are unaffected
+ * - Past the item cap the oldest entries are evicted, not the newest
+ * - Buffered items are not lost on shutdown
+ */
+class NotificationDigestTest {
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Opted-in notifications are merged into one digest")
+    void testDigestBatchesNotifications() {
+        notificationService.setDigestPreference("user-1", NotificationType.EVENT_UPDATE, DigestFrequency.HOURLY);
+        notificationService.setDigestPreference("user-1", NotificationType.WAITLIST_POSITION_UPDATE, DigestFrequency.HOURLY);
+
+        for (int i = 0; i < 10; i++) {
+            notificationService.sendNotification("Room changed for session " + i + "\nDetails follow",
+                List.of("user-1", "user-2"), NotificationType.EVENT_UPDATE);
+        }
+        notificationService.sendNotification("Position #3", List.of("user-1"), NotificationType.WAITLIST_POSITION_UPDATE);
+        notificationService.sendNotification("Position #3", List.of("user-1"), NotificationType.WAITLIST_POSITION_UPDATE);
+        notificationService.sendNotification("Event cancelled", List.of("user-1"), NotificationType.EVENT_CANCELLATION);
+
+        // Only the type left at IMMEDIATE reaches user-1's inbox; user-2 is unaffected
+        assertEquals(1, notificationService.getUserNotifications("user-1").size());
+        assertEquals(10, notificationService.getUserNotifications("user-2").size());
+        assertEquals(12, notificationService.getDigestAggregator().getPendingCount("user-1"));
+
+        // Not due yet
+        assertEquals(0, notificationService.getDigestAggregator().flushDue(System.currentTimeMillis()));
+        assertEquals(1, notificationService.getDigestAggregator().flushDue(System.currentTimeMillis() + 3_600_000));
+
+        List<Notification> notifications = notificationService.getUserNotifications("user-1");
+        assertEquals(2, notifications.size());
+        Notification digest = notifications.get(1);
+        assertEquals(NotificationType.DIGEST, digest.getType());
+        assertTrue(digest.getMessage().contains("hourly digest: 12 updates"));
+        assertTrue(digest.getMessage().contains("Event Update (10)"));
+        assertTrue(digest.getMessage().contains("Position #3 (x2)"));
+        assertTrue(digest.getMessage().contains("and 5 more"));
+        assertFalse(digest.getMessage().contains("Details follow"));
+        assertEquals(0, notificationService.getDigestAggregator().getPendingCount("user-1"));
+    }
+
+    @Test
+    @DisplayName("Past the cap a digest keeps the newest updates")
+    void testOverflowEvictsOldest() {
+        notificationService.setDigestPreference("user-1", NotificationType.EVENT_UPDATE, DigestFrequency.HOURLY);
+        int total = NotificationDigestAggregator.MAX_ITEMS_PER_DIGEST + 50;
+        for (int i = 0; i < total; i++) {
+            notificationService.sendNotification("Update " + i, List.of("user-1"), NotificationType.EVENT_UPDATE);
+        }
+        assertEquals(total, notificationService.getDigestAggregator().getPendingCount("user-1"));
+        assertEquals(1, notificationService.getDigestAggregator().flushDue(System.currentTimeMillis() + 3_600_000));
+
+        String message = notificationService.getUserNotifications("user-1").get(0).getMessage();
+        assertTrue(message.contains("Update " + (total - 1)), "Newest update should be shown");
+        assertTrue(message.contains("Event Update (" + NotificationDigestAggregator.MAX_ITEMS_PER_DIGEST + ")"));
+        assertTrue(message.contains("50 older updates were not included."));
+    }
+
+    @Test
+    @DisplayName("Pending digests are flushed on shutdown")
+    void testShutdownFlushesDigests() {
+        notificationService.setDigestPreference("user-1", NotificationType.EVENT_REMINDER, DigestFrequency.DAILY);
+        notificationService.sendNotification("Reminder", List.of("user-1"), NotificationType.EVENT_REMINDER);
+        assertTrue(notificationService.getUserNotifications("user-1").isEmpty());
+
+        notificationService.shutdown();
+        assertEquals(1, notificationService.getUserNotifications("user-1").size());
+        assertEquals(NotificationType.DIGEST, notificationService.getUserNotifications("user-1").get(0).getType());
+    }
+
+    @Test
+    @DisplayName("Switching back to immediate delivers directly")
+    void testPreferences() {
+        assertEquals(DigestFrequency.IMMEDIATE,
+                     notificationService.getDigestPreference("user-1", NotificationType.EVENT_UPDATE));
+        notificationService.setDigestPreference("user-1", NotificationType.EVENT_UPDATE, DigestFrequency.DAILY);
+        notificationService.setDigestPreference("user-1", NotificationType.EVENT_UPDATE, DigestFrequency.IMMEDIATE);
+        notificationService.sendNotification("Update", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        assertEquals(1, notificationService.getUserNotifications("user-1").size());
+
+        assertThrows(IllegalArgumentException.class, () ->
+            notificationService.setDigestPreference("user-1", NotificationType.DIGEST, DigestFrequency.DAILY));
+    }
+}
@@ -0,0 +1,221 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.DeliveryStatus;
+import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.model.notification.NotificationType;
+import com.campuseventhub.strategy.NotificationStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the asynchronous notification dispatch pipeline.
+ *
+ * Tests cover:
+ * - Channel strategies are invoked through sendBatch
+ * - Recipients are split into batches
+ * - Per-channel delivery status on Notification
+ * - Callers are not blocked by slow channels
+ * - Broadcasts reach external channels once and skip in-app ones
+ */
+class NotificationDispatcherTest {
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Registered strategies receive batched deliveries")
+    void testStrategiesReceiveBatches() throws InterruptedException {
+        RecordingStrategy email = new RecordingStrategy("EMAIL", 0, List.of());
+        notificationService.addNotificationStrategy(email);
+
+        List<String> recipients = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            recipients.add("user-" + i);
+        }
+        notificationService.sendNotification("Batch message", recipients, NotificationType.SYSTEM_ANNOUNCEMENT);
+
+        assertTrue(notificationService.getDispatcher().awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(250, email.recipientCount.get());
+        assertEquals(3, email.batchCount.get(), "250 recipients should be sent as 3 batches of at most 100");
+
+        Notification notification = notificationService.getUserNotifications("user-0").get(0);
+        assertEquals(DeliveryStatus.DELIVERED, notification.getDeliveryStatus("EMAIL"));
+        assertEquals(DeliveryStatus.DELIVERED, notification.getDeliveryStatus());
+    }
+
+    @Test
+    @DisplayName("Failed recipients are tracked per channel")
+    void testPartialDeliveryStatus() throws InterruptedException {
+        notificationService.addNotificationStrategy(new RecordingStrategy("EMAIL", 0, List.of()));
+        notificationService.addNotificationStrategy(new RecordingStrategy("SMS", 0, List.of("user-b")));
+
+        notificationService.sendNotification("Hello", List.of("user-a", "user-b"), NotificationType.EVENT_UPDATE);
+        assertTrue(notificationService.getDispatcher().awaitIdle(5, TimeUnit.SECONDS));
+
+        Notification a = notificationService.getUserNotifications("user-a").get(0);
+        Notification b = notificationService.getUserNotifications("user-b").get(0);
+        assertEquals(DeliveryStatus.DELIVERED, a.getDeliveryStatus());
+        assertEquals(DeliveryStatus.FAILED, b.getDeliveryStatus("SMS"));
+        assertEquals(DeliveryStatus.PARTIALLY_DELIVERED, b.getDeliveryStatus());
+    }
+
+    @Test
+    @DisplayName("Sending to many recipients returns before slow channels finish")
+    void testSlowChannelDoesNotBlockCaller() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        notificationService.addNotificationStrategy(new NotificationStrategy() {
+            @Override
+            public boolean sendNotification(String message, String recipient) {
+                return true;
+            }
+
+            @Override
+            public List<String> sendBatch(List<String> recipients, String message) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of();
+            }
+
+            @Override
+            public String getDeliveryMethod() {
+                return "EMAIL";
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+        });
+
+        List<String> recipients = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            recipients.add("attendee-" + i);
+        }
+
+        long start = System.nanoTime();
+        notificationService.sendNotification("Event cancelled", recipients, NotificationType.EVENT_CANCELLATION);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 1000, "sendNotification should not wait for channel delivery");
+        assertEquals(1, notificationService.getUserNotifications("attendee-0").size());
+        assertEquals(DeliveryStatus.QUEUED, notificationService.getUserNotifications("attendee-0").get(0).getDeliveryStatus());
+
+        release.countDown();
+        assertTrue(notificationService.getDispatcher().awaitIdle(10, TimeUnit.SECONDS));
+        assertEquals(DeliveryStatus.DELIVERED, notificationService.getUserNotifications("attendee-1999").get(0).getDeliveryStatus());
+    }
+
+    @Test
+    @DisplayName("Unavailable channels mark notifications as failed")
+    void testUnavailableChannel() throws InterruptedException {
+        RecordingStrategy sms = new RecordingStrategy("SMS", 0, List.of()) {
+            @Override
+            public boolean isAvailable() {
+                return false;
+            }
+        };
+        notificationService.addNotificationStrategy(sms);
+
+        notificationService.sendNotification("Hello", List.of("user-x"), NotificationType.EVENT_UPDATE);
+        assertTrue(notificationService.getDispatcher().awaitIdle(5, TimeUnit.SECONDS));
+
+        assertEquals(0, sms.batchCount.get());
+        assertEquals(DeliveryStatus.FAILED, notificationService.getUserNotifications("user-x").get(0).getDeliveryStatus());
+    }
+
+    @Test
+    @DisplayName("Broadcasts reach external channels once and skip in-app ones")
+    void testBroadcastExternalDispatch() throws InterruptedException {
+        RecordingStrategy inApp = new RecordingStrategy("IN_APP", 0, List.of()) {
+            @Override
+            public boolean isInApp() {
+                return true;
+            }
+        };
+        RecordingStrategy email = new RecordingStrategy("EMAIL", 0, List.of());
+        notificationService.addNotificationStrategy(inApp);
+        notificationService.addNotificationStrategy(email);
+        List<String> recipients = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            recipients.add("member-" + i);
+        }
+        notificationService.setBroadcastRecipients(() -> recipients);
+
+        notificationService.sendBulkNotification("Campus closed", NotificationType.SYSTEM_ANNOUNCEMENT);
+        assertTrue(notificationService.getDispatcher().awaitIdle(5, TimeUnit.SECONDS));
+
+        assertEquals(150, email.recipientCount.get());
+        assertEquals(2, email.batchCount.get());
+        assertEquals(0, inApp.batchCount.get());
+        assertEquals(1, notificationService.getUserNotifications("member-0").size());
+    }
+
+    private static class RecordingStrategy implements NotificationStrategy {
+        private final String method;
+        private final long delayMillis;
+        private final List<String> failing;
+        final AtomicInteger batchCount = new AtomicInteger();
+        final AtomicInteger recipientCount = new AtomicInteger();
+
+        RecordingStrategy(String method, long delayMillis, List<String> failing) {
+            this.method = method;
+            this.delayMillis = delayMillis;
+            this.failing = failing;
+        }
+
+        @Override
+        public boolean sendNotification(String message, String recipient) {
+            return !failing.contains(recipient);
+        }
+
+        @Override
+        public List<String> sendBatch(List<String> recipients, String message) {
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batchCount.incrementAndGet();
+            recipientCount.addAndGet(recipients.size());
+            List<String> failed = new ArrayList<>();
+            for (String recipient : recipients) {
+                if (failing.contains(recipient)) {
+                    failed.add(recipient);
+                }
+            }
+            return failed;
+        }
+
+        @Override
+        public String getDeliveryMethod() {
+            return method;
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.Notification;
+import com.campuseventhub.model.notification.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for NotificationService inbox bookkeeping.
+ *
+ * Tests cover:
+ * - Read state is tracked separately from delivery
+ * - Unread counters stay in step on create, read and clear
+ * - Lookups by notification ID after clearing
+ * - Broadcasts stored once and read per user
+ * - Per-user inbox cap and paginated reads
+ * - Pages interleave direct notifications and broadcasts like the full list
+ */
+class NotificationServiceTest {
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Marking as read records readAt and decrements the unread counter once")
+    void testMarkAsReadUpdatesCounter() {
+        notificationService.sendNotification("First", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        notificationService.sendNotification("Second", List.of("user-1"), NotificationType.EVENT_REMINDER);
+        assertEquals(2, notificationService.getUnreadNotificationCount("user-1"));
+
+        Notification first = notificationService.getUserNotifications("user-1").get(0);
+        assertFalse(first.isRead());
+        assertNull(first.getReadAt());
+
+        notificationService.markNotificationAsRead(first.getNotificationId());
+        notificationService.markNotificationAsRead(first.getNotificationId());
+
+        assertTrue(first.isRead());
+        assertNotNull(first.getReadAt());
+        assertNull(first.getSentAt(), "Reading must not be confused with delivery");
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-1"));
+    }
+
+    @Test
+    @DisplayName("Counters are kept per user")
+    void testCountersArePerUser() {
+        notificationService.sendNotification("Hello", List.of("user-1", "user-2"), NotificationType.SYSTEM_ANNOUNCEMENT);
+        Notification forUser2 = notificationService.getUserNotifications("user-2").get(0);
+
+        notificationService.markNotificationAsRead(forUser2.getNotificationId());
+
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-1"));
+        assertEquals(0, notificationService.getUnreadNotificationCount("user-2"));
+        assertEquals(0, notificationService.getUnreadNotificationCount("unknown-user"));
+    }
+
+    @Test
+    @DisplayName("Mark all read and clear reset the counter")
+    void testMarkAllAndClear() {
+        for (int i = 0; i < 5; i++) {
+            notificationService.sendNotification("Message " + i, List.of("user-1"), NotificationType.EVENT_UPDATE);
+        }
+        notificationService.markAllNotificationsAsRead("user-1");
+        assertEquals(0, notificationService.getUnreadNotificationCount("user-1"));
+
+        notificationService.sendNotification("Another", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-1"));
+
+        Notification last = notificationService.getUserNotifications("user-1").get(5);
+        notificationService.clearUserNotifications("user-1");
+        assertEquals(0, notificationService.getUnreadNotificationCount("user-1"));
+
+        // Stale IDs are ignored after the inbox has been cleared
+        notificationService.markNotificationAsRead(last.getNotificationId());
+        notificationService.sendNotification("Fresh", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-1"));
+    }
+
+    @Test
+    @DisplayName("Unknown or null IDs are ignored")
+    void testUnknownIdsAreIgnored() {
+        notificationService.sendNotification("Hello", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        notificationService.markNotificationAsRead("does-not-exist");
+        notificationService.markNotificationAsRead(null);
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-1"));
+    }
+
+    @Test
+    @DisplayName("Broadcasts are stored once and appear in every inbox")
+    void testBroadcastVisibleToAllUsers() {
+        notificationService.sendNotification("Direct", List.of("user-1"), NotificationType.EVENT_UPDATE);
+        notificationService.sendBulkNotification("Campus closed tomorrow", NotificationType.SYSTEM_ANNOUNCEMENT);
+
+        List<Notification> user1 = notificationService.getUserNotifications("user-1");
+        assertEquals(2, user1.size());
+        assertEquals("Direct", user1.get(0).getMessage());
+        assertEquals("Campus closed tomorrow", user1.get(1).getMessage());
+        assertEquals("user-1", user1.get(1).getRecipientId());
+
+        // Users without any direct notification still see the broadcast
+        List<Notification> newcomer = notificationService.getUserNotifications("user-new");
+        assertEquals(1, newcomer.size());
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-new"));
+    }
+
+    @Test
+    @DisplayName("Broadcast read state is tracked per user")
+    void testBroadcastReadStatePerUser() {
+        notificationService.sendBulkNotification("Announcement", NotificationType.SYSTEM_ANNOUNCEMENT);
+        String broadcastId = notificationService.getUserNotifications("user-1").get(0).getNotificationId();
+
+        notificationService.markNotificationAsRead("user-1", broadcastId);
+        notificationService.markNotificationAsRead("user-1", broadcastId);
+
+        assertTrue(notificationService.getUserNotifications("user-1").get(0).isRead());
+        assertFalse(notificationService.getUserNotifications("user-2").get(0).isRead());
+        assertEquals(0, notificationService.getUnreadNotificationCount("user-1"));
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-2"));
+
+        notificationService.sendBulkNotification("Second announcement", NotificationType.SYSTEM_ANNOUNCEMENT);
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-1"));
+        notificationService.markAllNotificationsAsRead("user-1");
+        assertEquals(0, notificationService.getUnreadNotificationCount("user-1"));
+        assertEquals(2, notificationService.getUnreadNotificationCount("user-2"));
+    }
+
+    @Test
+    @DisplayName("Clearing hides earlier broadcasts but not later ones")
+    void testClearHidesEarlierBroadcasts() {
+        notificationService.sendBulkNotification("Old news", NotificationType.SYSTEM_ANNOUNCEMENT);
+        notificationService.clearUserNotifications("user-1");
+        assertTrue(notificationService.getUserNotifications("user-1").isEmpty());
+        assertEquals(0, notificationService.getUnreadNotificationCount("user-1"));
+
+        notificationService.sendBulkNotification("Fresh news", NotificationType.SYSTEM_ANNOUNCEMENT);
+        List<Notification> notifications = notificationService.getUserNotifications("user-1");
+        assertEquals(1, notifications.size());
+        assertEquals("Fresh news", notifications.get(0).getMessage());
+        assertEquals(1, notificationService.getUnreadNotificationCount("user-1"));
+    }
+
+    @Test
+    @DisplayName("Inbox keeps only the newest notifications per user")
+    void testInboxIsCapped() {
+        int extra = 5;
+        for (int i = 0; i < NotificationService.MAX_NOTIFICATIONS_PER_USER + extra; i++) {
+            notificationService.sendNotification("Message " + i, List.of("user-1"), NotificationType.EVENT_UPDATE);
+        }
+        List<Notification> notifications = notificationService.getUserNotifications("user-1");
+        assertEquals(NotificationService.MAX_NOTIFICATIONS_PER_USER, notifications.size());
+        assertTrue(notifications.get(0).getMessage().contains("Message " + extra));
+        assertEquals(NotificationService.MAX_NOTIFICATIONS_PER_USER,
+                     notificationService.getUnreadNotificationCount("user-1"));
+    }
+
+    @Test
+    @DisplayName("Pages are returned newest first")
+    void testPagination() {
+        for (int i = 0; i < 7; i++) {
+            notificationService.sendNotification("Message " + i, List.of("user-1"), NotificationType.EVENT_UPDATE);
+        }
+        NotificationService.NotificationPage first = notificationService.getUserNotificationsPage("user-1", 0, 3);
+        assertEquals(3, first.getNotifications().size());
+        assertTrue(first.getNotifications().get(0).getMessage().contains("Message 6"));
+        assertEquals(7, first.getTotalCount());
+        assertEquals(3, first.getTotalPages());
+        assertFalse(first.hasPrevious());
+        assertTrue(first.hasNext());
+
+        NotificationService.NotificationPage last = notificationService.getUserNotificationsPage("user-1", 2, 3);
+        assertEquals(1, last.getNotifications().size());
+        assertTrue(last.getNotifications().get(0).getMessage().contains("Message 0"));
+        assertFalse(last.hasNext());
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> notificationService.getUserNotificationsPage("user-1", 0, 0));
+    }
+
+    @Test
+    @DisplayName("Pages interleave direct notifications and broadcasts like the full list")
+    void testPaginationWithBroadcasts() {
+        for (int i = 0; i < 10; i++) {
+            notificationService.sendNotification("Direct " + i, List.of("user-1"), NotificationType.EVENT_UPDATE);
+            if (i % 3 == 0) {
+                notificationService.sendBulkNotification("Broadcast " + i, NotificationType.SYSTEM_ANNOUNCEMENT);
+            }
+        }
+        String firstBroadcastId = notificationService.getUserNotificationsPage("user-1", 0, 1)
+            .getNotifications().get(0).getNotificationId();
+        notificationService.markNotificationAsRead("user-1", firstBroadcastId);
+
+        List<Notification> expected = notificationService.getUserNotifications("user-1");
+        Collections.reverse(expected);
+        List<Notification> paged = new ArrayList<>();
+        for (int page = 0; page < 4; page++) {
+            NotificationService.NotificationPage result = notificationService.getUserNotificationsPage("user-1", page, 4);
+            assertEquals(expected.size(), result.getTotalCount());
+            paged.addAll(result.getNotifications());
+        }
+        assertEquals(14, paged.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getMessage(), paged.get(i).getMessage());
+            assertEquals(expected.get(i).isRead(), paged.get(i).isRead());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.notification.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Tests for the precompiled notification template engine.
+ *
+ * Tests cover:
+ * - Placeholders compile to slots and render typed values
+ * - Unknown slots and mismatched value types are rejected
+ * - Bundled templates load from the classpath
+ * - Editing the template file is picked up without a restart
+ */
+class NotificationTemplateTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Template renders text, number and temporal slots")
+    void testRender() {
+        NotificationTemplate template = NotificationTemplate.compile("test",
+            "'{eventTitle}' #{position} on {eventDate} at {startTime} ({startDateTime}) {not a slot}");
+        assertEquals(5, template.getSlotCount());
+
+        TemplateContext context = new TemplateContext()
+            .set(TemplateSlot.EVENT_TITLE, "Hackathon")
+            .set(TemplateSlot.POSITION, 3)
+            .set(TemplateSlot.EVENT_DATE, LocalDate.of(2025, 3, 14))
+            .set(TemplateSlot.START_TIME, LocalTime.of(9, 30))
+            .set(TemplateSlot.START_DATE_TIME, LocalDateTime.of(2025, 3, 14, 9, 30));
+
+        assertEquals("'Hackathon' #3 on 2025-03-14 at 09:30 (2025-03-14 09:30) {not a slot}",
+                     template.render(context));
+
+        // Contexts are reusable; only the changed slot differs
+        assertTrue(template.render(context.set(TemplateSlot.POSITION, 4)).startsWith("'Hackathon' #4"));
+    }
+
+    @Test
+    @DisplayName("Unknown slots and wrong value types are rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> NotificationTemplate.compile("bad", "Hello {nickname}"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new TemplateContext().set(TemplateSlot.POSITION, "third"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new TemplateContext().set(TemplateSlot.EVENT_TITLE, 7));
+    }
+
+    @Test
+    @DisplayName("Bundled templates are loaded from the classpath")
+    void testBundledTemplates() {
+        NotificationTemplateManager manager = new NotificationTemplateManager(null);
+        manager.loadTemplates();
+
+        String message = manager.render("waitlist.positionUpdate", new TemplateContext()
+            .set(TemplateSlot.EVENT_TITLE, "Career Fair")
+            .set(TemplateSlot.POSITION, 2));
+        assertTrue(message.startsWith("Waitlist update for 'Career Fair'!"));
+        assertTrue(message.contains("Your new position: #2"));
+        assertThrows(IllegalArgumentException.class, () -> manager.render("missing.key", new TemplateContext()));
+        assertEquals("Plain", manager.applyTypeTemplate(NotificationType.EVENT_UPDATE, "Plain"));
+    }
+
+    @Test
+    @DisplayName("Edited template file is reloaded at runtime")
+    void testHotReload() throws Exception {
+        Path file = tempDir.resolve("templates.properties");
+        Files.writeString(file, "type.SYSTEM_ALERT=ALERT: {message}\n");
+        NotificationTemplateManager manager = new NotificationTemplateManager(file, 0);
+        manager.loadTemplates();
+        assertEquals("ALERT: Fire drill", manager.applyTypeTemplate(NotificationType.SYSTEM_ALERT, "Fire drill"));
+
+        Files.writeString(file, "type.SYSTEM_ALERT=[!] {message}\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+        assertEquals("[!] Fire drill", manager.applyTypeTemplate(NotificationType.SYSTEM_ALERT, "Fire drill"));
+
+        // A broken edit keeps the last good templates
+        Files.writeString(file, "type.SYSTEM_ALERT={unknownSlot}\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        assertEquals("[!] Fire drill", manager.applyTypeTemplate(NotificationType.SYSTEM_ALERT, "Fire drill"));
+    }
+}
@@ -0,0 +1,566 @@
+// =============================================================================
+// REGISTRATION LOAD RUNNER
+// =============================================================================
+
+package com.campuseventhub.service;
+
+import com.campuseventhub.metrics.LatencyHistogram;
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.model.event.RegistrationStatus;
+import com.campuseventhub.util.Pbkdf2PasswordHasher;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent registration load test against a single EventHub, meant to run
+ * as a release gate.
+ *
+ * Usage: RegistrationLoadRunner [attendees] [events] [capacity] [operationsPerAttendee] [seed]
+ *
+ * Implementation Details:
+ * - Every simulated attendee is its own task on a virtual thread when the
+ *   runtime has them (Java 21+), otherwise on a cached platform thread pool
+ * - Attendees open a token session, wait for a common start signal and then
+ *   run a seeded mix of register, cancel, waitlist-position and inbox reads,
+ *   so demand for the few events far exceeds capacity
+ * - Each operation's latency goes into its own histogram; throughput and
+ *   p50/p99/max are reported per operation
+ * - After the run the hub is checked for invariant violations: events over
+ *   capacity, duplicate active registrations, waitlisted registrations missing
+ *   from the event waitlist, free spots left while attendees wait, and
+ *   registrations handed to an attendee that the hub no longer knows
+ * - Exceptions other than the expected IllegalArgumentException rejections
+ *   count as violations too
+ * - main runs against a throwaway data directory and exits with status 1
+ *   when any violation is found; the runner lives with the tests and runs
+ *   from the test classpath, so it is not shipped in the application jar
+ */
+public class RegistrationLoadRunner {
+    private static final String PASSWORD = "loadtest123";
+    private static final int MAX_EXAMPLES = 5;
+    private static final long AWAIT_MINUTES = 30;
+
+    /**
+     * Operations in the attendee mix, with their share in percent
+     */
+    public enum Operation {
+        REGISTER(45),
+        CANCEL(15),
+        WAITLIST_POSITION(20),
+        READ_NOTIFICATIONS(20);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(Random random) {
+            int roll = random.nextInt(100);
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return READ_NOTIFICATIONS;
+        }
+    }
+
+    private final EventHub eventHub;
+    private final int attendeeCount;
+    private final int eventCount;
+    private final int capacity;
+    private final int operationsPerAttendee;
+    private final long seed;
+    private final Map<Operation, LatencyHistogram> latencies;
+    private final Map<Operation, AtomicLong> rejections;
+    private final ConcurrentMap<String, AtomicLong> unexpectedErrors;
+    private final ConcurrentMap<String, String> unexpectedErrorExamples;
+
+    public RegistrationLoadRunner(EventHub eventHub, int attendeeCount, int eventCount, int capacity,
+                                  int operationsPerAttendee, long seed) {
+        if (eventHub == null) {
+            throw new IllegalArgumentException("EventHub cannot be null");
+        }
+        if (attendeeCount <= 0 || eventCount <= 0 || capacity <= 0 || operationsPerAttendee <= 0) {
+            throw new IllegalArgumentException("Attendees, events, capacity and operations must be positive");
+        }
+        this.eventHub = eventHub;
+        this.attendeeCount = attendeeCount;
+        this.eventCount = eventCount;
+        this.capacity = capacity;
+        this.operationsPerAttendee = operationsPerAttendee;
+        this.seed = seed;
+        this.latencies = new EnumMap<>(Operation.class);
+        this.rejections = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            rejections.put(operation, new AtomicLong());
+        }
+        this.unexpectedErrors = new ConcurrentHashMap<>();
+        this.unexpectedErrorExamples = new ConcurrentHashMap<>();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int attendees = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int events = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int capacity = args.length > 2 ? Integer.parseInt(args[2]) : 25;
+        int operations = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+        if (System.getProperty(Pbkdf2PasswordHasher.ITERATIONS_PROPERTY) == null) {
+            System.setProperty(Pbkdf2PasswordHasher.ITERATIONS_PROPERTY, "1000");
+        }
+        // Data and log files follow user.dir; keep the run away from real data
+        Path workDir = Files.createTempDirectory("registration-load");
+        System.setProperty("user.dir", workDir.toString());
+
+        EventHub eventHub = EventHub.getInstance();
+        Report report;
+        try {
+            report = new RegistrationLoadRunner(eventHub, attendees, events, capacity, operations, seed).run();
+        } finally {
+            eventHub.shutdownServices();
+        }
+        System.out.print(report.format());
+        System.out.println("Data directory: " + workDir);
+        System.exit(report.isPassed() ? 0 : 1);
+    }
+
+    /**
+     * Sets up attendees and events, runs the load and checks the invariants
+     */
+    public Report run() throws IOException, InterruptedException {
+        String tag = Long.toString(Math.abs(seed ^ System.nanoTime()) % 1_000_000L, 36);
+        List<String> eventIds = createEvents(tag);
+        List<Attendee> attendees = createAttendees(tag);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        ExecutorService executor = newAttendeeExecutor();
+        long elapsedNanos;
+        try {
+            for (Attendee attendee : attendees) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    runAttendee(attendee, eventIds);
+                    return null;
+                }));
+            }
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(AWAIT_MINUTES, TimeUnit.MINUTES);
+                } catch (Exception e) {
+                    recordUnexpected(e.getCause() != null ? e.getCause() : e);
+                }
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+        } finally {
+            executor.shutdownNow();
+        }
+        for (Attendee attendee : attendees) {
+            eventHub.closeSession(attendee.token);
+        }
+
+        Map<String, Long> violations = new LinkedHashMap<>();
+        List<String> examples = new ArrayList<>();
+        checkInvariants(eventIds, attendees, violations, examples);
+        for (Map.Entry<String, AtomicLong> entry : unexpectedErrors.entrySet()) {
+            violations.put("unexpected " + entry.getKey(), entry.getValue().get());
+            addExample(examples, unexpectedErrorExamples.get(entry.getKey()));
+        }
+        return new Report(attendeeCount, eventCount, capacity, elapsedNanos, snapshotStats(), violations, examples,
+                          isVirtualThreadExecutor());
+    }
+
+    // =============================================================================
+    // SETUP
+    // =============================================================================
+
+    private List<String> createEvents(String tag) {
+        EventManager eventManager = eventHub.getEventManager();
+        // Far out and one per day, so attendees never hit schedule conflicts
+        LocalDate firstDay = LocalDate.now().plusYears(2);
+        List<String> eventIds = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime startTime = LocalDateTime.of(firstDay.plusDays(i), LocalTime.of(10, 0));
+            Event event = eventManager.createEvent("Load test session " + tag + "-" + i,
+                "Generated by RegistrationLoadRunner", EventType.WORKSHOP, startTime, startTime.plusHours(2),
+                "loadtest-organizer-" + tag, null, capacity);
+            eventManager.setRegistrationDeadline(event.getEventId(), startTime.minusDays(1));
+            eventIds.add(event.getEventId());
+        }
+        return eventIds;
+    }
+
+    private List<Attendee> createAttendees(String tag) throws IOException, InterruptedException {
+        UserManager userManager = eventHub.getUserManager();
+        StringBuilder roster = new StringBuilder();
+        for (int i = 0; i < attendeeCount; i++) {
+            String username = username(tag, i);
+            roster.append("{\"username\":\"").append(username).append("\",\"email\":\"").append(username)
+                  .append("@loadtest.edu\",\"password\":\"").append(PASSWORD)
+                  .append("\",\"firstName\":\"Load\",\"lastName\":\"Attendee\"}\n");
+        }
+        UserImportService.ImportResult imported =
+            userManager.importUsers(new StringReader(roster.toString()), UserImportService.Format.JSONL);
+        if (imported.getImportedCount() != attendeeCount) {
+            throw new IllegalStateException("Only " + imported.getImportedCount() + " of " + attendeeCount
+                                            + " load test attendees could be imported");
+        }
+
+        // Password checks are deliberately slow; open the sessions in parallel before the clock starts
+        List<Future<Attendee>> sessions = new ArrayList<>();
+        ExecutorService executor = newAttendeeExecutor();
+        try {
+            for (int i = 0; i < attendeeCount; i++) {
+                String username = username(tag, i);
+                int index = i;
+                sessions.add(executor.submit(() -> {
+                    Session session = eventHub.openSession(username, PASSWORD);
+                    if (session == null) {
+                        throw new IllegalStateException("Could not open a session for " + username);
+                    }
+                    return new Attendee(index, session.getUserId(), session.getToken());
+                }));
+            }
+            List<Attendee> attendees = new ArrayList<>();
+            for (Future<Attendee> session : sessions) {
+                try {
+                    attendees.add(session.get(AWAIT_MINUTES, TimeUnit.MINUTES));
+                } catch (Exception e) {
+                    throw new IllegalStateException("Load test setup failed", e);
+                }
+            }
+            return attendees;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String username(String tag, int index) {
+        return "lt" + tag + "_" + index;
+    }
+
+    // =============================================================================
+    // LOAD
+    // =============================================================================
+
+    private void runAttendee(Attendee attendee, List<String> eventIds) {
+        Random random = new Random(seed * 31 + attendee.index);
+        for (int i = 0; i < operationsPerAttendee; i++) {
+            Operation picked = Operation.pick(random);
+            Operation operation = picked == Operation.CANCEL && attendee.held.isEmpty() ? Operation.REGISTER : picked;
+            long start = System.nanoTime();
+            try {
+                eventHub.withSession(attendee.token, () -> {
+                    perform(operation, attendee, eventIds, random);
+                    return null;
+                });
+            } catch (IllegalArgumentException e) {
+                rejections.get(operation).incrementAndGet();
+            } catch (RuntimeException e) {
+                recordUnexpected(e);
+            } finally {
+                latencies.get(operation).record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void perform(Operation operation, Attendee attendee, List<String> eventIds, Random random) {
+        switch (operation) {
+            case REGISTER: {
+                String eventId = eventIds.get(random.nextInt(eventIds.size()));
+                Registration registration = eventHub.registerForEvent(attendee.userId, eventId);
+                if (registration == null) {
+                    rejections.get(operation).incrementAndGet();
+                } else {
+                    attendee.held.put(eventId, registration.getRegistrationId());
+                }
+                break;
+            }
+            case CANCEL: {
+                List<String> heldEvents = new ArrayList<>(attendee.held.keySet());
+                String eventId = heldEvents.get(random.nextInt(heldEvents.size()));
+                String registrationId = attendee.held.remove(eventId);
+                if (!eventHub.cancelEventRegistration(registrationId, "Load test cancellation")) {
+                    rejections.get(operation).incrementAndGet();
+                    attendee.lost.add(registrationId);
+                }
+                break;
+            }
+            case WAITLIST_POSITION:
+                eventHub.getWaitlistPosition(eventIds.get(random.nextInt(eventIds.size())));
+                break;
+            default:
+                eventHub.getCurrentUserNotifications();
+                break;
+        }
+    }
+
+    private void recordUnexpected(Throwable error) {
+        String type = error.getClass().getSimpleName();
+        unexpectedErrors.computeIfAbsent(type, k -> new AtomicLong()).incrementAndGet();
+        unexpectedErrorExamples.putIfAbsent(type, type + ": " + error.getMessage());
+    }
+
+    // =============================================================================
+    // INVARIANTS
+    // =============================================================================
+
+    private void checkInvariants(List<String> eventIds, List<Attendee> attendees,
+                                 Map<String, Long> violations, List<String> examples) {
+        EventManager eventManager = eventHub.getEventManager();
+        Map<String, Registration> indexed = new HashMap<>();
+        for (String eventId : eventIds) {
+            Event event = eventManager.findById(eventId);
+            List<Registration> registrations = new ArrayList<>(eventManager.getEventRegistrations(eventId));
+            Set<String> waitlisted = new HashSet<>();
+            for (Registration registration : new ArrayList<>(event.getWaitlist())) {
+                waitlisted.add(registration.getRegistrationId());
+            }
+
+            int confirmed = 0;
+            int waiting = 0;
+            Set<String> activeAttendees = new HashSet<>();
+            for (Registration registration : registrations) {
+                indexed.put(registration.getRegistrationId(), registration);
+                RegistrationStatus status = registration.getStatus();
+                if (status == RegistrationStatus.CANCELLED) {
+                    continue;
+                }
+                if (!activeAttendees.add(registration.getAttendeeId())) {
+                    violation(violations, examples, "duplicate registrations",
+                              "Attendee " + registration.getAttendeeId() + " holds two active registrations for "
+                              + event.getTitle());
+                }
+                if (status == RegistrationStatus.CONFIRMED) {
+                    confirmed++;
+                } else if (status == RegistrationStatus.WAITLISTED) {
+                    waiting++;
+                    if (!waitlisted.contains(registration.getRegistrationId())) {
+                        violation(violations, examples, "lost waitlist entries",
+                                  "Registration " + registration.getRegistrationId() + " is WAITLISTED but missing from the "
+                                  + event.getTitle() + " waitlist");
+                    }
+                }
+            }
+            if (confirmed > event.getMaxCapacity()) {
+                violation(violations, examples, "over-capacity events",
+                          event.getTitle() + " has " + confirmed + " confirmed for " + event.getMaxCapacity() + " places");
+            }
+            if (waiting > 0 && confirmed < event.getMaxCapacity()) {
+                violation(violations, examples, "stranded waitlists",
+                          event.getTitle() + " has " + waiting + " waiting with " + (event.getMaxCapacity() - confirmed)
+                          + " places free");
+            }
+        }
+
+        for (Attendee attendee : attendees) {
+            Set<String> byAttendee = new HashSet<>();
+            for (Registration registration : new ArrayList<>(eventManager.getAttendeeRegistrations(attendee.userId))) {
+                byAttendee.add(registration.getRegistrationId());
+            }
+            for (String registrationId : attendee.held.values()) {
+                if (!indexed.containsKey(registrationId) || !byAttendee.contains(registrationId)) {
+                    violation(violations, examples, "lost registrations",
+                              "Registration " + registrationId + " returned to attendee " + attendee.userId
+                              + " is unknown to the hub");
+                }
+            }
+            for (String registrationId : attendee.lost) {
+                violation(violations, examples, "failed cancellations",
+                          "Registration " + registrationId + " could not be cancelled by its owner");
+            }
+        }
+    }
+
+    private static void violation(Map<String, Long> violations, List<String> examples, String kind, String example) {
+        violations.merge(kind, 1L, Long::sum);
+        addExample(examples, example);
+    }
+
+    private static void addExample(List<String> examples, String example) {
+        if (example != null && examples.size() < MAX_EXAMPLES) {
+            examples.add(example);
+        }
+    }
+
+    // =============================================================================
+    // EXECUTION
+    // =============================================================================
+
+    /**
+     * Virtual thread per task when the runtime supports it (Java 21+); looked
+     * up reflectively so the project still builds and runs on Java 17
+     */
+    private static ExecutorService newAttendeeExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private static boolean isVirtualThreadExecutor() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private Map<Operation, OperationStats> snapshotStats() {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(latencies.get(operation).snapshot(),
+                                                    rejections.get(operation).get()));
+        }
+        return stats;
+    }
+
+    private static final class Attendee {
+        private final int index;
+        private final String userId;
+        private final String token;
+        // Only touched by the attendee's own thread
+        private final Map<String, String> held;
+        private final List<String> lost;
+
+        private Attendee(int index, String userId, String token) {
+            this.index = index;
+            this.userId = userId;
+            this.token = token;
+            this.held = new LinkedHashMap<>();
+            this.lost = new ArrayList<>();
+        }
+    }
+
+    // =============================================================================
+    // RESULTS
+    // =============================================================================
+
+    /**
+     * Latency and rejection counts for one operation
+     */
+    public static class OperationStats {
+        private final LatencyHistogram.Snapshot latency;
+        private final long rejected;
+
+        public OperationStats(LatencyHistogram.Snapshot latency, long rejected) {
+            this.latency = latency;
+            this.rejected = rejected;
+        }
+
+        public long getCount() { return latency.getCount(); }
+        public long getRejected() { return rejected; }
+        public long getP50Nanos() { return latency.getValueAtQuantile(0.50); }
+        public long getP99Nanos() { return latency.getValueAtQuantile(0.99); }
+        public long getMaxNanos() { return latency.getMax(); }
+    }
+
+    /**
+     * Outcome of one load run; passed only when no invariant was violated
+     */
+    public static class Report {
+        private final int attendees;
+        private final int events;
+        private final int capacity;
+        private final long elapsedNanos;
+        private final Map<Operation, OperationStats> operations;
+        private final Map<String, Long> violations;
+        private final List<String> examples;
+        private final boolean virtualThreads;
+
+        public Report(int attendees, int events, int capacity, long elapsedNanos,
+                      Map<Operation, OperationStats> operations, Map<String, Long> violations,
+                      List<String> examples, boolean virtualThreads) {
+            this.attendees = attendees;
+            this.events = events;
+            this.capacity = capacity;
+            this.elapsedNanos = elapsedNanos;
+            this.operations = Collections.unmodifiableMap(operations);
+            this.violations = Collections.unmodifiableMap(violations);
+            this.examples = Collections.unmodifiableList(examples);
+            this.virtualThreads = virtualThreads;
+        }
+
+        public boolean isPassed() { return violations.isEmpty(); }
+        public Map<Operation, OperationStats> getOperations() { return operations; }
+        public Map<String, Long> getViolations() { return violations; }
+        public List<String> getExamples() { return examples; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public long getTotalOperations() {
+            long total = 0;
+            for (OperationStats stats : operations.values()) {
+                total += stats.getCount();
+            }
+            return total;
+        }
+
+        public double getThroughputPerSecond() {
+            return elapsedNanos > 0 ? getTotalOperations() / (elapsedNanos / 1e9) : 0;
+        }
+
+        /**
+         * Human-readable summary, one line per operation and per violation kind
+         */
+        public String format() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("Attendees: %d on %s, events: %d x %d places%n", attendees,
+                                     virtualThreads ? "virtual threads" : "platform threads", events, capacity));
+            out.append(String.format("Operations: %d in %.2fs (%.0f ops/s)%n", getTotalOperations(),
+                                     elapsedNanos / 1e9, getThroughputPerSecond()));
+            for (Map.Entry<Operation, OperationStats> entry : operations.entrySet()) {
+                OperationStats stats = entry.getValue();
+                out.append(String.format("  %-18s %7d ops %6d rejected  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms%n",
+                                         entry.getKey(), stats.getCount(), stats.getRejected(),
+                                         stats.getP50Nanos() / 1e6, stats.getP99Nanos() / 1e6,
+                                         stats.getMaxNanos() / 1e6));
+            }
+            if (isPassed()) {
+                out.append(String.format("Invariants: PASSED%n"));
+                return out.toString();
+            }
+            out.append(String.format("Invariants: FAILED%n"));
+            for (Map.Entry<String, Long> entry : violations.entrySet()) {
+                out.append(String.format("  %-28s %d%n", entry.getKey(), entry.getValue()));
+            }
+            for (String example : examples) {
+                out.append("  e.g. ").append(example).append(System.lineSeparator());
+            }
+            return out.toString();
+        }
+    }
+}
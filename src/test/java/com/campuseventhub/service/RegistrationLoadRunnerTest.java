@@ -0,0 +1,86 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.model.event.Registration;
+import com.campuseventhub.model.event.RegistrationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for concurrent registration and the load-test release gate.
+ *
+ * Tests cover:
+ * - A small load run against the hub passes every invariant
+ * - Racing registrations never overbook an event; the overflow is waitlisted
+ * - Re-registering after a cancellation cannot create a second active registration
+ */
+class RegistrationLoadRunnerTest {
+
+    @Test
+    @DisplayName("A small load run passes every invariant")
+    void testLoadRunPasses() throws Exception {
+        RegistrationLoadRunner.Report report =
+            new RegistrationLoadRunner(EventHub.getInstance(), 40, 3, 5, 6, 7L).run();
+
+        assertTrue(report.isPassed(), report.format());
+        assertEquals(240, report.getTotalOperations());
+        assertTrue(report.getThroughputPerSecond() > 0);
+        assertTrue(report.getOperations().get(RegistrationLoadRunner.Operation.REGISTER).getCount() > 0);
+    }
+
+    @Test
+    @DisplayName("Racing registrations fill the event and waitlist the rest")
+    void testConcurrentRegistrationsRespectCapacity() throws Exception {
+        EventManager eventManager = new EventManager();
+        LocalDateTime start = LocalDateTime.now().plusYears(3).withHour(9).withMinute(0);
+        Event event = eventManager.createEvent("Capacity race", "Concurrent registrations", EventType.SEMINAR,
+            start, start.plusHours(1), "organizer-" + UUID.randomUUID(), null, 3);
+
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Registration>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String attendeeId = "racer-" + UUID.randomUUID();
+            results.add(pool.submit(() -> {
+                go.await();
+                return eventManager.registerAttendeeForEvent(attendeeId, event.getEventId());
+            }));
+        }
+        go.countDown();
+        for (Future<Registration> result : results) {
+            assertNotNull(result.get(30, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        assertEquals(3, eventManager.getCurrentRegistrationCount(event.getEventId()));
+        assertEquals(5, eventManager.getWaitlistSize(event.getEventId()));
+        assertEquals(5, event.getWaitlistSize());
+    }
+
+    @Test
+    @DisplayName("Cancelling and re-registering keeps a single active registration")
+    void testReRegistrationAfterCancel() {
+        RegistrationManager registrationManager = new RegistrationManager();
+        String eventId = "event-" + UUID.randomUUID();
+        String attendeeId = "attendee-" + UUID.randomUUID();
+
+        Registration first = registrationManager.createRegistration(eventId, attendeeId);
+        assertTrue(registrationManager.cancelRegistration(first.getRegistrationId()));
+        Registration second = registrationManager.createRegistration(eventId, attendeeId);
+        assertNotNull(second);
+        assertNull(registrationManager.createRegistration(eventId, attendeeId));
+        assertEquals(RegistrationStatus.CONFIRMED,
+            registrationManager.findActiveRegistration(attendeeId, eventId).getStatus());
+    }
+}
@@ -0,0 +1,100 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.Attendee;
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for token sessions and per-request session binding.
+ *
+ * Tests cover:
+ * - Sessions resolve by token until idle for longer than the timeout
+ * - Lookups refresh the idle timer; all sessions of a user can be revoked
+ * - EventHub resolves the current user from the bound session while the
+ *   local client login stays untouched
+ */
+class SessionRegistryTest {
+
+    private AtomicLong clock;
+    private SessionRegistry registry;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        registry = new SessionRegistry(Duration.ofMinutes(30), clock::get);
+        user = new Attendee("sessionuser", "session@example.com", "password123", "Session", "User");
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("Sessions expire after the idle timeout and lookups keep them alive")
+    void testIdleExpiry() {
+        Session first = registry.create(user);
+        Session second = registry.create(user);
+        assertNotEquals(first.getToken(), second.getToken());
+        assertEquals(2, registry.getActiveSessionCount());
+
+        clock.addAndGet(Duration.ofMinutes(20).toMillis());
+        assertSame(first, registry.get(first.getToken()), "Lookup should refresh the idle timer");
+
+        clock.addAndGet(Duration.ofMinutes(20).toMillis());
+        assertSame(first, registry.get(first.getToken()));
+        assertNull(registry.get(second.getToken()), "Untouched session should have expired");
+        assertEquals(1, registry.getActiveSessionCount());
+
+        clock.addAndGet(Duration.ofMinutes(31).toMillis());
+        assertEquals(1, registry.evictExpired());
+        assertEquals(0, registry.getActiveSessionCount());
+        assertNull(registry.get("unknown-token"));
+    }
+
+    @Test
+    @DisplayName("All sessions of a user can be revoked at once")
+    void testInvalidateUser() {
+        Session first = registry.create(user);
+        registry.create(user);
+        User other = new Attendee("otheruser", "other@example.com", "password123", "Other", "User");
+        Session otherSession = registry.create(other);
+
+        assertEquals(2, registry.invalidateUser(user.getUserId()));
+        assertNull(registry.get(first.getToken()));
+        assertSame(otherSession, registry.get(otherSession.getToken()));
+        assertTrue(registry.invalidate(otherSession.getToken()));
+        assertFalse(registry.invalidate(otherSession.getToken()));
+    }
+
+    @Test
+    @DisplayName("EventHub resolves the current user from the bound session")
+    void testEventHubWithSession() {
+        EventHub eventHub = EventHub.getInstance();
+        eventHub.logoutCurrentUser();
+        String username = "sess" + (System.nanoTime() % 1_000_000_000L);
+        assertTrue(eventHub.registerUser(username, username + "@example.com", "password123",
+                                         "Session", "Tester", UserRole.ATTENDEE));
+
+        Session session = eventHub.openSession(username, "password123");
+        assertNotNull(session);
+        assertNull(eventHub.openSession(username, "wrongpassword1"));
+        assertFalse(eventHub.isUserLoggedIn(), "Opening a token session must not log in the local client");
+
+        User resolved = eventHub.withSession(session.getToken(), eventHub::getCurrentUser);
+        assertEquals(username, resolved.getUsername());
+        assertNull(eventHub.getCurrentUser(), "Binding is limited to the request");
+
+        assertTrue(eventHub.closeSession(session.getToken()));
+        assertThrows(InvalidSessionException.class,
+                     () -> eventHub.withSession(session.getToken(), eventHub::getCurrentUser));
+    }
+}
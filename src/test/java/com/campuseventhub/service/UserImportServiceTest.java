@@ -0,0 +1,93 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.User;
+import com.campuseventhub.model.user.UserRole;
+import com.campuseventhub.persistence.DataManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * Tests for bulk roster import.
+ *
+ * Tests cover:
+ * - CSV rosters with quoted fields, optional role and per-row errors
+ * - Collisions with existing accounts and within the roster
+ * - JSONL rosters and persistence of imported users
+ */
+class UserImportServiceTest {
+
+    private UserManager userManager;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            DataManager.deleteDataFile("users.ser");
+            DataManager.deleteDataFile("users.log");
+        } catch (Exception e) {
+            // Ignore cleanup errors
+        }
+        userManager = new UserManager();
+    }
+
+    @Test
+    @DisplayName("CSV import accepts valid rows and reports the rest by line")
+    void testCsvImport() throws Exception {
+        userManager.createUser("existing", "existing@campus.edu", "password123", "Existing", "User", UserRole.ATTENDEE);
+        String roster = String.join("\n",
+            "username,email,password,firstName,lastName,role",
+            "jdoe,JDoe@Campus.edu,password123,John,Doe,",
+            "\"osmith\",osmith@campus.edu,\"pass,word123\",Olivia,Smith,organizer",
+            "existing,other@campus.edu,password123,Dup,User,attendee",
+            "jdoe2,jdoe@campus.edu,password123,Jane,Doe,attendee",
+            "jdoe,fresh@campus.edu,password123,Again,Doe,attendee",
+            "bademail,not-an-email,password123,Bad,Email,attendee",
+            "",
+            "badrole,badrole@campus.edu,password123,Bad,Role,wizard");
+
+        UserImportService.ImportResult result =
+            userManager.importUsers(new StringReader(roster), UserImportService.Format.CSV);
+
+        assertEquals(2, result.getImportedCount());
+        List<UserImportService.RowError> errors = result.getErrors();
+        assertEquals(5, errors.size());
+        assertEquals(4, errors.get(0).getLineNumber());
+        assertEquals("Username already exists", errors.get(0).getMessage());
+        assertEquals("Duplicate email in roster", errors.get(1).getMessage());
+        assertEquals("Duplicate username in roster", errors.get(2).getMessage());
+        assertEquals(7, errors.get(3).getLineNumber());
+        assertEquals(9, errors.get(4).getLineNumber());
+
+        User organizer = userManager.findByUsername("osmith");
+        assertEquals(UserRole.ORGANIZER, organizer.getRole());
+        assertNotNull(userManager.validateCredentials("osmith", "pass,word123"));
+        assertEquals(UserRole.ATTENDEE, userManager.findByUsername("jdoe").getRole());
+        assertFalse(userManager.isEmailAvailable("jdoe@campus.edu"));
+    }
+
+    @Test
+    @DisplayName("JSONL import commits all accepted users in one write")
+    void testJsonlImport() throws Exception {
+        StringBuilder roster = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            roster.append("{\"username\":\"student").append(i).append("\",\"email\":\"student").append(i)
+                  .append("@campus.edu\",\"password\":\"password123\",\"firstName\":\"Student\",\"lastName\":\"Number\"}\n");
+        }
+        roster.append("{\"username\": broken\n");
+
+        UserImportService.ImportResult result =
+            userManager.importUsers(new StringReader(roster.toString()), UserImportService.Format.JSONL);
+
+        assertEquals(50, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertEquals(51, result.getErrors().get(0).getLineNumber());
+        assertEquals(50, userManager.getUserStats().getTotalUsers());
+        assertEquals(50, userManager.searchUsersByName("number").size());
+
+        UserManager reloaded = new UserManager();
+        assertNotNull(reloaded.findByUsername("student42"), "Imported users should be persisted");
+    }
+}
@@ -26,6 +26,7 @@ public class UserManagerIntegrationTest {
     public void cleanup() {
         // Clean up test files
         DataManager.deleteDataFile("users.ser");
+        DataManager.deleteDataFile("users.log");
     }
     
     @Test
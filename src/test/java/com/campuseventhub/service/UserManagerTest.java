@@ -20,6 +20,7 @@ class UserManagerTest {
         // Clean up any existing persistence data for clean test state
         try {
             com.campuseventhub.persistence.DataManager.deleteDataFile("users.ser");
+            com.campuseventhub.persistence.DataManager.deleteDataFile("users.log");
         } catch (Exception e) {
             // Ignore cleanup errors
         }
@@ -379,4 +380,83 @@ class UserManagerTest {
         assertTrue(userManager.isUsernameAvailable("consistuser"));
         assertTrue(userManager.isEmailAvailable("consist@test.com"));
     }
-} 
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Should keep role and status counts in step with user changes")
+    void testUserStatsTracking() {
+        UserStats before = userManager.getUserStats();
+        User organizer = userManager.createUser("statsorg", "statsorg@test.com", "password123",
+                                              "Stats", "Organizer", UserRole.ORGANIZER);
+        User attendee = userManager.createUser("statsatt", "statsatt@test.com", "password123",
+                                             "Stats", "Attendee", UserRole.ATTENDEE);
+        
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("status", UserStatus.PENDING_APPROVAL);
+        userManager.updateUser(organizer.getUserId(), updates);
+        
+        UserStats pending = userManager.getUserStats();
+        assertEquals(before.getTotalUsers() + 2, pending.getTotalUsers());
+        assertEquals(before.getCount(UserRole.ORGANIZER) + 1, pending.getCount(UserRole.ORGANIZER));
+        assertEquals(before.getPendingApprovals() + 1, pending.getPendingApprovals());
+        assertTrue(userManager.getPendingApprovals().contains(organizer));
+        
+        assertTrue(userManager.approveUser(organizer.getUserId()));
+        assertTrue(userManager.suspendUser(attendee.getUserId()));
+        UserStats after = userManager.getUserStats();
+        assertEquals(before.getPendingApprovals(), after.getPendingApprovals());
+        assertEquals(before.getSuspendedUsers() + 1, after.getSuspendedUsers());
+        assertEquals(before.getActiveUsers() + 1, after.getActiveUsers());
+        assertFalse(userManager.getPendingApprovals().contains(organizer));
+        
+        userManager.deleteUser(attendee.getUserId());
+        UserStats deleted = userManager.getUserStats();
+        assertEquals(before.getTotalUsers() + 1, deleted.getTotalUsers());
+        assertEquals(before.getSuspendedUsers(), deleted.getSuspendedUsers());
+        assertFalse(userManager.getUsersByRole(UserRole.ATTENDEE).contains(attendee));
+    }
+    
+    @Test
+    @DisplayName("Should apply bulk actions to eligible users only and persist once")
+    void testBulkActionsByIds() {
+        User first = userManager.createUser("bulkone", "bulkone@test.com", "password123", "Bulk", "One", UserRole.ATTENDEE);
+        User second = userManager.createUser("bulktwo", "bulktwo@test.com", "password123", "Bulk", "Two", UserRole.ATTENDEE);
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("status", UserStatus.PENDING_APPROVAL);
+        userManager.updateUser(second.getUserId(), updates);
+        
+        UserManager.BulkResult suspended = userManager.applyBulk(UserBulkAction.SUSPEND,
+            List.of(first.getUserId(), second.getUserId(), "missing-id"));
+        assertEquals(3, suspended.getRequestedCount());
+        assertEquals(List.of(first.getUserId()), suspended.getChangedUserIds());
+        assertEquals(2, suspended.getSkippedCount());
+        assertEquals(UserStatus.SUSPENDED, first.getStatus());
+        assertEquals(UserStatus.PENDING_APPROVAL, second.getStatus(), "Pending users are not eligible for suspension");
+        
+        UserManager.BulkResult deleted = userManager.applyBulk(UserBulkAction.DELETE,
+            List.of(first.getUserId(), second.getUserId()));
+        assertEquals(2, deleted.getChangedCount());
+        assertNull(userManager.findById(first.getUserId()));
+        assertTrue(userManager.isUsernameAvailable("bulktwo"));
+        assertTrue(userManager.searchUsers("bulk", 10).isEmpty());
+        assertEquals(0, new UserManager().getUserStats().getTotalUsers(), "Deletion should be persisted");
+    }
+    
+    @Test
+    @DisplayName("Should approve pending users selected by a predicate")
+    void testBulkApproveByPredicate() {
+        Map<String, Object> pending = new HashMap<>();
+        pending.put("status", UserStatus.PENDING_APPROVAL);
+        User organizer = userManager.createUser("pendorg", "pendorg@test.com", "password123", "Pending", "Organizer", UserRole.ORGANIZER);
+        User attendee = userManager.createUser("pendatt", "pendatt@test.com", "password123", "Pending", "Attendee", UserRole.ATTENDEE);
+        userManager.updateUser(organizer.getUserId(), pending);
+        userManager.updateUser(attendee.getUserId(), pending);
+        
+        UserManager.BulkResult result = userManager.applyBulk(UserBulkAction.APPROVE,
+            user -> user.getRole() == UserRole.ORGANIZER && "General".equals(((Organizer) user).getDepartment()));
+        
+        assertEquals(List.of(organizer.getUserId()), result.getChangedUserIds());
+        assertEquals(UserStatus.ACTIVE, organizer.getStatus());
+        assertEquals(UserStatus.PENDING_APPROVAL, attendee.getStatus());
+        assertEquals(List.of(attendee), userManager.getPendingApprovals());
+    }
+}
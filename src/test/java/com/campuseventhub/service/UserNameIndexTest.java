@@ -0,0 +1,70 @@
+package com.campuseventhub.service;
+
+import com.campuseventhub.model.user.Attendee;
+import com.campuseventhub.model.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+/**
+ * Tests for the trigram user index.
+ *
+ * Tests cover:
+ * - Ranking of exact, prefix and substring matches with a result limit
+ * - Short queries resolve to prefix matches; name search ignores usernames
+ * - Re-indexing after profile changes and removal
+ */
+class UserNameIndexTest {
+
+    private UserNameIndex index;
+    private User ada;
+    private User adam;
+    private User grace;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserNameIndex();
+        ada = new Attendee("ada", "ada.lovelace@campus.edu", "password123", "Ada", "Lovelace");
+        adam = new Attendee("adamsmith", "asmith@campus.edu", "password123", "Adam", "Smith");
+        grace = new Attendee("ghopper", "grace@campus.edu", "password123", "Grace", "Hopperada");
+        index.add(ada);
+        index.add(adam);
+        index.add(grace);
+    }
+
+    @Test
+    @DisplayName("Exact matches rank before prefixes, prefixes before substrings")
+    void testRanking() {
+        List<String> results = index.search("Ada", 10);
+        assertEquals(List.of(ada.getUserId(), adam.getUserId(), grace.getUserId()), results);
+        assertEquals(List.of(ada.getUserId(), adam.getUserId()), index.search("ada", 2));
+        assertEquals(List.of(ada.getUserId()), index.search("  ada   LOVE ", 10), "Full-name query should match");
+        assertTrue(index.search("campus", 10).isEmpty(), "Email domains are not indexed");
+        assertTrue(index.search("zzz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Short queries match prefixes; name search ignores usernames")
+    void testShortQueriesAndNameSearch() {
+        assertEquals(List.of(grace.getUserId()), index.search("gh", 10));
+        assertTrue(index.search("op", 10).isEmpty(), "Two-character queries match prefixes only");
+        assertEquals(List.of(grace.getUserId()), index.searchNames("opper"));
+        assertTrue(index.searchNames("ghop").isEmpty(), "Usernames are not part of a name search");
+    }
+
+    @Test
+    @DisplayName("Updates re-index a user and removal drops it")
+    void testReindexAndRemove() {
+        adam.setLastName("Turing");
+        index.add(adam);
+        assertTrue(index.searchNames("smith").isEmpty());
+        assertEquals(List.of(adam.getUserId()), index.search("smith", 10), "Still found via the email");
+        assertEquals(List.of(adam.getUserId()), index.searchNames("turing"));
+
+        index.remove(ada.getUserId());
+        assertEquals(2, index.size());
+        assertFalse(index.search("lovelace", 10).contains(ada.getUserId()));
+    }
+}
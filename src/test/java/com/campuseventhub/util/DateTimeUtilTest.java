@@ -104,4 +104,24 @@ public class DateTimeUtilTest {
         assertEquals(0, DateTimeUtil.getDurationHours(start, null));
         assertEquals(0, DateTimeUtil.getDurationHours(null, null));
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void testEpochMinutes() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 1, 12, 0);
+        
+        assertEquals(120, DateTimeUtil.toEpochMinute(end) - DateTimeUtil.toEpochMinute(start));
+        assertEquals(-1, DateTimeUtil.toEpochMinute(LocalDateTime.of(1969, 12, 31, 23, 59, 30)));
+        assertEquals(DateTimeUtil.NO_MINUTE, DateTimeUtil.toEpochMinute(null));
+        
+        assertTrue(DateTimeUtil.isMinuteAligned(start));
+        assertFalse(DateTimeUtil.isMinuteAligned(start.plusSeconds(1)));
+        assertFalse(DateTimeUtil.isMinuteAligned(start.plusNanos(1)));
+        assertFalse(DateTimeUtil.isMinuteAligned(null));
+        
+        long s = DateTimeUtil.toEpochMinute(start);
+        long e = DateTimeUtil.toEpochMinute(end);
+        assertTrue(DateTimeUtil.hasTimeConflict(s, e, s + 60, e + 60));
+        assertFalse(DateTimeUtil.hasTimeConflict(s, e, e, e + 60));
+    }
+}
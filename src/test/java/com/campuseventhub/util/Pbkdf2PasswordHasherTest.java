@@ -0,0 +1,61 @@
+package com.campuseventhub.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+
+/**
+ * Test class for Pbkdf2PasswordHasher
+ *
+ * Tests cover:
+ * - Self-describing encoding with a random salt per hash
+ * - Verification against correct, wrong and malformed input
+ * - Rehash detection when the cost factor is raised
+ * - Calibration of the cost factor for a target latency
+ */
+public class Pbkdf2PasswordHasherTest {
+
+    @Test
+    @DisplayName("Hashes are salted per call and verify correctly")
+    public void testHashAndVerify() {
+        Pbkdf2PasswordHasher hasher = new Pbkdf2PasswordHasher(2_000);
+        String first = hasher.hash("password123");
+        String second = hasher.hash("password123");
+
+        assertTrue(first.startsWith("pbkdf2-sha256$2000$"));
+        assertNotEquals(first, second, "Each hash should use its own salt");
+        assertTrue(hasher.verify("password123", first));
+        assertTrue(hasher.verify("password123", second));
+        assertFalse(hasher.verify("password124", first));
+        assertFalse(hasher.verify(null, first));
+        assertFalse(hasher.verify("password123", "pbkdf2-sha256$abc$!!$!!"));
+        assertFalse(hasher.supports("5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8"));
+    }
+
+    @Test
+    @DisplayName("Hashes with a lower cost factor need a rehash")
+    public void testNeedsRehash() {
+        String weak = new Pbkdf2PasswordHasher(1_000).hash("password123");
+        Pbkdf2PasswordHasher stronger = new Pbkdf2PasswordHasher(2_000);
+
+        assertTrue(stronger.verify("password123", weak), "Stored cost factor is used for verification");
+        assertTrue(stronger.needsRehash(weak));
+        assertFalse(stronger.needsRehash(stronger.hash("password123")));
+        assertTrue(stronger.needsRehash("legacy-hex-hash"));
+        assertThrows(IllegalArgumentException.class, () -> new Pbkdf2PasswordHasher(10));
+    }
+
+    @Test
+    @DisplayName("Calibration scales the cost factor with the target latency")
+    public void testCalibrateIterations() {
+        int fast = Pbkdf2PasswordHasher.calibrateIterations(Duration.ofMillis(5));
+        int slow = Pbkdf2PasswordHasher.calibrateIterations(Duration.ofMillis(50));
+
+        assertTrue(fast >= Pbkdf2PasswordHasher.MIN_ITERATIONS);
+        assertEquals(0, slow % 1_000);
+        assertTrue(slow > fast, "A longer target should allow more iterations");
+        assertThrows(IllegalArgumentException.class,
+                     () -> Pbkdf2PasswordHasher.calibrateIterations(Duration.ZERO));
+    }
+}
@@ -0,0 +1,107 @@
+package com.campuseventhub.util;
+
+import com.campuseventhub.model.event.Event;
+import com.campuseventhub.model.event.EventStatus;
+import com.campuseventhub.model.event.EventType;
+import com.campuseventhub.model.venue.VenueBooking;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Tests for the shared scheduling clock and the epoch-minute fast paths.
+ *
+ * Tests cover:
+ * - The cached minute follows the clock, including zone offsets
+ * - Deadline and start checks agree with LocalDateTime at minute edges
+ * - Event and booking overlap checks match LocalDateTime comparisons
+ */
+class SchedulingClockTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2030, 3, 1, 12, 0);
+
+    @AfterEach
+    void tearDown() {
+        SchedulingClock.reset();
+    }
+
+    @Test
+    @DisplayName("The cached minute follows the clock, including zone offsets")
+    void testCurrentEpochMinute() {
+        pinClock(NOON.plusSeconds(30));
+        assertEquals(DateTimeUtil.toEpochMinute(NOON), SchedulingClock.currentEpochMinute());
+        assertEquals(NOON.plusSeconds(30), SchedulingClock.now());
+
+        pinClock(NOON.plusMinutes(1));
+        assertEquals(DateTimeUtil.toEpochMinute(NOON) + 1, SchedulingClock.currentEpochMinute());
+
+        SchedulingClock.setClock(Clock.fixed(NOON.toInstant(ZoneOffset.UTC), ZoneId.of("Asia/Kolkata")));
+        assertEquals(DateTimeUtil.toEpochMinute(NOON.plusHours(5).plusMinutes(30)), SchedulingClock.currentEpochMinute());
+        assertThrows(IllegalArgumentException.class, () -> SchedulingClock.setClock(null));
+    }
+
+    @Test
+    @DisplayName("Deadline and start checks agree with LocalDateTime at minute edges")
+    void testDeadlineAndStartChecks() {
+        Event event = new Event("Edge", "Minute edges", EventType.WORKSHOP, NOON.plusHours(1), NOON.plusHours(2), "organizer");
+        event.setStatus(EventStatus.PUBLISHED);
+        event.setRegistrationDeadline(NOON);
+
+        pinClock(NOON.minusNanos(1));
+        assertTrue(event.isRegistrationOpen());
+        assertFalse(event.isRegistrationDeadlinePassed());
+        pinClock(NOON);
+        assertFalse(event.isRegistrationOpen());
+        assertTrue(event.isRegistrationDeadlinePassed());
+
+        // A deadline with seconds is compared exactly rather than by minute
+        event.setRegistrationDeadline(NOON.plusSeconds(30));
+        pinClock(NOON.plusSeconds(29));
+        assertTrue(event.isRegistrationOpen());
+        pinClock(NOON.plusSeconds(30));
+        assertFalse(event.isRegistrationOpen());
+
+        assertFalse(event.hasStarted());
+        pinClock(NOON.plusHours(1));
+        assertTrue(event.hasStarted());
+    }
+
+    @Test
+    @DisplayName("Event and booking overlap checks match LocalDateTime comparisons")
+    void testOverlapChecks() {
+        Event event = new Event("Talk", "Overlaps", EventType.SEMINAR, NOON, NOON.plusHours(1), "organizer");
+        Duration[] offsets = {Duration.ofMinutes(-90), Duration.ofMinutes(-60), Duration.ofMinutes(-30),
+                              Duration.ofSeconds(-3570), Duration.ofMinutes(59), Duration.ofMinutes(60),
+                              Duration.ofSeconds(3599), Duration.ofMinutes(0)};
+        for (Duration offset : offsets) {
+            LocalDateTime otherStart = NOON.plus(offset);
+            LocalDateTime otherEnd = otherStart.plusHours(1);
+            boolean expected = DateTimeUtil.hasTimeConflict(NOON, NOON.plusHours(1), otherStart, otherEnd);
+            assertEquals(expected, event.overlaps(otherStart, otherEnd), offset.toString());
+
+            Event other = new Event("Other", "", EventType.SEMINAR, otherStart, otherEnd, "organizer");
+            assertEquals(expected, event.overlaps(other), offset.toString());
+
+            VenueBooking booking = new VenueBooking("event", NOON, NOON.plusHours(1), 0, 0);
+            VenueBooking otherBooking = new VenueBooking("other", otherStart, otherEnd, 0, 0);
+            assertEquals(expected, booking.conflictsWith(otherStart, otherEnd), offset.toString());
+            assertEquals(expected, booking.conflictsWith(otherBooking), offset.toString());
+        }
+
+        // Setup and cleanup minutes widen the booked period
+        VenueBooking padded = new VenueBooking("event", NOON, NOON.plusHours(1), 15, 15);
+        assertTrue(padded.isMinuteAligned());
+        assertTrue(padded.conflictsWith(NOON.plusMinutes(70), NOON.plusMinutes(90)));
+        assertFalse(padded.conflictsWith(NOON.plusMinutes(75), NOON.plusMinutes(90)));
+    }
+
+    private static void pinClock(LocalDateTime time) {
+        SchedulingClock.setClock(Clock.fixed(time.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+}